@@ -0,0 +1,18 @@
+package com.raul.forumhub.authorization.server.security.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    @Bean
+    public TaskDecorator securityContextTaskDecorator() {
+        return DelegatingSecurityContextRunnable::new;
+    }
+
+}
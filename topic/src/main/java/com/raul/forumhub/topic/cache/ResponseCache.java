@@ -0,0 +1,61 @@
+package com.raul.forumhub.topic.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.raul.forumhub.topic.event.TopicsImportedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@Slf4j
+@Component
+public class ResponseCache {
+
+    private static final String RESPONSE_CACHE_NAME = "forumhub.response.cache";
+
+    private static final String HIT_RATIO_METRIC_NAME = "forumhub.response.cache.hit.ratio";
+
+    private final ResponseCacheProperties responseCacheProperties;
+    private final MeterRegistry meterRegistry;
+    private final List<LoadingCache<?, ?>> caches = new CopyOnWriteArrayList<>();
+
+    public ResponseCache(ResponseCacheProperties responseCacheProperties, MeterRegistry meterRegistry) {
+        this.responseCacheProperties = responseCacheProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <K, V> LoadingCache<K, V> register(String name, CacheLoader<K, V> loader) {
+        LoadingCache<K, V> cache = Caffeine.newBuilder()
+                .maximumSize(this.responseCacheProperties.getMaximumSize())
+                .refreshAfterWrite(this.responseCacheProperties.getRefreshAfterWrite())
+                .expireAfterWrite(this.responseCacheProperties.getExpireAfterWrite())
+                .recordStats()
+                .build(loader);
+
+        CaffeineCacheMetrics.monitor(this.meterRegistry, cache, RESPONSE_CACHE_NAME, "response", name);
+        Gauge.builder(HIT_RATIO_METRIC_NAME, cache, registered -> registered.stats().hitRate())
+                .tag("response", name)
+                .register(this.meterRegistry);
+
+        this.caches.add(cache);
+        return cache;
+    }
+
+    @EventListener
+    public void onTopicsImported(TopicsImportedEvent event) {
+        this.invalidateAll();
+    }
+
+    public void invalidateAll() {
+        this.caches.forEach(LoadingCache::invalidateAll);
+        log.debug("Cache de respostas das leituras de tópicos invalidado");
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.raul.forumhub.topic.cache;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties("forumhub.response-cache")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ResponseCacheProperties {
+
+    private long maximumSize = 10000;
+    private Duration refreshAfterWrite = Duration.ofSeconds(5);
+    private Duration expireAfterWrite = Duration.ofMinutes(1);
+
+}
@@ -0,0 +1,180 @@
+package com.raul.forumhub.topic.client;
+
+import com.raul.forumhub.topic.exception.RestClientException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+@Slf4j
+@Component
+public class UserClientCircuitBreaker {
+
+    private static final String METRIC_PREFIX = "forumhub.client.user.circuit";
+
+    private final UserClientProperties.CircuitBreaker circuitBreakerProperties;
+    private final LongSupplier clock;
+    private final MeterRegistry meterRegistry;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.closed(0));
+    private final Counter rejectedCalls;
+
+    @Autowired
+    public UserClientCircuitBreaker(UserClientProperties userClientProperties, MeterRegistry meterRegistry) {
+        this(userClientProperties, meterRegistry, System::nanoTime);
+    }
+
+    UserClientCircuitBreaker(UserClientProperties userClientProperties, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.circuitBreakerProperties = userClientProperties.getCircuitBreaker();
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        this.rejectedCalls = Counter.builder(METRIC_PREFIX + ".rejected").register(meterRegistry);
+        for (State state : State.values()) {
+            Gauge.builder(METRIC_PREFIX + ".state", this, breaker -> breaker.getState() == state ? 1 : 0)
+                    .tag("state", state.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+    }
+
+    public State getState() {
+        return this.snapshot.get().state();
+    }
+
+    public boolean isClosed() {
+        return this.getState() == State.CLOSED;
+    }
+
+    public <T> Mono<T> protect(Mono<T> call) {
+        return Mono.defer(() -> {
+            if (!this.tryAcquirePermission()) {
+                this.rejectedCalls.increment();
+                return Mono.error(new CallNotPermittedException());
+            }
+            return call
+                    .doOnSuccess(result -> this.onSuccess())
+                    .doOnError(ex -> {
+                        if (isUnavailable(ex)) {
+                            this.onFailure();
+                        } else {
+                            this.onSuccess();
+                        }
+                    })
+                    .doOnCancel(this::releaseProbe);
+        });
+    }
+
+    public static boolean isUnavailable(Throwable ex) {
+        return ex instanceof RestClientException restClientException &&
+               restClientException.getHttpStatusCode().is5xxServerError();
+    }
+
+    public static boolean isRejected(Throwable ex) {
+        return ex instanceof CallNotPermittedException;
+    }
+
+    boolean tryAcquirePermission() {
+        while (true) {
+            Snapshot current = this.snapshot.get();
+            Snapshot next;
+            switch (current.state()) {
+                case CLOSED -> {
+                    return true;
+                }
+                case OPEN -> {
+                    if (this.clock.getAsLong() - current.openedAt() <
+                        this.circuitBreakerProperties.getOpenDuration().toNanos()) {
+                        return false;
+                    }
+                    next = new Snapshot(State.HALF_OPEN, 0, current.openedAt(), 1);
+                }
+                default -> {
+                    if (current.probes() >= this.circuitBreakerProperties.getHalfOpenProbes()) {
+                        return false;
+                    }
+                    next = new Snapshot(State.HALF_OPEN, 0, current.openedAt(), current.probes() + 1);
+                }
+            }
+            if (this.transition(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    void onSuccess() {
+        while (true) {
+            Snapshot current = this.snapshot.get();
+            if (current.state() == State.OPEN || current.equals(Snapshot.closed(0)) ||
+                this.transition(current, Snapshot.closed(0))) {
+                return;
+            }
+        }
+    }
+
+    void onFailure() {
+        while (true) {
+            Snapshot current = this.snapshot.get();
+            if (current.state() == State.OPEN) {
+                return;
+            }
+            int failures = current.failures() + 1;
+            Snapshot next = current.state() == State.HALF_OPEN ||
+                            failures >= this.circuitBreakerProperties.getFailureThreshold() ?
+                    new Snapshot(State.OPEN, 0, this.clock.getAsLong(), 0) : Snapshot.closed(failures);
+            if (this.transition(current, next)) {
+                return;
+            }
+        }
+    }
+
+    private void releaseProbe() {
+        while (true) {
+            Snapshot current = this.snapshot.get();
+            if (current.state() != State.HALF_OPEN || current.probes() == 0 || this.transition(current,
+                    new Snapshot(State.HALF_OPEN, 0, current.openedAt(), current.probes() - 1))) {
+                return;
+            }
+        }
+    }
+
+    private boolean transition(Snapshot current, Snapshot next) {
+        if (!this.snapshot.compareAndSet(current, next)) {
+            return false;
+        }
+        if (current.state() != next.state()) {
+            Counter.builder(METRIC_PREFIX + ".transitions")
+                    .tag("from", current.state().name().toLowerCase())
+                    .tag("to", next.state().name().toLowerCase())
+                    .register(this.meterRegistry)
+                    .increment();
+            log.warn("Circuito do serviço de usuário alterado de {} para {}", current.state(), next.state());
+        }
+        return true;
+    }
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private static class CallNotPermittedException extends RestClientException {
+
+        private CallNotPermittedException() {
+            super(HttpStatus.SERVICE_UNAVAILABLE, "Serviço de usuário indisponível. Tente novamente.");
+        }
+
+    }
+
+    private record Snapshot(State state, int failures, long openedAt, int probes) {
+
+        private static Snapshot closed(int failures) {
+            return new Snapshot(State.CLOSED, failures, 0, 0);
+        }
+
+    }
+
+}
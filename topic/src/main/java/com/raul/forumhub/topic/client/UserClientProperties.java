@@ -7,6 +7,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 @ConfigurationProperties("forumhub.client.user")
 @Getter
@@ -22,5 +24,69 @@ public class UserClientProperties {
     private String port;
     @NotNull
     private String path;
+    @NotNull
+    private String batchPath;
+
+    private Cache cache = new Cache();
+
+    private Batch batch = new Batch();
+
+    private Pool pool = new Pool();
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    private Stale stale = new Stale();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Cache {
+
+        private long maximumSize = 10000;
+        private Duration expireAfterWrite = Duration.ofMinutes(1);
+
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Batch {
+
+        private int maxSize = 100;
+        private Duration window = Duration.ofMillis(10);
+
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Pool {
+
+        private int maxConnections = 500;
+        private int pendingAcquireMaxCount = -1;
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(10);
+
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class CircuitBreaker {
+
+        private int failureThreshold = 5;
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int halfOpenProbes = 1;
+
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Stale {
+
+        private long maximumSize = 10000;
+        private Duration maxStaleness = Duration.ofMinutes(10);
+
+    }
 
 }
@@ -1,8 +1,18 @@
 package com.raul.forumhub.topic.client;
 
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.raul.forumhub.topic.domain.Author;
 import com.raul.forumhub.topic.exception.RestClientException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
 import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -11,55 +21,222 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.util.Objects;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Component
 @Validated
 public class UserClientRequest {
 
+    private static final String AUTHOR_CACHE_NAME = "forumhub.client.user.authors";
+
+    private static final String STALE_AUTHOR_CACHE_NAME = "forumhub.client.user.stale.authors";
+
+    private static final String STALE_FALLBACK_METRIC_NAME = "forumhub.client.user.stale.fallbacks";
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofMillis(10000);
+
     private final WebClient webClient;
     private final UserClientProperties userClientProperties;
+    private final AsyncLoadingCache<Long, Author> authorCache;
+    private final Cache<Long, Author> staleAuthors;
+    private final UserClientCircuitBreaker circuitBreaker;
+    private final Counter servedFallbacks;
+    private final Counter missedFallbacks;
+    private final Sinks.Many<PendingLookup> pendingLookups;
+    private final Disposable batchDispatcher;
 
-    public UserClientRequest(WebClient webClient, UserClientProperties userClientProperties) {
+    public UserClientRequest(WebClient webClient, UserClientProperties userClientProperties,
+                             UserClientCircuitBreaker circuitBreaker, MeterRegistry meterRegistry) {
         this.webClient = webClient;
         this.userClientProperties = userClientProperties;
+        this.circuitBreaker = circuitBreaker;
+        this.staleAuthors = Caffeine.newBuilder()
+                .maximumSize(userClientProperties.getStale().getMaximumSize())
+                .expireAfterWrite(userClientProperties.getStale().getMaxStaleness())
+                .recordStats()
+                .build();
+        this.servedFallbacks = Counter.builder(STALE_FALLBACK_METRIC_NAME).tag("result", "served").register(meterRegistry);
+        this.missedFallbacks = Counter.builder(STALE_FALLBACK_METRIC_NAME).tag("result", "missed").register(meterRegistry);
+        this.authorCache = Caffeine.newBuilder()
+                .maximumSize(userClientProperties.getCache().getMaximumSize())
+                .expireAfterWrite(userClientProperties.getCache().getExpireAfterWrite())
+                .recordStats()
+                .buildAsync(new AsyncCacheLoader<>() {
+                    @Override
+                    public CompletableFuture<Author> asyncLoad(Long id, Executor executor) {
+                        return requestUserById(id).toFuture();
+                    }
+
+                    @Override
+                    public CompletableFuture<Map<Long, Author>> asyncLoadAll(Set<? extends Long> ids, Executor executor) {
+                        return requestUsersByIds(ids).toFuture();
+                    }
+                });
+
+        CaffeineCacheMetrics.monitor(meterRegistry, this.authorCache, AUTHOR_CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, this.staleAuthors, STALE_AUTHOR_CACHE_NAME);
+
+        this.pendingLookups = Sinks.many().unicast().onBackpressureBuffer();
+        this.batchDispatcher = this.pendingLookups.asFlux()
+                .bufferTimeout(userClientProperties.getBatch().getMaxSize(), userClientProperties.getBatch().getWindow())
+                .flatMap(this::dispatchBatch)
+                .subscribe();
     }
 
     public @Valid Author getUserById(Long id) {
         try {
-            Mono<ResponseEntity<Author>> response = this.webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .scheme(userClientProperties.getScheme())
-                            .host(userClientProperties.getHost())
-                            .port(userClientProperties.getPort())
-                            .path(userClientProperties.getPath())
-                            .queryParam("user_id", id)
-                            .build())
-                    .accept(MediaType.APPLICATION_JSON)
-                    .acceptCharset(StandardCharsets.UTF_8)
-                    .retrieve()
-                    .toEntity(Author.class)
-                    .timeout(Duration.ofMillis(10000))
-                    .onErrorResume(WebClientRequestException.class, ex ->
-                            Mono.error(new RestClientException(HttpStatus.SERVICE_UNAVAILABLE, "Serviço de usuário indisponível. Tente novamente.")))
-                    .onErrorResume(WebClientResponseException.class, ex ->
-                            Mono.error(new RestClientException(ex.getStatusCode(), ex.getResponseBodyAsString())))
-                    .onErrorResume(TimeoutException.class, ex ->
-                            Mono.error(() -> new RestClientException(HttpStatus.SERVICE_UNAVAILABLE,
-                                    "Erro inesperado durante a comunicação com o serviço de usuário")));
-
-            return Objects.requireNonNull(response.block(),
-                    "Erro inesperado durante a comunicação com o serviço de usuário").getBody();
+            return this.authorCache.synchronous().get(id);
+        } catch (RestClientException ex) {
+            return this.staleAuthor(id, ex);
+        }
+    }
 
+    public Mono<Author> getUserByIdAsync(Long id) {
+        return Mono.fromFuture(() -> this.authorCache.get(id), true)
+                .onErrorResume(RestClientException.class, ex -> Mono.fromSupplier(() -> this.staleAuthor(id, ex)));
+    }
+
+    public Map<Long, Author> getUsersByIds(Collection<Long> ids) {
+        try {
+            return this.authorCache.synchronous().getAll(ids);
         } catch (RestClientException ex) {
+            return ids.stream().distinct().collect(Collectors.toMap(Function.identity(), id -> this.staleAuthor(id, ex)));
+        }
+    }
+
+    public CompletableFuture<Author> getUserByIdBatched(Long id) {
+        return this.authorCache.get(id, (key, executor) -> {
+            CompletableFuture<Author> result = new CompletableFuture<>();
+            this.pendingLookups.emitNext(new PendingLookup(key, result), Sinks.EmitFailureHandler.busyLooping(REQUEST_TIMEOUT));
+            return result;
+        }).exceptionally(ex -> {
+            Throwable cause = ex instanceof CompletionException ? ex.getCause() : ex;
+            if (cause instanceof RestClientException restClientException) {
+                return this.staleAuthor(id, restClientException);
+            }
+            throw ex instanceof CompletionException completionException ? completionException : new CompletionException(ex);
+        });
+    }
+
+    public void evictUser(Long id) {
+        this.authorCache.synchronous().invalidate(id);
+    }
+
+    public void evictAll() {
+        this.authorCache.synchronous().invalidateAll();
+        this.staleAuthors.invalidateAll();
+    }
+
+    private Author staleAuthor(Long id, RestClientException ex) {
+        if (!UserClientCircuitBreaker.isRejected(ex) &&
+            (this.circuitBreaker.isClosed() || !UserClientCircuitBreaker.isUnavailable(ex))) {
             throw new RestClientException(ex.getHttpStatusCode(), ex.getMessage());
         }
 
+        Author author = this.staleAuthors.getIfPresent(id);
+        if (author == null) {
+            this.missedFallbacks.increment();
+            throw new RestClientException(ex.getHttpStatusCode(), ex.getMessage());
+        }
+        this.servedFallbacks.increment();
+        log.debug("Serviço de usuário indisponível, utilizando a última versão conhecida do usuário [ID: {}]", id);
+        return author;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.pendingLookups.tryEmitComplete();
+        this.batchDispatcher.dispose();
+    }
+
+    private Mono<Void> dispatchBatch(List<PendingLookup> lookups) {
+        Set<Long> ids = lookups.stream().map(PendingLookup::id).collect(Collectors.toSet());
+
+        return this.requestUsersByIds(ids)
+                .doOnNext(authors -> lookups.forEach(lookup -> {
+                    Author author = authors.get(lookup.id());
+                    if (author != null) {
+                        lookup.result().complete(author);
+                    } else {
+                        lookup.result().completeExceptionally(new RestClientException(HttpStatus.NOT_FOUND,
+                                String.format("Usuário [ID: %d] não encontrado", lookup.id())));
+                    }
+                }))
+                .doOnError(ex -> lookups.forEach(lookup -> lookup.result().completeExceptionally(ex)))
+                .onErrorResume(ex -> {
+                    log.warn("Falha ao buscar o lote de usuários {}: {}", ids, ex.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private Mono<Author> requestUserById(Long id) {
+        return this.webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .scheme(userClientProperties.getScheme())
+                        .host(userClientProperties.getHost())
+                        .port(userClientProperties.getPort())
+                        .path(userClientProperties.getPath())
+                        .queryParam("user_id", id)
+                        .build())
+                .accept(MediaType.APPLICATION_JSON)
+                .acceptCharset(StandardCharsets.UTF_8)
+                .retrieve()
+                .toEntity(Author.class)
+                .timeout(REQUEST_TIMEOUT)
+                .transform(this::mapClientErrors)
+                .transform(this.circuitBreaker::protect)
+                .mapNotNull(ResponseEntity::getBody)
+                .doOnNext(author -> this.staleAuthors.put(author.getId(), author));
+    }
+
+    private Mono<Map<Long, Author>> requestUsersByIds(Collection<? extends Long> ids) {
+        return this.webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .scheme(userClientProperties.getScheme())
+                        .host(userClientProperties.getHost())
+                        .port(userClientProperties.getPort())
+                        .path(userClientProperties.getBatchPath())
+                        .queryParam("user_ids", ids.stream().map(String::valueOf).collect(Collectors.joining(",")))
+                        .build())
+                .accept(MediaType.APPLICATION_JSON)
+                .acceptCharset(StandardCharsets.UTF_8)
+                .retrieve()
+                .toEntity(new ParameterizedTypeReference<List<Author>>() {
+                })
+                .timeout(REQUEST_TIMEOUT)
+                .transform(this::mapClientErrors)
+                .transform(this.circuitBreaker::protect)
+                .map(response -> Optional.ofNullable(response.getBody()).orElseGet(List::of).stream()
+                        .collect(Collectors.toMap(Author::getId, Function.identity())))
+                .doOnNext(this.staleAuthors::putAll);
+    }
+
+    private <T> Mono<T> mapClientErrors(Mono<T> response) {
+        return response
+                .onErrorResume(WebClientRequestException.class, ex ->
+                        Mono.error(new RestClientException(HttpStatus.SERVICE_UNAVAILABLE, "Serviço de usuário indisponível. Tente novamente.")))
+                .onErrorResume(WebClientResponseException.class, ex ->
+                        Mono.error(new RestClientException(ex.getStatusCode(), ex.getResponseBodyAsString())))
+                .onErrorResume(TimeoutException.class, ex ->
+                        Mono.error(() -> new RestClientException(HttpStatus.SERVICE_UNAVAILABLE,
+                                "Erro inesperado durante a comunicação com o serviço de usuário")));
+    }
+
+    private record PendingLookup(Long id, CompletableFuture<Author> result) {
     }
 
 }
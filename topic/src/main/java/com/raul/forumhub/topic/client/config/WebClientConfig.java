@@ -1,22 +1,56 @@
 package com.raul.forumhub.topic.client.config;
 
+import com.raul.forumhub.topic.client.UserClientProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.security.oauth2.client.AuthorizedClientServiceOAuth2AuthorizedClientManager;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClientManager;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClientProviderBuilder;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClientService;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
 import org.springframework.security.oauth2.client.web.reactive.function.client.ServletOAuth2AuthorizedClientExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
 public class WebClientConfig {
 
     @Bean
-    public WebClient webClient(OAuth2AuthorizedClientManager oAuth2AuthorizedClientManager) {
+    public OAuth2AuthorizedClientManager oAuth2AuthorizedClientManager(ClientRegistrationRepository clientRegistrationRepository,
+                                                                       OAuth2AuthorizedClientService oAuth2AuthorizedClientService) {
+
+        AuthorizedClientServiceOAuth2AuthorizedClientManager authorizedClientManager =
+                new AuthorizedClientServiceOAuth2AuthorizedClientManager(clientRegistrationRepository, oAuth2AuthorizedClientService);
+        authorizedClientManager.setAuthorizedClientProvider(OAuth2AuthorizedClientProviderBuilder.builder()
+                .clientCredentials()
+                .build());
+
+        return authorizedClientManager;
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider userClientConnectionProvider(UserClientProperties userClientProperties) {
+        UserClientProperties.Pool pool = userClientProperties.getPool();
+
+        return ConnectionProvider.builder("forumhub-user")
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .build();
+    }
+
+    @Bean
+    public WebClient webClient(OAuth2AuthorizedClientManager oAuth2AuthorizedClientManager,
+                               ConnectionProvider userClientConnectionProvider) {
 
         ServletOAuth2AuthorizedClientExchangeFilterFunction oauth2Client =
                 new ServletOAuth2AuthorizedClientExchangeFilterFunction(oAuth2AuthorizedClientManager);
         oauth2Client.setDefaultClientRegistrationId("forumhub-user");
 
         return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(userClientConnectionProvider)))
                 .apply(oauth2Client.oauth2Configuration())
                 .build();
     }
@@ -0,0 +1,27 @@
+package com.raul.forumhub.topic.config;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+public class PersistenceSchedulerConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler persistenceScheduler(PersistenceSchedulerProperties persistenceSchedulerProperties,
+                                          Environment environment) {
+        if (!persistenceSchedulerProperties.isEnabled()) {
+            return Schedulers.immediate();
+        }
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return Schedulers.fromExecutor(new VirtualThreadTaskExecutor("persistence-"));
+        }
+        return Schedulers.newBoundedElastic(persistenceSchedulerProperties.getThreadCap(),
+                persistenceSchedulerProperties.getQueuedTaskCap(), "persistence");
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.raul.forumhub.topic.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties("forumhub.persistence.scheduler")
+@Getter
+@Setter
+@NoArgsConstructor
+public class PersistenceSchedulerProperties {
+
+    private boolean enabled = true;
+    private int threadCap = 10;
+    private int queuedTaskCap = 10000;
+
+}
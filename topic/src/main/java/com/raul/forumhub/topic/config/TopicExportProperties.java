@@ -0,0 +1,18 @@
+package com.raul.forumhub.topic.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties("forumhub.export")
+@Getter
+@Setter
+@NoArgsConstructor
+public class TopicExportProperties {
+
+    private int fetchSize = 1000;
+
+}
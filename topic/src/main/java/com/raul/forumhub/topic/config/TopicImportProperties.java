@@ -0,0 +1,20 @@
+package com.raul.forumhub.topic.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties("forumhub.import")
+@Getter
+@Setter
+@NoArgsConstructor
+public class TopicImportProperties {
+
+    private int batchSize = 1000;
+    private int maxLineLength = 1048576;
+    private int lookupCacheSize = 10000;
+
+}
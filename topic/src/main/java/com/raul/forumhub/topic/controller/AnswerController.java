@@ -1,17 +1,32 @@
 package com.raul.forumhub.topic.controller;
 
+import com.raul.forumhub.topic.dto.request.AnswerCursorDTO;
 import com.raul.forumhub.topic.dto.request.AnswerRequestDTO;
 import com.raul.forumhub.topic.dto.response.AnswerResponseDTO;
+import com.raul.forumhub.topic.dto.response.AnswerSummaryResponseDTO;
 import com.raul.forumhub.topic.dto.response.HttpStatusMessage;
+import com.raul.forumhub.topic.live.LiveAnswerRegistry;
 import com.raul.forumhub.topic.security.IsAuthenticated;
 import com.raul.forumhub.topic.service.AnswerService;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/forumhub.io/api/v1/topics")
@@ -19,63 +34,96 @@ public class AnswerController {
 
     private final AnswerService answerService;
 
-    public AnswerController(AnswerService answerService) {
+    private final LiveAnswerRegistry liveAnswerRegistry;
+
+    public AnswerController(AnswerService answerService, LiveAnswerRegistry liveAnswerRegistry) {
         this.answerService = answerService;
+        this.liveAnswerRegistry = liveAnswerRegistry;
+    }
+
+    @GetMapping("/{topic_id}/answers")
+    public CollectionModel<EntityModel<AnswerSummaryResponseDTO>> answerList(@PathVariable Long topic_id,
+                                                                            @RequestParam(required = false) String cursor,
+                                                                            @PageableDefault Pageable pageable) {
+        Slice<AnswerSummaryResponseDTO> answers = this.answerService.answerList(topic_id, cursor, pageable.getPageSize());
+
+        ServletUriComponentsBuilder uriBuilder = ServletUriComponentsBuilder.fromCurrentRequest();
+        CollectionModel<EntityModel<AnswerSummaryResponseDTO>> model = CollectionModel.of(answers.map(EntityModel::of).getContent(),
+                Link.of(uriBuilder.toUriString()));
+
+        if (answers.hasNext()) {
+            String nextCursor = answers.getContent().stream()
+                    .filter(answer -> !answer.bestAnswer())
+                    .reduce((previous, answer) -> answer)
+                    .map(AnswerCursorDTO::of)
+                    .orElseGet(AnswerCursorDTO::start)
+                    .encode();
+            model.add(Link.of(uriBuilder.replaceQueryParam("cursor", nextCursor).replaceQueryParam("page").toUriString(),
+                    IanaLinkRelations.NEXT));
+        }
+
+        return model;
+    }
+
+    @GetMapping(value = "/{topic_id}/answers/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<AnswerSummaryResponseDTO>> liveAnswers(@PathVariable Long topic_id) {
+        this.answerService.validateTopicExists(topic_id);
+        return this.liveAnswerRegistry.subscribe(topic_id);
     }
 
     @IsAuthenticated
     @PostMapping("/{topic_id}/answer")
-    public ResponseEntity<AnswerResponseDTO> answerTopic(@PathVariable Long topic_id, @Valid @RequestBody AnswerRequestDTO answerRequestDTO,
-                                                         @AuthenticationPrincipal Jwt jwt) {
+    public Mono<ResponseEntity<AnswerResponseDTO>> answerTopic(@PathVariable Long topic_id, @Valid @RequestBody AnswerRequestDTO answerRequestDTO,
+                                                               @AuthenticationPrincipal Jwt jwt) {
 
         Long user_id = Long.parseLong(jwt.getClaim("user_id"));
-        AnswerResponseDTO answerResponseDTO = this.answerService.answerTopic(topic_id, user_id, answerRequestDTO);
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(answerResponseDTO);
+        return this.answerService.answerTopicAsync(topic_id, user_id, answerRequestDTO)
+                .map(answerResponseDTO -> ResponseEntity.status(HttpStatus.CREATED).body(answerResponseDTO));
     }
 
     @IsAuthenticated
     @PatchMapping("/{topic_id}/answers/{answer_id}/markBestAnswer")
-    public ResponseEntity<HttpStatusMessage> markBestAnswer(@PathVariable Long topic_id, @PathVariable Long answer_id,
-                                                            @AuthenticationPrincipal Jwt jwt) {
+    public Mono<ResponseEntity<HttpStatusMessage>> markBestAnswer(@PathVariable Long topic_id, @PathVariable Long answer_id,
+                                                                  @AuthenticationPrincipal Jwt jwt) {
 
         Long user_id = Long.parseLong(jwt.getClaim("user_id"));
-        this.answerService.markBestAnswer(topic_id, answer_id, user_id);
 
-        return ResponseEntity.ok(new HttpStatusMessage("HttpStatusCode OK"));
+        return this.answerService.markBestAnswerAsync(topic_id, answer_id, user_id)
+                .thenReturn(ResponseEntity.ok(new HttpStatusMessage("HttpStatusCode OK")));
     }
 
     @IsAuthenticated
     @PatchMapping("/{topic_id}/answers/{answer_id}/unmarkBestAnswer")
-    public ResponseEntity<HttpStatusMessage> unmarkBestAnswer(@PathVariable Long topic_id, @PathVariable Long answer_id,
-                                                            @AuthenticationPrincipal Jwt jwt) {
+    public Mono<ResponseEntity<HttpStatusMessage>> unmarkBestAnswer(@PathVariable Long topic_id, @PathVariable Long answer_id,
+                                                                    @AuthenticationPrincipal Jwt jwt) {
 
         Long user_id = Long.parseLong(jwt.getClaim("user_id"));
-        this.answerService.unmarkBestAnswer(topic_id, answer_id, user_id);
 
-        return ResponseEntity.ok(new HttpStatusMessage("HttpStatusCode OK"));
+        return this.answerService.unmarkBestAnswerAsync(topic_id, answer_id, user_id)
+                .thenReturn(ResponseEntity.ok(new HttpStatusMessage("HttpStatusCode OK")));
     }
 
     @PreAuthorize("hasAuthority('SCOPE_answer:edit')")
     @PatchMapping("/{topic_id}/answers/{answer_id}/edit")
-    public ResponseEntity<AnswerResponseDTO> updateAnswer(@PathVariable Long topic_id, @PathVariable Long answer_id,
-                                                          @AuthenticationPrincipal Jwt jwt, @Valid @RequestBody AnswerRequestDTO answerRequestDTO) {
+    public Mono<ResponseEntity<AnswerResponseDTO>> updateAnswer(@PathVariable Long topic_id, @PathVariable Long answer_id,
+                                                                @AuthenticationPrincipal Jwt jwt, @Valid @RequestBody AnswerRequestDTO answerRequestDTO) {
 
         Long user_id = Long.parseLong(jwt.getClaim("user_id"));
-        AnswerResponseDTO answerResponseDTO = this.answerService.updateAnswer(topic_id, answer_id, user_id, answerRequestDTO);
 
-        return ResponseEntity.ok(answerResponseDTO);
+        return this.answerService.updateAnswerAsync(topic_id, answer_id, user_id, answerRequestDTO)
+                .map(ResponseEntity::ok);
     }
 
     @PreAuthorize("hasAuthority('SCOPE_answer:delete')")
     @DeleteMapping("/{topic_id}/answers/{answer_id}/delete")
-    public ResponseEntity<HttpStatusMessage> deleteAnswer(@PathVariable Long topic_id, @PathVariable Long answer_id,
-                                                          @AuthenticationPrincipal Jwt jwt) {
+    public Mono<ResponseEntity<HttpStatusMessage>> deleteAnswer(@PathVariable Long topic_id, @PathVariable Long answer_id,
+                                                                @AuthenticationPrincipal Jwt jwt) {
 
         Long user_id = Long.parseLong(jwt.getClaim("user_id"));
-        this.answerService.deleteAnswer(topic_id, answer_id, user_id);
 
-        return ResponseEntity.ok(new HttpStatusMessage("HttpStatusCode OK"));
+        return this.answerService.deleteAnswerAsync(topic_id, answer_id, user_id)
+                .thenReturn(ResponseEntity.ok(new HttpStatusMessage("HttpStatusCode OK")));
     }
 
 }
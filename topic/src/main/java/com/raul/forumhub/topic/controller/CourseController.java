@@ -3,14 +3,18 @@ package com.raul.forumhub.topic.controller;
 import com.raul.forumhub.topic.dto.request.CourseRequestDTO;
 import com.raul.forumhub.topic.dto.response.CourseResponseCollection;
 import com.raul.forumhub.topic.dto.response.CourseResponseDTO;
+import com.raul.forumhub.topic.dto.response.EntityVersionDTO;
 import com.raul.forumhub.topic.dto.response.HttpStatusMessage;
 import com.raul.forumhub.topic.security.IsAuthenticated;
 import com.raul.forumhub.topic.service.CourseService;
+import com.raul.forumhub.topic.util.ConditionalRequestUtils;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -34,16 +38,25 @@ public class CourseController {
 
     @IsAuthenticated
     @GetMapping("/listAll")
-    public ResponseEntity<List<CourseResponseCollection>> getAllCourse() {
-        List<CourseResponseCollection> courseResponseCollection = this.courseService.getAllCourse();
-
-        return new ResponseEntity<>(courseResponseCollection, HttpStatus.OK);
+    public ResponseEntity<List<CourseResponseCollection>> getAllCourse(WebRequest webRequest) {
+        List<String> versions = this.courseService.getCourseVersions().stream()
+                .map(version -> version.id() + "@" + version.version())
+                .toList();
+
+        return ConditionalRequestUtils.conditionalResponse(webRequest,
+                ConditionalRequestUtils.eTag("courses", versions), null, CacheControl.noCache().cachePrivate(),
+                this.courseService::getAllCourse);
     }
 
     @IsAuthenticated
     @GetMapping
-    public ResponseEntity<CourseResponseDTO> getCourse(@RequestParam Long course_id) {
-        return ResponseEntity.ok(new CourseResponseDTO(this.courseService.getCourseById(course_id)));
+    public ResponseEntity<CourseResponseDTO> getCourse(@RequestParam Long course_id, WebRequest webRequest) {
+        EntityVersionDTO version = this.courseService.getCourseVersion(course_id);
+
+        return ConditionalRequestUtils.conditionalResponse(webRequest,
+                ConditionalRequestUtils.eTag("course", version.id(), version.version()), version.modifiedAt(),
+                CacheControl.noCache().cachePrivate(),
+                () -> new CourseResponseDTO(this.courseService.getCourseById(course_id)));
     }
 
     @PreAuthorize("hasRole('ADM') and hasAuthority('SCOPE_course:edit')")
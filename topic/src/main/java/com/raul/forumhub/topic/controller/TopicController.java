@@ -1,23 +1,43 @@
 package com.raul.forumhub.topic.controller;
 
 import com.raul.forumhub.topic.dto.request.TopicCreateRequestDTO;
+import com.raul.forumhub.topic.dto.request.TopicCursorDTO;
 import com.raul.forumhub.topic.dto.request.TopicUpdateRequestDTO;
 import com.raul.forumhub.topic.dto.response.HttpStatusMessage;
+import com.raul.forumhub.topic.dto.response.TopicBulkDeleteResponseDTO;
+import com.raul.forumhub.topic.dto.response.TopicDetailResponseDTO;
 import com.raul.forumhub.topic.dto.response.TopicResponseDTO;
+import com.raul.forumhub.topic.dto.response.TopicSnapshotDTO;
+import com.raul.forumhub.topic.dto.response.TopicSummaryResponseDTO;
+import com.raul.forumhub.topic.dto.response.TopicVersionDTO;
 import com.raul.forumhub.topic.security.IsAuthenticated;
+import com.raul.forumhub.topic.service.AnswerService;
 import com.raul.forumhub.topic.service.TopicService;
+import com.raul.forumhub.topic.util.ConditionalRequestUtils;
+import com.raul.forumhub.topic.views.TopicViewCounter;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.PagedModel;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/forumhub.io/api/v1/topics")
@@ -25,59 +45,122 @@ public class TopicController {
 
     private final TopicService topicService;
 
-    public TopicController(TopicService topicService) {
+    private final AnswerService answerService;
+
+    private final TopicViewCounter topicViewCounter;
+
+    public TopicController(TopicService topicService, AnswerService answerService, TopicViewCounter topicViewCounter) {
         this.topicService = topicService;
+        this.answerService = answerService;
+        this.topicViewCounter = topicViewCounter;
     }
 
     @IsAuthenticated
     @PostMapping("/create")
-    public ResponseEntity<TopicResponseDTO> createTopic(@Valid @RequestBody TopicCreateRequestDTO topicCreateRequestDTO,
-                                                         @AuthenticationPrincipal Jwt jwt) {
+    public Mono<ResponseEntity<TopicResponseDTO>> createTopic(@Valid @RequestBody TopicCreateRequestDTO topicCreateRequestDTO,
+                                                               @AuthenticationPrincipal Jwt jwt) {
 
         Long user_id = Long.parseLong(jwt.getClaim("user_id"));
-        TopicResponseDTO topicResponseDTO = this.topicService.createTopic(topicCreateRequestDTO, user_id);
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(topicResponseDTO);
+        return this.topicService.createTopicAsync(topicCreateRequestDTO, user_id)
+                .map(topicResponseDTO -> ResponseEntity.status(HttpStatus.CREATED).body(topicResponseDTO));
     }
 
     @GetMapping("/listAll")
-    public PagedModel<EntityModel<TopicResponseDTO>> topicsList(@PageableDefault Pageable pageable,
-                                                                PagedResourcesAssembler<TopicResponseDTO> assembler) {
+    public PagedModel<EntityModel<TopicSummaryResponseDTO>> topicsList(@PageableDefault Pageable pageable,
+                                                                       PagedResourcesAssembler<TopicSummaryResponseDTO> assembler) {
 
-        return assembler.toModel(topicService.topicList(pageable));
+        return topicService.topicList(pageable).toPagedModel(assembler);
     }
 
     @GetMapping("/searchTopicsByCourse")
-    public PagedModel<EntityModel<TopicResponseDTO>> topicsListByCourse(Long course_id, @PageableDefault Pageable pageable,
-                                                                        PagedResourcesAssembler<TopicResponseDTO> assembler) {
-        return assembler.toModel(topicService.topicsListByCourse(course_id, pageable));
+    public PagedModel<EntityModel<TopicSummaryResponseDTO>> topicsListByCourse(Long course_id, @PageableDefault Pageable pageable,
+                                                                               PagedResourcesAssembler<TopicSummaryResponseDTO> assembler) {
+        return topicService.topicsListByCourse(course_id, pageable).toPagedModel(assembler);
+    }
+
+    @GetMapping(value = "/listAll", params = "cursor")
+    public CollectionModel<EntityModel<TopicSummaryResponseDTO>> topicsKeysetList(@RequestParam String cursor,
+                                                                                @PageableDefault Pageable pageable) {
+        return this.toKeysetModel(topicService.topicKeysetList(cursor, pageable.getPageSize()));
+    }
+
+    @GetMapping(value = "/searchTopicsByCourse", params = "cursor")
+    public CollectionModel<EntityModel<TopicSummaryResponseDTO>> topicsKeysetListByCourse(Long course_id, @RequestParam String cursor,
+                                                                                        @PageableDefault Pageable pageable) {
+        return this.toKeysetModel(topicService.topicsKeysetListByCourse(course_id, cursor, pageable.getPageSize()));
+    }
+
+    private CollectionModel<EntityModel<TopicSummaryResponseDTO>> toKeysetModel(Slice<TopicSummaryResponseDTO> topics) {
+        ServletUriComponentsBuilder uriBuilder = ServletUriComponentsBuilder.fromCurrentRequest();
+        CollectionModel<EntityModel<TopicSummaryResponseDTO>> model = CollectionModel.of(topics.map(EntityModel::of).getContent(),
+                Link.of(uriBuilder.toUriString()));
+
+        if (topics.hasNext()) {
+            String nextCursor = TopicCursorDTO.of(topics.getContent().get(topics.getNumberOfElements() - 1)).encode();
+            model.add(Link.of(uriBuilder.replaceQueryParam("cursor", nextCursor).replaceQueryParam("page").toUriString(),
+                    IanaLinkRelations.NEXT));
+        }
+
+        return model;
     }
 
     @GetMapping
-    public ResponseEntity<TopicResponseDTO> getTopic(@RequestParam Long topic_id) {
+    public ResponseEntity<TopicResponseDTO> getTopic(@RequestParam Long topic_id, @AuthenticationPrincipal Jwt jwt,
+                                                     HttpServletRequest request, WebRequest webRequest) {
+        TopicSnapshotDTO snapshot = topicService.getTopicSnapshot(topic_id);
+        TopicVersionDTO version = snapshot.version();
+        this.topicViewCounter.recordView(topic_id, jwt != null ? "user:" + jwt.getClaim("user_id") :
+                "address:" + request.getRemoteAddr());
+
+        return ConditionalRequestUtils.conditionalResponse(webRequest,
+                ConditionalRequestUtils.eTag("topic", version.id(), version.version(), version.authorId(), version.courseVersion()),
+                version.lastModified(), CacheControl.noCache(), snapshot::topic);
+    }
+
+    @GetMapping(params = "answers_preview")
+    public EntityModel<TopicDetailResponseDTO> getTopicDetail(@RequestParam Long topic_id, @RequestParam int answers_preview) {
+        TopicDetailResponseDTO topic = this.answerService.getTopicDetail(topic_id, answers_preview);
 
-        return ResponseEntity.ok(new TopicResponseDTO(topicService.getTopicById(topic_id)));
+        return EntityModel.of(topic, Link.of(ServletUriComponentsBuilder.fromCurrentRequest().toUriString()),
+                Link.of(ServletUriComponentsBuilder.fromCurrentContextPath()
+                        .path("/forumhub.io/api/v1/topics/{topic_id}/answers")
+                        .buildAndExpand(topic.id()).toUriString(), "answers"));
     }
 
     @PreAuthorize("hasAuthority('SCOPE_topic:edit')")
     @PutMapping("/{topic_id}/edit")
-    public ResponseEntity<TopicResponseDTO> updateTopic(@PathVariable Long topic_id, @Valid @RequestBody TopicUpdateRequestDTO topicUpdateRequestDTO,
-                                                        @AuthenticationPrincipal Jwt jwt) {
+    public Mono<ResponseEntity<TopicResponseDTO>> updateTopic(@PathVariable Long topic_id, @Valid @RequestBody TopicUpdateRequestDTO topicUpdateRequestDTO,
+                                                              @AuthenticationPrincipal Jwt jwt) {
 
         Long user_id = Long.parseLong(jwt.getClaim("user_id"));
-        TopicResponseDTO topicResponseDTO = this.topicService.updateTopic(topic_id, user_id, topicUpdateRequestDTO);
 
-        return ResponseEntity.ok(topicResponseDTO);
+        return this.topicService.updateTopicAsync(topic_id, user_id, topicUpdateRequestDTO)
+                .map(ResponseEntity::ok);
     }
 
     @PreAuthorize("hasAuthority('SCOPE_topic:delete')")
     @DeleteMapping("/{topic_id}/delete")
-    public ResponseEntity<HttpStatusMessage> deleteTopic(@PathVariable Long topic_id, @AuthenticationPrincipal Jwt jwt) {
+    public Mono<ResponseEntity<HttpStatusMessage>> deleteTopic(@PathVariable Long topic_id, @AuthenticationPrincipal Jwt jwt) {
 
         Long user_id = Long.parseLong(jwt.getClaim("user_id"));
-        topicService.deleteTopic(topic_id, user_id);
 
-        return ResponseEntity.ok(new HttpStatusMessage("HttpStatusCode OK"));
+        return this.topicService.deleteTopicAsync(topic_id, user_id)
+                .thenReturn(ResponseEntity.ok(new HttpStatusMessage("HttpStatusCode OK")));
+    }
+
+    @PreAuthorize("hasRole('ADM') and hasAuthority('SCOPE_topic:delete')")
+    @DeleteMapping(value = "/delete", params = "topic_ids")
+    public Mono<ResponseEntity<TopicBulkDeleteResponseDTO>> deleteTopics(@RequestParam List<Long> topic_ids) {
+        return this.topicService.deleteTopicsAsync(topic_ids)
+                .map(ResponseEntity::ok);
+    }
+
+    @PreAuthorize("hasRole('ADM') and hasAuthority('SCOPE_topic:delete')")
+    @DeleteMapping(value = "/delete", params = "course_id")
+    public Mono<ResponseEntity<TopicBulkDeleteResponseDTO>> deleteTopicsByCourse(@RequestParam Long course_id) {
+        return this.topicService.deleteTopicsByCourseAsync(course_id)
+                .map(ResponseEntity::ok);
     }
 
 }
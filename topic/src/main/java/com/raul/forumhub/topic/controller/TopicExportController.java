@@ -0,0 +1,51 @@
+package com.raul.forumhub.topic.controller;
+
+import com.raul.forumhub.topic.domain.Status;
+import com.raul.forumhub.topic.dto.request.TopicExportFilterDTO;
+import com.raul.forumhub.topic.export.TopicExportFormat;
+import com.raul.forumhub.topic.service.TopicExportService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/forumhub.io/api/v1/topics")
+public class TopicExportController {
+
+    private final TopicExportService topicExportService;
+
+    public TopicExportController(TopicExportService topicExportService) {
+        this.topicExportService = topicExportService;
+    }
+
+    @PreAuthorize("hasRole('ADM')")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTopics(@RequestParam(defaultValue = "NDJSON") TopicExportFormat format,
+                                                              @RequestParam(required = false) Long course_id,
+                                                              @RequestParam(required = false) Status status,
+                                                              @RequestParam(required = false)
+                                                              @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                              @RequestParam(required = false)
+                                                              @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                              @RequestParam(defaultValue = "true") boolean answers) {
+        TopicExportFilterDTO filter = new TopicExportFilterDTO(course_id, status, from, to);
+
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("topics." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(output -> this.topicExportService.export(filter, format, answers, output));
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.raul.forumhub.topic.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raul.forumhub.topic.dto.response.TopicImportEventDTO;
+import com.raul.forumhub.topic.service.TopicImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPInputStream;
+
+@RestController
+@RequestMapping("/forumhub.io/api/v1/topics")
+public class TopicImportController {
+
+    private final TopicImportService topicImportService;
+
+    private final ObjectMapper objectMapper;
+
+    public TopicImportController(TopicImportService topicImportService, ObjectMapper objectMapper) {
+        this.topicImportService = topicImportService;
+        this.objectMapper = objectMapper;
+    }
+
+    @PreAuthorize("hasRole('ADM')")
+    @PostMapping(value = "/import", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void importTopics(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        InputStream input = "gzip".equalsIgnoreCase(request.getHeader(HttpHeaders.CONTENT_ENCODING)) ?
+                new GZIPInputStream(request.getInputStream()) : request.getInputStream();
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        OutputStream output = response.getOutputStream();
+
+        this.topicImportService.importTopics(input, event -> this.write(output, event));
+    }
+
+    private void write(OutputStream output, TopicImportEventDTO event) {
+        try {
+            output.write(this.objectMapper.writeValueAsBytes(event));
+            output.write('\n');
+            if (event.type() != TopicImportEventDTO.Type.REJECTED) {
+                output.flush();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Falha no envio do progresso da importação de tópicos", ex);
+        }
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.raul.forumhub.topic.controller;
+
+import com.raul.forumhub.topic.domain.Status;
+import com.raul.forumhub.topic.dto.request.TopicSearchCursorDTO;
+import com.raul.forumhub.topic.dto.response.HttpStatusMessage;
+import com.raul.forumhub.topic.dto.response.TopicSearchResponseDTO;
+import com.raul.forumhub.topic.search.TopicIndex;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+@RestController
+@RequestMapping("/forumhub.io/api/v1/topics/search/index")
+@ConditionalOnProperty(prefix = "forumhub.search.index", name = "enabled", havingValue = "true")
+public class TopicIndexController {
+
+    private final TopicIndex topicIndex;
+
+    public TopicIndexController(TopicIndex topicIndex) {
+        this.topicIndex = topicIndex;
+    }
+
+    @GetMapping
+    public CollectionModel<EntityModel<TopicSearchResponseDTO>> searchTopics(@RequestParam String query,
+                                                                             @RequestParam(required = false) Long course_id,
+                                                                             @RequestParam(required = false) Status status,
+                                                                             @RequestParam(required = false) String cursor,
+                                                                             @PageableDefault Pageable pageable) {
+        Slice<TopicSearchResponseDTO> topics = this.topicIndex.search(query, course_id, status,
+                TopicSearchCursorDTO.decode(cursor), pageable.getPageSize());
+
+        ServletUriComponentsBuilder uriBuilder = ServletUriComponentsBuilder.fromCurrentRequest();
+        CollectionModel<EntityModel<TopicSearchResponseDTO>> model = CollectionModel.of(topics.map(EntityModel::of).getContent(),
+                Link.of(uriBuilder.toUriString()));
+
+        if (topics.hasNext()) {
+            String nextCursor = TopicSearchCursorDTO.of(topics.getContent().get(topics.getNumberOfElements() - 1)).encode();
+            model.add(Link.of(uriBuilder.replaceQueryParam("cursor", nextCursor).toUriString(), IanaLinkRelations.NEXT));
+        }
+
+        return model;
+    }
+
+    @PreAuthorize("hasRole('ADM')")
+    @PostMapping("/rebuild")
+    public ResponseEntity<HttpStatusMessage> rebuildIndex() {
+        this.topicIndex.rebuild();
+        return ResponseEntity.accepted().body(new HttpStatusMessage("HttpStatusCode ACCEPTED"));
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.raul.forumhub.topic.controller;
+
+import com.raul.forumhub.topic.domain.Status;
+import com.raul.forumhub.topic.dto.request.TopicSearchCursorDTO;
+import com.raul.forumhub.topic.dto.response.TopicSearchResponseDTO;
+import com.raul.forumhub.topic.service.TopicSearchService;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+@RestController
+@RequestMapping("/forumhub.io/api/v1/topics")
+public class TopicSearchController {
+
+    private final TopicSearchService topicSearchService;
+
+    public TopicSearchController(TopicSearchService topicSearchService) {
+        this.topicSearchService = topicSearchService;
+    }
+
+    @GetMapping("/search")
+    public CollectionModel<EntityModel<TopicSearchResponseDTO>> searchTopics(@RequestParam String query,
+                                                                             @RequestParam(required = false) Long course_id,
+                                                                             @RequestParam(required = false) Status status,
+                                                                             @RequestParam(required = false) String cursor,
+                                                                             @PageableDefault Pageable pageable) {
+        Slice<TopicSearchResponseDTO> topics = this.topicSearchService.searchTopics(query, course_id, status, cursor,
+                pageable.getPageSize());
+
+        ServletUriComponentsBuilder uriBuilder = ServletUriComponentsBuilder.fromCurrentRequest();
+        CollectionModel<EntityModel<TopicSearchResponseDTO>> model = CollectionModel.of(topics.map(EntityModel::of).getContent(),
+                Link.of(uriBuilder.toUriString()));
+
+        if (topics.hasNext()) {
+            String nextCursor = TopicSearchCursorDTO.of(topics.getContent().get(topics.getNumberOfElements() - 1)).encode();
+            model.add(Link.of(uriBuilder.replaceQueryParam("cursor", nextCursor).toUriString(), IanaLinkRelations.NEXT));
+        }
+
+        return model;
+    }
+
+}
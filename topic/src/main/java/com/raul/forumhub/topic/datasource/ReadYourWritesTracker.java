@@ -0,0 +1,66 @@
+package com.raul.forumhub.topic.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+@Component
+public class ReadYourWritesTracker {
+
+    private static final String ANY_WRITER = "";
+
+    private static final ThreadLocal<Boolean> UNTRACKED = new ThreadLocal<>();
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(DataSourceRoutingProperties dataSourceRoutingProperties) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(dataSourceRoutingProperties.getReadYourWritesWindow())
+                .build();
+    }
+
+    public static <T> T untracked(Supplier<T> work) {
+        Boolean previous = UNTRACKED.get();
+        UNTRACKED.set(true);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                UNTRACKED.remove();
+            } else {
+                UNTRACKED.set(previous);
+            }
+        }
+    }
+
+    public void recordWrite() {
+        if (UNTRACKED.get() != null) {
+            return;
+        }
+        this.recentWriters.put(ANY_WRITER, true);
+        currentWriter().ifPresent(writer -> this.recentWriters.put(writer, true));
+    }
+
+    public boolean hasRecentWrite() {
+        return currentWriter().map(writer -> this.recentWriters.getIfPresent(writer) != null).orElse(false);
+    }
+
+    public boolean hasRecentWriteOnNode() {
+        return this.recentWriters.getIfPresent(ANY_WRITER) != null;
+    }
+
+    private static Optional<String> currentWriter() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return Optional.empty();
+        }
+        return Optional.of(authentication.getName());
+    }
+
+}
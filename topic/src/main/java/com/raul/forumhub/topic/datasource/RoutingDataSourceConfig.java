@@ -0,0 +1,50 @@
+package com.raul.forumhub.topic.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(value = "forumhub.datasource.replica.enabled", havingValue = "true")
+public class RoutingDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName(ReadReplicaRoutingDataSource.PRIMARY);
+        return primary;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties dataSourceProperties,
+                                              DataSourceRoutingProperties dataSourceRoutingProperties) {
+        DataSourceRoutingProperties.Replica replica = dataSourceRoutingProperties.getReplica();
+        HikariDataSource replicaDataSource = new HikariDataSource();
+        replicaDataSource.setPoolName(ReadReplicaRoutingDataSource.REPLICA);
+        replicaDataSource.setJdbcUrl(replica.getUrl());
+        replicaDataSource.setUsername(replica.getUsername());
+        replicaDataSource.setPassword(replica.getPassword());
+        replicaDataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        replicaDataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        replicaDataSource.setReadOnly(true);
+        return replicaDataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource,
+                                 ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(new ReadReplicaRoutingDataSource(primaryDataSource, replicaDataSource,
+                readYourWritesTracker, meterRegistry));
+    }
+
+}
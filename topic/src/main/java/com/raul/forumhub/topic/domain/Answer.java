@@ -8,7 +8,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table
+@Table(indexes = {
+        @Index(name = "idx_answer_topic_id_created_at_answer_id", columnList = "topic_id, created_at, answer_id"),
+        @Index(name = "idx_answer_user_id", columnList = "user_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -29,7 +32,7 @@ public class Answer {
     @NotBlank
     @Column(columnDefinition = "text", nullable = false)
     private String solution;
-    @Column
+    @Column(updatable = false)
     private boolean bestAnswer;
     @Column
     private LocalDateTime createdAt;
@@ -1,11 +1,17 @@
 package com.raul.forumhub.topic.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.time.LocalDateTime;
 
 @Entity
 @Table
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "course")
 @Getter
 @Setter
 @AllArgsConstructor
@@ -24,6 +30,12 @@ public class Course {
     @Column(name = "category", nullable = false, length = 50)
     @Enumerated(EnumType.STRING)
     private Category category;
+    @JsonIgnore
+    @Column(nullable = false, updatable = false)
+    private long version;
+    @JsonIgnore
+    @Column(updatable = false)
+    private LocalDateTime modifiedAt;
 
     public enum Category {
 
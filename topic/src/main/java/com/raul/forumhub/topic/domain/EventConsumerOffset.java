@@ -0,0 +1,25 @@
+package com.raul.forumhub.topic.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "event_consumer_offset")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class EventConsumerOffset {
+
+    @Id
+    @Column(length = 100)
+    private String consumer;
+    @Column(nullable = false)
+    private long lastEventId;
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+}
@@ -0,0 +1,38 @@
+package com.raul.forumhub.topic.domain;
+
+import com.raul.forumhub.topic.event.DomainEvent;
+import com.raul.forumhub.topic.event.DomainEventType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "event_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_id")
+    private Long id;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private DomainEventType type;
+    @Column
+    private Long aggregateId;
+    @Column
+    private Long topicId;
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+    public DomainEvent toDomainEvent() {
+        return new DomainEvent(this.id, this.type, this.aggregateId, this.topicId, this.occurredAt);
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.raul.forumhub.topic.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
@@ -8,7 +9,14 @@ import java.time.LocalDateTime;
 import java.util.Set;
 
 @Entity
-@Table
+@Table(indexes = {
+        @Index(name = "idx_topic_created_at_topic_id", columnList = "created_at DESC, topic_id DESC"),
+        @Index(name = "idx_topic_course_id_created_at_topic_id", columnList = "course_id, created_at DESC, topic_id DESC"),
+        @Index(name = "idx_topic_last_activity_at_topic_id", columnList = "last_activity_at DESC, topic_id DESC"),
+        @Index(name = "idx_topic_course_id_last_activity_at_topic_id",
+                columnList = "course_id, last_activity_at DESC, topic_id DESC"),
+        @Index(name = "idx_topic_user_id", columnList = "user_id")
+})
 @Getter
 @Setter
 @AllArgsConstructor
@@ -29,7 +37,7 @@ public class Topic {
     private String question;
     @Column
     private LocalDateTime createdAt;
-    @Column(name = "status", length = 10, nullable = false)
+    @Column(name = "status", length = 10, nullable = false, updatable = false)
     @Enumerated(EnumType.STRING)
     private Status status;
     @ManyToOne
@@ -40,11 +48,29 @@ public class Topic {
     private Course course;
     @OneToMany(mappedBy = "topic", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
     private Set<Answer> answers;
+    @Column(nullable = false, updatable = false)
+    private long answerCount;
+    @Column(updatable = false)
+    private Long bestAnswerId;
+    @Column(updatable = false)
+    private LocalDateTime lastActivityAt;
+    @Column(nullable = false, updatable = false)
+    private long viewCount;
+    @Column(nullable = false, updatable = false)
+    private long uniqueViewerCount;
+    @JsonIgnore
+    @Column(nullable = false, updatable = false)
+    private long version;
+    @JsonIgnore
+    @Column(updatable = false)
+    private LocalDateTime modifiedAt;
 
     public Topic(String title, String question, Author author, Course course) {
         this.title = title;
         this.question = question;
         this.createdAt = LocalDateTime.now();
+        this.lastActivityAt = this.createdAt;
+        this.modifiedAt = this.createdAt;
         this.author = author;
         this.course = course;
         this.status = Status.UNSOLVED;
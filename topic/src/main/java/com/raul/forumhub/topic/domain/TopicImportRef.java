@@ -0,0 +1,41 @@
+package com.raul.forumhub.topic.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+@Entity
+@Table(name = "topic_import_ref")
+@IdClass(TopicImportRef.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class TopicImportRef {
+
+    public static final int MAX_REF_LENGTH = 100;
+
+    @Id
+    @Column(length = 36)
+    private String importId;
+    @Id
+    @Column(length = MAX_REF_LENGTH)
+    private String ref;
+    @Column(nullable = false)
+    private long topicId;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        private String importId;
+        private String ref;
+
+    }
+
+}
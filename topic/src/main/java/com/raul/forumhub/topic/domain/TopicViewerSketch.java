@@ -0,0 +1,30 @@
+package com.raul.forumhub.topic.domain;
+
+import com.raul.forumhub.topic.views.HyperLogLog;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+@Entity
+@Table(name = "topic_viewer_sketch")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class TopicViewerSketch {
+
+    @Id
+    @Column(name = "topic_id")
+    private Long id;
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "topic_id", foreignKey = @ForeignKey(name = "FK_TOPIC_VIEWER_SKETCH_TOPIC"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @ToString.Exclude
+    private Topic topic;
+    @Column(nullable = false, length = HyperLogLog.SIZE)
+    private byte[] registers;
+
+}
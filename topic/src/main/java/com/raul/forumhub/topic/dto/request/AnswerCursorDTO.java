@@ -0,0 +1,45 @@
+package com.raul.forumhub.topic.dto.request;
+
+import com.raul.forumhub.topic.dto.response.AnswerSummaryResponseDTO;
+import com.raul.forumhub.topic.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public record AnswerCursorDTO(LocalDateTime createdAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    private static final AnswerCursorDTO START = new AnswerCursorDTO(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+    public static AnswerCursorDTO start() {
+        return START;
+    }
+
+    public static AnswerCursorDTO of(AnswerSummaryResponseDTO answer) {
+        return new AnswerCursorDTO(answer.createdAt(), answer.id());
+    }
+
+    public static AnswerCursorDTO decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.indexOf(SEPARATOR);
+            return new AnswerCursorDTO(LocalDateTime.parse(decoded.substring(0, separatorIndex)),
+                    Long.parseLong(decoded.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException ex) {
+            throw new ValidationException(String.format("O cursor '%s' informado é inválido", token));
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((this.createdAt + SEPARATOR + this.id).getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.raul.forumhub.topic.dto.request;
+
+import com.raul.forumhub.topic.dto.response.TopicSummaryResponseDTO;
+import com.raul.forumhub.topic.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public record TopicCursorDTO(LocalDateTime createdAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    private static final TopicCursorDTO START = new TopicCursorDTO(LocalDateTime.of(9999, 12, 31, 23, 59), Long.MAX_VALUE);
+
+    public static TopicCursorDTO start() {
+        return START;
+    }
+
+    public static TopicCursorDTO of(TopicSummaryResponseDTO topic) {
+        return new TopicCursorDTO(topic.createdAt(), topic.id());
+    }
+
+    public static TopicCursorDTO decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.indexOf(SEPARATOR);
+            return new TopicCursorDTO(LocalDateTime.parse(decoded.substring(0, separatorIndex)),
+                    Long.parseLong(decoded.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException ex) {
+            throw new ValidationException(String.format("O cursor '%s' informado é inválido", token));
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((this.createdAt + SEPARATOR + this.id).getBytes(StandardCharsets.UTF_8));
+    }
+
+}
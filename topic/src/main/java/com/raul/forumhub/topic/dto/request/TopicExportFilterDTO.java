@@ -0,0 +1,17 @@
+package com.raul.forumhub.topic.dto.request;
+
+import com.raul.forumhub.topic.domain.Status;
+import com.raul.forumhub.topic.exception.ValidationException;
+
+import java.time.LocalDateTime;
+
+public record TopicExportFilterDTO(Long course_id, Status status, LocalDateTime from, LocalDateTime to) {
+
+    public TopicExportFilterDTO {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ValidationException(String.format("O período de exportação [%s - %s] informado é inválido",
+                    from, to));
+        }
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.raul.forumhub.topic.dto.request;
+
+import com.raul.forumhub.topic.domain.Status;
+
+import java.time.LocalDateTime;
+
+public record TopicImportRecordDTO(String type, String ref, String title, String question, Status status,
+                                   LocalDateTime createdAt, String author, String course, String topic_ref,
+                                   Long topic_id, String solution, boolean bestAnswer) {
+
+    public static final String TOPIC = "topic";
+
+    public static final String ANSWER = "answer";
+
+}
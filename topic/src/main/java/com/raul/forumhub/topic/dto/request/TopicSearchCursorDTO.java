@@ -0,0 +1,38 @@
+package com.raul.forumhub.topic.dto.request;
+
+import com.raul.forumhub.topic.dto.response.TopicSearchResponseDTO;
+import com.raul.forumhub.topic.exception.ValidationException;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public record TopicSearchCursorDTO(BigDecimal rank, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static TopicSearchCursorDTO of(TopicSearchResponseDTO topic) {
+        return new TopicSearchCursorDTO(topic.rank(), topic.id());
+    }
+
+    public static TopicSearchCursorDTO decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.indexOf(SEPARATOR);
+            return new TopicSearchCursorDTO(new BigDecimal(decoded.substring(0, separatorIndex)),
+                    Long.parseLong(decoded.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+            throw new ValidationException(String.format("O cursor '%s' informado é inválido", token));
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((this.rank.toPlainString() + SEPARATOR + this.id).getBytes(StandardCharsets.UTF_8));
+    }
+
+}
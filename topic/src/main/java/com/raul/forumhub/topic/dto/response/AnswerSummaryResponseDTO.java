@@ -0,0 +1,15 @@
+package com.raul.forumhub.topic.dto.response;
+
+import com.raul.forumhub.topic.domain.Answer;
+
+import java.time.LocalDateTime;
+
+public record AnswerSummaryResponseDTO(Long id, String solution, boolean bestAnswer, LocalDateTime createdAt,
+                                       String authorUsername) {
+
+    public AnswerSummaryResponseDTO(Answer answer) {
+        this(answer.getId(), answer.getSolution(), answer.isBestAnswer(), answer.getCreatedAt(),
+                answer.getAuthor().getUsername());
+    }
+
+}
@@ -0,0 +1,6 @@
+package com.raul.forumhub.topic.dto.response;
+
+import java.time.LocalDateTime;
+
+public record EntityVersionDTO(Long id, long version, LocalDateTime modifiedAt) {
+}
@@ -0,0 +1,4 @@
+package com.raul.forumhub.topic.dto.response;
+
+public record TopicBulkDeleteResponseDTO(long deletedTopics, long deletedAnswers) {
+}
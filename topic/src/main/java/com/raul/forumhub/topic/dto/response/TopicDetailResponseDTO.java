@@ -0,0 +1,24 @@
+package com.raul.forumhub.topic.dto.response;
+
+import com.raul.forumhub.topic.domain.Status;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record TopicDetailResponseDTO(Long id, String title, String question, Status status, LocalDateTime createdAt,
+                                     String authorUsername, String courseName, long answerCount,
+                                     long viewCount, long uniqueViewerCount, List<AnswerSummaryResponseDTO> answers) {
+
+    public TopicDetailResponseDTO(Long id, String title, String question, Status status, LocalDateTime createdAt,
+                                  String authorUsername, String courseName, long answerCount,
+                                  long viewCount, long uniqueViewerCount) {
+        this(id, title, question, status, createdAt, authorUsername, courseName, answerCount, viewCount,
+                uniqueViewerCount, List.of());
+    }
+
+    public TopicDetailResponseDTO withAnswers(List<AnswerSummaryResponseDTO> answers) {
+        return new TopicDetailResponseDTO(this.id, this.title, this.question, this.status, this.createdAt,
+                this.authorUsername, this.courseName, this.answerCount, this.viewCount, this.uniqueViewerCount, answers);
+    }
+
+}
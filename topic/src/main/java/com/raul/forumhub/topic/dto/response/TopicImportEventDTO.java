@@ -0,0 +1,34 @@
+package com.raul.forumhub.topic.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TopicImportEventDTO(Type type, Long line, String reason, Long lines, Long topics, Long answers,
+                                  Long rejected) {
+
+    public static TopicImportEventDTO rejected(long line, String reason) {
+        return new TopicImportEventDTO(Type.REJECTED, line, reason, null, null, null, null);
+    }
+
+    public static TopicImportEventDTO progress(long lines, long topics, long answers, long rejected) {
+        return new TopicImportEventDTO(Type.PROGRESS, null, null, lines, topics, answers, rejected);
+    }
+
+    public static TopicImportEventDTO summary(long lines, long topics, long answers, long rejected) {
+        return new TopicImportEventDTO(Type.SUMMARY, null, null, lines, topics, answers, rejected);
+    }
+
+    public static TopicImportEventDTO failed(long lines, long topics, long answers, long rejected, String reason) {
+        return new TopicImportEventDTO(Type.FAILED, null, reason, lines, topics, answers, rejected);
+    }
+
+    public enum Type {
+
+        PROGRESS,
+        REJECTED,
+        SUMMARY,
+        FAILED
+
+    }
+
+}
@@ -0,0 +1,4 @@
+package com.raul.forumhub.topic.dto.response;
+
+public record TopicOwnerDTO(Long id, Long authorId, Long courseId) {
+}
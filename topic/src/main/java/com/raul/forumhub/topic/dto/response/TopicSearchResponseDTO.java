@@ -0,0 +1,16 @@
+package com.raul.forumhub.topic.dto.response;
+
+import com.raul.forumhub.topic.domain.Status;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record TopicSearchResponseDTO(Long id, String title, Status status, LocalDateTime createdAt,
+                                     String authorUsername, String courseName, long answerCount, BigDecimal rank) {
+
+    public TopicSearchResponseDTO(TopicSummaryResponseDTO topic, BigDecimal rank) {
+        this(topic.id(), topic.title(), topic.status(), topic.createdAt(), topic.authorUsername(), topic.courseName(),
+                topic.answerCount(), rank);
+    }
+
+}
@@ -0,0 +1,4 @@
+package com.raul.forumhub.topic.dto.response;
+
+public record TopicSnapshotDTO(TopicVersionDTO version, TopicResponseDTO topic) {
+}
@@ -0,0 +1,10 @@
+package com.raul.forumhub.topic.dto.response;
+
+import com.raul.forumhub.topic.domain.Status;
+
+import java.time.LocalDateTime;
+
+public record TopicSummaryResponseDTO(Long id, String title, Status status, LocalDateTime createdAt,
+                                      String authorUsername, String courseName, long answerCount,
+                                      long viewCount, long uniqueViewerCount) {
+}
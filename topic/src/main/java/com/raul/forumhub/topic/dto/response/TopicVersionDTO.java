@@ -0,0 +1,14 @@
+package com.raul.forumhub.topic.dto.response;
+
+import java.time.LocalDateTime;
+
+public record TopicVersionDTO(Long id, long version, LocalDateTime modifiedAt, Long authorId, long courseVersion,
+                              LocalDateTime courseModifiedAt) {
+
+    public LocalDateTime lastModified() {
+        if (modifiedAt == null || courseModifiedAt != null && courseModifiedAt.isAfter(modifiedAt)) {
+            return courseModifiedAt;
+        }
+        return modifiedAt;
+    }
+}
@@ -0,0 +1,6 @@
+package com.raul.forumhub.topic.event;
+
+import com.raul.forumhub.topic.dto.response.AnswerSummaryResponseDTO;
+
+public record AnswerChangedEvent(Long topicId, DomainEventType type, AnswerSummaryResponseDTO answer) {
+}
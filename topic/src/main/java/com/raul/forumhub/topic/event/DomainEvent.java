@@ -0,0 +1,6 @@
+package com.raul.forumhub.topic.event;
+
+import java.time.LocalDateTime;
+
+public record DomainEvent(long id, DomainEventType type, Long aggregateId, Long topicId, LocalDateTime occurredAt) {
+}
@@ -0,0 +1,6 @@
+package com.raul.forumhub.topic.event;
+
+import java.util.List;
+
+public record DomainEventBatch(List<DomainEvent> events) {
+}
@@ -0,0 +1,18 @@
+package com.raul.forumhub.topic.event;
+
+public enum DomainEventType {
+
+    TOPIC_CREATED,
+    TOPIC_UPDATED,
+    TOPIC_DELETED,
+    ANSWER_CREATED,
+    ANSWER_UPDATED,
+    ANSWER_DELETED,
+    BEST_ANSWER_MARKED,
+    BEST_ANSWER_UNMARKED,
+    COURSE_CREATED,
+    COURSE_UPDATED,
+    COURSE_DELETED,
+    TOPICS_IMPORTED
+
+}
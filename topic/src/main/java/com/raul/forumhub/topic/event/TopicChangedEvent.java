@@ -0,0 +1,4 @@
+package com.raul.forumhub.topic.event;
+
+public record TopicChangedEvent(Long topicId) {
+}
@@ -0,0 +1,60 @@
+package com.raul.forumhub.topic.export;
+
+import com.raul.forumhub.topic.dto.request.TopicImportRecordDTO;
+import com.raul.forumhub.topic.repository.TopicExportRepository.AnswerRow;
+import com.raul.forumhub.topic.repository.TopicExportRepository.TopicRow;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+class CsvTopicExportWriter implements TopicExportWriter {
+
+    static final String HEADER = "type,id,topic_id,title,question,status,created_at,author,course,answer_count," +
+                                 "solution,best_answer";
+
+    private final Writer writer;
+
+    CsvTopicExportWriter(OutputStream output) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        this.writer.write(HEADER);
+        this.writer.write("\r\n");
+    }
+
+    @Override
+    public void writeTopic(TopicRow topic) throws IOException {
+        this.writeRow(TopicImportRecordDTO.TOPIC, topic.id(), topic.id(), topic.title(), topic.question(),
+                topic.status().name(), topic.createdAt(), topic.author(), topic.course(), topic.answerCount(),
+                null, null);
+    }
+
+    @Override
+    public void writeAnswer(AnswerRow answer) throws IOException {
+        this.writeRow(TopicImportRecordDTO.ANSWER, answer.id(), answer.topicId(), null, null, null,
+                answer.createdAt(), answer.author(), null, null, answer.solution(), answer.bestAnswer());
+    }
+
+    private void writeRow(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                this.writer.write(',');
+            }
+            if (values[i] != null) {
+                this.writer.write(escape(values[i].toString()));
+            }
+        }
+        this.writer.write("\r\n");
+    }
+
+    private static String escape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.writer.flush();
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.raul.forumhub.topic.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raul.forumhub.topic.dto.request.TopicImportRecordDTO;
+import com.raul.forumhub.topic.repository.TopicExportRepository.AnswerRow;
+import com.raul.forumhub.topic.repository.TopicExportRepository.TopicRow;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+class NdjsonTopicExportWriter implements TopicExportWriter {
+
+    private final JsonGenerator generator;
+
+    NdjsonTopicExportWriter(OutputStream output, ObjectMapper objectMapper) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(output)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .setRootValueSeparator(null);
+    }
+
+    @Override
+    public void writeTopic(TopicRow topic) throws IOException {
+        this.generator.writeStartObject();
+        this.generator.writeStringField("type", TopicImportRecordDTO.TOPIC);
+        this.generator.writeStringField("ref", String.valueOf(topic.id()));
+        this.generator.writeNumberField("id", topic.id());
+        this.generator.writeStringField("title", topic.title());
+        this.generator.writeStringField("question", topic.question());
+        this.generator.writeStringField("status", topic.status().name());
+        this.generator.writeStringField("createdAt", String.valueOf(topic.createdAt()));
+        this.generator.writeStringField("author", topic.author());
+        this.generator.writeStringField("course", topic.course());
+        this.generator.writeNumberField("answerCount", topic.answerCount());
+        this.generator.writeEndObject();
+        this.generator.writeRaw('\n');
+    }
+
+    @Override
+    public void writeAnswer(AnswerRow answer) throws IOException {
+        this.generator.writeStartObject();
+        this.generator.writeStringField("type", TopicImportRecordDTO.ANSWER);
+        this.generator.writeNumberField("id", answer.id());
+        this.generator.writeStringField("topic_ref", String.valueOf(answer.topicId()));
+        this.generator.writeStringField("solution", answer.solution());
+        this.generator.writeBooleanField("bestAnswer", answer.bestAnswer());
+        this.generator.writeStringField("createdAt", String.valueOf(answer.createdAt()));
+        this.generator.writeStringField("author", answer.author());
+        this.generator.writeEndObject();
+        this.generator.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.generator.close();
+    }
+
+}
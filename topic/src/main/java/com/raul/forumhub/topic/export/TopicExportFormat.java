@@ -0,0 +1,29 @@
+package com.raul.forumhub.topic.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+@Getter
+public enum TopicExportFormat {
+
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(new MediaType("text", "csv"), "csv");
+
+    private final MediaType mediaType;
+
+    private final String extension;
+
+    TopicExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public TopicExportWriter writer(OutputStream output, ObjectMapper objectMapper) throws IOException {
+        return this == CSV ? new CsvTopicExportWriter(output) : new NdjsonTopicExportWriter(output, objectMapper);
+    }
+
+}
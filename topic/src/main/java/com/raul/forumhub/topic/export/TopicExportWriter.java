@@ -0,0 +1,17 @@
+package com.raul.forumhub.topic.export;
+
+import com.raul.forumhub.topic.repository.TopicExportRepository.AnswerRow;
+import com.raul.forumhub.topic.repository.TopicExportRepository.TopicRow;
+
+import java.io.IOException;
+
+public interface TopicExportWriter extends AutoCloseable {
+
+    void writeTopic(TopicRow topic) throws IOException;
+
+    void writeAnswer(AnswerRow answer) throws IOException;
+
+    @Override
+    void close() throws IOException;
+
+}
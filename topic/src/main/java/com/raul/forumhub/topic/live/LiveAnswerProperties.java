@@ -0,0 +1,24 @@
+package com.raul.forumhub.topic.live;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties("forumhub.live-answers")
+@Getter
+@Setter
+@NoArgsConstructor
+public class LiveAnswerProperties {
+
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+    private int bufferSize = 64;
+    private int maxSubscribers = 2000;
+    private Duration maxDuration = Duration.ofMinutes(30);
+    private Duration reconnectDelay = Duration.ofSeconds(5);
+
+}
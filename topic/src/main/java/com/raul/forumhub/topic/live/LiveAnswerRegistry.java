@@ -0,0 +1,127 @@
+package com.raul.forumhub.topic.live;
+
+import com.raul.forumhub.topic.dto.response.AnswerSummaryResponseDTO;
+import com.raul.forumhub.topic.event.AnswerChangedEvent;
+import com.raul.forumhub.topic.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.Exceptions;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class LiveAnswerRegistry {
+
+    private final LiveAnswerProperties liveAnswerProperties;
+    private final Map<Long, TopicChannel> channels = new ConcurrentHashMap<>();
+    private final AtomicLong subscribers = new AtomicLong();
+    private final Flux<ServerSentEvent<AnswerSummaryResponseDTO>> heartbeats;
+    private final Counter disconnectedSubscribers;
+
+    public LiveAnswerRegistry(LiveAnswerProperties liveAnswerProperties, MeterRegistry meterRegistry) {
+        this.liveAnswerProperties = liveAnswerProperties;
+        this.heartbeats = Flux.interval(liveAnswerProperties.getHeartbeatInterval(), Schedulers.parallel())
+                .onBackpressureDrop()
+                .map(tick -> ServerSentEvent.<AnswerSummaryResponseDTO>builder().comment("heartbeat").build())
+                .share();
+        this.disconnectedSubscribers = Counter.builder("forumhub.live.answers.disconnected").register(meterRegistry);
+        Gauge.builder("forumhub.live.answers.subscribers", this.subscribers, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("forumhub.live.answers.topics", this.channels, Map::size).register(meterRegistry);
+    }
+
+    public Flux<ServerSentEvent<AnswerSummaryResponseDTO>> subscribe(Long topic_id) {
+        if (this.subscribers.get() >= this.liveAnswerProperties.getMaxSubscribers()) {
+            throw new BusinessException("O limite de acompanhamentos simultâneos das respostas foi atingido, " +
+                                        "tente novamente mais tarde!");
+        }
+        return Flux.defer(() -> {
+            TopicChannel channel = this.channels.compute(topic_id, (id, current) ->
+                    (current != null ? current : new TopicChannel()).join());
+            this.subscribers.incrementAndGet();
+
+            Sinks.Empty<ServerSentEvent<AnswerSummaryResponseDTO>> overflow = Sinks.empty();
+            Flux<ServerSentEvent<AnswerSummaryResponseDTO>> answers = channel.sink.asFlux()
+                    .onBackpressureBuffer(this.liveAnswerProperties.getBufferSize(),
+                            dropped -> overflow.tryEmitError(Exceptions.failWithOverflow(
+                                    "O assinante não acompanhou os eventos das respostas do tópico")),
+                            BufferOverflowStrategy.DROP_LATEST)
+                    .map(LiveAnswerRegistry::toServerSentEvent);
+
+            return Flux.merge(1, answers, this.heartbeats.onBackpressureDrop(), overflow.asMono())
+                    .take(this.liveAnswerProperties.getMaxDuration())
+                    .concatWith(Mono.fromSupplier(this::reconnect))
+                    .onErrorResume(Exceptions::isOverflow, ex -> {
+                        this.disconnectedSubscribers.increment();
+                        log.debug("Assinante das respostas do tópico [ID: {}] desconectado por não acompanhar os eventos",
+                                topic_id);
+                        return Flux.empty();
+                    })
+                    .doFinally(signal -> this.leave(topic_id));
+        });
+    }
+
+    private void leave(Long topic_id) {
+        this.subscribers.decrementAndGet();
+        this.channels.computeIfPresent(topic_id, (id, channel) -> channel.leave() ? null : channel);
+    }
+
+    @EventListener
+    public void onAnswerChanged(AnswerChangedEvent event) {
+        TopicChannel channel = this.channels.get(event.topicId());
+        if (channel != null) {
+            channel.emit(event);
+        }
+    }
+
+    public int subscribers(Long topic_id) {
+        TopicChannel channel = this.channels.get(topic_id);
+        return channel != null ? channel.subscribers : 0;
+    }
+
+    private ServerSentEvent<AnswerSummaryResponseDTO> reconnect() {
+        return ServerSentEvent.<AnswerSummaryResponseDTO>builder()
+                .comment("reconnect")
+                .retry(this.liveAnswerProperties.getReconnectDelay())
+                .build();
+    }
+
+    private static ServerSentEvent<AnswerSummaryResponseDTO> toServerSentEvent(AnswerChangedEvent event) {
+        return ServerSentEvent.builder(event.answer())
+                .event(event.type().name().toLowerCase().replace('_', '-'))
+                .build();
+    }
+
+    private static final class TopicChannel {
+
+        private final Sinks.Many<AnswerChangedEvent> sink = Sinks.many().multicast().directBestEffort();
+        private volatile int subscribers;
+
+        private TopicChannel join() {
+            this.subscribers++;
+            return this;
+        }
+
+        private boolean leave() {
+            return --this.subscribers == 0;
+        }
+
+        private synchronized void emit(AnswerChangedEvent event) {
+            this.sink.tryEmitNext(event);
+        }
+
+    }
+
+}
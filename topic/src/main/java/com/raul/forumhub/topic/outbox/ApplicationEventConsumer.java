@@ -0,0 +1,29 @@
+package com.raul.forumhub.topic.outbox;
+
+import com.raul.forumhub.topic.event.DomainEvent;
+import com.raul.forumhub.topic.event.DomainEventBatch;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class ApplicationEventConsumer implements DomainEventConsumer {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ApplicationEventConsumer(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public String name() {
+        return "application-events";
+    }
+
+    @Override
+    public void accept(List<DomainEvent> events) {
+        this.eventPublisher.publishEvent(new DomainEventBatch(List.copyOf(events)));
+    }
+
+}
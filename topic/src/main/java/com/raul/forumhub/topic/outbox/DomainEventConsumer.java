@@ -0,0 +1,13 @@
+package com.raul.forumhub.topic.outbox;
+
+import com.raul.forumhub.topic.event.DomainEvent;
+
+import java.util.List;
+
+public interface DomainEventConsumer {
+
+    String name();
+
+    void accept(List<DomainEvent> events);
+
+}
@@ -0,0 +1,29 @@
+package com.raul.forumhub.topic.outbox;
+
+import com.raul.forumhub.topic.domain.OutboxEvent;
+import com.raul.forumhub.topic.event.DomainEventType;
+import com.raul.forumhub.topic.repository.OutboxEventRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Component
+public class DomainEventOutbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    public DomainEventOutbox(OutboxEventRepository outboxEventRepository) {
+        this.outboxEventRepository = outboxEventRepository;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(DomainEventType type, Long aggregate_id, Long topic_id) {
+        this.outboxEventRepository.save(OutboxEvent.builder().type(type)
+                .aggregateId(aggregate_id).topicId(topic_id)
+                .occurredAt(LocalDateTime.now())
+                .build());
+    }
+
+}
@@ -0,0 +1,164 @@
+package com.raul.forumhub.topic.outbox;
+
+import com.raul.forumhub.topic.datasource.ReadYourWritesTracker;
+import com.raul.forumhub.topic.domain.EventConsumerOffset;
+import com.raul.forumhub.topic.domain.OutboxEvent;
+import com.raul.forumhub.topic.event.DomainEvent;
+import com.raul.forumhub.topic.exception.BusinessException;
+import com.raul.forumhub.topic.repository.EventConsumerOffsetRepository;
+import com.raul.forumhub.topic.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class DomainEventRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final EventConsumerOffsetRepository eventConsumerOffsetRepository;
+    private final TransactionOperations transactionOperations;
+    private final OutboxProperties outboxProperties;
+    private final List<DomainEventConsumer> consumers;
+    private final Map<String, Counter> relayedEvents;
+    private final AtomicBoolean relaying = new AtomicBoolean(false);
+    private final Disposable schedule;
+
+    public DomainEventRelay(OutboxEventRepository outboxEventRepository,
+                            EventConsumerOffsetRepository eventConsumerOffsetRepository,
+                            TransactionOperations transactionOperations, OutboxProperties outboxProperties,
+                            List<DomainEventConsumer> consumers, MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.eventConsumerOffsetRepository = eventConsumerOffsetRepository;
+        this.transactionOperations = transactionOperations;
+        this.outboxProperties = outboxProperties;
+        this.consumers = List.copyOf(consumers);
+        this.relayedEvents = this.consumers.stream().collect(Collectors.toMap(DomainEventConsumer::name,
+                consumer -> Counter.builder("forumhub.outbox.events.relayed")
+                        .tag("consumer", consumer.name())
+                        .register(meterRegistry)));
+
+        OutboxProperties.Relay relay = outboxProperties.getRelay();
+        this.schedule = !relay.isEnabled() ? Disposables.disposed() :
+                Flux.interval(relay.getInterval(), relay.getInterval(), Schedulers.boundedElastic())
+                        .doOnNext(tick -> this.scheduledRelay())
+                        .subscribe();
+    }
+
+    public long relay() {
+        if (!this.relaying.compareAndSet(false, true)) {
+            throw new BusinessException("Uma publicação dos eventos de domínio já está em andamento");
+        }
+        try {
+            return ReadYourWritesTracker.untracked(this::relayToConsumers);
+        } finally {
+            this.relaying.set(false);
+        }
+    }
+
+    private long relayToConsumers() {
+        long relayed = 0;
+        for (DomainEventConsumer consumer : this.consumers) {
+            try {
+                relayed += this.relay(consumer);
+            } catch (RuntimeException ex) {
+                log.warn("Falha na entrega dos eventos de domínio ao consumidor {}: {}", consumer.name(), ex.getMessage());
+            }
+        }
+        this.purgeDeliveredEvents();
+        return relayed;
+    }
+
+    private long relay(DomainEventConsumer consumer) {
+        int batchSize = this.outboxProperties.getRelay().getBatchSize();
+        long relayed = 0;
+        int delivered;
+        do {
+            delivered = Objects.requireNonNull(this.transactionOperations.execute(status ->
+                    this.deliverBatch(consumer, batchSize)));
+            this.relayedEvents.get(consumer.name()).increment(delivered);
+            relayed += delivered;
+        } while (delivered == batchSize);
+
+        return relayed;
+    }
+
+    private int deliverBatch(DomainEventConsumer consumer, int batchSize) {
+        EventConsumerOffset offset = this.eventConsumerOffsetRepository.findForUpdate(consumer.name())
+                .orElseGet(() -> new EventConsumerOffset(consumer.name(), 0, LocalDateTime.now()));
+
+        List<DomainEvent> events = this.readAfter(offset.getLastEventId(), batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        consumer.accept(events);
+
+        offset.setLastEventId(events.get(events.size() - 1).id());
+        offset.setUpdatedAt(LocalDateTime.now());
+        this.eventConsumerOffsetRepository.save(offset);
+        return events.size();
+    }
+
+    private List<DomainEvent> readAfter(long event_id, int batchSize) {
+        LocalDateTime gapDeadline = LocalDateTime.now().minus(this.outboxProperties.getRelay().getGapTimeout());
+        List<DomainEvent> events = new ArrayList<>();
+        Long expectedId = event_id > 0 ? event_id + 1 : null;
+
+        for (OutboxEvent event : this.outboxEventRepository.findByIdGreaterThanOrderByIdAsc(event_id, Limit.of(batchSize))) {
+            if (expectedId != null && !event.getId().equals(expectedId) && event.getOccurredAt().isAfter(gapDeadline)) {
+                break;
+            }
+            events.add(event.toDomainEvent());
+            expectedId = event.getId() + 1;
+        }
+        return events;
+    }
+
+    private void purgeDeliveredEvents() {
+        Map<String, Long> offsets = this.eventConsumerOffsetRepository.findByConsumerIn(this.relayedEvents.keySet())
+                .stream()
+                .collect(Collectors.toMap(EventConsumerOffset::getConsumer, EventConsumerOffset::getLastEventId));
+        if (offsets.size() < this.consumers.size()) {
+            return;
+        }
+
+        long delivered = offsets.values().stream().mapToLong(Long::longValue).min().orElse(0);
+        LocalDateTime occurredBefore = LocalDateTime.now().minus(this.outboxProperties.getRetention());
+        int purged = Objects.requireNonNull(this.transactionOperations.execute(status ->
+                this.outboxEventRepository.deleteDeliveredEvents(delivered, occurredBefore)));
+        if (purged > 0) {
+            log.debug("{} eventos de domínio entregues removidos do outbox", purged);
+        }
+    }
+
+    private void scheduledRelay() {
+        try {
+            this.relay();
+        } catch (RuntimeException ex) {
+            log.warn("Falha na publicação agendada dos eventos de domínio: {}", ex.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        this.schedule.dispose();
+    }
+
+}
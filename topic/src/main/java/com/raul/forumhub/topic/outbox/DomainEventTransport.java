@@ -0,0 +1,4 @@
+package com.raul.forumhub.topic.outbox;
+
+public interface DomainEventTransport extends DomainEventConsumer {
+}
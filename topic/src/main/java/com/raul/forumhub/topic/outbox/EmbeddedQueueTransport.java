@@ -0,0 +1,36 @@
+package com.raul.forumhub.topic.outbox;
+
+import com.raul.forumhub.topic.event.DomainEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(prefix = "forumhub.outbox.transport", name = "type", havingValue = "embedded-queue", matchIfMissing = true)
+public class EmbeddedQueueTransport implements DomainEventTransport {
+
+    private final Sinks.Many<DomainEvent> sink = Sinks.many().multicast().directBestEffort();
+
+    @Override
+    public String name() {
+        return "embedded-queue";
+    }
+
+    @Override
+    public void accept(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            Sinks.EmitResult result = this.sink.tryEmitNext(event);
+            if (result != Sinks.EmitResult.FAIL_ZERO_SUBSCRIBER) {
+                result.orThrow();
+            }
+        }
+    }
+
+    public Flux<DomainEvent> events() {
+        return this.sink.asFlux();
+    }
+
+}
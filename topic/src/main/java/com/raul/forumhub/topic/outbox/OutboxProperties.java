@@ -0,0 +1,44 @@
+package com.raul.forumhub.topic.outbox;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties("forumhub.outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+public class OutboxProperties {
+
+    private Duration retention = Duration.ofDays(7);
+    private Relay relay = new Relay();
+    private Transport transport = new Transport();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Relay {
+
+        private boolean enabled = true;
+        private Duration interval = Duration.ofSeconds(1);
+        private int batchSize = 200;
+        private Duration gapTimeout = Duration.ofSeconds(10);
+
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Transport {
+
+        private String type = "embedded-queue";
+        private String channel = "forumhub_events";
+
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.raul.forumhub.topic.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raul.forumhub.topic.event.DomainEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(prefix = "forumhub.outbox.transport", name = "type", havingValue = "postgres-notify")
+public class PostgresNotifyTransport implements DomainEventTransport {
+
+    private static final String NOTIFY = "SELECT pg_notify(?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final OutboxProperties outboxProperties;
+
+    public PostgresNotifyTransport(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, OutboxProperties outboxProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.outboxProperties = outboxProperties;
+    }
+
+    @Override
+    public String name() {
+        return "postgres-notify";
+    }
+
+    @Override
+    public void accept(List<DomainEvent> events) {
+        String channel = this.outboxProperties.getTransport().getChannel();
+        for (DomainEvent event : events) {
+            this.jdbcTemplate.query(NOTIFY, resultSet -> {
+            }, channel, this.toJson(event));
+        }
+    }
+
+    private String toJson(DomainEvent event) {
+        try {
+            return this.objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(String.format("Falha na serialização do evento [ID: %d]", event.id()), ex);
+        }
+    }
+
+}
@@ -0,0 +1,7 @@
+package com.raul.forumhub.topic.pagination;
+
+public enum CountMode {
+
+    EXACT, CACHED, ESTIMATED, NONE
+
+}
@@ -0,0 +1,8 @@
+package com.raul.forumhub.topic.pagination;
+
+import java.util.function.LongSupplier;
+
+public record CountQuery(String listing, Object parameter, LongSupplier exactCount, String estimateSql,
+                         Object... estimateArgs) {
+
+}
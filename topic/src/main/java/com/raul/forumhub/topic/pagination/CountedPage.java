@@ -0,0 +1,40 @@
+package com.raul.forumhub.topic.pagination;
+
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.PagedModel;
+
+import java.util.List;
+import java.util.Objects;
+
+@Getter
+public class CountedPage<T> extends PageImpl<T> {
+
+    private final CountMode countMode;
+
+    public CountedPage(List<T> content, Pageable pageable, long total, CountMode countMode) {
+        super(content, pageable, total);
+        this.countMode = countMode;
+    }
+
+    public static <T> CountedPage<T> of(Page<T> page, CountMode countMode) {
+        return new CountedPage<>(page.getContent(), page.getPageable(), page.getTotalElements(), countMode);
+    }
+
+    public PagedModel<EntityModel<T>> toPagedModel(PagedResourcesAssembler<T> assembler) {
+        PagedModel<EntityModel<T>> model = assembler.toModel(this);
+        PagedModel.PageMetadata metadata = Objects.requireNonNull(model.getMetadata());
+
+        if (this.countMode == CountMode.NONE) {
+            return PagedModel.of(model.getContent(), new CountedPageMetadata.Uncounted(metadata, this.hasNext()),
+                    model.getLinks().without(IanaLinkRelations.LAST));
+        }
+        return PagedModel.of(model.getContent(), new CountedPageMetadata(metadata, this.countMode), model.getLinks());
+    }
+
+}
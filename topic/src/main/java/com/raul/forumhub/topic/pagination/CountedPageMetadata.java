@@ -0,0 +1,33 @@
+package com.raul.forumhub.topic.pagination;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import org.springframework.hateoas.PagedModel;
+
+@Getter
+public class CountedPageMetadata extends PagedModel.PageMetadata {
+
+    @JsonProperty
+    private final CountMode countMode;
+
+    public CountedPageMetadata(PagedModel.PageMetadata metadata, CountMode countMode) {
+        super(metadata.getSize(), metadata.getNumber(), metadata.getTotalElements(), metadata.getTotalPages());
+        this.countMode = countMode;
+    }
+
+    @Getter
+    @JsonIgnoreProperties({"totalElements", "totalPages"})
+    public static class Uncounted extends CountedPageMetadata {
+
+        @JsonProperty
+        private final boolean hasNext;
+
+        public Uncounted(PagedModel.PageMetadata metadata, boolean hasNext) {
+            super(metadata, CountMode.NONE);
+            this.hasNext = hasNext;
+        }
+
+    }
+
+}
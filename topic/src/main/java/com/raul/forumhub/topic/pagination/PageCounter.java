@@ -0,0 +1,134 @@
+package com.raul.forumhub.topic.pagination;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Component
+public class PageCounter {
+
+    private static final String COUNT_CACHE_NAME = "forumhub.pagination.count.cache";
+
+    private static final String COUNT_METRIC_NAME = "forumhub.pagination.count";
+
+    private static final Pattern PLAN_ROWS = Pattern.compile("\"Plan Rows\"\\s*:\\s*(\\d+)");
+
+    private final PaginationProperties paginationProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Cache<CountKey, Long> countCache;
+    private volatile Boolean estimateSupported;
+
+    public PageCounter(PaginationProperties paginationProperties, JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.paginationProperties = paginationProperties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+        this.countCache = Caffeine.newBuilder()
+                .maximumSize(paginationProperties.getCache().getMaximumSize())
+                .expireAfterWrite(paginationProperties.getCache().getExpireAfterWrite())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, this.countCache, COUNT_CACHE_NAME);
+    }
+
+    public CountMode modeOf(String listing) {
+        return this.paginationProperties.getListings().getOrDefault(listing, this.paginationProperties.getMode());
+    }
+
+    public <T> CountedPage<T> page(CountQuery countQuery, Supplier<Page<T>> exactPage, Supplier<Slice<T>> slice) {
+        CountMode mode = this.modeOf(countQuery.listing());
+
+        if (mode == CountMode.EXACT) {
+            return this.record(countQuery, CountedPage.of(exactPage.get(), CountMode.EXACT));
+        }
+
+        Slice<T> content = slice.get();
+        Pageable pageable = content.getPageable();
+        long seen = pageable.getOffset() + content.getNumberOfElements();
+        long minimum = content.hasNext() ? seen + 1 : seen;
+
+        if (mode == CountMode.NONE) {
+            return this.record(countQuery, new CountedPage<>(content.getContent(), pageable, minimum, CountMode.NONE));
+        }
+
+        if (!content.hasNext() && (pageable.getOffset() == 0 || content.hasContent())) {
+            return this.record(countQuery, new CountedPage<>(content.getContent(), pageable, seen, CountMode.EXACT));
+        }
+
+        CountedPage<T> page = mode == CountMode.CACHED ?
+                new CountedPage<>(content.getContent(), pageable, Math.max(this.cachedCount(countQuery), minimum), CountMode.CACHED) :
+                this.estimatedPage(countQuery, content, minimum);
+
+        return this.record(countQuery, page);
+    }
+
+    public void invalidate(String listing, Object parameter) {
+        this.countCache.invalidate(new CountKey(listing, parameter));
+    }
+
+    private long cachedCount(CountQuery countQuery) {
+        return this.countCache.get(new CountKey(countQuery.listing(), countQuery.parameter()),
+                key -> countQuery.exactCount().getAsLong());
+    }
+
+    private <T> CountedPage<T> estimatedPage(CountQuery countQuery, Slice<T> content, long minimum) {
+        OptionalLong estimate = this.estimate(countQuery);
+
+        if (estimate.isPresent() && estimate.getAsLong() >= this.paginationProperties.getEstimate().getExactBelow()) {
+            return new CountedPage<>(content.getContent(), content.getPageable(), Math.max(estimate.getAsLong(), minimum),
+                    CountMode.ESTIMATED);
+        }
+        return new CountedPage<>(content.getContent(), content.getPageable(),
+                Math.max(countQuery.exactCount().getAsLong(), minimum), CountMode.EXACT);
+    }
+
+    private OptionalLong estimate(CountQuery countQuery) {
+        if (!this.isEstimateSupported()) {
+            return OptionalLong.empty();
+        }
+        try {
+            String plan = this.jdbcTemplate.queryForObject("explain (format json) " + countQuery.estimateSql(),
+                    String.class, countQuery.estimateArgs());
+            Matcher planRows = PLAN_ROWS.matcher(Objects.requireNonNullElse(plan, ""));
+            return planRows.find() ? OptionalLong.of(Long.parseLong(planRows.group(1))) : OptionalLong.empty();
+        } catch (DataAccessException e) {
+            log.warn("Falha ao estimar a contagem da listagem '{}', utilizando a contagem exata", countQuery.listing(), e);
+            return OptionalLong.empty();
+        }
+    }
+
+    private boolean isEstimateSupported() {
+        if (this.estimateSupported == null) {
+            this.estimateSupported = "PostgreSQL".equals(this.jdbcTemplate.execute((ConnectionCallback<String>)
+                    connection -> connection.getMetaData().getDatabaseProductName()));
+        }
+        return this.estimateSupported;
+    }
+
+    private <T> CountedPage<T> record(CountQuery countQuery, CountedPage<T> page) {
+        this.meterRegistry.counter(COUNT_METRIC_NAME, "listing", countQuery.listing(),
+                "mode", page.getCountMode().name()).increment();
+        return page;
+    }
+
+    private record CountKey(String listing, Object parameter) {
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.raul.forumhub.topic.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties("forumhub.rate-limit")
+@Getter
+@Setter
+@NoArgsConstructor
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    private long maximumBuckets = 100000;
+
+    private Map<String, Group> groups = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Group {
+
+        private List<String> paths = new ArrayList<>();
+        private Budget read = new Budget(300, Duration.ofMinutes(1));
+        private Budget write = new Budget(30, Duration.ofMinutes(1));
+
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Budget {
+
+        private long capacity;
+        private Duration period;
+
+    }
+
+}
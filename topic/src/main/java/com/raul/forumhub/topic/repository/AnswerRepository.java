@@ -1,10 +1,53 @@
 package com.raul.forumhub.topic.repository;
 
 import com.raul.forumhub.topic.domain.Answer;
+import com.raul.forumhub.topic.dto.response.AnswerSummaryResponseDTO;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface AnswerRepository extends JpaRepository<Answer, Long> {
 
+    @Query("""
+            select new com.raul.forumhub.topic.dto.response.AnswerSummaryResponseDTO(
+                a.id, a.solution, a.bestAnswer, a.createdAt, u.username)
+            from Answer a left join a.author u
+            where a.topic.id = :topic_id and a.bestAnswer = true
+            order by a.createdAt, a.id
+            """)
+    List<AnswerSummaryResponseDTO> findBestAnswerSummariesByTopicId(Long topic_id, Limit limit);
+
+    @Query("""
+            select new com.raul.forumhub.topic.dto.response.AnswerSummaryResponseDTO(
+                a.id, a.solution, a.bestAnswer, a.createdAt, u.username)
+            from Answer a left join a.author u
+            where a.topic.id = :topic_id and a.bestAnswer = false and (a.createdAt, a.id) > (:createdAt, :id)
+            order by a.createdAt, a.id
+            """)
+    List<AnswerSummaryResponseDTO> findAnswerSummariesByTopicIdAfter(Long topic_id, LocalDateTime createdAt, Long id,
+                                                                     Limit limit);
+
+    @Query("""
+            select new com.raul.forumhub.topic.dto.response.AnswerSummaryResponseDTO(
+                a.id, a.solution, a.bestAnswer, a.createdAt, u.username)
+            from Answer a left join a.author u
+            where a.id = :answer_id
+            """)
+    Optional<AnswerSummaryResponseDTO> findAnswerSummaryById(Long answer_id);
+
+    @Modifying
+    @Query("update Answer a set a.bestAnswer = true where a.id = :answer_id and a.topic.id = :topic_id")
+    int markBestAnswer(Long topic_id, Long answer_id);
+
+    @Modifying
+    @Query("update Answer a set a.bestAnswer = false where a.id = :answer_id and a.topic.id = :topic_id")
+    int unmarkBestAnswer(Long topic_id, Long answer_id);
+
 }
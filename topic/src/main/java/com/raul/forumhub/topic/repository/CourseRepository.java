@@ -1,10 +1,42 @@
 package com.raul.forumhub.topic.repository;
 
 import com.raul.forumhub.topic.domain.Course;
+import com.raul.forumhub.topic.dto.response.EntityVersionDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CourseRepository extends JpaRepository<Course, Long> {
 
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Course> findAll();
+
+    @Query("""
+            select new com.raul.forumhub.topic.dto.response.EntityVersionDTO(c.id, c.version, c.modifiedAt)
+            from Course c where c.id = :course_id
+            """)
+    Optional<EntityVersionDTO> findCourseVersionById(Long course_id);
+
+    @Query("""
+            select new com.raul.forumhub.topic.dto.response.EntityVersionDTO(c.id, c.version, c.modifiedAt)
+            from Course c order by c.id
+            """)
+    List<EntityVersionDTO> findCourseVersions();
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+    @Query("update Course c set c.version = c.version + 1, c.modifiedAt = local datetime where c.id = :course_id")
+    int bumpVersion(Long course_id);
+
 }
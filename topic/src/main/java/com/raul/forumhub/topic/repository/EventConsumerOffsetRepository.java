@@ -0,0 +1,23 @@
+package com.raul.forumhub.topic.repository;
+
+import com.raul.forumhub.topic.domain.EventConsumerOffset;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface EventConsumerOffsetRepository extends JpaRepository<EventConsumerOffset, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from EventConsumerOffset o where o.consumer = :consumer")
+    Optional<EventConsumerOffset> findForUpdate(String consumer);
+
+    List<EventConsumerOffset> findByConsumerIn(Collection<String> consumers);
+
+}
@@ -0,0 +1,22 @@
+package com.raul.forumhub.topic.repository;
+
+import com.raul.forumhub.topic.domain.OutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    List<OutboxEvent> findByIdGreaterThanOrderByIdAsc(Long event_id, Limit limit);
+
+    @Modifying
+    @Query("delete from OutboxEvent e where e.id <= :event_id and e.occurredAt < :occurred_before")
+    int deleteDeliveredEvents(Long event_id, LocalDateTime occurred_before);
+
+}
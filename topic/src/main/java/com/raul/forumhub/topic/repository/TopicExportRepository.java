@@ -0,0 +1,89 @@
+package com.raul.forumhub.topic.repository;
+
+import com.raul.forumhub.topic.domain.Status;
+import com.raul.forumhub.topic.dto.request.TopicExportFilterDTO;
+import com.raul.forumhub.topic.config.TopicExportProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+@Repository
+public class TopicExportRepository {
+
+    private static final String SELECT_TOPICS = """
+            SELECT t.topic_id, t.title, t.question, t.status, t.created_at, u.username, c.name, t.answer_count
+            FROM topic t
+            JOIN users u ON u.user_id = t.user_id
+            JOIN course c ON c.course_id = t.course_id
+            """;
+
+    private static final String SELECT_ANSWERS = """
+            SELECT a.answer_id, a.topic_id, a.solution, a.best_answer, a.created_at, u.username
+            FROM answer a
+            JOIN topic t ON t.topic_id = a.topic_id
+            JOIN users u ON u.user_id = a.user_id
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public TopicExportRepository(DataSource dataSource, TopicExportProperties topicExportProperties) {
+        JdbcTemplate cursorTemplate = new JdbcTemplate(dataSource);
+        cursorTemplate.setFetchSize(topicExportProperties.getFetchSize());
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(cursorTemplate);
+    }
+
+    public void streamTopics(TopicExportFilterDTO filter, Consumer<TopicRow> consumer) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        this.jdbcTemplate.query(SELECT_TOPICS + where(filter, parameters) + "ORDER BY t.topic_id", parameters,
+                resultSet -> {
+                    consumer.accept(new TopicRow(resultSet.getLong(1), resultSet.getString(2), resultSet.getString(3),
+                            Status.valueOf(resultSet.getString(4).trim()), resultSet.getObject(5, LocalDateTime.class),
+                            resultSet.getString(6), resultSet.getString(7), resultSet.getLong(8)));
+                });
+    }
+
+    public void streamAnswers(TopicExportFilterDTO filter, Consumer<AnswerRow> consumer) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        this.jdbcTemplate.query(SELECT_ANSWERS + where(filter, parameters) + "ORDER BY a.answer_id", parameters,
+                resultSet -> {
+                    consumer.accept(new AnswerRow(resultSet.getLong(1), resultSet.getLong(2), resultSet.getString(3),
+                            resultSet.getBoolean(4), resultSet.getObject(5, LocalDateTime.class),
+                            resultSet.getString(6)));
+                });
+    }
+
+    private static String where(TopicExportFilterDTO filter, MapSqlParameterSource parameters) {
+        StringBuilder where = new StringBuilder("WHERE 1 = 1\n");
+        if (filter.course_id() != null) {
+            where.append("AND t.course_id = :course_id\n");
+            parameters.addValue("course_id", filter.course_id());
+        }
+        if (filter.status() != null) {
+            where.append("AND t.status = :status\n");
+            parameters.addValue("status", filter.status().name());
+        }
+        if (filter.from() != null) {
+            where.append("AND t.created_at >= :from\n");
+            parameters.addValue("from", filter.from());
+        }
+        if (filter.to() != null) {
+            where.append("AND t.created_at < :to\n");
+            parameters.addValue("to", filter.to());
+        }
+        return where.toString();
+    }
+
+    public record TopicRow(long id, String title, String question, Status status, LocalDateTime createdAt,
+                           String author, String course, long answerCount) {
+    }
+
+    public record AnswerRow(long id, long topicId, String solution, boolean bestAnswer, LocalDateTime createdAt,
+                            String author) {
+    }
+
+}
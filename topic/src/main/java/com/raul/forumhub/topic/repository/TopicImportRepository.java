@@ -0,0 +1,161 @@
+package com.raul.forumhub.topic.repository;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Repository
+public class TopicImportRepository {
+
+    private static final String INSERT_TOPIC = """
+            INSERT INTO topic (title, question, status, created_at, user_id, course_id, answer_count, last_activity_at,
+                               view_count, unique_viewer_count, version, modified_at)
+            VALUES (?, ?, 'UNSOLVED', ?, ?, ?, 0, ?, 0, 0, 0, ?)
+            """;
+
+    private static final String INSERT_ANSWER = """
+            INSERT INTO answer (solution, best_answer, created_at, topic_id, user_id)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_REF = """
+            INSERT INTO topic_import_ref (import_id, ref, topic_id)
+            VALUES (?, ?, ?)
+            """;
+
+    private static final String REFRESH_STATISTICS = """
+            UPDATE topic t
+            SET answer_count = (SELECT count(*) FROM answer a WHERE a.topic_id = t.topic_id),
+                best_answer_id = (SELECT min(a.answer_id) FROM answer a WHERE a.topic_id = t.topic_id AND a.best_answer),
+                status = CASE WHEN EXISTS (SELECT 1 FROM answer a WHERE a.topic_id = t.topic_id AND a.best_answer)
+                              THEN 'SOLVED' ELSE 'UNSOLVED' END,
+                last_activity_at = coalesce((SELECT max(a.created_at) FROM answer a WHERE a.topic_id = t.topic_id),
+                                            t.created_at),
+                version = t.version + 1,
+                modified_at = CURRENT_TIMESTAMP
+            WHERE t.topic_id IN (:topic_ids)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public TopicImportRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Map<String, Long> findAuthorIdsByUsername(Collection<String> usernames) {
+        return this.findIds("SELECT username, user_id FROM users WHERE username IN (:names)", usernames);
+    }
+
+    public Map<String, Long> findCourseIdsByName(Collection<String> names) {
+        return this.findIds("SELECT name, course_id FROM course WHERE name IN (:names)", names);
+    }
+
+    private Map<String, Long> findIds(String sql, Collection<String> names) {
+        Map<String, Long> ids = new HashMap<>();
+        if (!names.isEmpty()) {
+            this.jdbcTemplate.query(sql, Map.of("names", names), resultSet -> {
+                ids.put(resultSet.getString(1), resultSet.getLong(2));
+            });
+        }
+        return ids;
+    }
+
+    public Set<Long> findExistingTopicIds(Collection<Long> topicIds) {
+        if (topicIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(this.jdbcTemplate.queryForList("SELECT topic_id FROM topic WHERE topic_id IN (:topic_ids)",
+                Map.of("topic_ids", topicIds), Long.class));
+    }
+
+    public Map<String, Long> findTopicIdsByRef(String importId, Collection<String> refs) {
+        Map<String, Long> ids = new HashMap<>();
+        if (!refs.isEmpty()) {
+            this.jdbcTemplate.query("SELECT ref, topic_id FROM topic_import_ref WHERE import_id = :import_id AND ref IN (:refs)",
+                    Map.of("import_id", importId, "refs", refs), resultSet -> {
+                        ids.put(resultSet.getString(1), resultSet.getLong(2));
+                    });
+        }
+        return ids;
+    }
+
+    public void insertRefs(String importId, Map<String, Long> topicIdsByRef) {
+        List<Map.Entry<String, Long>> refs = List.copyOf(topicIdsByRef.entrySet());
+        this.jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_REF, refs, refs.size(), (ps, ref) -> {
+            ps.setString(1, importId);
+            ps.setString(2, ref.getKey());
+            ps.setLong(3, ref.getValue());
+        });
+    }
+
+    public void deleteRefs(String importId) {
+        this.jdbcTemplate.update("DELETE FROM topic_import_ref WHERE import_id = :import_id", Map.of("import_id", importId));
+    }
+
+    public Set<Long> findTopicIdsWithBestAnswer(Collection<Long> topicIds) {
+        if (topicIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(this.jdbcTemplate.queryForList(
+                "SELECT topic_id FROM topic WHERE topic_id IN (:topic_ids) AND best_answer_id IS NOT NULL",
+                Map.of("topic_ids", topicIds), Long.class));
+    }
+
+    public List<Long> insertTopics(List<TopicRow> topics) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        this.jdbcTemplate.getJdbcTemplate().batchUpdate(
+                connection -> connection.prepareStatement(INSERT_TOPIC, new String[]{"topic_id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        TopicRow topic = topics.get(i);
+                        ps.setString(1, topic.title());
+                        ps.setString(2, topic.question());
+                        ps.setObject(3, topic.createdAt());
+                        ps.setLong(4, topic.authorId());
+                        ps.setLong(5, topic.courseId());
+                        ps.setObject(6, topic.createdAt());
+                        ps.setObject(7, topic.createdAt());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return topics.size();
+                    }
+                }, keyHolder);
+
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+    }
+
+    public void insertAnswers(List<AnswerRow> answers) {
+        this.jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_ANSWER, answers, answers.size(), (ps, answer) -> {
+            ps.setString(1, answer.solution());
+            ps.setBoolean(2, answer.bestAnswer());
+            ps.setObject(3, answer.createdAt());
+            ps.setLong(4, answer.topicId());
+            ps.setLong(5, answer.authorId());
+        });
+    }
+
+    public void refreshStatistics(Collection<Long> topicIds) {
+        if (!topicIds.isEmpty()) {
+            this.jdbcTemplate.update(REFRESH_STATISTICS, Map.of("topic_ids", topicIds));
+        }
+    }
+
+    public record TopicRow(String title, String question, LocalDateTime createdAt, long authorId, long courseId) {
+    }
+
+    public record AnswerRow(String solution, boolean bestAnswer, LocalDateTime createdAt, long topicId, long authorId) {
+    }
+
+}
@@ -1,14 +1,220 @@
 package com.raul.forumhub.topic.repository;
 
 import com.raul.forumhub.topic.domain.Topic;
+import com.raul.forumhub.topic.dto.response.TopicDetailResponseDTO;
+import com.raul.forumhub.topic.dto.response.TopicOwnerDTO;
+import com.raul.forumhub.topic.dto.response.TopicSummaryResponseDTO;
+import com.raul.forumhub.topic.dto.response.TopicVersionDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TopicRepository extends JpaRepository<Topic, Long> {
 
-    Page<Topic> findTopicsByCourseId(Long course_id, Pageable pageable);
+    @Query(value = """
+            select new com.raul.forumhub.topic.dto.response.TopicSummaryResponseDTO(
+                t.id, t.title, t.status, t.createdAt, a.username, c.name, t.answerCount,
+                t.viewCount, t.uniqueViewerCount)
+            from Topic t left join t.author a left join t.course c
+            """,
+            countQuery = "select count(t) from Topic t")
+    Page<TopicSummaryResponseDTO> findTopicSummaries(Pageable pageable);
+
+    @Query(value = """
+            select new com.raul.forumhub.topic.dto.response.TopicSummaryResponseDTO(
+                t.id, t.title, t.status, t.createdAt, a.username, c.name, t.answerCount,
+                t.viewCount, t.uniqueViewerCount)
+            from Topic t left join t.author a left join t.course c
+            where c.id = :course_id
+            """,
+            countQuery = "select count(t) from Topic t where t.course.id = :course_id")
+    Page<TopicSummaryResponseDTO> findTopicSummariesByCourseId(Long course_id, Pageable pageable);
+
+    @Query("""
+            select new com.raul.forumhub.topic.dto.response.TopicSummaryResponseDTO(
+                t.id, t.title, t.status, t.createdAt, a.username, c.name, t.answerCount,
+                t.viewCount, t.uniqueViewerCount)
+            from Topic t left join t.author a left join t.course c
+            """)
+    Slice<TopicSummaryResponseDTO> findTopicSummarySlice(Pageable pageable);
+
+    @Query("""
+            select new com.raul.forumhub.topic.dto.response.TopicSummaryResponseDTO(
+                t.id, t.title, t.status, t.createdAt, a.username, c.name, t.answerCount,
+                t.viewCount, t.uniqueViewerCount)
+            from Topic t left join t.author a left join t.course c
+            where c.id = :course_id
+            """)
+    Slice<TopicSummaryResponseDTO> findTopicSummarySliceByCourseId(Long course_id, Pageable pageable);
+
+    @Query("select count(t) from Topic t where t.course.id = :course_id")
+    long countByCourseId(Long course_id);
+
+    @Query("""
+            select new com.raul.forumhub.topic.dto.response.TopicSummaryResponseDTO(
+                t.id, t.title, t.status, t.createdAt, a.username, c.name, t.answerCount,
+                t.viewCount, t.uniqueViewerCount)
+            from Topic t left join t.author a left join t.course c
+            where (t.createdAt, t.id) < (:createdAt, :id)
+            order by t.createdAt desc, t.id desc
+            """)
+    List<TopicSummaryResponseDTO> findTopicSummariesBefore(LocalDateTime createdAt, Long id, Limit limit);
+
+    @Query("""
+            select new com.raul.forumhub.topic.dto.response.TopicSummaryResponseDTO(
+                t.id, t.title, t.status, t.createdAt, a.username, c.name, t.answerCount,
+                t.viewCount, t.uniqueViewerCount)
+            from Topic t left join t.author a left join t.course c
+            where t.course.id = :course_id and (t.createdAt, t.id) < (:createdAt, :id)
+            order by t.createdAt desc, t.id desc
+            """)
+    List<TopicSummaryResponseDTO> findTopicSummariesByCourseIdBefore(Long course_id, LocalDateTime createdAt, Long id, Limit limit);
+
+    @Query("""
+            select new com.raul.forumhub.topic.dto.response.TopicSummaryResponseDTO(
+                t.id, t.title, t.status, t.createdAt, a.username, c.name, t.answerCount,
+                t.viewCount, t.uniqueViewerCount)
+            from Topic t left join t.author a left join t.course c
+            where t.id in :ids
+            """)
+    List<TopicSummaryResponseDTO> findTopicSummariesByIds(Collection<Long> ids);
+
+    @Query("""
+            select new com.raul.forumhub.topic.dto.response.TopicDetailResponseDTO(
+                t.id, t.title, t.question, t.status, t.createdAt, a.username, c.name, t.answerCount,
+                t.viewCount, t.uniqueViewerCount)
+            from Topic t left join t.author a left join t.course c
+            where t.id = :topic_id
+            """)
+    Optional<TopicDetailResponseDTO> findTopicDetailById(Long topic_id);
+
+    @Query("select coalesce(max(t.id), 0) from Topic t")
+    long findMaxTopicId();
+
+    @Query("""
+            select distinct t from Topic t
+            left join fetch t.author left join fetch t.course left join fetch t.answers
+            where t.id between :from_id and :to_id
+            """)
+    List<Topic> findTopicsForIndexing(Long from_id, Long to_id);
+
+    @Modifying
+    @Query("""
+            update Topic t set t.answerCount = t.answerCount + 1, t.lastActivityAt = :activity_at,
+                t.version = t.version + 1, t.modifiedAt = :activity_at
+            where t.id = :topic_id
+            """)
+    int registerAnswer(Long topic_id, LocalDateTime activity_at);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update Topic t set t.answerCount = t.answerCount - 1,
+                t.bestAnswerId = case when t.bestAnswerId = :answer_id then null else t.bestAnswerId end,
+                t.status = case when t.bestAnswerId = :answer_id then com.raul.forumhub.topic.domain.Status.UNSOLVED
+                    else t.status end,
+                t.lastActivityAt = coalesce((select max(ans.createdAt) from Answer ans
+                    where ans.topic = t and ans.id <> :answer_id), t.createdAt),
+                t.version = t.version + 1, t.modifiedAt = local datetime
+            where t.id = :topic_id and t.answerCount > 0
+            """)
+    int unregisterAnswer(Long topic_id, Long answer_id);
+
+    @Modifying
+    @Query("""
+            update Topic t set t.bestAnswerId = :answer_id, t.status = com.raul.forumhub.topic.domain.Status.SOLVED,
+                t.version = t.version + 1, t.modifiedAt = local datetime
+            where t.id = :topic_id and t.author.id = :author_id and t.bestAnswerId is null
+            and exists (select 1 from Answer ans where ans.id = :answer_id and ans.topic = t)
+            """)
+    int markBestAnswer(Long topic_id, Long answer_id, Long author_id);
+
+    @Modifying
+    @Query("""
+            update Topic t set t.bestAnswerId = null, t.status = com.raul.forumhub.topic.domain.Status.UNSOLVED,
+                t.version = t.version + 1, t.modifiedAt = local datetime
+            where t.id = :topic_id and t.author.id = :author_id and t.bestAnswerId = :answer_id
+            """)
+    int unmarkBestAnswer(Long topic_id, Long answer_id, Long author_id);
+
+    @Modifying
+    @Query("""
+            update Topic t set
+                t.answerCount = (select count(ans) from Answer ans where ans.topic = t),
+                t.bestAnswerId = (select min(ans.id) from Answer ans where ans.topic = t and ans.bestAnswer = true),
+                t.status = case when exists (select 1 from Answer ans where ans.topic = t and ans.bestAnswer = true)
+                    then com.raul.forumhub.topic.domain.Status.SOLVED
+                    else com.raul.forumhub.topic.domain.Status.UNSOLVED end,
+                t.lastActivityAt = coalesce((select max(ans.createdAt) from Answer ans where ans.topic = t), t.createdAt),
+                t.version = t.version + 1, t.modifiedAt = local datetime
+            where t.id between :from_id and :to_id
+            and (t.answerCount <> (select count(ans) from Answer ans where ans.topic = t)
+                or t.bestAnswerId is distinct from
+                    (select min(ans.id) from Answer ans where ans.topic = t and ans.bestAnswer = true)
+                or t.status <> case when exists (select 1 from Answer ans where ans.topic = t and ans.bestAnswer = true)
+                    then com.raul.forumhub.topic.domain.Status.SOLVED
+                    else com.raul.forumhub.topic.domain.Status.UNSOLVED end
+                or t.lastActivityAt is distinct from
+                    coalesce((select max(ans.createdAt) from Answer ans where ans.topic = t), t.createdAt))
+            """)
+    int repairStatistics(Long from_id, Long to_id);
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+    @Query("update Topic t set t.version = t.version + 1, t.modifiedAt = local datetime where t.id = :topic_id")
+    int bumpVersion(Long topic_id);
+
+    @Query("""
+            select new com.raul.forumhub.topic.dto.response.TopicVersionDTO(
+                t.id, t.version, t.modifiedAt, a.id, c.version, c.modifiedAt)
+            from Topic t left join t.author a left join t.course c
+            where t.id = :topic_id
+            """)
+    Optional<TopicVersionDTO> findTopicVersionById(Long topic_id);
+
+    @Query("""
+            select new com.raul.forumhub.topic.dto.response.TopicOwnerDTO(t.id, a.id, c.id)
+            from Topic t left join t.author a left join t.course c
+            where t.id = :topic_id
+            """)
+    Optional<TopicOwnerDTO> findTopicOwnerById(Long topic_id);
+
+    @Query("""
+            select new com.raul.forumhub.topic.dto.response.TopicOwnerDTO(t.id, a.id, c.id)
+            from Topic t left join t.author a left join t.course c
+            where t.id in :topic_ids
+            """)
+    List<TopicOwnerDTO> findTopicOwnersByIdIn(Collection<Long> topic_ids);
+
+    @Query("""
+            select new com.raul.forumhub.topic.dto.response.TopicOwnerDTO(t.id, a.id, c.id)
+            from Topic t left join t.author a left join t.course c
+            where c.id = :course_id
+            order by t.id
+            """)
+    List<TopicOwnerDTO> findTopicOwnersByCourseId(Long course_id, Limit limit);
+
+    @Modifying
+    @Query("delete from Answer a where a.topic.id in :topic_ids")
+    int deleteAnswersByTopicIdIn(Collection<Long> topic_ids);
+
+    @Modifying
+    @Query("delete from Topic t where t.id in :topic_ids")
+    int deleteTopicsByIdIn(Collection<Long> topic_ids);
 
 }
@@ -0,0 +1,88 @@
+package com.raul.forumhub.topic.repository;
+
+import com.raul.forumhub.topic.views.HyperLogLog;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+@Repository
+public class TopicViewRepository {
+
+    private static final String LOCK_TOPICS = """
+            SELECT topic_id FROM topic WHERE topic_id IN (:topic_ids) ORDER BY topic_id FOR UPDATE
+            """;
+
+    private static final String SELECT_SKETCHES = """
+            SELECT topic_id, registers FROM topic_viewer_sketch WHERE topic_id IN (:topic_ids)
+            """;
+
+    private static final String INSERT_SKETCH = """
+            INSERT INTO topic_viewer_sketch (registers, topic_id) VALUES (?, ?)
+            """;
+
+    private static final String UPDATE_SKETCH = """
+            UPDATE topic_viewer_sketch SET registers = ? WHERE topic_id = ?
+            """;
+
+    private static final String ADD_VIEWS = """
+            UPDATE topic SET view_count = view_count + ?, unique_viewer_count = ? WHERE topic_id = ?
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public TopicViewRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public int addViews(Collection<ViewRow> views) {
+        if (views.isEmpty()) {
+            return 0;
+        }
+        Map<String, Object> topicIds = Map.of("topic_ids", views.stream().map(ViewRow::topicId).toList());
+        Set<Long> lockedTopicIds = new HashSet<>(this.jdbcTemplate.queryForList(LOCK_TOPICS, topicIds, Long.class));
+
+        Map<Long, byte[]> sketches = new HashMap<>();
+        this.jdbcTemplate.query(SELECT_SKETCHES, topicIds, resultSet -> {
+            sketches.put(resultSet.getLong(1), resultSet.getBytes(2));
+        });
+
+        List<SketchRow> insertedSketches = new ArrayList<>();
+        List<SketchRow> updatedSketches = new ArrayList<>();
+        List<CountRow> counts = new ArrayList<>();
+        for (ViewRow view : views) {
+            if (lockedTopicIds.contains(view.topicId())) {
+                HyperLogLog viewers = HyperLogLog.fromBytes(sketches.get(view.topicId())).merge(view.viewers());
+                SketchRow sketch = new SketchRow(view.topicId(), viewers.toBytes());
+                (sketches.containsKey(view.topicId()) ? updatedSketches : insertedSketches).add(sketch);
+                counts.add(new CountRow(view.topicId(), view.views(), viewers.estimate()));
+            }
+        }
+
+        this.writeSketches(INSERT_SKETCH, insertedSketches);
+        this.writeSketches(UPDATE_SKETCH, updatedSketches);
+        this.jdbcTemplate.getJdbcTemplate().batchUpdate(ADD_VIEWS, counts, counts.size(), (ps, count) -> {
+            ps.setLong(1, count.views());
+            ps.setLong(2, count.uniqueViewers());
+            ps.setLong(3, count.topicId());
+        });
+        return counts.size();
+    }
+
+    private void writeSketches(String sql, List<SketchRow> sketches) {
+        this.jdbcTemplate.getJdbcTemplate().batchUpdate(sql, sketches, sketches.size(), (ps, sketch) -> {
+            ps.setBytes(1, sketch.registers());
+            ps.setLong(2, sketch.topicId());
+        });
+    }
+
+    public record ViewRow(long topicId, long views, HyperLogLog viewers) {
+    }
+
+    private record SketchRow(long topicId, byte[] registers) {
+    }
+
+    private record CountRow(long topicId, long views, long uniqueViewers) {
+    }
+
+}
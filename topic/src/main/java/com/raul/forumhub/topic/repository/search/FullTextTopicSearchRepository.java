@@ -0,0 +1,77 @@
+package com.raul.forumhub.topic.repository.search;
+
+import com.raul.forumhub.topic.domain.Status;
+import com.raul.forumhub.topic.dto.request.TopicSearchCursorDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+@ConditionalOnProperty(prefix = "forumhub.search", name = "strategy", havingValue = "full-text", matchIfMissing = true)
+public class FullTextTopicSearchRepository implements TopicSearchRepository {
+
+    private static final String SEARCH_QUERY = """
+            WITH search AS (SELECT websearch_to_tsquery('portuguese', :query) AS query),
+            matches AS (
+                SELECT t.topic_id, ts_rank(t.search_vector, s.query) AS rank
+                FROM topic t CROSS JOIN search s
+                WHERE t.search_vector @@ s.query
+                UNION ALL
+                SELECT a.topic_id, ts_rank(a.search_vector, s.query) * 0.5
+                FROM answer a CROSS JOIN search s
+                WHERE a.search_vector @@ s.query
+            ),
+            ranked AS (
+                SELECT m.topic_id, ROUND(CAST(MAX(m.rank) AS NUMERIC), 6) AS rank
+                FROM matches m
+                GROUP BY m.topic_id
+            )
+            SELECT r.topic_id, r.rank
+            FROM ranked r JOIN topic t ON t.topic_id = r.topic_id
+            WHERE 1 = 1
+            """;
+
+    private final EntityManager entityManager;
+
+    public FullTextTopicSearchRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Hit> search(String query, Long course_id, Status status, TopicSearchCursorDTO cursor, int limit) {
+        StringBuilder sql = new StringBuilder(SEARCH_QUERY);
+        if (course_id != null) {
+            sql.append(" AND t.course_id = :course_id");
+        }
+        if (status != null) {
+            sql.append(" AND t.status = CAST(:status AS BPCHAR)");
+        }
+        if (cursor != null) {
+            sql.append(" AND (r.rank, r.topic_id) < (:rank, :id)");
+        }
+        sql.append(" ORDER BY r.rank DESC, r.topic_id DESC");
+
+        Query nativeQuery = this.entityManager.createNativeQuery(sql.toString())
+                .setParameter("query", query)
+                .setMaxResults(limit);
+        if (course_id != null) {
+            nativeQuery.setParameter("course_id", course_id);
+        }
+        if (status != null) {
+            nativeQuery.setParameter("status", status.name());
+        }
+        if (cursor != null) {
+            nativeQuery.setParameter("rank", cursor.rank()).setParameter("id", cursor.id());
+        }
+
+        return ((List<Object[]>) nativeQuery.getResultList()).stream()
+                .map(row -> new Hit(((Number) row[0]).longValue(), (BigDecimal) row[1]))
+                .toList();
+    }
+
+}
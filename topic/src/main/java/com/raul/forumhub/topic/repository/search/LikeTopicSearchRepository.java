@@ -0,0 +1,61 @@
+package com.raul.forumhub.topic.repository.search;
+
+import com.raul.forumhub.topic.domain.Status;
+import com.raul.forumhub.topic.dto.request.TopicSearchCursorDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+
+@Repository
+@ConditionalOnProperty(prefix = "forumhub.search", name = "strategy", havingValue = "like")
+public class LikeTopicSearchRepository implements TopicSearchRepository {
+
+    private static final String SEARCH_QUERY = """
+            select s.id, s.rank from (
+                select t.id as id,
+                    cast(case when lower(t.title) like :term escape '!' then 1 else 0 end
+                        + case when lower(t.question) like :term escape '!' then 0.5 else 0 end
+                        + case when exists (select 1 from Answer ans where ans.topic = t
+                            and lower(ans.solution) like :term escape '!') then 0.25 else 0 end as BigDecimal) as rank
+                from Topic t
+                where (:course_id is null or t.course.id = :course_id)
+                and (:status is null or t.status = :status)
+            ) s
+            where s.rank > 0
+            """;
+
+    private final EntityManager entityManager;
+
+    public LikeTopicSearchRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<Hit> search(String query, Long course_id, Status status, TopicSearchCursorDTO cursor, int limit) {
+        String jpql = SEARCH_QUERY + (cursor != null ? " and (s.rank < :rank or (s.rank = :rank and s.id < :id))" : "") +
+                      " order by s.rank desc, s.id desc";
+
+        TypedQuery<Object[]> typedQuery = this.entityManager.createQuery(jpql, Object[].class)
+                .setParameter("term", "%" + escape(query.toLowerCase(Locale.ROOT)) + "%")
+                .setParameter("course_id", course_id)
+                .setParameter("status", status)
+                .setMaxResults(limit);
+        if (cursor != null) {
+            typedQuery.setParameter("rank", cursor.rank()).setParameter("id", cursor.id());
+        }
+
+        return typedQuery.getResultList().stream()
+                .map(row -> new Hit((Long) row[0], (BigDecimal) row[1]))
+                .toList();
+    }
+
+    private static String escape(String term) {
+        return term.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+}
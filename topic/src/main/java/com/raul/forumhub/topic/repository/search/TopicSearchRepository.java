@@ -0,0 +1,16 @@
+package com.raul.forumhub.topic.repository.search;
+
+import com.raul.forumhub.topic.domain.Status;
+import com.raul.forumhub.topic.dto.request.TopicSearchCursorDTO;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public interface TopicSearchRepository {
+
+    List<Hit> search(String query, Long course_id, Status status, TopicSearchCursorDTO cursor, int limit);
+
+    record Hit(Long id, BigDecimal rank) {
+    }
+
+}
@@ -0,0 +1,340 @@
+package com.raul.forumhub.topic.search;
+
+import com.raul.forumhub.topic.domain.Answer;
+import com.raul.forumhub.topic.domain.Status;
+import com.raul.forumhub.topic.domain.Topic;
+import com.raul.forumhub.topic.dto.request.TopicSearchCursorDTO;
+import com.raul.forumhub.topic.dto.response.TopicSearchResponseDTO;
+import com.raul.forumhub.topic.event.TopicChangedEvent;
+import com.raul.forumhub.topic.event.TopicDeletedEvent;
+import com.raul.forumhub.topic.event.TopicsImportedEvent;
+import com.raul.forumhub.topic.exception.BusinessException;
+import com.raul.forumhub.topic.exception.ValidationException;
+import com.raul.forumhub.topic.repository.TopicRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.pt.PortugueseAnalyzer;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "forumhub.search.index", name = "enabled", havingValue = "true")
+public class TopicIndex {
+
+    private static final String ID = "id";
+    private static final String ID_SORT = "id_sort";
+    private static final String TITLE = "title";
+    private static final String QUESTION = "question";
+    private static final String ANSWER = "answer";
+    private static final String STATUS = "status";
+    private static final String COURSE_ID = "course_id";
+    private static final String COURSE_NAME = "course_name";
+    private static final String AUTHOR_USERNAME = "author_username";
+    private static final String CREATED_AT = "created_at";
+    private static final String ANSWER_COUNT = "answer_count";
+
+    private static final Map<String, Float> FIELD_WEIGHTS = Map.of(TITLE, 2.0f, QUESTION, 1.0f, ANSWER, 0.5f);
+
+    private static final Sort RANK_SORT = new Sort(SortField.FIELD_SCORE, new SortField(ID_SORT, SortField.Type.LONG, true));
+
+    private final TopicRepository topicRepository;
+    private final TopicIndexProperties topicIndexProperties;
+    private final Analyzer analyzer;
+    private final Directory directory;
+    private volatile IndexWriter indexWriter;
+    private volatile SearcherManager searcherManager;
+    private final Timer queryTimer;
+    private final Timer indexingTimer;
+    private final Counter indexedDocuments;
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    private final Disposable maintenance;
+
+    public TopicIndex(TopicRepository topicRepository, TopicIndexProperties topicIndexProperties,
+                      MeterRegistry meterRegistry) throws IOException {
+        this.topicRepository = topicRepository;
+        this.topicIndexProperties = topicIndexProperties;
+        this.analyzer = new PortugueseAnalyzer();
+        this.directory = new MMapDirectory(Path.of(topicIndexProperties.getDirectory()));
+        this.indexWriter = this.openWriter();
+        this.searcherManager = new SearcherManager(this.indexWriter, null);
+
+        this.queryTimer = Timer.builder("forumhub.search.index.query").register(meterRegistry);
+        this.indexingTimer = Timer.builder("forumhub.search.index.indexing").register(meterRegistry);
+        this.indexedDocuments = Counter.builder("forumhub.search.index.indexed").register(meterRegistry);
+        Gauge.builder("forumhub.search.index.documents", this,
+                index -> index.indexWriter.isOpen() ? index.indexWriter.getDocStats().numDocs : 0).register(meterRegistry);
+
+        this.maintenance = Flux.merge(
+                        Flux.interval(topicIndexProperties.getRefreshInterval(), Schedulers.boundedElastic())
+                                .doOnNext(tick -> this.refresh()),
+                        Flux.interval(topicIndexProperties.getCommitInterval(), Schedulers.boundedElastic())
+                                .doOnNext(tick -> this.commit()))
+                .subscribe();
+
+        log.info("Índice de tópicos aberto em {} com {} documentos", topicIndexProperties.getDirectory(),
+                this.indexWriter.getDocStats().numDocs);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (this.topicIndexProperties.getRebuild().isOnStartup()) {
+            this.rebuild();
+        }
+    }
+
+    @Async
+    @EventListener
+    public void onTopicChanged(TopicChangedEvent event) {
+        List<Topic> topics = this.topicRepository.findTopicsForIndexing(event.topicId(), event.topicId());
+        if (topics.isEmpty()) {
+            this.deleteTopic(event.topicId());
+        } else {
+            this.indexTopics(topics);
+        }
+    }
+
+    @Async
+    @EventListener
+    public void onTopicDeleted(TopicDeletedEvent event) {
+        this.deleteTopic(event.topicId());
+    }
+
+    @EventListener
+    public void onTopicsImported(TopicsImportedEvent event) {
+        try {
+            this.rebuild();
+        } catch (BusinessException ex) {
+            log.info("Reindexação após a importação de tópicos ignorada: {}", ex.getMessage());
+        }
+    }
+
+    public Slice<TopicSearchResponseDTO> search(String query, Long course_id, Status status, TopicSearchCursorDTO cursor,
+                                                int size) {
+        if (query == null || query.isBlank()) {
+            throw new ValidationException("O termo de busca não pode ser vazio");
+        }
+
+        SimpleQueryParser queryParser = new SimpleQueryParser(this.analyzer, FIELD_WEIGHTS);
+        queryParser.setDefaultOperator(BooleanClause.Occur.MUST);
+        Query textQuery = Optional.ofNullable(queryParser.parse(query.trim())).orElseGet(MatchNoDocsQuery::new);
+
+        BooleanQuery.Builder searchQuery = new BooleanQuery.Builder().add(textQuery, BooleanClause.Occur.MUST);
+        if (course_id != null) {
+            searchQuery.add(LongField.newExactQuery(COURSE_ID, course_id), BooleanClause.Occur.FILTER);
+        }
+        if (status != null) {
+            searchQuery.add(new TermQuery(new Term(STATUS, status.name())), BooleanClause.Occur.FILTER);
+        }
+
+        return this.queryTimer.record(() -> this.search(searchQuery.build(), cursor, size));
+    }
+
+    private Slice<TopicSearchResponseDTO> search(Query query, TopicSearchCursorDTO cursor, int size) {
+        SearcherManager searcherManager = this.searcherManager;
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                FieldDoc after = cursor == null ? null : new FieldDoc(Math.max(searcher.getIndexReader().maxDoc() - 1, 0),
+                        cursor.rank().floatValue(), new Object[]{cursor.rank().floatValue(), cursor.id()});
+                TopFieldDocs topDocs = searcher.searchAfter(after, query, size + 1, RANK_SORT, true);
+                StoredFields storedFields = searcher.storedFields();
+
+                List<TopicSearchResponseDTO> topics = new ArrayList<>();
+                for (int i = 0; i < Math.min(size, topDocs.scoreDocs.length); i++) {
+                    ScoreDoc scoreDoc = topDocs.scoreDocs[i];
+                    topics.add(toResponse(storedFields.document(scoreDoc.doc), scoreDoc.score));
+                }
+
+                return new SliceImpl<>(topics, PageRequest.ofSize(size), topDocs.scoreDocs.length > size);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Falha na busca do índice de tópicos", ex);
+        }
+    }
+
+    public Mono<Long> rebuild() {
+        if (!this.rebuilding.compareAndSet(false, true)) {
+            throw new BusinessException("Uma reindexação dos tópicos já está em andamento");
+        }
+
+        int batchSize = this.topicIndexProperties.getRebuild().getBatchSize();
+        Mono<Long> rebuild = Mono.fromCallable(() -> {
+                    this.indexWriter.commit();
+                    this.indexWriter.deleteAll();
+                    return this.topicRepository.findMaxTopicId();
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(maxTopicId -> Flux.range(0, (int) ((maxTopicId + batchSize - 1) / batchSize)))
+                .parallel(this.topicIndexProperties.getRebuild().getParallelism())
+                .runOn(Schedulers.boundedElastic())
+                .map(batch -> this.indexTopics(this.topicRepository.findTopicsForIndexing(
+                        (long) batch * batchSize + 1, (long) (batch + 1) * batchSize)))
+                .sequential()
+                .reduce(0L, Long::sum)
+                .doOnNext(count -> this.publish())
+                .doOnNext(count -> log.info("Índice de tópicos reconstruído com {} tópicos", count))
+                .doOnError(ex -> {
+                    log.error("Falha na reconstrução do índice de tópicos: {}", ex.getMessage(), ex);
+                    this.rollback();
+                })
+                .doOnTerminate(() -> this.rebuilding.set(false))
+                .cache();
+
+        rebuild.onErrorComplete().subscribe();
+        return rebuild;
+    }
+
+    public boolean isRebuilding() {
+        return this.rebuilding.get();
+    }
+
+    long indexTopics(List<Topic> topics) {
+        return this.indexingTimer.record(() -> {
+            try {
+                for (Topic topic : topics) {
+                    this.indexWriter.updateDocument(new Term(ID, String.valueOf(topic.getId())), toDocument(topic));
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Falha na indexação de tópicos", ex);
+            }
+            this.indexedDocuments.increment(topics.size());
+            return (long) topics.size();
+        });
+    }
+
+    void deleteTopic(Long topic_id) {
+        try {
+            this.indexWriter.deleteDocuments(new Term(ID, String.valueOf(topic_id)));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(String.format("Falha na remoção do tópico [ID: %d] do índice", topic_id), ex);
+        }
+    }
+
+    void refresh() {
+        if (this.rebuilding.get()) {
+            return;
+        }
+        try {
+            this.searcherManager.maybeRefresh();
+        } catch (IOException ex) {
+            log.warn("Falha na atualização do leitor do índice de tópicos: {}", ex.getMessage());
+        }
+    }
+
+    void commit() {
+        if (this.rebuilding.get() || !this.indexWriter.hasUncommittedChanges()) {
+            return;
+        }
+        try {
+            this.indexWriter.commit();
+            log.debug("Snapshot do índice de tópicos gravado em disco");
+        } catch (IOException ex) {
+            log.warn("Falha na gravação do snapshot do índice de tópicos: {}", ex.getMessage());
+        }
+    }
+
+    private void publish() {
+        try {
+            this.indexWriter.commit();
+            this.searcherManager.maybeRefreshBlocking();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Falha na publicação do índice de tópicos", ex);
+        }
+    }
+
+    private synchronized void rollback() {
+        try {
+            this.indexWriter.rollback();
+            SearcherManager previous = this.searcherManager;
+            this.indexWriter = this.openWriter();
+            this.searcherManager = new SearcherManager(this.indexWriter, null);
+            previous.close();
+            log.info("Índice de tópicos restaurado para o último snapshot com {} documentos",
+                    this.indexWriter.getDocStats().numDocs);
+        } catch (IOException ex) {
+            log.error("Falha na restauração do índice de tópicos: {}", ex.getMessage(), ex);
+        }
+    }
+
+    private IndexWriter openWriter() throws IOException {
+        return new IndexWriter(this.directory, new IndexWriterConfig(this.analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        this.maintenance.dispose();
+        this.searcherManager.close();
+        this.indexWriter.close();
+        this.directory.close();
+        this.analyzer.close();
+    }
+
+    private static Document toDocument(Topic topic) {
+        Set<Answer> answers = Optional.ofNullable(topic.getAnswers()).orElseGet(Set::of);
+
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(topic.getId()), Field.Store.YES));
+        document.add(new NumericDocValuesField(ID_SORT, topic.getId()));
+        document.add(new TextField(TITLE, topic.getTitle(), Field.Store.YES));
+        document.add(new TextField(QUESTION, topic.getQuestion(), Field.Store.NO));
+        answers.forEach(answer -> document.add(new TextField(ANSWER, answer.getSolution(), Field.Store.NO)));
+        document.add(new StringField(STATUS, topic.getStatus().name(), Field.Store.YES));
+        document.add(new StoredField(ANSWER_COUNT, answers.size()));
+        if (topic.getCourse() != null) {
+            document.add(new LongField(COURSE_ID, topic.getCourse().getId(), Field.Store.NO));
+            document.add(new StoredField(COURSE_NAME, topic.getCourse().getName()));
+        }
+        if (topic.getAuthor() != null) {
+            document.add(new StoredField(AUTHOR_USERNAME, topic.getAuthor().getUsername()));
+        }
+        if (topic.getCreatedAt() != null) {
+            document.add(new StoredField(CREATED_AT, topic.getCreatedAt().toString()));
+        }
+        return document;
+    }
+
+    private static TopicSearchResponseDTO toResponse(Document document, float score) {
+        return new TopicSearchResponseDTO(Long.valueOf(document.get(ID)), document.get(TITLE),
+                Status.valueOf(document.get(STATUS)),
+                Optional.ofNullable(document.get(CREATED_AT)).map(LocalDateTime::parse).orElse(null),
+                document.get(AUTHOR_USERNAME), document.get(COURSE_NAME),
+                document.getField(ANSWER_COUNT).numericValue().longValue(), new BigDecimal(Float.toString(score)));
+    }
+
+}
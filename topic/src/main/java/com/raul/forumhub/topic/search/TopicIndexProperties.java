@@ -0,0 +1,36 @@
+package com.raul.forumhub.topic.search;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties("forumhub.search.index")
+@Getter
+@Setter
+@NoArgsConstructor
+public class TopicIndexProperties {
+
+    private boolean enabled = false;
+    private String directory = "topic-index";
+    private Duration refreshInterval = Duration.ofSeconds(1);
+    private Duration commitInterval = Duration.ofSeconds(30);
+
+    private Rebuild rebuild = new Rebuild();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Rebuild {
+
+        private boolean onStartup = true;
+        private int batchSize = 500;
+        private int parallelism = 4;
+
+    }
+
+}
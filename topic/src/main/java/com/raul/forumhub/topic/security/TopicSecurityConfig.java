@@ -1,5 +1,9 @@
 package com.raul.forumhub.topic.security;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raul.forumhub.topic.ratelimit.RateLimitFilter;
+import com.raul.forumhub.topic.ratelimit.RateLimiter;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
@@ -13,6 +17,7 @@ import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.OAuth2Error;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
 
 import java.util.Collection;
@@ -25,7 +30,10 @@ public class TopicSecurityConfig {
     private static final String JWT_AUDIENCE = "hub-topic";
 
     @Bean
-    public SecurityFilterChain topicSecurityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain topicSecurityFilterChain(HttpSecurity http, ObjectProvider<RateLimiter> rateLimiter,
+                                                        ObjectMapper objectMapper) throws Exception {
+        rateLimiter.ifAvailable(limiter ->
+                http.addFilterAfter(new RateLimitFilter(limiter, objectMapper), BearerTokenAuthenticationFilter.class));
         return http.authorizeHttpRequests((authorize) -> authorize
                         .anyRequest().permitAll())
                 .csrf(AbstractHttpConfigurer::disable)
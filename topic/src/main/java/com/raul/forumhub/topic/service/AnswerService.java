@@ -3,47 +3,102 @@ package com.raul.forumhub.topic.service;
 import com.raul.forumhub.topic.client.UserClientRequest;
 import com.raul.forumhub.topic.domain.Answer;
 import com.raul.forumhub.topic.domain.Author;
-import com.raul.forumhub.topic.domain.Status;
 import com.raul.forumhub.topic.domain.Topic;
+import com.raul.forumhub.topic.dto.request.AnswerCursorDTO;
 import com.raul.forumhub.topic.dto.request.AnswerRequestDTO;
 import com.raul.forumhub.topic.dto.response.AnswerResponseDTO;
+import com.raul.forumhub.topic.dto.response.AnswerSummaryResponseDTO;
+import com.raul.forumhub.topic.dto.response.TopicDetailResponseDTO;
+import com.raul.forumhub.topic.event.AnswerChangedEvent;
+import com.raul.forumhub.topic.event.DomainEventType;
+import com.raul.forumhub.topic.event.TopicChangedEvent;
 import com.raul.forumhub.topic.exception.BusinessException;
 import com.raul.forumhub.topic.exception.InstanceNotFoundException;
+import com.raul.forumhub.topic.exception.ValidationException;
+import com.raul.forumhub.topic.outbox.DomainEventOutbox;
 import com.raul.forumhub.topic.repository.AnswerRepository;
 import com.raul.forumhub.topic.util.PermissionUtils;
 import com.raul.forumhub.topic.util.ValidationUtils;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
 @Slf4j
 @Service
 public class AnswerService {
 
+    private static final int MAX_ANSWERS_PREVIEW = 100;
+
     private final AnswerRepository answerRepository;
 
     private final TopicService topicService;
 
     private final UserClientRequest userClientRequest;
 
-    public AnswerService(AnswerRepository answerRepository, TopicService topicService, UserClientRequest userClientRequest) {
+    private final Scheduler persistenceScheduler;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final TransactionOperations transactionOperations;
+
+    private final DomainEventOutbox domainEventOutbox;
+
+    public AnswerService(AnswerRepository answerRepository, TopicService topicService, UserClientRequest userClientRequest,
+                         Scheduler persistenceScheduler, ApplicationEventPublisher eventPublisher,
+                         TransactionOperations transactionOperations, DomainEventOutbox domainEventOutbox) {
         this.answerRepository = answerRepository;
         this.topicService = topicService;
         this.userClientRequest = userClientRequest;
+        this.persistenceScheduler = persistenceScheduler;
+        this.eventPublisher = eventPublisher;
+        this.transactionOperations = transactionOperations;
+        this.domainEventOutbox = domainEventOutbox;
     }
 
     public AnswerResponseDTO answerTopic(Long topic_id, Long user_id, AnswerRequestDTO answerRequestDTO) {
         Topic topic = topicService.getTopicById(topic_id);
         Author author = userClientRequest.getUserById(user_id);
 
+        return this.answerTopic(topic, author, answerRequestDTO);
+    }
+
+    public Mono<AnswerResponseDTO> answerTopicAsync(Long topic_id, Long user_id, AnswerRequestDTO answerRequestDTO) {
+        return Mono.fromCallable(() -> this.topicService.getTopicById(topic_id))
+                .subscribeOn(this.persistenceScheduler)
+                .flatMap(topic -> this.userClientRequest.getUserByIdAsync(user_id)
+                        .publishOn(this.persistenceScheduler)
+                        .map(author -> this.answerTopic(topic, author, answerRequestDTO)));
+    }
+
+    private AnswerResponseDTO answerTopic(Topic topic, Author author, AnswerRequestDTO answerRequestDTO) {
         Answer answer = Answer.builder().solution(answerRequestDTO.solution())
                 .topic(topic).author(author).createdAt(LocalDateTime.now())
                 .build();
 
-        this.saveAnswer(answer);
+        this.transactionOperations.executeWithoutResult(status -> {
+            this.saveAnswer(answer);
+            this.topicService.registerAnswer(topic.getId(), answer.getCreatedAt());
+            this.domainEventOutbox.append(DomainEventType.ANSWER_CREATED, answer.getId(), topic.getId());
+        });
+        this.topicService.invalidateTopicResponses(topic.getId(), topic.getCourse().getId());
+        this.eventPublisher.publishEvent(new TopicChangedEvent(topic.getId()));
+        this.publishAnswerChanged(topic.getId(), DomainEventType.ANSWER_CREATED, answer);
 
-        log.info("O tópico [ID: {}] recebeu a resposta: {}", topic_id, answer);
+        log.info("O tópico [ID: {}] recebeu a resposta: {}", topic.getId(), answer);
 
         return new AnswerResponseDTO(answer);
 
@@ -51,47 +106,131 @@ public class AnswerService {
 
 
     public void markBestAnswer(Long topic_id, Long answer_id, Long user_id) {
-        Topic topic = topicService.getTopicById(topic_id);
-        Answer answer = this.getAnswerById(answer_id);
+        this.validateBestAnswerTarget(topic_id, answer_id);
         Author author = userClientRequest.getUserById(user_id);
 
-        PermissionUtils.validateTopicOwner(topic, author);
-        ValidationUtils.validateMarkBestAnswer(topic, answer);
+        this.markBestAnswer(topic_id, answer_id, author);
+    }
 
+    public Mono<Void> markBestAnswerAsync(Long topic_id, Long answer_id, Long user_id) {
+        return Mono.fromRunnable(() -> this.validateBestAnswerTarget(topic_id, answer_id))
+                .subscribeOn(this.persistenceScheduler)
+                .then(Mono.defer(() -> this.userClientRequest.getUserByIdAsync(user_id)))
+                .publishOn(this.persistenceScheduler)
+                .doOnNext(author -> this.markBestAnswer(topic_id, answer_id, author))
+                .then();
+    }
 
-        topic.setStatus(Status.SOLVED);
-        answer.setBestAnswer(true);
+    private void markBestAnswer(Long topic_id, Long answer_id, Author author) {
+        Optional<AnswerSummaryResponseDTO> answer;
+        try {
+            answer = Objects.requireNonNull(this.transactionOperations.execute(status -> {
+                if (!this.topicService.markBestAnswer(topic_id, answer_id, author.getId())) {
+                    return Optional.empty();
+                }
+                this.answerRepository.markBestAnswer(topic_id, answer_id);
+                this.domainEventOutbox.append(DomainEventType.BEST_ANSWER_MARKED, answer_id, topic_id);
+                return this.answerRepository.findAnswerSummaryById(answer_id);
+            }));
+        } catch (DataIntegrityViolationException ex) {
+            throw this.bestAnswerAlreadyMarked(topic_id);
+        }
 
-        this.topicService.saveTopic(topic);
+        this.publishBestAnswerChanged(topic_id, DomainEventType.BEST_ANSWER_MARKED,
+                answer.orElseThrow(() -> this.rejectMarkBestAnswer(topic_id, answer_id, author)));
 
         log.info("Resposta [ID: {}] marcada como melhor resposta para o tópico [ID: {}]", answer_id, topic_id);
 
     }
 
+    private BusinessException rejectMarkBestAnswer(Long topic_id, Long answer_id, Author author) {
+        Topic topic = this.topicService.getTopicById(topic_id);
+        PermissionUtils.validateTopicOwner(topic, author);
+        ValidationUtils.validateMarkBestAnswer(topic, this.getAnswerById(answer_id));
+
+        return this.bestAnswerAlreadyMarked(topic_id);
+    }
+
+    private BusinessException bestAnswerAlreadyMarked(Long topic_id) {
+        return new BusinessException(String.format("O tópico [ID: %d] já possui uma melhor resposta marcada", topic_id));
+    }
+
     public void unmarkBestAnswer(Long topic_id, Long answer_id, Long user_id) {
-        Topic topic = topicService.getTopicById(topic_id);
-        Answer answer = this.getAnswerById(answer_id);
+        this.validateBestAnswerTarget(topic_id, answer_id);
         Author author = userClientRequest.getUserById(user_id);
 
-        PermissionUtils.validateTopicOwner(topic, author);
-        ValidationUtils.validateUnmarkBestAnswer(topic, answer);
+        this.unmarkBestAnswer(topic_id, answer_id, author);
+    }
 
+    public Mono<Void> unmarkBestAnswerAsync(Long topic_id, Long answer_id, Long user_id) {
+        return Mono.fromRunnable(() -> this.validateBestAnswerTarget(topic_id, answer_id))
+                .subscribeOn(this.persistenceScheduler)
+                .then(Mono.defer(() -> this.userClientRequest.getUserByIdAsync(user_id)))
+                .publishOn(this.persistenceScheduler)
+                .doOnNext(author -> this.unmarkBestAnswer(topic_id, answer_id, author))
+                .then();
+    }
 
-        topic.setStatus(Status.UNSOLVED);
-        answer.setBestAnswer(false);
+    private void unmarkBestAnswer(Long topic_id, Long answer_id, Author author) {
+        Optional<AnswerSummaryResponseDTO> answer = Objects.requireNonNull(this.transactionOperations.execute(status -> {
+            if (!this.topicService.unmarkBestAnswer(topic_id, answer_id, author.getId())) {
+                return Optional.empty();
+            }
+            this.answerRepository.unmarkBestAnswer(topic_id, answer_id);
+            this.domainEventOutbox.append(DomainEventType.BEST_ANSWER_UNMARKED, answer_id, topic_id);
+            return this.answerRepository.findAnswerSummaryById(answer_id);
+        }));
 
-        this.topicService.saveTopic(topic);
+        this.publishBestAnswerChanged(topic_id, DomainEventType.BEST_ANSWER_UNMARKED,
+                answer.orElseThrow(() -> this.rejectUnmarkBestAnswer(topic_id, answer_id, author)));
 
         log.info("Resposta [ID: {}] desmarcada como melhor resposta para o tópico [ID: {}]", answer_id, topic_id);
 
     }
 
+    private BusinessException rejectUnmarkBestAnswer(Long topic_id, Long answer_id, Author author) {
+        Topic topic = this.topicService.getTopicById(topic_id);
+        PermissionUtils.validateTopicOwner(topic, author);
+        ValidationUtils.validateUnmarkBestAnswer(topic, this.getAnswerById(answer_id));
+
+        return new BusinessException(String.format(
+                "A resposta [ID: %d] não é mais a melhor resposta do tópico [ID: %d]", answer_id, topic_id));
+    }
+
+    private void validateBestAnswerTarget(Long topic_id, Long answer_id) {
+        this.topicService.validateTopicExists(topic_id);
+        if (!this.answerRepository.existsById(answer_id)) {
+            throw new InstanceNotFoundException(String.format("A resposta [ID: %d] informada não existe", answer_id));
+        }
+    }
+
+    private void publishBestAnswerChanged(Long topic_id, DomainEventType type, AnswerSummaryResponseDTO answer) {
+        this.topicService.invalidateTopicResponses(topic_id, null);
+        this.eventPublisher.publishEvent(new TopicChangedEvent(topic_id));
+        this.eventPublisher.publishEvent(new AnswerChangedEvent(topic_id, type, answer));
+    }
+
 
     public AnswerResponseDTO updateAnswer(Long topic_id, Long answer_id, Long user_id, AnswerRequestDTO answerRequestDTO) {
         this.topicService.getTopicById(topic_id);
         Answer answer = this.getAnswerById(answer_id);
         Author author = this.userClientRequest.getUserById(user_id);
 
+        return this.updateAnswer(topic_id, answer, author, answerRequestDTO);
+    }
+
+    public Mono<AnswerResponseDTO> updateAnswerAsync(Long topic_id, Long answer_id, Long user_id, AnswerRequestDTO answerRequestDTO) {
+        return Mono.fromCallable(() -> {
+                    this.topicService.getTopicById(topic_id);
+                    return this.getAnswerById(answer_id);
+                })
+                .subscribeOn(this.persistenceScheduler)
+                .flatMap(answer -> this.userClientRequest.getUserByIdAsync(user_id)
+                        .publishOn(this.persistenceScheduler)
+                        .map(author -> this.updateAnswer(topic_id, answer, author, answerRequestDTO)));
+    }
+
+    private AnswerResponseDTO updateAnswer(Long topic_id, Answer answer, Author author, AnswerRequestDTO answerRequestDTO) {
         ValidationUtils.validateAnswerBelongsTopic(topic_id, answer);
         PermissionUtils.privilegeValidator(answer.getAuthor().getId(), author);
 
@@ -102,9 +241,16 @@ public class AnswerService {
         }
 
         answer.setSolution(answerRequestDTO.solution());
-        this.answerRepository.save(answer);
+        this.transactionOperations.executeWithoutResult(status -> {
+            this.answerRepository.save(answer);
+            this.topicService.bumpVersion(topic_id);
+            this.domainEventOutbox.append(DomainEventType.ANSWER_UPDATED, answer.getId(), topic_id);
+        });
+        this.topicService.invalidateTopicResponse(topic_id);
+        this.eventPublisher.publishEvent(new TopicChangedEvent(topic_id));
+        this.publishAnswerChanged(topic_id, DomainEventType.ANSWER_UPDATED, answer);
 
-        log.info("Resposta [ID: {}] do tópico [ID: {}] editada com sucesso!", answer_id, topic_id);
+        log.info("Resposta [ID: {}] do tópico [ID: {}] editada com sucesso!", answer.getId(), topic_id);
 
         return new AnswerResponseDTO(answer);
     }
@@ -113,15 +259,74 @@ public class AnswerService {
         Answer answer = this.getAnswerById(answer_id);
         Author author = this.userClientRequest.getUserById(user_id);
 
+        this.deleteAnswer(topic_id, answer, author);
+    }
+
+    public Mono<Void> deleteAnswerAsync(Long topic_id, Long answer_id, Long user_id) {
+        return Mono.fromCallable(() -> this.getAnswerById(answer_id))
+                .subscribeOn(this.persistenceScheduler)
+                .flatMap(answer -> this.userClientRequest.getUserByIdAsync(user_id)
+                        .publishOn(this.persistenceScheduler)
+                        .doOnNext(author -> this.deleteAnswer(topic_id, answer, author)))
+                .then();
+    }
+
+    private void deleteAnswer(Long topic_id, Answer answer, Author author) {
         ValidationUtils.validateAnswerBelongsTopic(topic_id, answer);
         PermissionUtils.privilegeValidator(answer.getAuthor().getId(), author);
 
-        this.answerRepository.delete(answer);
+        this.transactionOperations.executeWithoutResult(status -> {
+            this.topicService.unregisterAnswer(topic_id, answer.getId());
+            this.answerRepository.delete(answer);
+            this.domainEventOutbox.append(DomainEventType.ANSWER_DELETED, answer.getId(), topic_id);
+        });
+        this.topicService.invalidateTopicResponses(topic_id, null);
+        this.eventPublisher.publishEvent(new TopicChangedEvent(topic_id));
+        this.publishAnswerChanged(topic_id, DomainEventType.ANSWER_DELETED, answer);
+
+        log.info("Resposta [ID: {}] do tópico [ID: {}] removida com sucesso!", answer.getId(), topic_id);
 
-        log.info("Resposta [ID: {}] do tópico [ID: {}] removida com sucesso!", answer_id, topic_id);
+    }
+
+
+    private void publishAnswerChanged(Long topic_id, DomainEventType type, Answer answer) {
+        this.eventPublisher.publishEvent(new AnswerChangedEvent(topic_id, type, new AnswerSummaryResponseDTO(answer)));
+    }
 
+    public void validateTopicExists(Long topic_id) {
+        this.topicService.validateTopicExists(topic_id);
     }
 
+    public Slice<AnswerSummaryResponseDTO> answerList(Long topic_id, String cursor, int size) {
+        this.topicService.validateTopicExists(topic_id);
+        return this.answerSlice(topic_id, cursor, size);
+    }
+
+    public TopicDetailResponseDTO getTopicDetail(Long topic_id, int answers_preview) {
+        if (answers_preview < 1 || answers_preview > MAX_ANSWERS_PREVIEW) {
+            throw new ValidationException(String.format("A prévia de respostas deve estar entre 1 e %d", MAX_ANSWERS_PREVIEW));
+        }
+
+        TopicDetailResponseDTO topic = this.topicService.getTopicDetail(topic_id);
+        return topic.withAnswers(this.answerSlice(topic_id, null, answers_preview).getContent());
+    }
+
+    private Slice<AnswerSummaryResponseDTO> answerSlice(Long topic_id, String cursor, int size) {
+        AnswerCursorDTO answerCursor = AnswerCursorDTO.decode(cursor);
+
+        List<AnswerSummaryResponseDTO> answers = new ArrayList<>();
+        if (cursor == null || cursor.isBlank()) {
+            answers.addAll(this.answerRepository.findBestAnswerSummariesByTopicId(topic_id, Limit.of(1)));
+        }
+
+        int regularSize = size - answers.size();
+        List<AnswerSummaryResponseDTO> regularAnswers = this.answerRepository.findAnswerSummariesByTopicIdAfter(topic_id,
+                answerCursor.createdAt(), answerCursor.id(), Limit.of(regularSize + 1));
+        boolean hasNext = regularAnswers.size() > regularSize;
+        answers.addAll(hasNext ? regularAnswers.subList(0, regularSize) : regularAnswers);
+
+        return new SliceImpl<>(answers, PageRequest.ofSize(size), hasNext);
+    }
 
     public Answer getAnswerById(Long id) {
         return this.answerRepository.findById(id)
@@ -1,14 +1,21 @@
 package com.raul.forumhub.topic.service;
 
+import com.raul.forumhub.topic.cache.ResponseCache;
 import com.raul.forumhub.topic.domain.Course;
 import com.raul.forumhub.topic.dto.request.CourseRequestDTO;
 import com.raul.forumhub.topic.dto.response.CourseResponseCollection;
 import com.raul.forumhub.topic.dto.response.CourseResponseDTO;
+import com.raul.forumhub.topic.dto.response.EntityVersionDTO;
+import com.raul.forumhub.topic.event.DomainEventType;
 import com.raul.forumhub.topic.exception.InstanceNotFoundException;
+import com.raul.forumhub.topic.outbox.DomainEventOutbox;
 import com.raul.forumhub.topic.repository.CourseRepository;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -17,18 +24,36 @@ public class CourseService {
 
     private final CourseRepository courseRepository;
 
+    private final ResponseCache responseCache;
 
-    public CourseService(CourseRepository courseRepository) {
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final TransactionOperations transactionOperations;
+
+    private final DomainEventOutbox domainEventOutbox;
+
+
+    public CourseService(CourseRepository courseRepository, ResponseCache responseCache,
+                         EntityManagerFactory entityManagerFactory, TransactionOperations transactionOperations,
+                         DomainEventOutbox domainEventOutbox) {
         this.courseRepository = courseRepository;
+        this.responseCache = responseCache;
+        this.entityManagerFactory = entityManagerFactory;
+        this.transactionOperations = transactionOperations;
+        this.domainEventOutbox = domainEventOutbox;
     }
 
 
     public void createCourse(CourseRequestDTO courseRequestDTO) {
         Course course = Course.builder().name(courseRequestDTO.name())
                 .category(courseRequestDTO.category())
+                .modifiedAt(LocalDateTime.now())
                 .build();
 
-        this.courseRepository.save(course);
+        this.transactionOperations.executeWithoutResult(status -> {
+            this.courseRepository.save(course);
+            this.domainEventOutbox.append(DomainEventType.COURSE_CREATED, course.getId(), null);
+        });
 
         log.info("Curso criado com sucesso: {}", course);
     }
@@ -39,7 +64,11 @@ public class CourseService {
 
     public void deleteCourse(Long course_id){
         Course course = this.getCourseById(course_id);
-        this.courseRepository.delete(course);
+        this.transactionOperations.executeWithoutResult(status -> {
+            this.courseRepository.delete(course);
+            this.domainEventOutbox.append(DomainEventType.COURSE_DELETED, course_id, null);
+        });
+        this.evictCourse(course_id);
 
         log.info("Curso removido com sucesso: {}", course);
     }
@@ -50,13 +79,32 @@ public class CourseService {
         course.setName(courseUpdateDTO.name());
         course.setCategory(courseUpdateDTO.category());
 
-        this.courseRepository.save(course);
+        this.transactionOperations.executeWithoutResult(status -> {
+            this.courseRepository.save(course);
+            this.courseRepository.bumpVersion(course_id);
+            this.domainEventOutbox.append(DomainEventType.COURSE_UPDATED, course_id, null);
+        });
+        this.evictCourse(course_id);
+        this.responseCache.invalidateAll();
 
         log.info("Curso editado com sucesso: {}", course);
 
         return new CourseResponseDTO(course);
     }
 
+    public EntityVersionDTO getCourseVersion(Long course_id) {
+        return this.courseRepository.findCourseVersionById(course_id)
+                .orElseThrow(() -> new InstanceNotFoundException(String.format("O curso [ID: %d] informado não existe", course_id)));
+    }
+
+    public List<EntityVersionDTO> getCourseVersions() {
+        return this.courseRepository.findCourseVersions();
+    }
+
+    private void evictCourse(Long course_id) {
+        this.entityManagerFactory.getCache().evict(Course.class, course_id);
+    }
+
     public Course getCourseById(Long id) {
         return this.courseRepository.findById(id)
                 .orElseThrow(() -> new InstanceNotFoundException(String.format("O curso [ID: %d] informado não existe", id)));
@@ -0,0 +1,83 @@
+package com.raul.forumhub.topic.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raul.forumhub.topic.dto.request.TopicExportFilterDTO;
+import com.raul.forumhub.topic.export.TopicExportFormat;
+import com.raul.forumhub.topic.export.TopicExportWriter;
+import com.raul.forumhub.topic.repository.TopicExportRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+public class TopicExportService {
+
+    private final TopicExportRepository topicExportRepository;
+
+    private final TransactionTemplate snapshotTransaction;
+
+    private final ObjectMapper objectMapper;
+
+    public TopicExportService(TopicExportRepository topicExportRepository, PlatformTransactionManager transactionManager,
+                              ObjectMapper objectMapper) {
+        this.topicExportRepository = topicExportRepository;
+        this.objectMapper = objectMapper;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    public void export(TopicExportFilterDTO filter, TopicExportFormat format, boolean includeAnswers,
+                       OutputStream output) throws IOException {
+        AtomicLong topics = new AtomicLong();
+        AtomicLong answers = new AtomicLong();
+
+        try {
+            this.snapshotTransaction.executeWithoutResult(status -> {
+                try (TopicExportWriter writer = format.writer(output, this.objectMapper)) {
+                    this.topicExportRepository.streamTopics(filter, topic -> {
+                        write(() -> writer.writeTopic(topic));
+                        topics.incrementAndGet();
+                    });
+                    if (includeAnswers) {
+                        this.topicExportRepository.streamAnswers(filter, answer -> {
+                            write(() -> writer.writeAnswer(answer));
+                            answers.incrementAndGet();
+                        });
+                    }
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+
+        log.info("Exportação de tópicos concluída em {}: {} tópicos, {} respostas, filtro {}", format,
+                topics.get(), answers.get(), filter);
+    }
+
+    private static void write(ExportWrite write) {
+        try {
+            write.run();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ExportWrite {
+
+        void run() throws IOException;
+
+    }
+
+}
@@ -0,0 +1,373 @@
+package com.raul.forumhub.topic.service;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.raul.forumhub.topic.config.TopicImportProperties;
+import com.raul.forumhub.topic.domain.TopicImportRef;
+import com.raul.forumhub.topic.dto.request.TopicImportRecordDTO;
+import com.raul.forumhub.topic.dto.response.TopicImportEventDTO;
+import com.raul.forumhub.topic.event.DomainEventType;
+import com.raul.forumhub.topic.event.TopicsImportedEvent;
+import com.raul.forumhub.topic.outbox.DomainEventOutbox;
+import com.raul.forumhub.topic.repository.TopicImportRepository;
+import com.raul.forumhub.topic.repository.TopicImportRepository.AnswerRow;
+import com.raul.forumhub.topic.repository.TopicImportRepository.TopicRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class TopicImportService {
+
+    private static final int MAX_TITLE_LENGTH = 200;
+
+    private final TopicImportRepository topicImportRepository;
+
+    private final TransactionOperations transactionOperations;
+
+    private final TopicImportProperties topicImportProperties;
+
+    private final ObjectMapper objectMapper;
+
+    private final TopicService topicService;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final DomainEventOutbox domainEventOutbox;
+
+
+    public TopicImportService(TopicImportRepository topicImportRepository, TransactionOperations transactionOperations,
+                              TopicImportProperties topicImportProperties, ObjectMapper objectMapper,
+                              TopicService topicService, ApplicationEventPublisher eventPublisher,
+                              DomainEventOutbox domainEventOutbox) {
+        this.topicImportRepository = topicImportRepository;
+        this.transactionOperations = transactionOperations;
+        this.topicImportProperties = topicImportProperties;
+        this.objectMapper = objectMapper;
+        this.topicService = topicService;
+        this.eventPublisher = eventPublisher;
+        this.domainEventOutbox = domainEventOutbox;
+    }
+
+    public TopicImportEventDTO importTopics(InputStream input, Consumer<TopicImportEventDTO> events) {
+        TopicImport topicImport = new TopicImport(UUID.randomUUID().toString(), events);
+        TopicImportEventDTO result;
+
+        try (Reader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = topicImport.readLine(reader)) != null) {
+                if (!line.isBlank()) {
+                    topicImport.accept(line);
+                }
+            }
+            topicImport.flushAnswers();
+            result = TopicImportEventDTO.summary(topicImport.lines, topicImport.topics, topicImport.answers,
+                    topicImport.rejected);
+            log.info("Importação de tópicos concluída: {} linhas, {} tópicos, {} respostas, {} rejeitadas",
+                    topicImport.lines, topicImport.topics, topicImport.answers, topicImport.rejected);
+        } catch (IOException | DataAccessException ex) {
+            result = TopicImportEventDTO.failed(topicImport.lines, topicImport.topics, topicImport.answers,
+                    topicImport.rejected, String.format("Falha na importação após a linha %d: %s",
+                            topicImport.lines, ex.getMessage()));
+            log.error("Falha na importação de tópicos após a linha {}: {}", topicImport.lines, ex.getMessage(), ex);
+        } finally {
+            topicImport.releaseRefs();
+            topicImport.touchedCourseIds.forEach(this.topicService::invalidateTopicCounts);
+            if (topicImport.topics > 0 || topicImport.answers > 0) {
+                this.eventPublisher.publishEvent(new TopicsImportedEvent(topicImport.topics, topicImport.answers));
+            }
+        }
+
+        events.accept(result);
+        return result;
+    }
+
+    private record PendingTopic(long line, TopicImportRecordDTO record) {
+    }
+
+    private record PendingAnswer(long line, TopicImportRecordDTO record) {
+    }
+
+    private class TopicImport {
+
+        private final String importId;
+
+        private final Consumer<TopicImportEventDTO> events;
+
+        private final int batchSize = topicImportProperties.getBatchSize();
+
+        private final int maxLineLength = topicImportProperties.getMaxLineLength();
+
+        private final List<PendingTopic> pendingTopics = new ArrayList<>();
+
+        private final List<PendingAnswer> pendingAnswers = new ArrayList<>();
+
+        private final Set<String> pendingRefs = new HashSet<>();
+
+        private final Cache<String, Long> authorIds = Caffeine.newBuilder()
+                .maximumSize(topicImportProperties.getLookupCacheSize())
+                .build();
+
+        private final Cache<String, Long> courseIds = Caffeine.newBuilder()
+                .maximumSize(topicImportProperties.getLookupCacheSize())
+                .build();
+
+        private final Set<Long> touchedCourseIds = new HashSet<>();
+
+        private final StringBuilder buffer = new StringBuilder();
+
+        private long lines;
+
+        private long topics;
+
+        private long answers;
+
+        private long rejected;
+
+        private TopicImport(String importId, Consumer<TopicImportEventDTO> events) {
+            this.importId = importId;
+            this.events = events;
+        }
+
+        private String readLine(Reader reader) throws IOException {
+            this.buffer.setLength(0);
+            boolean truncated = false;
+            int c;
+            while ((c = reader.read()) != -1 && c != '\n') {
+                if (this.buffer.length() < this.maxLineLength) {
+                    this.buffer.append((char) c);
+                } else {
+                    truncated = true;
+                }
+            }
+            if (c == -1 && this.buffer.isEmpty() && !truncated) {
+                return null;
+            }
+
+            this.lines++;
+            if (!this.buffer.isEmpty() && this.buffer.charAt(this.buffer.length() - 1) == '\r') {
+                this.buffer.setLength(this.buffer.length() - 1);
+            }
+            if (truncated) {
+                this.reject(this.lines, String.format("A linha excede o tamanho máximo de %d caracteres",
+                        this.maxLineLength));
+                return "";
+            }
+            return this.buffer.toString();
+        }
+
+        private void accept(String line) {
+            TopicImportRecordDTO record;
+            try {
+                record = objectMapper.readValue(line, TopicImportRecordDTO.class);
+            } catch (JacksonException ex) {
+                this.reject(this.lines, "JSON inválido: " + ex.getOriginalMessage());
+                return;
+            }
+
+            if (TopicImportRecordDTO.TOPIC.equals(record.type())) {
+                this.acceptTopic(record);
+            } else if (TopicImportRecordDTO.ANSWER.equals(record.type())) {
+                this.acceptAnswer(record);
+            } else {
+                this.reject(this.lines, String.format("Tipo de registro desconhecido: %s", record.type()));
+            }
+        }
+
+        private void acceptTopic(TopicImportRecordDTO record) {
+            String reason = isBlank(record.ref()) ? "A referência do tópico não pode ser vazia" :
+                    record.ref().length() > TopicImportRef.MAX_REF_LENGTH ?
+                            String.format("A referência do tópico excede o tamanho máximo de %d caracteres",
+                                    TopicImportRef.MAX_REF_LENGTH) :
+                    this.pendingRefs.contains(record.ref()) ?
+                            String.format("A referência do tópico %s está duplicada", record.ref()) :
+                    isBlank(record.title()) ? "O título não pode ser vazio" :
+                    record.title().length() > MAX_TITLE_LENGTH ?
+                            String.format("O título excede o tamanho máximo de %d caracteres", MAX_TITLE_LENGTH) :
+                    isBlank(record.question()) ? "A pergunta não pode ser vazia" :
+                    isBlank(record.author()) ? "O autor não pode ser vazio" :
+                    isBlank(record.course()) ? "O curso não pode ser vazio" : null;
+            if (reason != null) {
+                this.reject(this.lines, reason);
+                return;
+            }
+
+            this.pendingRefs.add(record.ref());
+            this.pendingTopics.add(new PendingTopic(this.lines, record));
+            if (this.pendingTopics.size() >= this.batchSize) {
+                this.flushTopics();
+            }
+        }
+
+        private void acceptAnswer(TopicImportRecordDTO record) {
+            boolean hasRef = !isBlank(record.topic_ref());
+            String reason = isBlank(record.solution()) ? "A solução não pode ser vazia" :
+                    isBlank(record.author()) ? "O autor não pode ser vazio" :
+                    hasRef == (record.topic_id() != null) ? "Informe apenas um entre topic_ref e topic_id" : null;
+            if (reason != null) {
+                this.reject(this.lines, reason);
+                return;
+            }
+
+            this.pendingAnswers.add(new PendingAnswer(this.lines, record));
+            if (this.pendingAnswers.size() >= this.batchSize) {
+                this.flushAnswers();
+            }
+        }
+
+        private void flushTopics() {
+            if (this.pendingTopics.isEmpty()) {
+                return;
+            }
+            Map<String, Long> authorIds = this.authorIds.getAll(this.pendingTopics.stream()
+                    .map(topic -> topic.record().author()).toList(),
+                    names -> topicImportRepository.findAuthorIdsByUsername(Set.copyOf(names)));
+            Map<String, Long> courseIds = this.courseIds.getAll(this.pendingTopics.stream()
+                    .map(topic -> topic.record().course()).toList(),
+                    names -> topicImportRepository.findCourseIdsByName(Set.copyOf(names)));
+            Set<String> importedRefs = topicImportRepository.findTopicIdsByRef(this.importId,
+                    Set.copyOf(this.pendingRefs)).keySet();
+
+            List<PendingTopic> accepted = new ArrayList<>();
+            List<TopicRow> rows = new ArrayList<>();
+            for (PendingTopic pending : this.pendingTopics) {
+                TopicImportRecordDTO record = pending.record();
+                Long authorId = authorIds.get(record.author());
+                Long courseId = courseIds.get(record.course());
+                if (importedRefs.contains(record.ref())) {
+                    this.reject(pending.line(), String.format("A referência do tópico %s está duplicada", record.ref()));
+                } else if (authorId == null) {
+                    this.reject(pending.line(), String.format("O autor %s não existe", record.author()));
+                } else if (courseId == null) {
+                    this.reject(pending.line(), String.format("O curso %s não existe", record.course()));
+                } else {
+                    accepted.add(pending);
+                    rows.add(new TopicRow(record.title(), record.question(),
+                            Objects.requireNonNullElseGet(record.createdAt(), LocalDateTime::now), authorId, courseId));
+                    this.touchedCourseIds.add(courseId);
+                }
+            }
+
+            List<Long> topicIds = rows.isEmpty() ? List.of() :
+                    Objects.requireNonNull(transactionOperations.execute(status -> {
+                        List<Long> insertedIds = topicImportRepository.insertTopics(rows);
+                        Map<String, Long> topicIdsByRef = new HashMap<>();
+                        for (int i = 0; i < insertedIds.size(); i++) {
+                            topicIdsByRef.put(accepted.get(i).record().ref(), insertedIds.get(i));
+                        }
+                        topicImportRepository.insertRefs(this.importId, topicIdsByRef);
+                        topicImportRepository.refreshStatistics(insertedIds);
+                        domainEventOutbox.append(DomainEventType.TOPICS_IMPORTED, null, null);
+                        return insertedIds;
+                    }));
+
+            this.topics += topicIds.size();
+            this.pendingTopics.clear();
+            this.pendingRefs.clear();
+            this.progress();
+        }
+
+        private void flushAnswers() {
+            this.flushTopics();
+            if (this.pendingAnswers.isEmpty()) {
+                return;
+            }
+            Map<String, Long> authorIds = this.authorIds.getAll(this.pendingAnswers.stream()
+                    .map(answer -> answer.record().author()).toList(),
+                    names -> topicImportRepository.findAuthorIdsByUsername(Set.copyOf(names)));
+            Map<String, Long> topicIdsByRef = topicImportRepository.findTopicIdsByRef(this.importId,
+                    this.pendingAnswers.stream()
+                            .map(answer -> answer.record().topic_ref())
+                            .filter(Objects::nonNull)
+                            .collect(Collectors.toSet()));
+            Set<Long> existingTopicIds = topicImportRepository.findExistingTopicIds(this.pendingAnswers.stream()
+                    .map(answer -> answer.record().topic_id())
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList());
+            Set<Long> topicIdsWithBestAnswer = new HashSet<>(topicImportRepository.findTopicIdsWithBestAnswer(
+                    this.pendingAnswers.stream()
+                            .filter(answer -> answer.record().bestAnswer())
+                            .map(answer -> answer.record().topic_id() != null ? answer.record().topic_id() :
+                                    topicIdsByRef.get(answer.record().topic_ref()))
+                            .filter(Objects::nonNull)
+                            .distinct()
+                            .toList()));
+
+            List<AnswerRow> rows = new ArrayList<>();
+            Set<Long> topicIds = new HashSet<>();
+            for (PendingAnswer pending : this.pendingAnswers) {
+                TopicImportRecordDTO record = pending.record();
+                Long authorId = authorIds.get(record.author());
+                Long topicId = record.topic_id() != null ?
+                        (existingTopicIds.contains(record.topic_id()) ? record.topic_id() : null) :
+                        topicIdsByRef.get(record.topic_ref());
+                if (authorId == null) {
+                    this.reject(pending.line(), String.format("O autor %s não existe", record.author()));
+                } else if (topicId == null) {
+                    this.reject(pending.line(), record.topic_id() != null ?
+                            String.format("O tópico [ID: %d] informado não existe", record.topic_id()) :
+                            String.format("O tópico de referência %s não foi importado", record.topic_ref()));
+                } else if (record.bestAnswer() && !topicIdsWithBestAnswer.add(topicId)) {
+                    this.reject(pending.line(), record.topic_id() != null ?
+                            String.format("O tópico [ID: %d] já possui uma melhor resposta", topicId) :
+                            String.format("O tópico de referência %s já possui uma melhor resposta", record.topic_ref()));
+                } else {
+                    rows.add(new AnswerRow(record.solution(), record.bestAnswer(),
+                            Objects.requireNonNullElseGet(record.createdAt(), LocalDateTime::now), topicId, authorId));
+                    topicIds.add(topicId);
+                }
+            }
+
+            if (!rows.isEmpty()) {
+                transactionOperations.executeWithoutResult(status -> {
+                    topicImportRepository.insertAnswers(rows);
+                    topicImportRepository.refreshStatistics(topicIds);
+                    domainEventOutbox.append(DomainEventType.TOPICS_IMPORTED, null, null);
+                });
+            }
+
+            this.answers += rows.size();
+            this.pendingAnswers.clear();
+            this.progress();
+        }
+
+        private void releaseRefs() {
+            if (this.topics == 0) {
+                return;
+            }
+            try {
+                topicImportRepository.deleteRefs(this.importId);
+            } catch (DataAccessException ex) {
+                log.warn("Falha na remoção das referências da importação {}: {}", this.importId, ex.getMessage());
+            }
+        }
+
+        private void reject(long line, String reason) {
+            this.rejected++;
+            this.events.accept(TopicImportEventDTO.rejected(line, reason));
+        }
+
+        private void progress() {
+            this.events.accept(TopicImportEventDTO.progress(this.lines, this.topics, this.answers, this.rejected));
+        }
+
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.raul.forumhub.topic.service;
+
+import com.raul.forumhub.topic.domain.Status;
+import com.raul.forumhub.topic.dto.request.TopicSearchCursorDTO;
+import com.raul.forumhub.topic.dto.response.TopicSearchResponseDTO;
+import com.raul.forumhub.topic.dto.response.TopicSummaryResponseDTO;
+import com.raul.forumhub.topic.exception.ValidationException;
+import com.raul.forumhub.topic.repository.TopicRepository;
+import com.raul.forumhub.topic.repository.search.TopicSearchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class TopicSearchService {
+
+    private final TopicSearchRepository topicSearchRepository;
+
+    private final TopicRepository topicRepository;
+
+    public TopicSearchService(TopicSearchRepository topicSearchRepository, TopicRepository topicRepository) {
+        this.topicSearchRepository = topicSearchRepository;
+        this.topicRepository = topicRepository;
+    }
+
+    public Slice<TopicSearchResponseDTO> searchTopics(String query, Long course_id, Status status, String cursor, int size) {
+        if (query == null || query.isBlank()) {
+            throw new ValidationException("O termo de busca não pode ser vazio");
+        }
+
+        List<TopicSearchRepository.Hit> hits = this.topicSearchRepository.search(query.trim(), course_id, status,
+                TopicSearchCursorDTO.decode(cursor), size + 1);
+        boolean hasNext = hits.size() > size;
+        List<TopicSearchRepository.Hit> pageHits = hasNext ? hits.subList(0, size) : hits;
+
+        Map<Long, TopicSummaryResponseDTO> topics = pageHits.isEmpty() ? Map.of() :
+                this.topicRepository.findTopicSummariesByIds(pageHits.stream().map(TopicSearchRepository.Hit::id).toList())
+                        .stream().collect(Collectors.toMap(TopicSummaryResponseDTO::id, Function.identity()));
+
+        log.debug("Busca por '{}' retornou {} tópicos", query, pageHits.size());
+
+        return new SliceImpl<>(pageHits.stream()
+                .filter(hit -> topics.containsKey(hit.id()))
+                .map(hit -> new TopicSearchResponseDTO(topics.get(hit.id()), hit.rank()))
+                .toList(), PageRequest.ofSize(size), hasNext);
+    }
+
+}
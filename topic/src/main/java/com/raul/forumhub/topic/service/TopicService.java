@@ -1,44 +1,122 @@
 package com.raul.forumhub.topic.service;
 
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.raul.forumhub.topic.cache.ResponseCache;
 import com.raul.forumhub.topic.client.UserClientRequest;
+import com.raul.forumhub.topic.datasource.ReadReplicaTransactions;
 import com.raul.forumhub.topic.domain.Author;
 import com.raul.forumhub.topic.domain.Course;
 import com.raul.forumhub.topic.domain.Topic;
 import com.raul.forumhub.topic.dto.request.TopicCreateRequestDTO;
+import com.raul.forumhub.topic.dto.request.TopicCursorDTO;
 import com.raul.forumhub.topic.dto.request.TopicUpdateRequestDTO;
+import com.raul.forumhub.topic.dto.response.TopicBulkDeleteResponseDTO;
+import com.raul.forumhub.topic.dto.response.TopicDetailResponseDTO;
+import com.raul.forumhub.topic.dto.response.TopicOwnerDTO;
 import com.raul.forumhub.topic.dto.response.TopicResponseDTO;
+import com.raul.forumhub.topic.dto.response.TopicSnapshotDTO;
+import com.raul.forumhub.topic.dto.response.TopicSummaryResponseDTO;
+import com.raul.forumhub.topic.dto.response.TopicVersionDTO;
+import com.raul.forumhub.topic.event.DomainEventType;
+import com.raul.forumhub.topic.event.TopicChangedEvent;
+import com.raul.forumhub.topic.event.TopicDeletedEvent;
 import com.raul.forumhub.topic.exception.BusinessException;
 import com.raul.forumhub.topic.exception.InstanceNotFoundException;
+import com.raul.forumhub.topic.exception.ValidationException;
+import com.raul.forumhub.topic.outbox.DomainEventOutbox;
+import com.raul.forumhub.topic.pagination.CountQuery;
+import com.raul.forumhub.topic.pagination.CountedPage;
+import com.raul.forumhub.topic.pagination.PageCounter;
 import com.raul.forumhub.topic.repository.TopicRepository;
 import com.raul.forumhub.topic.util.PermissionUtils;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.*;
+import org.springframework.data.mapping.PropertyPath;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
 public class TopicService {
 
+    public static final String TOPICS_LISTING = "topics";
+
+    public static final String TOPICS_BY_COURSE_LISTING = "topics-by-course";
+
+    private static final int BULK_DELETE_BATCH_SIZE = 500;
+
     private final TopicRepository topicRepository;
 
     private final UserClientRequest userClientRequest;
 
     private final CourseService courseService;
 
+    private final Scheduler persistenceScheduler;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final PageCounter pageCounter;
+
+    private final TransactionOperations transactionOperations;
 
-    public TopicService(TopicRepository topicRepository, UserClientRequest userClientRequest, CourseService courseService) {
+    private final DomainEventOutbox domainEventOutbox;
+
+    private final ReadReplicaTransactions readReplicaTransactions;
+
+    private final LoadingCache<ListingKey, CountedPage<TopicSummaryResponseDTO>> listingResponses;
+
+    private final LoadingCache<Long, TopicSnapshotDTO> topicResponses;
+
+
+    public TopicService(TopicRepository topicRepository, UserClientRequest userClientRequest, CourseService courseService,
+                        Scheduler persistenceScheduler, ApplicationEventPublisher eventPublisher, PageCounter pageCounter,
+                        ResponseCache responseCache, TransactionOperations transactionOperations,
+                        DomainEventOutbox domainEventOutbox, ReadReplicaTransactions readReplicaTransactions) {
         this.topicRepository = topicRepository;
         this.userClientRequest = userClientRequest;
         this.courseService = courseService;
+        this.persistenceScheduler = persistenceScheduler;
+        this.eventPublisher = eventPublisher;
+        this.pageCounter = pageCounter;
+        this.transactionOperations = transactionOperations;
+        this.domainEventOutbox = domainEventOutbox;
+        this.readReplicaTransactions = readReplicaTransactions;
+        this.listingResponses = responseCache.register("topic-listings", this::loadListing);
+        this.topicResponses = responseCache.register("topics", this::loadTopicSnapshot);
     }
 
     public TopicResponseDTO createTopic(TopicCreateRequestDTO topicCreateRequestDTO, Long user_id) {
         Author author = userClientRequest.getUserById(user_id);
+        return this.createTopic(topicCreateRequestDTO, author);
+    }
+
+    public Mono<TopicResponseDTO> createTopicAsync(TopicCreateRequestDTO topicCreateRequestDTO, Long user_id) {
+        return this.userClientRequest.getUserByIdAsync(user_id)
+                .publishOn(this.persistenceScheduler)
+                .map(author -> this.createTopic(topicCreateRequestDTO, author));
+    }
+
+    private TopicResponseDTO createTopic(TopicCreateRequestDTO topicCreateRequestDTO, Author author) {
         Course course = courseService.getCourseById(topicCreateRequestDTO.course_id());
 
         Topic topic = new Topic(topicCreateRequestDTO.title(), topicCreateRequestDTO.question(), author, course);
-        this.saveTopic(topic);
+        this.transactionOperations.executeWithoutResult(status -> {
+            this.saveTopic(topic);
+            this.domainEventOutbox.append(DomainEventType.TOPIC_CREATED, topic.getId(), topic.getId());
+        });
+        this.invalidateTopicCounts(course.getId());
+        this.invalidateTopicListings(course.getId());
+        this.eventPublisher.publishEvent(new TopicChangedEvent(topic.getId()));
 
         log.info("Tópico criado com sucesso: {}", topic);
 
@@ -46,13 +124,84 @@ public class TopicService {
 
     }
 
-    public Page<TopicResponseDTO> topicList(Pageable pageable) {
-        return this.topicRepository.findAll(pageable).map(TopicResponseDTO::new);
+    public CountedPage<TopicSummaryResponseDTO> topicList(Pageable pageable) {
+        this.validateSortProperties(pageable);
+        return this.listingResponses.get(ListingKey.of(TOPICS_LISTING, null, pageable));
+    }
+
+    public CountedPage<TopicSummaryResponseDTO> topicsListByCourse(Long course_id, Pageable pageable) {
+        this.validateSortProperties(pageable);
+        return this.listingResponses.get(ListingKey.of(TOPICS_BY_COURSE_LISTING, course_id, pageable));
+    }
+
+    private CountedPage<TopicSummaryResponseDTO> loadListing(ListingKey key) {
+        return this.readReplicaTransactions.readShared(status -> this.queryListing(key));
+    }
+
+    private CountedPage<TopicSummaryResponseDTO> queryListing(ListingKey key) {
+        Pageable pageable = key.pageable();
+
+        if (TOPICS_LISTING.equals(key.listing())) {
+            return this.pageCounter.page(new CountQuery(TOPICS_LISTING, null, this.topicRepository::count,
+                            "select topic_id from topic"),
+                    () -> this.topicRepository.findTopicSummaries(pageable),
+                    () -> this.topicRepository.findTopicSummarySlice(pageable));
+        }
+
+        Long course_id = key.course_id();
+        return this.pageCounter.page(new CountQuery(TOPICS_BY_COURSE_LISTING, course_id,
+                        () -> this.topicRepository.countByCourseId(course_id),
+                        "select topic_id from topic where course_id = ?", course_id),
+                () -> this.topicRepository.findTopicSummariesByCourseId(course_id, pageable),
+                () -> this.topicRepository.findTopicSummarySliceByCourseId(course_id, pageable));
     }
 
-    public Page<TopicResponseDTO> topicsListByCourse(Long course_id, Pageable pageable) {
-        return this.topicRepository.findTopicsByCourseId(course_id, pageable)
-                .map(TopicResponseDTO::new);
+    public Slice<TopicSummaryResponseDTO> topicKeysetList(String cursor, int size) {
+        TopicCursorDTO topicCursor = TopicCursorDTO.decode(cursor);
+        return this.toSlice(this.topicRepository.findTopicSummariesBefore(topicCursor.createdAt(), topicCursor.id(),
+                Limit.of(size + 1)), size);
+    }
+
+    public Slice<TopicSummaryResponseDTO> topicsKeysetListByCourse(Long course_id, String cursor, int size) {
+        TopicCursorDTO topicCursor = TopicCursorDTO.decode(cursor);
+        return this.toSlice(this.topicRepository.findTopicSummariesByCourseIdBefore(course_id, topicCursor.createdAt(),
+                topicCursor.id(), Limit.of(size + 1)), size);
+    }
+
+    private Slice<TopicSummaryResponseDTO> toSlice(List<TopicSummaryResponseDTO> topics, int size) {
+        boolean hasNext = topics.size() > size;
+        return new SliceImpl<>(hasNext ? topics.subList(0, size) : topics, PageRequest.ofSize(size), hasNext);
+    }
+
+    private void validateSortProperties(Pageable pageable) {
+        pageable.getSort().forEach(order -> PropertyPath.from(order.getProperty(), Topic.class));
+    }
+
+    public TopicDetailResponseDTO getTopicDetail(Long topic_id) {
+        return this.topicRepository.findTopicDetailById(topic_id).orElseThrow(() ->
+                new InstanceNotFoundException(String.format("O tópico [ID: %d] informado não existe", topic_id)));
+    }
+
+    public void validateTopicExists(Long topic_id) {
+        if (!this.topicRepository.existsById(topic_id)) {
+            throw new InstanceNotFoundException(String.format("O tópico [ID: %d] informado não existe", topic_id));
+        }
+    }
+
+    public TopicVersionDTO getTopicVersion(Long topic_id) {
+        return this.topicRepository.findTopicVersionById(topic_id).orElseThrow(() ->
+                new InstanceNotFoundException(String.format("O tópico [ID: %d] informado não existe", topic_id)));
+    }
+
+    public TopicSnapshotDTO getTopicSnapshot(Long topic_id) {
+        return this.topicResponses.get(topic_id);
+    }
+
+    private TopicSnapshotDTO loadTopicSnapshot(Long topic_id) {
+        return this.readReplicaTransactions.readShared(status -> {
+            TopicVersionDTO version = this.getTopicVersion(topic_id);
+            return new TopicSnapshotDTO(version, new TopicResponseDTO(this.getTopicById(topic_id)));
+        });
     }
 
     public Topic getTopicById(Long topic_id) {
@@ -66,6 +215,19 @@ public class TopicService {
         Course course = this.courseService.getCourseById(update.course_id());
         Author author = this.userClientRequest.getUserById(user_id);
 
+        return this.updateTopic(topic, course, author, update);
+    }
+
+    public Mono<TopicResponseDTO> updateTopicAsync(Long topic_id, Long user_id, TopicUpdateRequestDTO update) {
+        return Mono.fromCallable(() -> this.getTopicById(topic_id))
+                .zipWhen(topic -> Mono.fromCallable(() -> this.courseService.getCourseById(update.course_id())))
+                .subscribeOn(this.persistenceScheduler)
+                .flatMap(topicAndCourse -> this.userClientRequest.getUserByIdAsync(user_id)
+                        .publishOn(this.persistenceScheduler)
+                        .map(author -> this.updateTopic(topicAndCourse.getT1(), topicAndCourse.getT2(), author, update)));
+    }
+
+    private TopicResponseDTO updateTopic(Topic topic, Course course, Author author, TopicUpdateRequestDTO update) {
         PermissionUtils.privilegeValidator(topic.getAuthor().getId(), author);
 
         if (topic.getAuthor().getId() == 1L &&
@@ -74,12 +236,29 @@ public class TopicService {
                                         "ele não pode ser editado!", topic.getId()));
         }
 
+        if (update.status() != null && update.status() != topic.getStatus()) {
+            throw new BusinessException(String.format("O status do tópico [ID: %d] é definido pela melhor resposta, " +
+                                        "ele não pode ser alterado na edição!", topic.getId()));
+        }
+
+        Long previousCourseId = topic.getCourse().getId();
+
         topic.setTitle(update.title());
         topic.setQuestion(update.question());
-        topic.setStatus(update.status());
         topic.setCourse(course);
 
-        this.saveTopic(topic);
+        this.transactionOperations.executeWithoutResult(status -> {
+            this.saveTopic(topic);
+            this.bumpVersion(topic.getId());
+            this.domainEventOutbox.append(DomainEventType.TOPIC_UPDATED, topic.getId(), topic.getId());
+        });
+        if (!previousCourseId.equals(course.getId())) {
+            this.invalidateTopicCounts(previousCourseId);
+            this.invalidateTopicCounts(course.getId());
+            this.invalidateTopicResponses(topic.getId(), previousCourseId);
+        }
+        this.invalidateTopicResponses(topic.getId(), course.getId());
+        this.eventPublisher.publishEvent(new TopicChangedEvent(topic.getId()));
 
         log.info("Tópico editado com sucesso: {}", topic);
 
@@ -89,19 +268,151 @@ public class TopicService {
 
 
     public void deleteTopic(Long topic_id, Long user_id) {
-        Topic topic = this.getTopicById(topic_id);
+        TopicOwnerDTO topic = this.getTopicOwner(topic_id);
         Author author = this.userClientRequest.getUserById(user_id);
 
-        PermissionUtils.privilegeValidator(topic.getAuthor().getId(), author);
+        this.deleteTopic(topic, author);
+    }
+
+    public Mono<Void> deleteTopicAsync(Long topic_id, Long user_id) {
+        return Mono.fromCallable(() -> this.getTopicOwner(topic_id))
+                .subscribeOn(this.persistenceScheduler)
+                .flatMap(topic -> this.userClientRequest.getUserByIdAsync(user_id)
+                        .publishOn(this.persistenceScheduler)
+                        .doOnNext(author -> this.deleteTopic(topic, author)))
+                .then();
+    }
+
+    private void deleteTopic(TopicOwnerDTO topic, Author author) {
+        PermissionUtils.privilegeValidator(topic.authorId(), author);
+
+        TopicBulkDeleteResponseDTO deleted = this.deleteTopics(() -> List.of(topic));
+
+        log.info("Tópico [ID: {}] removido com sucesso junto com {} respostas", topic.id(), deleted.deletedAnswers());
+    }
+
+    public TopicBulkDeleteResponseDTO deleteTopics(Collection<Long> topic_ids) {
+        if (topic_ids.isEmpty() || topic_ids.size() > BULK_DELETE_BATCH_SIZE) {
+            throw new ValidationException(String.format(
+                    "A remoção em lote deve informar entre 1 e %d tópicos", BULK_DELETE_BATCH_SIZE));
+        }
+
+        TopicBulkDeleteResponseDTO deleted = this.deleteTopics(() -> this.topicRepository.findTopicOwnersByIdIn(topic_ids));
+
+        log.info("{} tópicos e {} respostas removidos em lote", deleted.deletedTopics(), deleted.deletedAnswers());
+        return deleted;
+    }
+
+    public Mono<TopicBulkDeleteResponseDTO> deleteTopicsAsync(Collection<Long> topic_ids) {
+        return Mono.fromCallable(() -> this.deleteTopics(topic_ids))
+                .subscribeOn(this.persistenceScheduler);
+    }
+
+    public TopicBulkDeleteResponseDTO deleteTopicsByCourse(Long course_id) {
+        this.courseService.getCourseById(course_id);
+
+        long deletedTopics = 0;
+        long deletedAnswers = 0;
+        TopicBulkDeleteResponseDTO deleted;
+        do {
+            deleted = this.deleteTopics(() -> this.topicRepository.findTopicOwnersByCourseId(course_id,
+                    Limit.of(BULK_DELETE_BATCH_SIZE)));
+            deletedTopics += deleted.deletedTopics();
+            deletedAnswers += deleted.deletedAnswers();
+        } while (deleted.deletedTopics() == BULK_DELETE_BATCH_SIZE);
+
+        log.info("{} tópicos e {} respostas do curso [ID: {}] removidos em lote", deletedTopics, deletedAnswers, course_id);
+        return new TopicBulkDeleteResponseDTO(deletedTopics, deletedAnswers);
+    }
+
+    public Mono<TopicBulkDeleteResponseDTO> deleteTopicsByCourseAsync(Long course_id) {
+        return Mono.fromCallable(() -> this.deleteTopicsByCourse(course_id))
+                .subscribeOn(this.persistenceScheduler);
+    }
+
+    private TopicBulkDeleteResponseDTO deleteTopics(Supplier<List<TopicOwnerDTO>> selection) {
+        List<TopicOwnerDTO> topics = new ArrayList<>();
+        int deletedAnswers = Objects.requireNonNull(this.transactionOperations.execute(status -> {
+            topics.addAll(selection.get());
+            if (topics.isEmpty()) {
+                return 0;
+            }
+
+            List<Long> topic_ids = topics.stream().map(TopicOwnerDTO::id).toList();
+            int answers = this.topicRepository.deleteAnswersByTopicIdIn(topic_ids);
+            this.topicRepository.deleteTopicsByIdIn(topic_ids);
+            topic_ids.forEach(topic_id -> this.domainEventOutbox.append(DomainEventType.TOPIC_DELETED, topic_id, topic_id));
+            return answers;
+        }));
+
+        topics.stream().map(TopicOwnerDTO::courseId).distinct().forEach(course_id -> {
+            this.invalidateTopicCounts(course_id);
+            this.invalidateTopicListings(course_id);
+        });
+        topics.forEach(topic -> {
+            this.invalidateTopicResponse(topic.id());
+            this.eventPublisher.publishEvent(new TopicDeletedEvent(topic.id()));
+        });
+
+        return new TopicBulkDeleteResponseDTO(topics.size(), deletedAnswers);
+    }
+
+    public TopicOwnerDTO getTopicOwner(Long topic_id) {
+        return this.topicRepository.findTopicOwnerById(topic_id).orElseThrow(() ->
+                new InstanceNotFoundException(String.format("O tópico [ID: %d] informado não existe", topic_id)));
+    }
+
+    public void registerAnswer(Long topic_id, LocalDateTime activity_at) {
+        this.topicRepository.registerAnswer(topic_id, activity_at);
+    }
+
+    public void unregisterAnswer(Long topic_id, Long answer_id) {
+        this.topicRepository.unregisterAnswer(topic_id, answer_id);
+    }
+
+    public boolean markBestAnswer(Long topic_id, Long answer_id, Long author_id) {
+        return this.topicRepository.markBestAnswer(topic_id, answer_id, author_id) > 0;
+    }
+
+    public boolean unmarkBestAnswer(Long topic_id, Long answer_id, Long author_id) {
+        return this.topicRepository.unmarkBestAnswer(topic_id, answer_id, author_id) > 0;
+    }
 
-        this.topicRepository.delete(topic);
+    public void bumpVersion(Long topic_id) {
+        this.topicRepository.bumpVersion(topic_id);
+    }
+
+    public void invalidateTopicCounts(Long course_id) {
+        this.pageCounter.invalidate(TOPICS_LISTING, null);
+        this.pageCounter.invalidate(TOPICS_BY_COURSE_LISTING, course_id);
+    }
+
+    public void invalidateTopicResponse(Long topic_id) {
+        this.topicResponses.invalidate(topic_id);
+    }
+
+    public void invalidateTopicResponses(Long topic_id, Long course_id) {
+        this.invalidateTopicResponse(topic_id);
+        this.invalidateTopicListings(course_id);
+    }
 
-        log.info("Tópico removido com sucesso: {}", topic);
+    public void invalidateTopicListings(Long course_id) {
+        this.listingResponses.asMap().keySet().removeIf(key -> TOPICS_LISTING.equals(key.listing()) ||
+                                                               course_id == null || course_id.equals(key.course_id()));
     }
 
     public void saveTopic(Topic topic) {
         this.topicRepository.save(topic);
     }
 
+    private record ListingKey(String listing, Long course_id, Pageable pageable) {
+
+        static ListingKey of(String listing, Long course_id, Pageable pageable) {
+            return new ListingKey(listing, course_id,
+                    PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort()));
+        }
+
+    }
+
 
 }
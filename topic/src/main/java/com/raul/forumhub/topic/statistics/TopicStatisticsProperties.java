@@ -0,0 +1,31 @@
+package com.raul.forumhub.topic.statistics;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties("forumhub.statistics")
+@Getter
+@Setter
+@NoArgsConstructor
+public class TopicStatisticsProperties {
+
+    private Repair repair = new Repair();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Repair {
+
+        private boolean enabled = false;
+        private Duration interval = Duration.ofHours(1);
+        private int batchSize = 1000;
+
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.raul.forumhub.topic.statistics;
+
+import com.raul.forumhub.topic.cache.ResponseCache;
+import com.raul.forumhub.topic.datasource.ReadYourWritesTracker;
+import com.raul.forumhub.topic.exception.BusinessException;
+import com.raul.forumhub.topic.repository.TopicRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Component
+public class TopicStatisticsRepairer {
+
+    private final TopicRepository topicRepository;
+    private final TransactionOperations transactionOperations;
+    private final TopicStatisticsProperties topicStatisticsProperties;
+    private final ResponseCache responseCache;
+    private final Counter repairedTopics;
+    private final AtomicBoolean repairing = new AtomicBoolean(false);
+    private final Disposable schedule;
+
+    public TopicStatisticsRepairer(TopicRepository topicRepository, TransactionOperations transactionOperations,
+                                   TopicStatisticsProperties topicStatisticsProperties, ResponseCache responseCache,
+                                   MeterRegistry meterRegistry) {
+        this.topicRepository = topicRepository;
+        this.transactionOperations = transactionOperations;
+        this.topicStatisticsProperties = topicStatisticsProperties;
+        this.responseCache = responseCache;
+        this.repairedTopics = Counter.builder("forumhub.topic.statistics.repaired").register(meterRegistry);
+
+        TopicStatisticsProperties.Repair repair = topicStatisticsProperties.getRepair();
+        this.schedule = !repair.isEnabled() ? Disposables.disposed() :
+                Flux.interval(repair.getInterval(), repair.getInterval(), Schedulers.boundedElastic())
+                        .doOnNext(tick -> this.scheduledRepair())
+                        .subscribe();
+    }
+
+    public long repair() {
+        if (!this.repairing.compareAndSet(false, true)) {
+            throw new BusinessException("Uma reparação das estatísticas dos tópicos já está em andamento");
+        }
+        try {
+            return ReadYourWritesTracker.untracked(this::repairBatches);
+        } finally {
+            this.repairing.set(false);
+        }
+    }
+
+    private long repairBatches() {
+        int batchSize = this.topicStatisticsProperties.getRepair().getBatchSize();
+        long maxTopicId = this.topicRepository.findMaxTopicId();
+        long repaired = 0;
+
+        for (long batchStart = 1; batchStart <= maxTopicId; batchStart += batchSize) {
+            long fromId = batchStart;
+            long toId = batchStart + batchSize - 1;
+            repaired += Objects.requireNonNull(this.transactionOperations.execute(status ->
+                    this.topicRepository.repairStatistics(fromId, toId)));
+        }
+
+        this.repairedTopics.increment(repaired);
+        if (repaired > 0) {
+            this.responseCache.invalidateAll();
+        }
+        log.info("Estatísticas dos tópicos verificadas até o tópico [ID: {}], {} tópicos reparados", maxTopicId, repaired);
+        return repaired;
+    }
+
+    private void scheduledRepair() {
+        try {
+            this.repair();
+        } catch (RuntimeException ex) {
+            log.warn("Falha na reparação agendada das estatísticas dos tópicos: {}", ex.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        this.schedule.dispose();
+    }
+
+}
@@ -7,8 +7,6 @@ import com.raul.forumhub.topic.exception.ValidationException;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.Set;
-
 @Slf4j
 @UtilityClass
 public class ValidationUtils {
@@ -17,11 +15,10 @@ public class ValidationUtils {
         hasAnswerInTopic(topic);
         validateAnswerBelongsTopic(topic.getId(), answer);
 
-        topic.getAnswers().stream().filter(Answer::isBestAnswer)
-                .findFirst().ifPresent(ans -> {
-                    throw new BusinessException(String.format("Este tópico já possui como melhor resposta a resposta [ID: %d]",
-                            ans.getId()));
-                });
+        if (topic.getBestAnswerId() != null) {
+            throw new BusinessException(String.format("Este tópico já possui como melhor resposta a resposta [ID: %d]",
+                    topic.getBestAnswerId()));
+        }
 
         log.info("Validações realizadas com sucesso para marcação de melhor resposta para a resposta: {}", answer);
 
@@ -42,18 +39,13 @@ public class ValidationUtils {
     }
 
     private void hasAnswerInTopic(Topic topic) {
-        if (!hasAnswer(topic.getAnswers())) {
+        if (topic.getAnswerCount() == 0) {
             throw raiseValidationException(String.format("Ainda não existe respostas para o tópico [ID: %d]", topic.getId()));
         }
 
     }
 
 
-    private boolean hasAnswer(Set<Answer> answers) {
-        return !answers.isEmpty();
-    }
-
-
     public void validateAnswerBelongsTopic(long topic_id, Answer answer) {
         if (!answer.getTopic().getId().equals(topic_id)) {
             throw raiseValidationException(String.format(
@@ -0,0 +1,116 @@
+package com.raul.forumhub.topic.views;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public final class HyperLogLog {
+
+    public static final int PRECISION = 10;
+
+    public static final int SIZE = 1 << PRECISION;
+
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / SIZE);
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicIntegerArray registers;
+
+
+    public HyperLogLog() {
+        this.registers = new AtomicIntegerArray(SIZE);
+    }
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        HyperLogLog sketch = new HyperLogLog();
+        if (bytes != null) {
+            if (bytes.length != SIZE) {
+                throw new IllegalArgumentException(String.format("O sketch de visualizações deve possuir %d registradores", SIZE));
+            }
+            for (int index = 0; index < SIZE; index++) {
+                sketch.registers.set(index, bytes[index]);
+            }
+        }
+        return sketch;
+    }
+
+    public static long hash(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash = (hash ^ (b & 0xff)) * FNV_PRIME;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    public void add(long hash) {
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        long remaining = hash << PRECISION;
+        int rank = remaining == 0 ? Long.SIZE - PRECISION + 1 : Long.numberOfLeadingZeros(remaining) + 1;
+        this.raise(index, rank);
+    }
+
+    public HyperLogLog merge(HyperLogLog other) {
+        for (int index = 0; index < SIZE; index++) {
+            this.raise(index, other.registers.get(index));
+        }
+        return this;
+    }
+
+    private void raise(int index, int rank) {
+        if (this.registers.get(index) < rank) {
+            this.registers.accumulateAndGet(index, rank, Math::max);
+        }
+    }
+
+    public HyperLogLog drain() {
+        HyperLogLog drained = new HyperLogLog();
+        for (int index = 0; index < SIZE; index++) {
+            if (this.registers.get(index) != 0) {
+                drained.registers.set(index, this.registers.getAndSet(index, 0));
+            }
+        }
+        return drained;
+    }
+
+    public boolean isEmpty() {
+        for (int index = 0; index < SIZE; index++) {
+            if (this.registers.get(index) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        for (int index = 0; index < SIZE; index++) {
+            int rank = this.registers.get(index);
+            sum += 1.0 / (1L << rank);
+            if (rank == 0) {
+                zeros++;
+            }
+        }
+
+        double estimate = ALPHA * SIZE * SIZE / sum;
+        if (estimate <= 2.5 * SIZE && zeros > 0) {
+            estimate = SIZE * Math.log((double) SIZE / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public byte[] toBytes() {
+        byte[] bytes = new byte[SIZE];
+        for (int index = 0; index < SIZE; index++) {
+            bytes[index] = (byte) this.registers.get(index);
+        }
+        return bytes;
+    }
+
+}
@@ -0,0 +1,142 @@
+package com.raul.forumhub.topic.views;
+
+import com.raul.forumhub.topic.datasource.ReadYourWritesTracker;
+import com.raul.forumhub.topic.repository.TopicViewRepository;
+import com.raul.forumhub.topic.repository.TopicViewRepository.ViewRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+@Slf4j
+@Component
+public class TopicViewCounter {
+
+    private final TopicViewRepository topicViewRepository;
+    private final TransactionOperations transactionOperations;
+    private final TopicViewProperties topicViewProperties;
+    private final List<Map<Long, PendingViews>> stripes;
+    private final Counter flushedViews;
+    private final Disposable schedule;
+
+    public TopicViewCounter(TopicViewRepository topicViewRepository, TransactionOperations transactionOperations,
+                            TopicViewProperties topicViewProperties, MeterRegistry meterRegistry) {
+        this.topicViewRepository = topicViewRepository;
+        this.transactionOperations = transactionOperations;
+        this.topicViewProperties = topicViewProperties;
+        this.stripes = IntStream.range(0, Runtime.getRuntime().availableProcessors())
+                .<Map<Long, PendingViews>>mapToObj(stripe -> new ConcurrentHashMap<>())
+                .toList();
+        this.flushedViews = Counter.builder("forumhub.topic.views.flushed").register(meterRegistry);
+        Gauge.builder("forumhub.topic.views.pending", this.stripes,
+                        stripes -> stripes.stream().mapToInt(Map::size).sum())
+                .register(meterRegistry);
+
+        TopicViewProperties.Flush flush = topicViewProperties.getFlush();
+        this.schedule = !flush.isEnabled() ? Disposables.disposed() :
+                Flux.interval(flush.getInterval(), flush.getInterval(), Schedulers.boundedElastic())
+                        .doOnNext(tick -> this.scheduledFlush())
+                        .subscribe();
+    }
+
+    public void recordView(Long topic_id, String viewer) {
+        long viewerHash = HyperLogLog.hash(viewer);
+        this.stripes.get(ThreadLocalRandom.current().nextInt(this.stripes.size()))
+                .compute(topic_id, (id, views) -> (views != null ? views : new PendingViews()).record(viewerHash));
+    }
+
+    public synchronized long flush() {
+        return ReadYourWritesTracker.untracked(this::drainAndWrite);
+    }
+
+    private long drainAndWrite() {
+        Map<Long, ViewRow> drained = new HashMap<>();
+        for (Map<Long, PendingViews> stripe : this.stripes) {
+            for (Long topic_id : stripe.keySet()) {
+                PendingViews views = stripe.remove(topic_id);
+                if (views != null) {
+                    drained.merge(topic_id, new ViewRow(topic_id, views.count, views.viewers), (previous, current) ->
+                            new ViewRow(topic_id, previous.views() + current.views(),
+                                    previous.viewers().merge(current.viewers())));
+                }
+            }
+        }
+
+        List<ViewRow> rows = new ArrayList<>(drained.values());
+        int batchSize = this.topicViewProperties.getFlush().getBatchSize();
+        long flushed = 0;
+
+        for (int batchStart = 0; batchStart < rows.size(); batchStart += batchSize) {
+            List<ViewRow> batch = rows.subList(batchStart, Math.min(batchStart + batchSize, rows.size()));
+            try {
+                this.transactionOperations.executeWithoutResult(status -> this.topicViewRepository.addViews(batch));
+            } catch (RuntimeException ex) {
+                rows.subList(batchStart, rows.size()).forEach(this::restore);
+                throw ex;
+            }
+            flushed += batch.stream().mapToLong(ViewRow::views).sum();
+        }
+
+        this.flushedViews.increment(flushed);
+        log.debug("{} visualizações de {} tópicos gravadas", flushed, rows.size());
+        return flushed;
+    }
+
+    private void restore(ViewRow row) {
+        this.stripes.get(0).compute(row.topicId(), (id, views) ->
+                (views != null ? views : new PendingViews()).restore(row));
+    }
+
+    private void scheduledFlush() {
+        try {
+            this.flush();
+        } catch (RuntimeException ex) {
+            log.warn("Falha na gravação agendada das visualizações dos tópicos: {}", ex.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        this.schedule.dispose();
+        try {
+            this.flush();
+        } catch (RuntimeException ex) {
+            log.error("Falha na gravação das visualizações pendentes dos tópicos no encerramento: {}", ex.getMessage());
+        }
+    }
+
+    private static final class PendingViews {
+
+        private final HyperLogLog viewers = new HyperLogLog();
+        private long count;
+
+        private PendingViews record(long viewerHash) {
+            this.count++;
+            this.viewers.add(viewerHash);
+            return this;
+        }
+
+        private PendingViews restore(ViewRow row) {
+            this.count += row.views();
+            this.viewers.merge(row.viewers());
+            return this;
+        }
+
+    }
+
+}
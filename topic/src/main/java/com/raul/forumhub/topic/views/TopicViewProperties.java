@@ -0,0 +1,31 @@
+package com.raul.forumhub.topic.views;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties("forumhub.views")
+@Getter
+@Setter
+@NoArgsConstructor
+public class TopicViewProperties {
+
+    private Flush flush = new Flush();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Flush {
+
+        private boolean enabled = true;
+        private Duration interval = Duration.ofSeconds(10);
+        private int batchSize = 500;
+
+    }
+
+}
@@ -0,0 +1,4 @@
+-->Indexes backing keyset pagination of topics<--
+CREATE INDEX IF NOT EXISTS idx_topic_created_at_topic_id ON topic (created_at DESC, topic_id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_topic_course_id_created_at_topic_id ON topic (course_id, created_at DESC, topic_id DESC);
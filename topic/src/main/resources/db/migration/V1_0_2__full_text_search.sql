@@ -0,0 +1,15 @@
+-->Generated search vectors for topic and answer full-text search<--
+ALTER TABLE topic
+    ADD COLUMN IF NOT EXISTS search_vector TSVECTOR
+        GENERATED ALWAYS AS (setweight(to_tsvector('portuguese', coalesce(title, '')), 'A') ||
+                             setweight(to_tsvector('portuguese', coalesce(question, '')), 'B')) STORED;
+
+ALTER TABLE answer
+    ADD COLUMN IF NOT EXISTS search_vector TSVECTOR
+        GENERATED ALWAYS AS (to_tsvector('portuguese', coalesce(solution, ''))) STORED;
+
+
+-->Indexes backing full-text search<--
+CREATE INDEX IF NOT EXISTS idx_topic_search_vector ON topic USING GIN (search_vector);
+
+CREATE INDEX IF NOT EXISTS idx_answer_search_vector ON answer USING GIN (search_vector);
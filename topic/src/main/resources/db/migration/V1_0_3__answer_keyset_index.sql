@@ -0,0 +1,2 @@
+-->Index backing keyset pagination of the answers of a topic<--
+CREATE INDEX IF NOT EXISTS idx_answer_topic_id_created_at_answer_id ON answer (topic_id, created_at, answer_id);
@@ -0,0 +1,22 @@
+-->Denormalized statistics of the topic maintained on answer writes<--
+ALTER TABLE topic ADD COLUMN IF NOT EXISTS answer_count BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE topic ADD COLUMN IF NOT EXISTS best_answer_id BIGINT;
+
+ALTER TABLE topic ADD COLUMN IF NOT EXISTS last_activity_at TIMESTAMP(6) WITH TIME ZONE;
+
+ALTER TABLE topic DROP CONSTRAINT IF EXISTS FK_BEST_ANSWER_TOPIC;
+
+ALTER TABLE topic ADD CONSTRAINT FK_BEST_ANSWER_TOPIC FOREIGN KEY (best_answer_id) REFERENCES answer (answer_id)
+    ON DELETE SET NULL;
+
+-->Backfill of the statistics from the existing answers<--
+UPDATE topic t
+SET answer_count     = (SELECT count(*) FROM answer a WHERE a.topic_id = t.topic_id),
+    best_answer_id   = (SELECT min(a.answer_id) FROM answer a WHERE a.topic_id = t.topic_id AND a.best_answer),
+    last_activity_at = coalesce((SELECT max(a.created_at) FROM answer a WHERE a.topic_id = t.topic_id), t.created_at);
+
+-->Indexes backing the listings sorted by most recent activity<--
+CREATE INDEX IF NOT EXISTS idx_topic_last_activity_at_topic_id ON topic (last_activity_at DESC, topic_id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_topic_course_id_last_activity_at_topic_id ON topic (course_id, last_activity_at DESC, topic_id DESC);
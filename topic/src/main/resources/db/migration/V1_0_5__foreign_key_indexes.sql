@@ -0,0 +1,4 @@
+-->Indexes on the author foreign keys used by the anonymous author trigger<--
+CREATE INDEX IF NOT EXISTS idx_topic_user_id ON topic (user_id);
+
+CREATE INDEX IF NOT EXISTS idx_answer_user_id ON answer (user_id);
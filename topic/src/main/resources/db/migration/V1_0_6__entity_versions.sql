@@ -0,0 +1,13 @@
+-->Version markers backing the ETag and Last-Modified of the conditional reads<--
+ALTER TABLE topic ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE topic ADD COLUMN IF NOT EXISTS modified_at TIMESTAMP(6) WITH TIME ZONE;
+
+ALTER TABLE course ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE course ADD COLUMN IF NOT EXISTS modified_at TIMESTAMP(6) WITH TIME ZONE;
+
+-->Backfill of the markers from the existing activity<--
+UPDATE topic SET modified_at = coalesce(last_activity_at, created_at) WHERE modified_at IS NULL;
+
+UPDATE course SET modified_at = now() WHERE modified_at IS NULL;
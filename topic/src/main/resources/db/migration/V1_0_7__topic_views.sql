@@ -0,0 +1,13 @@
+-->View counters of the topic flushed in batches from the in-memory counters<--
+ALTER TABLE topic ADD COLUMN IF NOT EXISTS view_count BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE topic ADD COLUMN IF NOT EXISTS unique_viewer_count BIGINT NOT NULL DEFAULT 0;
+
+-->HyperLogLog registers backing the unique viewers estimate<--
+CREATE TABLE IF NOT EXISTS topic_viewer_sketch
+(
+    topic_id  BIGINT NOT NULL,
+    registers BYTEA  NOT NULL,
+    CONSTRAINT PK_TOPIC_VIEWER_SKETCH PRIMARY KEY (topic_id),
+    CONSTRAINT FK_TOPIC_VIEWER_SKETCH_TOPIC FOREIGN KEY (topic_id) REFERENCES topic (topic_id) ON DELETE CASCADE
+);
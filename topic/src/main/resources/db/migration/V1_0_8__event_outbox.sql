@@ -0,0 +1,19 @@
+-->Domain events written in the same transaction as the topic, answer and course changes<--
+CREATE TABLE IF NOT EXISTS event_outbox
+(
+    event_id     BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    type         VARCHAR(30) NOT NULL,
+    aggregate_id BIGINT,
+    topic_id     BIGINT,
+    occurred_at  TIMESTAMP   NOT NULL,
+    CONSTRAINT PK_EVENT_OUTBOX PRIMARY KEY (event_id)
+);
+
+-->Last event delivered to each consumer of the outbox relay<--
+CREATE TABLE IF NOT EXISTS event_consumer_offset
+(
+    consumer      VARCHAR(100) NOT NULL,
+    last_event_id BIGINT       NOT NULL,
+    updated_at    TIMESTAMP    NOT NULL,
+    CONSTRAINT PK_EVENT_CONSUMER_OFFSET PRIMARY KEY (consumer)
+);
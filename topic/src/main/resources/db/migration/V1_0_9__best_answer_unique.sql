@@ -0,0 +1,15 @@
+-->New answers are never created as the best answer of the topic<--
+ALTER TABLE answer ALTER COLUMN best_answer SET DEFAULT FALSE;
+
+-->Only the answer referenced by the topic keeps the best answer flag<--
+UPDATE answer a
+SET best_answer = FALSE
+WHERE a.best_answer
+  AND a.answer_id IS DISTINCT FROM (SELECT t.best_answer_id FROM topic t WHERE t.topic_id = a.topic_id);
+
+-->The topic status follows the best answer reference<--
+UPDATE topic SET status = 'SOLVED' WHERE best_answer_id IS NOT NULL AND status <> 'SOLVED';
+UPDATE topic SET status = 'UNSOLVED' WHERE best_answer_id IS NULL AND status <> 'UNSOLVED';
+
+-->At most one best answer per topic<--
+CREATE UNIQUE INDEX IF NOT EXISTS uk_answer_topic_id_best_answer ON answer (topic_id) WHERE best_answer;
@@ -0,0 +1,9 @@
+-->Topic references of the running imports, resolved per batch instead of kept in memory<--
+CREATE TABLE IF NOT EXISTS topic_import_ref
+(
+    import_id VARCHAR(36)  NOT NULL,
+    ref       VARCHAR(100) NOT NULL,
+    topic_id  BIGINT       NOT NULL,
+    CONSTRAINT PK_TOPIC_IMPORT_REF PRIMARY KEY (import_id, ref),
+    CONSTRAINT FK_TOPIC_IMPORT_REF_TOPIC FOREIGN KEY (topic_id) REFERENCES topic (topic_id) ON DELETE CASCADE
+);
@@ -0,0 +1,101 @@
+package com.raul.forumhub.topic.cache;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.raul.forumhub.topic.event.TopicsImportedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResponseCacheTest {
+
+    ResponseCacheProperties responseCacheProperties;
+
+    SimpleMeterRegistry meterRegistry;
+
+    AtomicInteger loads;
+
+    @BeforeEach
+    void setup() {
+        this.responseCacheProperties = new ResponseCacheProperties();
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.loads = new AtomicInteger();
+    }
+
+
+    @Test
+    void shouldServeCachedResponseAndRecordHitRatio() {
+        ResponseCache responseCache = new ResponseCache(this.responseCacheProperties, this.meterRegistry);
+        LoadingCache<Long, String> topics = responseCache.register("topics", key -> "v" + this.loads.incrementAndGet());
+
+        assertEquals("v1", topics.get(1L));
+        assertEquals("v1", topics.get(1L));
+
+        Assertions.assertAll(
+                () -> assertEquals(1, this.loads.get()),
+                () -> assertEquals(0.5, this.meterRegistry.get("forumhub.response.cache.hit.ratio")
+                        .tag("response", "topics").gauge().value()),
+                () -> assertEquals(1, this.meterRegistry.get("cache.gets").tags("cache", "forumhub.response.cache",
+                        "response", "topics", "result", "hit").functionCounter().count())
+        );
+    }
+
+    @Test
+    void shouldServeStaleResponseWhileASingleRefreshRunsInBackground() throws InterruptedException {
+        this.responseCacheProperties.setRefreshAfterWrite(Duration.ofMillis(1));
+        CountDownLatch refreshing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ResponseCache responseCache = new ResponseCache(this.responseCacheProperties, this.meterRegistry);
+        LoadingCache<Long, String> topics = responseCache.register("topics", key -> {
+            int load = this.loads.incrementAndGet();
+            if (load > 1) {
+                refreshing.countDown();
+                assertTrue(release.await(5, TimeUnit.SECONDS));
+            }
+            return "v" + load;
+        });
+
+        assertEquals("v1", topics.get(1L));
+        TimeUnit.MILLISECONDS.sleep(5);
+
+        assertEquals("v1", topics.get(1L));
+        assertTrue(refreshing.await(5, TimeUnit.SECONDS));
+        assertEquals("v1", topics.get(1L));
+        assertEquals("v1", topics.get(1L));
+        assertEquals(2, this.loads.get());
+        release.countDown();
+
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            while (!"v2".equals(topics.getIfPresent(1L))) {
+                TimeUnit.MILLISECONDS.sleep(5);
+            }
+        });
+    }
+
+    @Test
+    void shouldInvalidateEveryRegisteredCacheAfterTopicsImport() {
+        ResponseCache responseCache = new ResponseCache(this.responseCacheProperties, this.meterRegistry);
+        LoadingCache<Long, String> topics = responseCache.register("topics", key -> "v" + this.loads.incrementAndGet());
+        LoadingCache<String, String> listings = responseCache.register("topic-listings",
+                key -> "v" + this.loads.incrementAndGet());
+
+        topics.get(1L);
+        listings.get("topics");
+
+        responseCache.onTopicsImported(new TopicsImportedEvent(1, 1));
+
+        Assertions.assertAll(
+                () -> assertEquals(0, topics.estimatedSize()),
+                () -> assertEquals(0, listings.estimatedSize())
+        );
+    }
+
+}
@@ -0,0 +1,139 @@
+package com.raul.forumhub.topic.client;
+
+import com.raul.forumhub.topic.exception.RestClientException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserClientCircuitBreakerTest {
+
+    UserClientProperties userClientProperties;
+
+    SimpleMeterRegistry meterRegistry;
+
+    AtomicLong clock;
+
+    AtomicInteger calls;
+
+    @BeforeEach
+    void setup() {
+        this.userClientProperties = new UserClientProperties();
+        this.userClientProperties.getCircuitBreaker().setFailureThreshold(3);
+        this.userClientProperties.getCircuitBreaker().setOpenDuration(Duration.ofSeconds(30));
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.clock = new AtomicLong();
+        this.calls = new AtomicInteger();
+    }
+
+    private UserClientCircuitBreaker circuitBreaker() {
+        return new UserClientCircuitBreaker(this.userClientProperties, this.meterRegistry, this.clock::get);
+    }
+
+    private Mono<String> call(HttpStatus status) {
+        return Mono.defer(() -> {
+            this.calls.incrementAndGet();
+            return status.is2xxSuccessful() ? Mono.just("ok") :
+                    Mono.error(new RestClientException(status, status.getReasonPhrase()));
+        });
+    }
+
+    private double transitions(String from, String to) {
+        return this.meterRegistry.get("forumhub.client.user.circuit.transitions")
+                .tags("from", from, "to", to).counter().count();
+    }
+
+
+    @Test
+    void shouldOpenAfterConsecutiveUnavailableResponsesAndRejectWithoutCalling() {
+        UserClientCircuitBreaker circuitBreaker = this.circuitBreaker();
+
+        IntStream.range(0, 3).forEach(i -> assertThrows(RestClientException.class,
+                () -> circuitBreaker.protect(this.call(HttpStatus.SERVICE_UNAVAILABLE)).block()));
+        RestClientException rejected = assertThrows(RestClientException.class,
+                () -> circuitBreaker.protect(this.call(HttpStatus.OK)).block());
+
+        Assertions.assertAll(
+                () -> assertEquals(UserClientCircuitBreaker.State.OPEN, circuitBreaker.getState()),
+                () -> assertEquals(503, rejected.getHttpStatusCode().value()),
+                () -> assertTrue(UserClientCircuitBreaker.isRejected(rejected)),
+                () -> assertEquals(3, this.calls.get()),
+                () -> assertEquals(1, this.transitions("closed", "open")),
+                () -> assertEquals(1, this.meterRegistry.get("forumhub.client.user.circuit.rejected").counter().count()),
+                () -> assertEquals(1, this.meterRegistry.get("forumhub.client.user.circuit.state")
+                        .tag("state", "open").gauge().value())
+        );
+    }
+
+    @Test
+    void shouldNotCountClientErrorsOrInterruptedFailureStreaksAsUnavailability() {
+        UserClientCircuitBreaker circuitBreaker = this.circuitBreaker();
+
+        for (HttpStatus status : new HttpStatus[]{HttpStatus.SERVICE_UNAVAILABLE, HttpStatus.SERVICE_UNAVAILABLE,
+                HttpStatus.NOT_FOUND, HttpStatus.SERVICE_UNAVAILABLE, HttpStatus.SERVICE_UNAVAILABLE}) {
+            assertThrows(RestClientException.class, () -> circuitBreaker.protect(this.call(status)).block());
+        }
+
+        assertEquals(UserClientCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void shouldAllowOnlyTheConfiguredProbesWhenHalfOpenAndCloseOnSuccess() {
+        UserClientCircuitBreaker circuitBreaker = this.circuitBreaker();
+        IntStream.range(0, 3).forEach(i -> circuitBreaker.onFailure());
+        this.clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        boolean probe = circuitBreaker.tryAcquirePermission();
+        boolean concurrentProbe = circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onSuccess();
+
+        Assertions.assertAll(
+                () -> assertTrue(probe),
+                () -> assertFalse(concurrentProbe),
+                () -> assertEquals(UserClientCircuitBreaker.State.CLOSED, circuitBreaker.getState()),
+                () -> assertEquals(1, this.transitions("open", "half_open")),
+                () -> assertEquals(1, this.transitions("half_open", "closed"))
+        );
+    }
+
+    @Test
+    void shouldReopenWhenTheHalfOpenProbeFails() {
+        UserClientCircuitBreaker circuitBreaker = this.circuitBreaker();
+        IntStream.range(0, 3).forEach(i -> circuitBreaker.onFailure());
+        this.clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        assertThrows(RestClientException.class,
+                () -> circuitBreaker.protect(this.call(HttpStatus.GATEWAY_TIMEOUT)).block());
+        this.clock.addAndGet(Duration.ofSeconds(29).toNanos());
+
+        Assertions.assertAll(
+                () -> assertEquals(UserClientCircuitBreaker.State.OPEN, circuitBreaker.getState()),
+                () -> assertFalse(circuitBreaker.tryAcquirePermission()),
+                () -> assertEquals(1, this.transitions("half_open", "open"))
+        );
+    }
+
+    @Test
+    void shouldReleaseTheProbeWhenTheHalfOpenCallIsCancelled() {
+        UserClientCircuitBreaker circuitBreaker = this.circuitBreaker();
+        IntStream.range(0, 3).forEach(i -> circuitBreaker.onFailure());
+        this.clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        circuitBreaker.protect(Mono.never()).subscribe().dispose();
+
+        Assertions.assertAll(
+                () -> assertEquals(UserClientCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState()),
+                () -> assertTrue(circuitBreaker.tryAcquirePermission())
+        );
+    }
+
+}
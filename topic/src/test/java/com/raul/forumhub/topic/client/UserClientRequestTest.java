@@ -14,9 +14,18 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.ActiveProfiles;
-
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -32,6 +41,9 @@ class UserClientRequestTest {
     @Autowired
     UserClientProperties userClientProperties;
 
+    @Autowired
+    UserClientCircuitBreaker circuitBreaker;
+
     static MockWebServer authorizationServer;
 
     MockWebServer userClient;
@@ -42,6 +54,7 @@ class UserClientRequestTest {
     void userClientSetup() {
         userClient = new MockWebServer();
         userClient.start(Integer.parseInt(userClientProperties.getPort()));
+        userClientRequest.evictAll();
     }
 
     @SneakyThrows
@@ -232,6 +245,253 @@ class UserClientRequestTest {
 
     }
 
+    @Test
+    @DisplayName("Should return the cached author without a new request " +
+                 "when requesting the same user twice")
+    void shouldReturnCachedAuthorWhenRequestingSameUserTwice() {
+        Author author = TestsHelper.AuthorHelper.authorList().get(1);
+
+        prepareResponse(response -> {
+            response.setHeader("Content-Type", "application/json");
+            response.setBody("{\"id\":2,\"username\":\"Jose\",\"email\":\"jose@email.com\"," +
+                             "\"profile\":{\"profileName\":\"BASIC\"}}");
+        });
+
+        Author firstResponse = assertDoesNotThrow(() -> this.userClientRequest.getUserById(2L));
+        Author secondResponse = assertDoesNotThrow(() -> this.userClientRequest.getUserById(2L));
+
+        assertThat(firstResponse.toString()).hasToString(author.toString());
+        assertThat(secondResponse).isSameAs(firstResponse);
+
+        expecOnlyOneRequest();
+
+    }
+
+    @Test
+    @DisplayName("Should send only one request when the same user " +
+                 "is requested concurrently")
+    void shouldCollapseConcurrentRequestsForSameUser() {
+        prepareResponse(response -> {
+            response.setHeader("Content-Type", "application/json");
+            response.setBodyDelay(500, TimeUnit.MILLISECONDS);
+            response.setBody("{\"id\":2,\"username\":\"Jose\",\"email\":\"jose@email.com\"," +
+                             "\"profile\":{\"profileName\":\"BASIC\"}}");
+        });
+
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+        List<CompletableFuture<Author>> futures = IntStream.range(0, 10)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                    RequestContextHolder.setRequestAttributes(requestAttributes);
+                    try {
+                        return this.userClientRequest.getUserById(2L);
+                    } finally {
+                        RequestContextHolder.resetRequestAttributes();
+                    }
+                }))
+                .toList();
+
+        futures.forEach(future -> assertThat(future.join().getId()).isEqualTo(2L));
+
+        expecOnlyOneRequest();
+
+    }
+
+    @Test
+    @DisplayName("Should request the user again after him has been evicted from cache")
+    void shouldRequestUserAgainAfterEviction() {
+        for (int i = 0; i < 2; i++) {
+            prepareResponse(response -> {
+                response.setHeader("Content-Type", "application/json");
+                response.setBody("{\"id\":2,\"username\":\"Jose\",\"email\":\"jose@email.com\"," +
+                                 "\"profile\":{\"profileName\":\"BASIC\"}}");
+            });
+        }
+
+        assertDoesNotThrow(() -> this.userClientRequest.getUserById(2L));
+        this.userClientRequest.evictUser(2L);
+        assertDoesNotThrow(() -> this.userClientRequest.getUserById(2L));
+
+        assertThat(userClient.getRequestCount()).isEqualTo(2);
+
+    }
+
+    @Test
+    @DisplayName("Should request only the missing users in a single batch request")
+    void shouldRequestOnlyMissingUsersInSingleBatchRequest() {
+        prepareResponse(response -> {
+            response.setHeader("Content-Type", "application/json");
+            response.setBody("{\"id\":2,\"username\":\"Jose\",\"email\":\"jose@email.com\"," +
+                             "\"profile\":{\"profileName\":\"BASIC\"}}");
+        });
+        prepareResponse(response -> {
+            response.setHeader("Content-Type", "application/json");
+            response.setBody("[{\"id\":1,\"username\":\"Jose\",\"email\":\"jose@email.com\"," +
+                             "\"profile\":{\"profileName\":\"BASIC\"}}," +
+                             "{\"id\":3,\"username\":\"Maria\",\"email\":\"maria@email.com\"," +
+                             "\"profile\":{\"profileName\":\"BASIC\"}}]");
+        });
+
+        assertDoesNotThrow(() -> this.userClientRequest.getUserById(2L));
+        Map<Long, Author> authors = assertDoesNotThrow(() -> this.userClientRequest.getUsersByIds(List.of(1L, 2L, 3L)));
+
+        assertThat(authors).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(userClient.getRequestCount()).isEqualTo(2);
+
+        expectedRequest(expected -> assertThat(expected.getPath())
+                .isEqualTo(userClientProperties.getPath().concat("?user_id=2")));
+        expectedRequest(expected -> {
+                    assertThat(expected.getMethod()).isEqualTo("GET");
+                    assertThat(expected.getRequestUrl().queryParameter("user_ids")).isIn("1,3", "3,1");
+                    assertThat(expected.getHeader(HttpHeaders.AUTHORIZATION)).isNotEmpty();
+                }
+        );
+
+    }
+
+    @Test
+    @DisplayName("Should gather concurrent lookups arriving within the batch window into one request")
+    void shouldGatherLookupsWithinWindowIntoOneBatchRequest() {
+        prepareResponse(response -> {
+            response.setHeader("Content-Type", "application/json");
+            response.setBody("[{\"id\":2,\"username\":\"Jose\",\"email\":\"jose@email.com\"," +
+                             "\"profile\":{\"profileName\":\"BASIC\"}}," +
+                             "{\"id\":3,\"username\":\"Maria\",\"email\":\"maria@email.com\"," +
+                             "\"profile\":{\"profileName\":\"BASIC\"}}]");
+        });
+
+        CompletableFuture<Author> first = this.userClientRequest.getUserByIdBatched(2L);
+        CompletableFuture<Author> second = this.userClientRequest.getUserByIdBatched(3L);
+        CompletableFuture<Author> third = this.userClientRequest.getUserByIdBatched(5L);
+
+        assertThat(first.join().getUsername()).isEqualTo("Jose");
+        assertThat(second.join().getUsername()).isEqualTo("Maria");
+        assertThrows(CompletionException.class, third::join);
+
+        expecOnlyOneRequest();
+        expectedRequest(expected -> assertThat(expected.getPath())
+                .startsWith(userClientProperties.getBatchPath().concat("?user_ids=")));
+
+        assertThat(this.userClientRequest.getUserByIdBatched(2L)).isCompletedWithValue(first.join());
+
+    }
+
+    @Test
+    @DisplayName("Should return the author without blocking and share " +
+                 "the cache with the blocking lookup")
+    void shouldReturnAuthorAsyncAndShareCacheWithBlockingLookup() {
+        prepareResponse(response -> {
+            response.setHeader("Content-Type", "application/json");
+            response.setBodyDelay(200, TimeUnit.MILLISECONDS);
+            response.setBody("{\"id\":2,\"username\":\"Jose\",\"email\":\"jose@email.com\"," +
+                             "\"profile\":{\"profileName\":\"BASIC\"}}");
+        });
+
+        Mono<Author> pending = this.userClientRequest.getUserByIdAsync(2L);
+
+        assertThat(userClient.getRequestCount()).isZero();
+
+        Author author = pending.block();
+
+        assertThat(author.getId()).isEqualTo(2L);
+        assertThat(this.userClientRequest.getUserById(2L)).isSameAs(author);
+
+        expecOnlyOneRequest();
+
+    }
+
+    @Test
+    @DisplayName("Should emit an error when requesting the author " +
+                 "without blocking and the user not exists")
+    void shouldEmitErrorWhenRequestingAuthorAsyncAndHimNotToExists() {
+        prepareResponse(response -> {
+            response.setHeader("Content-Type", "application/json");
+            response.setResponseCode(404);
+            response.setBody("Usuário não encontrado");
+        });
+
+        Mono<Author> pending = this.userClientRequest.getUserByIdAsync(5L);
+
+        RestClientException ex = assertThrows(RestClientException.class, pending::block);
+
+        assertThat(ex.getHttpStatusCode().value()).isEqualTo(404);
+        expecOnlyOneRequest();
+
+    }
+
+    @SneakyThrows
+    @Test
+    @DisplayName("Should serve the last known author while the circuit is open " +
+                 "and close it again after a successful half-open probe")
+    void shouldServeStaleAuthorWhileCircuitIsOpenAndCloseAfterProbe() {
+        String body = "{\"id\":2,\"username\":\"Jose\",\"email\":\"jose@email.com\"," +
+                      "\"profile\":{\"profileName\":\"BASIC\"}}";
+        int failureThreshold = userClientProperties.getCircuitBreaker().getFailureThreshold();
+        prepareResponse(response -> {
+            response.setHeader("Content-Type", "application/json");
+            response.setBody(body);
+        });
+        IntStream.range(0, failureThreshold).forEach(i -> prepareResponse(response -> response.setResponseCode(503)));
+
+        Author author = this.userClientRequest.getUserById(2L);
+        this.userClientRequest.evictUser(2L);
+        LongStream.range(0, failureThreshold - 1).forEach(i ->
+                assertThrows(RestClientException.class, () -> this.userClientRequest.getUserById(10L + i)));
+
+        assertThat(this.userClientRequest.getUserById(2L)).isSameAs(author);
+        assertThat(this.circuitBreaker.getState()).isEqualTo(UserClientCircuitBreaker.State.OPEN);
+        assertThat(this.userClientRequest.getUserByIdAsync(2L).block()).isSameAs(author);
+        assertThrows(RestClientException.class, () -> this.userClientRequest.getUserById(7L));
+        assertThat(userClient.getRequestCount()).isEqualTo(failureThreshold + 1);
+
+        TimeUnit.MILLISECONDS.sleep(userClientProperties.getCircuitBreaker().getOpenDuration().toMillis() + 100);
+        prepareResponse(response -> {
+            response.setHeader("Content-Type", "application/json");
+            response.setBody(body);
+        });
+
+        assertThat(this.userClientRequest.getUserById(2L).getId()).isEqualTo(2L);
+        assertThat(this.circuitBreaker.getState()).isEqualTo(UserClientCircuitBreaker.State.CLOSED);
+        assertThat(userClient.getRequestCount()).isEqualTo(failureThreshold + 2);
+
+    }
+
+    @SneakyThrows
+    @Test
+    void shouldServeStaleAuthorWhenRejectedWhileCircuitIsHalfOpen() {
+        prepareResponse(response -> {
+            response.setHeader("Content-Type", "application/json");
+            response.setBody("{\"id\":2,\"username\":\"Jose\",\"email\":\"jose@email.com\"," +
+                             "\"profile\":{\"profileName\":\"BASIC\"}}");
+        });
+        Author author = this.userClientRequest.getUserById(2L);
+        this.userClientRequest.evictUser(2L);
+        for (long id = 20L; this.circuitBreaker.getState() != UserClientCircuitBreaker.State.OPEN; id++) {
+            prepareResponse(response -> response.setResponseCode(503));
+            long failedId = id;
+            assertThrows(RestClientException.class, () -> this.userClientRequest.getUserById(failedId));
+        }
+
+        TimeUnit.MILLISECONDS.sleep(userClientProperties.getCircuitBreaker().getOpenDuration().toMillis() + 100);
+        prepareResponse(response -> {
+            response.setHeader("Content-Type", "application/json");
+            response.setBody("{\"id\":3,\"username\":\"Maria\",\"email\":\"maria@email.com\"," +
+                             "\"profile\":{\"profileName\":\"BASIC\"}}");
+            response.setBodyDelay(500, TimeUnit.MILLISECONDS);
+        });
+        int requestCount = userClient.getRequestCount();
+        CompletableFuture<Author> probe = CompletableFuture.supplyAsync(() -> this.userClientRequest.getUserById(3L));
+        while (this.circuitBreaker.getState() != UserClientCircuitBreaker.State.HALF_OPEN) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+
+        assertThat(this.userClientRequest.getUserById(2L)).isSameAs(author);
+        assertThat(probe.join().getId()).isEqualTo(3L);
+        assertThat(this.circuitBreaker.getState()).isEqualTo(UserClientCircuitBreaker.State.CLOSED);
+        assertThat(userClient.getRequestCount()).isEqualTo(requestCount + 1);
+
+    }
+
     private void prepareResponse(Consumer<MockResponse> consumer) {
         MockResponse mockResponse = new MockResponse();
         consumer.accept(mockResponse);
@@ -0,0 +1,63 @@
+package com.raul.forumhub.topic.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncConfigTest {
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should propagate the security context of the caller to the async task")
+    void shouldPropagateSecurityContextToAsyncTask() {
+        Authentication authentication = new TestingAuthenticationToken("user", "password", "ROLE_BASIC");
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("async-test-");
+        executor.setTaskDecorator(new AsyncConfig().securityContextTaskDecorator());
+
+        CompletableFuture<Authentication> propagated = new CompletableFuture<>();
+        executor.execute(() -> propagated.complete(SecurityContextHolder.getContext().getAuthentication()));
+
+        assertThat(propagated.join()).isSameAs(authentication);
+
+    }
+
+    @Test
+    @DisplayName("Should not leak the propagated security context into the worker thread")
+    void shouldClearSecurityContextAfterAsyncTask() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new TestingAuthenticationToken("user", "password", "ROLE_BASIC"));
+
+        TaskDecorator taskDecorator = new AsyncConfig().securityContextTaskDecorator();
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+
+        try {
+            CompletableFuture<Authentication> afterTask = new CompletableFuture<>();
+            worker.execute(taskDecorator.decorate(() -> {
+            }));
+            worker.execute(() -> afterTask.complete(SecurityContextHolder.getContext().getAuthentication()));
+
+            assertThat(afterTask.join()).isNull();
+        } finally {
+            worker.shutdown();
+        }
+
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.raul.forumhub.topic.config;
+
+import com.sun.net.httpserver.HttpServer;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadThroughputTest {
+
+    private static final int REQUESTS = 1000;
+
+    private static final int PLATFORM_THREADS = 200;
+
+    private static final Duration JDBC_LATENCY = Duration.ofMillis(400);
+
+    private static final Duration USER_SERVICE_LATENCY = Duration.ofMillis(400);
+
+    HttpServer userService;
+
+    ConnectionProvider connectionProvider;
+
+    WebClient webClient;
+
+
+    @SneakyThrows
+    @BeforeEach
+    void standInsSetup() {
+        userService = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), REQUESTS);
+        userService.setExecutor(Executors.newCachedThreadPool());
+        userService.createContext("/forumhub.io/api/v1/users/summary-info", exchange -> {
+            try {
+                Thread.sleep(USER_SERVICE_LATENCY.toMillis());
+                byte[] body = ("{\"id\":2,\"username\":\"Jose\",\"email\":\"jose@email.com\"," +
+                               "\"profile\":{\"profileName\":\"BASIC\"}}").getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } finally {
+                exchange.close();
+            }
+        });
+        userService.start();
+
+        connectionProvider = ConnectionProvider.builder("throughput-test")
+                .maxConnections(REQUESTS)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+                .baseUrl("http://127.0.0.1:" + userService.getAddress().getPort())
+                .build();
+    }
+
+    @AfterEach
+    void standInsTeardown() {
+        connectionProvider.dispose();
+        userService.stop(0);
+    }
+
+
+    @Test
+    @DisplayName("Should serve more blocking requests per second on virtual threads " +
+                 "than on the default platform thread pool")
+    void shouldServeMoreRequestsPerSecondOnVirtualThreads() {
+        ThreadPoolTaskExecutor platformExecutor = new ThreadPoolTaskExecutor();
+        platformExecutor.setCorePoolSize(PLATFORM_THREADS);
+        platformExecutor.setMaxPoolSize(PLATFORM_THREADS);
+        platformExecutor.setThreadNamePrefix("platform-");
+        platformExecutor.initialize();
+
+        try {
+            runRequests(new VirtualThreadTaskExecutor("warmup-"), PLATFORM_THREADS);
+
+            double platformThroughput = runRequests(platformExecutor, REQUESTS);
+            double virtualThroughput = runRequests(new VirtualThreadTaskExecutor("virtual-"), REQUESTS);
+
+            assertThat(virtualThroughput)
+                    .as("virtual: %.0f req/s, platform: %.0f req/s", virtualThroughput, platformThroughput)
+                    .isGreaterThan(platformThroughput * 1.5);
+        } finally {
+            platformExecutor.shutdown();
+        }
+
+    }
+
+
+    private double runRequests(AsyncTaskExecutor executor, int requests) {
+        long start = System.nanoTime();
+
+        CompletableFuture.allOf(IntStream.range(0, requests)
+                        .mapToObj(i -> CompletableFuture.runAsync(this::handleRequest, executor))
+                        .toArray(CompletableFuture[]::new))
+                .join();
+
+        return requests / ((System.nanoTime() - start) / 1_000_000_000.0);
+    }
+
+    @SneakyThrows
+    private void handleRequest() {
+        Thread.sleep(JDBC_LATENCY.toMillis());
+
+        webClient.get()
+                .uri("/forumhub.io/api/v1/users/summary-info?user_id=2")
+                .retrieve()
+                .bodyToMono(String.class)
+                .block();
+    }
+
+}
@@ -3,12 +3,22 @@ package com.raul.forumhub.topic.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.raul.forumhub.topic.domain.Answer;
+import com.raul.forumhub.topic.dto.request.AnswerCursorDTO;
 import com.raul.forumhub.topic.dto.request.AnswerRequestDTO;
 import com.raul.forumhub.topic.dto.response.AnswerResponseDTO;
+import com.raul.forumhub.topic.dto.response.AnswerSummaryResponseDTO;
+import com.raul.forumhub.topic.event.AnswerChangedEvent;
+import com.raul.forumhub.topic.event.DomainEventType;
+import com.raul.forumhub.topic.exception.InstanceNotFoundException;
 import com.raul.forumhub.topic.exception.handler.GlobalExceptionHandler;
+import com.raul.forumhub.topic.live.LiveAnswerProperties;
+import com.raul.forumhub.topic.live.LiveAnswerRegistry;
 import com.raul.forumhub.topic.security.TopicSecurityConfig;
 import com.raul.forumhub.topic.service.AnswerService;
+import com.raul.forumhub.topic.util.MockMvcHelper;
 import com.raul.forumhub.topic.util.TestsHelper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
@@ -18,7 +28,11 @@ import org.mockito.BDDMockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
@@ -26,7 +40,12 @@ import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
+import reactor.core.publisher.Mono;
+
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.Matchers.is;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
@@ -36,7 +55,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @ExtendWith(MockitoExtension.class)
 @WebMvcTest
 @ActiveProfiles(value = "test")
-@ContextConfiguration(classes = {AnswerController.class,
+@ContextConfiguration(classes = {AnswerController.class, AnswerControllerTest.LiveAnswerConfig.class,
         TopicSecurityConfig.class, GlobalExceptionHandler.class})
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 class AnswerControllerTest {
@@ -50,6 +69,9 @@ class AnswerControllerTest {
     @MockBean
     ClientRegistrationRepository clientRegistrationRepository;
 
+    @Autowired
+    LiveAnswerRegistry liveAnswerRegistry;
+
     @Autowired
     ObjectMapper objectMapper;
 
@@ -68,7 +90,7 @@ class AnswerControllerTest {
     void shouldFailIfResourceDoesNotExistToTheSendRequest() throws Exception {
         final AnswerRequestDTO answerRequestDTO = new AnswerRequestDTO("Resposta teste");
 
-        this.mockMvc.perform(post("/forumhub.io/api/v1/topics/{topic_id}/ans", 1)
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/{topic_id}/ans", 1)
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8)
                         .content(this.objectMapper
@@ -82,7 +104,7 @@ class AnswerControllerTest {
     void shouldFailIfMethodIsNotSupportedToTheSendRequest() throws Exception {
         final AnswerRequestDTO answerRequestDTO = new AnswerRequestDTO("Resposta teste");
 
-        this.mockMvc.perform(put("/forumhub.io/api/v1/topics/{topic_id}/answer", 1)
+        MockMvcHelper.perform(this.mockMvc, put("/forumhub.io/api/v1/topics/{topic_id}/answer", 1)
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8)
                         .content(this.objectMapper
@@ -96,7 +118,7 @@ class AnswerControllerTest {
     void shouldFailToAnswerTopicIfUnauthenticated() throws Exception {
         final AnswerRequestDTO answerRequestDTO = new AnswerRequestDTO("Resposta teste");
 
-        this.mockMvc.perform(post("/forumhub.io/api/v1/topics/{topic_id}/answer", 1)
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/{topic_id}/answer", 1)
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8)
                         .content(this.objectMapper
@@ -112,7 +134,7 @@ class AnswerControllerTest {
     void shouldFailIfQuestionPropertyIsEmptyWhenAnswerTopic() throws Exception {
         final AnswerRequestDTO answerRequestDTO = new AnswerRequestDTO("");
 
-        this.mockMvc.perform(post("/forumhub.io/api/v1/topics/{topic_id}/answer", 1)
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/{topic_id}/answer", 1)
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8)
@@ -133,10 +155,10 @@ class AnswerControllerTest {
 
         final AnswerResponseDTO answerResponseDTO = new AnswerResponseDTO(TestsHelper.AnswerHelper.answerList().get(0));
 
-        BDDMockito.given(this.answerService.answerTopic(1L, 2L, answerRequestDTO))
-                .willReturn(answerResponseDTO);
+        BDDMockito.given(this.answerService.answerTopicAsync(1L, 2L, answerRequestDTO))
+                .willReturn(Mono.just(answerResponseDTO));
 
-        this.mockMvc.perform(post("/forumhub.io/api/v1/topics/{topic_id}/answer", 1)
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/{topic_id}/answer", 1)
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "2")))
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8)
@@ -147,7 +169,7 @@ class AnswerControllerTest {
                         .registerModule(new JavaTimeModule())
                         .writeValueAsString(answerResponseDTO)));
 
-        BDDMockito.verify(this.answerService).answerTopic(1L, 2L, answerRequestDTO);
+        BDDMockito.verify(this.answerService).answerTopicAsync(1L, 2L, answerRequestDTO);
         BDDMockito.verifyNoMoreInteractions(this.answerService);
 
 
@@ -157,7 +179,7 @@ class AnswerControllerTest {
     @DisplayName("Should fail with status code 401 when mark best answer if user unauthenticated")
     @Test
     void shouldFailToMarkBestAnswerIfUnauthenticated() throws Exception {
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/markBestAnswer",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/markBestAnswer",
                         1, 1)
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
@@ -171,7 +193,7 @@ class AnswerControllerTest {
                  " param different of number type")
     @Test
     void shouldFailToMarkBestAnswerIfParamDifferentOfNumberType() throws Exception {
-        this.mockMvc.perform(post("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/markBestAnswer",
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/markBestAnswer",
                         1, "unexpected")
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -184,9 +206,9 @@ class AnswerControllerTest {
     @DisplayName("Should mark best answer with success if user is authenticated")
     @Test
     void shouldMarkBestAnswerWithSuccessIfAuthenticated() throws Exception {
-        BDDMockito.doNothing().when(this.answerService).markBestAnswer(1L, 1L, 1L);
+        BDDMockito.given(this.answerService.markBestAnswerAsync(1L, 1L, 1L)).willReturn(Mono.empty());
 
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/markBestAnswer",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/markBestAnswer",
                         1, 1)
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -194,7 +216,7 @@ class AnswerControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().string("{\"message\":\"HttpStatusCode OK\"}"));
 
-        BDDMockito.verify(this.answerService).markBestAnswer(1L, 1L, 1L);
+        BDDMockito.verify(this.answerService).markBestAnswerAsync(1L, 1L, 1L);
         BDDMockito.verifyNoMoreInteractions(this.answerService);
 
 
@@ -203,7 +225,7 @@ class AnswerControllerTest {
     @DisplayName("Should fail with status code 401 when unmark best answer if user unauthenticated")
     @Test
     void shouldFailToUnmarkBestAnswerIfUnauthenticated() throws Exception {
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/unmarkBestAnswer",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/unmarkBestAnswer",
                         1, 1)
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
@@ -217,7 +239,7 @@ class AnswerControllerTest {
                  " param different of number type")
     @Test
     void shouldFailToUnmarkBestAnswerIfParamDifferentOfNumberType() throws Exception {
-        this.mockMvc.perform(post("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/unmarkBestAnswer",
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/unmarkBestAnswer",
                         1, "unexpected")
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -230,9 +252,9 @@ class AnswerControllerTest {
     @DisplayName("Should unmark best answer with success if user is authenticated")
     @Test
     void shouldUnmarkBestAnswerWithSuccessIfAuthenticated() throws Exception {
-        BDDMockito.doNothing().when(this.answerService).markBestAnswer(1L, 1L, 1L);
+        BDDMockito.given(this.answerService.unmarkBestAnswerAsync(1L, 1L, 1L)).willReturn(Mono.empty());
 
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/unmarkBestAnswer",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/unmarkBestAnswer",
                         1, 1)
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -240,7 +262,7 @@ class AnswerControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().string("{\"message\":\"HttpStatusCode OK\"}"));
 
-        BDDMockito.verify(this.answerService).unmarkBestAnswer(1L, 1L, 1L);
+        BDDMockito.verify(this.answerService).unmarkBestAnswerAsync(1L, 1L, 1L);
         BDDMockito.verifyNoMoreInteractions(this.answerService);
 
 
@@ -254,7 +276,7 @@ class AnswerControllerTest {
         final AnswerRequestDTO answerUpdateDTO =
                 new AnswerRequestDTO("Primeiro teste de edição de uma resposta");
 
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
                         1, 1)
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -273,7 +295,7 @@ class AnswerControllerTest {
         final AnswerRequestDTO answerUpdateDTO =
                 new AnswerRequestDTO("Primeiro teste de edição de uma resposta");
 
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
                         1, "unexpected")
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "2"))
                                 .authorities(new SimpleGrantedAuthority("SCOPE_answer:edit")))
@@ -289,7 +311,7 @@ class AnswerControllerTest {
     void shouldFailIfSolutionPropertyIsEmptyWhenEditAnswer() throws Exception {
         final AnswerRequestDTO answerUpdateDTO = new AnswerRequestDTO("");
 
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
                         1, 1)
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "2"))
                                 .authorities(new SimpleGrantedAuthority("SCOPE_answer:edit")))
@@ -313,10 +335,10 @@ class AnswerControllerTest {
         Answer answer = TestsHelper.AnswerHelper.answerList().get(0);
         answer.setSolution("Primeiro teste de edição de uma resposta");
 
-        BDDMockito.given(this.answerService.updateAnswer(1L, 1L, 2L, answerUpdateDTO))
-                .willReturn(new AnswerResponseDTO(answer));
+        BDDMockito.given(this.answerService.updateAnswerAsync(1L, 1L, 2L, answerUpdateDTO))
+                .willReturn(Mono.just(new AnswerResponseDTO(answer)));
 
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
                         1, 1)
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "2"))
                                 .authorities(new SimpleGrantedAuthority("SCOPE_answer:edit")))
@@ -328,7 +350,7 @@ class AnswerControllerTest {
                 .andExpect(jsonPath("$.answer.solution",
                         is("Primeiro teste de edição de uma resposta")));
 
-        BDDMockito.verify(this.answerService).updateAnswer(1L, 1L, 2L, answerUpdateDTO);
+        BDDMockito.verify(this.answerService).updateAnswerAsync(1L, 1L, 2L, answerUpdateDTO);
         BDDMockito.verifyNoMoreInteractions(this.answerService);
 
     }
@@ -338,7 +360,7 @@ class AnswerControllerTest {
                  " when delete answer")
     @Test
     void shouldFailIfUserHasNotSuitableAuthorityWhenDeleteAnswer() throws Exception {
-        this.mockMvc.perform(delete("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/delete",
+        MockMvcHelper.perform(this.mockMvc, delete("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/delete",
                         1, 1)
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -353,7 +375,7 @@ class AnswerControllerTest {
                  " param different of type number")
     @Test
     void shouldFailToDeleteTopicIfParamDifferentOfTypeNumber() throws Exception {
-        this.mockMvc.perform(delete("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/delete",
+        MockMvcHelper.perform(this.mockMvc, delete("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/delete",
                         1, "unexpected")
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "2"))
                                 .authorities(new SimpleGrantedAuthority("SCOPE_answer:delete")))
@@ -366,9 +388,9 @@ class AnswerControllerTest {
     @DisplayName("Should delete answer with success if user authenticated has authority 'answer:delete'")
     @Test
     void shouldDeleteAnswerWithSuccessIfUserHasSuitableAuthority() throws Exception {
-        BDDMockito.doNothing().when(this.answerService).deleteAnswer(1L, 1L, 2L);
+        BDDMockito.given(this.answerService.deleteAnswerAsync(1L, 1L, 2L)).willReturn(Mono.empty());
 
-        this.mockMvc.perform(delete("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/delete",
+        MockMvcHelper.perform(this.mockMvc, delete("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/delete",
                         1, 1)
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "2"))
                                 .authorities(new SimpleGrantedAuthority("SCOPE_answer:delete")))
@@ -377,10 +399,159 @@ class AnswerControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().json("{\"message\":\"HttpStatusCode OK\"}"));
 
-        BDDMockito.verify(this.answerService).deleteAnswer(1L, 1L, 2L);
+        BDDMockito.verify(this.answerService).deleteAnswerAsync(1L, 1L, 2L);
+        BDDMockito.verifyNoMoreInteractions(this.answerService);
+
+    }
+
+
+    @DisplayName("Should fail with status code 404 when list answers if topic not exists")
+    @Test
+    void shouldFailToListAnswersIfTopicNotExists() throws Exception {
+        BDDMockito.given(this.answerService.answerList(1L, null, 10))
+                .willThrow(new InstanceNotFoundException("O tópico [ID: 1] informado não existe"));
+
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/{topic_id}/answers", 1)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.detail", is("O tópico [ID: 1] informado não existe")));
+
+        BDDMockito.verify(this.answerService).answerList(1L, null, 10);
+        BDDMockito.verifyNoMoreInteractions(this.answerService);
+
+    }
+
+    @DisplayName("Should return answers of the topic with next link when there are more answers")
+    @Test
+    void shouldListAnswersWithNextLink() throws Exception {
+        final AnswerSummaryResponseDTO bestAnswer = new AnswerSummaryResponseDTO(2L, "Melhor resposta", true,
+                LocalDateTime.of(2024, 8, 12, 10, 0), "Maria");
+        final AnswerSummaryResponseDTO answer = new AnswerSummaryResponseDTO(1L, "Primeira resposta", false,
+                LocalDateTime.of(2024, 8, 10, 10, 0), "Jose");
+
+        BDDMockito.given(this.answerService.answerList(1L, null, 2))
+                .willReturn(new SliceImpl<>(List.of(bestAnswer, answer), PageRequest.ofSize(2), true));
+
+        String nextCursor = AnswerCursorDTO.of(answer).encode();
+
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/{topic_id}/answers", 1)
+                        .queryParam("size", "2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.answerSummaryResponseDTOList[0].id", is(2)))
+                .andExpect(jsonPath("$._embedded.answerSummaryResponseDTOList[0].bestAnswer", is(true)))
+                .andExpect(jsonPath("$._embedded.answerSummaryResponseDTOList[1].authorUsername", is("Jose")))
+                .andExpect(jsonPath("$._links.next.href", is("http://localhost/forumhub.io/api/v1/topics/1/answers" +
+                                                             "?size=2&cursor=" + nextCursor)));
+
+        BDDMockito.verify(this.answerService).answerList(1L, null, 2);
+        BDDMockito.verifyNoMoreInteractions(this.answerService);
+
+    }
+
+    @DisplayName("Should point next link to the first regular answer when the page holds only the best answer")
+    @Test
+    void shouldListAnswersWithNextLinkFromStartWhenPageHoldsOnlyBestAnswer() throws Exception {
+        final AnswerSummaryResponseDTO bestAnswer = new AnswerSummaryResponseDTO(2L, "Melhor resposta", true,
+                LocalDateTime.of(2024, 8, 12, 10, 0), "Maria");
+
+        BDDMockito.given(this.answerService.answerList(1L, null, 1))
+                .willReturn(new SliceImpl<>(List.of(bestAnswer), PageRequest.ofSize(1), true));
+
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/{topic_id}/answers", 1)
+                        .queryParam("size", "1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.answerSummaryResponseDTOList.length()", is(1)))
+                .andExpect(jsonPath("$._links.next.href", is("http://localhost/forumhub.io/api/v1/topics/1/answers" +
+                                                             "?size=1&cursor=" + AnswerCursorDTO.start().encode())));
+
+        BDDMockito.verify(this.answerService).answerList(1L, null, 1);
+        BDDMockito.verifyNoMoreInteractions(this.answerService);
+
+    }
+
+    @DisplayName("Should return last page of answers without next link")
+    @Test
+    void shouldListLastPageOfAnswersWithoutNextLink() throws Exception {
+        BDDMockito.given(this.answerService.answerList(1L, "MjAyNC0wOC0xMFQxMDowMHwx", 10))
+                .willReturn(new SliceImpl<>(List.of(), PageRequest.ofSize(10), false));
+
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/{topic_id}/answers", 1)
+                        .queryParam("cursor", "MjAyNC0wOC0xMFQxMDowMHwx")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded").doesNotExist())
+                .andExpect(jsonPath("$._links.self.href").exists())
+                .andExpect(jsonPath("$._links.next").doesNotExist());
+
+        BDDMockito.verify(this.answerService).answerList(1L, "MjAyNC0wOC0xMFQxMDowMHwx", 10);
         BDDMockito.verifyNoMoreInteractions(this.answerService);
 
     }
 
 
+    @DisplayName("Should fail with status code 404 when stream answers of a topic that doesn't exist")
+    @Test
+    void shouldFailToStreamAnswersIfTopicNotExists() throws Exception {
+        BDDMockito.willThrow(new InstanceNotFoundException("O tópico [ID: 1] informado não existe"))
+                .given(this.answerService).validateTopicExists(1L);
+
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/{topic_id}/answers/stream", 1)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.detail", is("O tópico [ID: 1] informado não existe")));
+
+        BDDMockito.verify(this.answerService).validateTopicExists(1L);
+        BDDMockito.verifyNoMoreInteractions(this.answerService);
+
+    }
+
+    @DisplayName("Should stream answer events of the topic as server-sent events")
+    @Test
+    void shouldStreamAnswerEventsOfTheTopic() throws Exception {
+        var mvcResult = this.mockMvc.perform(get("/forumhub.io/api/v1/topics/{topic_id}/answers/stream", 1)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.liveAnswerRegistry.onAnswerChanged(new AnswerChangedEvent(1L, DomainEventType.ANSWER_CREATED,
+                new AnswerSummaryResponseDTO(3L, "Resposta ao vivo", false, LocalDateTime.of(2024, 1, 1, 12, 0), "jose")));
+        this.liveAnswerRegistry.onAnswerChanged(new AnswerChangedEvent(2L, DomainEventType.ANSWER_CREATED,
+                new AnswerSummaryResponseDTO(4L, "Resposta de outro tópico", false, LocalDateTime.of(2024, 1, 1, 12, 0), "jose")));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!mvcResult.getResponse().getContentAsString().endsWith("\n\n") && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+
+        String content = mvcResult.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        Assertions.assertAll(
+                () -> Assertions.assertTrue(content.startsWith("event:answer-created\ndata:{\"id\":3,")),
+                () -> Assertions.assertTrue(content.contains("\"solution\":\"Resposta ao vivo\"")),
+                () -> Assertions.assertFalse(content.contains("Resposta de outro tópico")),
+                () -> Assertions.assertEquals(1, this.liveAnswerRegistry.subscribers(1L)),
+                () -> Assertions.assertTrue(mvcResult.getResponse().getContentType()
+                        .startsWith(MediaType.TEXT_EVENT_STREAM_VALUE))
+        );
+
+        BDDMockito.verify(this.answerService).validateTopicExists(1L);
+        BDDMockito.verifyNoMoreInteractions(this.answerService);
+
+    }
+
+    @TestConfiguration
+    static class LiveAnswerConfig {
+
+        @Bean
+        LiveAnswerRegistry liveAnswerRegistry() {
+            return new LiveAnswerRegistry(new LiveAnswerProperties(), new SimpleMeterRegistry());
+        }
+
+    }
+
 }
@@ -6,9 +6,12 @@ import com.raul.forumhub.topic.dto.request.CourseRequestDTO;
 import com.raul.forumhub.topic.dto.request.TopicCreateRequestDTO;
 import com.raul.forumhub.topic.dto.response.CourseResponseCollection;
 import com.raul.forumhub.topic.dto.response.CourseResponseDTO;
+import com.raul.forumhub.topic.dto.response.EntityVersionDTO;
+import com.raul.forumhub.topic.exception.InstanceNotFoundException;
 import com.raul.forumhub.topic.exception.handler.GlobalExceptionHandler;
 import com.raul.forumhub.topic.security.TopicSecurityConfig;
 import com.raul.forumhub.topic.service.CourseService;
+import com.raul.forumhub.topic.util.ConditionalRequestUtils;
 import com.raul.forumhub.topic.util.TestsHelper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.MethodOrderer;
@@ -20,6 +23,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
@@ -28,7 +32,9 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
 
 import static org.hamcrest.Matchers.is;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
@@ -52,6 +58,16 @@ class CourseControllerTest {
     @MockBean
     ClientRegistrationRepository clientRegistrationRepository;
 
+    private static final EntityVersionDTO COURSE_VERSION = new EntityVersionDTO(1L, 2L,
+            LocalDateTime.of(2024, 1, 1, 12, 0));
+
+    private static final String COURSE_ETAG = ConditionalRequestUtils.eTag("course", 1L, 2L);
+
+    private static final List<EntityVersionDTO> COURSE_VERSIONS = List.of(COURSE_VERSION,
+            new EntityVersionDTO(2L, 0L, LocalDateTime.of(2024, 1, 1, 12, 0)));
+
+    private static final String COURSES_ETAG = ConditionalRequestUtils.eTag("courses", List.of("1@2", "2@0"));
+
 
     @DisplayName("Should fail with status code 404 if resource doesn't exists")
     @Test
@@ -229,6 +245,7 @@ class CourseControllerTest {
     @DisplayName("Should return all courses created with successful if authenticated")
     @Test
     void shouldReturnAllCoursesCreatedWithSuccessful() throws Exception {
+        BDDMockito.given(this.courseService.getCourseVersions()).willReturn(COURSE_VERSIONS);
         BDDMockito.given(this.courseService.getAllCourse())
                 .willReturn(Collections.singletonList(
                         new CourseResponseCollection(TestsHelper.CourseHelper.courseList())));
@@ -238,13 +255,33 @@ class CourseControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
                 .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.ETAG, COURSES_ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
                 .andExpect(jsonPath("$..course.length()", is(4)));
 
+        BDDMockito.verify(this.courseService).getCourseVersions();
         BDDMockito.verify(this.courseService).getAllCourse();
         BDDMockito.verifyNoMoreInteractions(this.courseService);
 
     }
 
+    @DisplayName("Should return status code 304 without loading the courses if If-None-Match matches the ETag")
+    @Test
+    void shouldReturnNotModifiedIfCoursesETagMatches() throws Exception {
+        BDDMockito.given(this.courseService.getCourseVersions()).willReturn(COURSE_VERSIONS);
+
+        this.mockMvc.perform(get("/forumhub.io/api/v1/courses/listAll")
+                        .with(jwt())
+                        .header(HttpHeaders.IF_NONE_MATCH, COURSES_ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andExpect(content().string(""));
+
+        BDDMockito.verify(this.courseService).getCourseVersions();
+        BDDMockito.verifyNoMoreInteractions(this.courseService);
+
+    }
+
     @Test
     @DisplayName("Should fail with status code 401 when get course if unauthenticated")
     void shouldFailWhenGetCourseIfIsNotUnauthenticated() throws Exception {
@@ -275,18 +312,59 @@ class CourseControllerTest {
     @Test
     @DisplayName("Shoud get course with success if everything is ok")
     void shouldGetCourseWithSuccessIfEverythingIsOk() throws Exception {
+        BDDMockito.given(this.courseService.getCourseVersion(1L)).willReturn(COURSE_VERSION);
+
         this.mockMvc.perform(get("/forumhub.io/api/v1/courses")
                         .queryParam("course_id", "1")
                         .with(jwt())
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.ETAG, COURSE_ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"));
 
+        BDDMockito.verify(this.courseService).getCourseVersion(1L);
         BDDMockito.verify(this.courseService).getCourseById(1L);
         BDDMockito.verifyNoMoreInteractions(this.courseService);
 
     }
 
+    @Test
+    @DisplayName("Should return status code 304 without loading the course if If-None-Match matches the ETag")
+    void shouldReturnNotModifiedIfCourseETagMatches() throws Exception {
+        BDDMockito.given(this.courseService.getCourseVersion(1L)).willReturn(COURSE_VERSION);
+
+        this.mockMvc.perform(get("/forumhub.io/api/v1/courses")
+                        .queryParam("course_id", "1")
+                        .with(jwt())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"stale\", " + COURSE_ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().stringValues(HttpHeaders.ETAG, COURSE_ETAG))
+                .andExpect(content().string(""));
+
+        BDDMockito.verify(this.courseService).getCourseVersion(1L);
+        BDDMockito.verifyNoMoreInteractions(this.courseService);
+
+    }
+
+    @Test
+    @DisplayName("Should fail with status code 404 when get course if it doesn't exist")
+    void shouldFailWhenGetCourseIfNotExists() throws Exception {
+        BDDMockito.given(this.courseService.getCourseVersion(5L))
+                .willThrow(new InstanceNotFoundException("O curso [ID: 5] informado não existe"));
+
+        this.mockMvc.perform(get("/forumhub.io/api/v1/courses")
+                        .queryParam("course_id", "5")
+                        .with(jwt())
+                        .header(HttpHeaders.IF_NONE_MATCH, COURSE_ETAG))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.detail", is("O curso [ID: 5] informado não existe")));
+
+        BDDMockito.verify(this.courseService).getCourseVersion(5L);
+        BDDMockito.verifyNoMoreInteractions(this.courseService);
+
+    }
+
 
     @DisplayName("Should fail with status code 401 when edit course if unauthenticated")
     @Test
@@ -5,12 +5,26 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.raul.forumhub.topic.domain.Status;
 import com.raul.forumhub.topic.domain.Topic;
 import com.raul.forumhub.topic.dto.request.TopicCreateRequestDTO;
+import com.raul.forumhub.topic.dto.request.TopicCursorDTO;
 import com.raul.forumhub.topic.dto.request.TopicUpdateRequestDTO;
+import com.raul.forumhub.topic.dto.response.AnswerSummaryResponseDTO;
+import com.raul.forumhub.topic.dto.response.TopicBulkDeleteResponseDTO;
+import com.raul.forumhub.topic.dto.response.TopicDetailResponseDTO;
 import com.raul.forumhub.topic.dto.response.TopicResponseDTO;
+import com.raul.forumhub.topic.dto.response.TopicSnapshotDTO;
+import com.raul.forumhub.topic.dto.response.TopicSummaryResponseDTO;
+import com.raul.forumhub.topic.dto.response.TopicVersionDTO;
+import com.raul.forumhub.topic.exception.ValidationException;
 import com.raul.forumhub.topic.exception.handler.GlobalExceptionHandler;
+import com.raul.forumhub.topic.pagination.CountMode;
+import com.raul.forumhub.topic.pagination.CountedPage;
 import com.raul.forumhub.topic.security.TopicSecurityConfig;
+import com.raul.forumhub.topic.service.AnswerService;
 import com.raul.forumhub.topic.service.TopicService;
+import com.raul.forumhub.topic.util.ConditionalRequestUtils;
+import com.raul.forumhub.topic.util.MockMvcHelper;
 import com.raul.forumhub.topic.util.TestsHelper;
+import com.raul.forumhub.topic.views.TopicViewCounter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
@@ -22,6 +36,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.*;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
@@ -30,11 +45,19 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
 
+import reactor.core.publisher.Mono;
+
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.Comparator;
 import java.util.List;
 
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.any;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -54,6 +77,12 @@ class TopicControllerTest {
     @MockBean
     TopicService topicService;
 
+    @MockBean
+    AnswerService answerService;
+
+    @MockBean
+    TopicViewCounter topicViewCounter;
+
     @MockBean
     ClientRegistrationRepository clientRegistrationRepository;
     
@@ -62,6 +91,15 @@ class TopicControllerTest {
 
     private static final Jwt JWT;
 
+    private static final LocalDateTime TOPIC_MODIFIED_AT = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private static final Instant TOPIC_LAST_MODIFIED = TOPIC_MODIFIED_AT.atZone(ZoneId.systemDefault()).toInstant();
+
+    private static final TopicVersionDTO TOPIC_VERSION = new TopicVersionDTO(1L, 1L, TOPIC_MODIFIED_AT, 1L, 0L,
+            TOPIC_MODIFIED_AT.minusDays(1));
+
+    private static final String TOPIC_ETAG = ConditionalRequestUtils.eTag("topic", 1L, 1L, 1L, 0L);
+
     static {
         JWT = Jwt.withTokenValue("token")
                 .header("alg", "none")
@@ -76,7 +114,7 @@ class TopicControllerTest {
                 "Como utilizar o Feign Client para integração do serviço x?",
                 1L);
 
-        this.mockMvc.perform(post("/forumhub.io/api/v1/topics/creat")
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/creat")
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8)
@@ -93,7 +131,7 @@ class TopicControllerTest {
                 "Como utilizar o Feign Client para integração do serviço x?",
                 1L);
 
-        this.mockMvc.perform(put("/forumhub.io/api/v1/topics/create")
+        MockMvcHelper.perform(this.mockMvc, put("/forumhub.io/api/v1/topics/create")
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8)
@@ -111,7 +149,7 @@ class TopicControllerTest {
                 "Como utilizar o Feign Client para integração do serviço x?",
                 1L);
 
-        this.mockMvc.perform(post("/forumhub.io/api/v1/topics/create")
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/create")
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8)
                         .content(this.objectMapper
@@ -129,7 +167,7 @@ class TopicControllerTest {
                 "Como utilizar o Feign Client para integração do serviço x?",
                 1L);
 
-        this.mockMvc.perform(post("/forumhub.io/api/v1/topics/create")
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/create")
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8)
@@ -150,7 +188,7 @@ class TopicControllerTest {
                 "",
                 1L);
 
-        this.mockMvc.perform(post("/forumhub.io/api/v1/topics/create")
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/create")
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8)
@@ -172,10 +210,10 @@ class TopicControllerTest {
 
         final TopicResponseDTO topicResponseDTO = new TopicResponseDTO(TestsHelper.TopicHelper.topicList().get(0));
 
-        BDDMockito.given(this.topicService.createTopic(topicCreateRequestDTO, 1L))
-                .willReturn(topicResponseDTO);
+        BDDMockito.given(this.topicService.createTopicAsync(topicCreateRequestDTO, 1L))
+                .willReturn(Mono.just(topicResponseDTO));
 
-        this.mockMvc.perform(post("/forumhub.io/api/v1/topics/create")
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/create")
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8)
@@ -186,7 +224,7 @@ class TopicControllerTest {
                         .registerModule(new JavaTimeModule())
                         .writeValueAsString(topicResponseDTO)));
 
-        BDDMockito.verify(this.topicService).createTopic(topicCreateRequestDTO, 1L);
+        BDDMockito.verify(this.topicService).createTopicAsync(topicCreateRequestDTO, 1L);
         BDDMockito.verifyNoMoreInteractions(this.topicService);
 
     }
@@ -195,19 +233,19 @@ class TopicControllerTest {
     @DisplayName("Should return all topics unsorted with successful")
     @Test
     void shouldReturnAllTopicsUnsortedWithSuccessful() throws Exception {
-        Page<TopicResponseDTO> topicPage =
+        Page<TopicSummaryResponseDTO> topicPage =
                 new PageImpl<>(TestsHelper.TopicHelper.topicListWithAnswers(),
                         Pageable.unpaged(), 4)
-                        .map(TopicResponseDTO::new);
+                        .map(TestsHelper.TopicHelper::topicSummary);
 
         BDDMockito.given(this.topicService.topicList(any(Pageable.class)))
-                .willReturn(topicPage);
+                .willReturn(CountedPage.of(topicPage, CountMode.EXACT));
 
-        this.mockMvc.perform(get("/forumhub.io/api/v1/topics/listAll")
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/listAll")
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$..topicResponseDTOList.length()", is(4)))
+                .andExpect(jsonPath("$..topicSummaryResponseDTOList.length()", is(4)))
                 .andExpect(jsonPath("$..page.[?(@.number == 0)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.size == 4)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.totalElements == 4)]").exists())
@@ -230,23 +268,23 @@ class TopicControllerTest {
         Pageable pageable = PageRequest.of(0, 10,
                 Sort.by(Sort.Direction.DESC, "createdAt"));
 
-        Page<TopicResponseDTO> topicPage =
+        Page<TopicSummaryResponseDTO> topicPage =
                 new PageImpl<>(sortedTopicByCreatedAt, pageable, 4)
-                        .map(TopicResponseDTO::new);
+                        .map(TestsHelper.TopicHelper::topicSummary);
 
         BDDMockito.given(this.topicService.topicList(pageable))
-                .willReturn(topicPage);
+                .willReturn(CountedPage.of(topicPage, CountMode.EXACT));
 
-        this.mockMvc.perform(get("/forumhub.io/api/v1/topics/listAll")
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/listAll")
                         .queryParam("sort", "createdAt,desc")
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$..topicResponseDTOList[0].[?(@.topic.id == 3)]").exists())
-                .andExpect(jsonPath("$..topicResponseDTOList[1].[?(@.topic.id == 1)]").exists())
-                .andExpect(jsonPath("$..topicResponseDTOList[2].[?(@.topic.id == 2)]").exists())
-                .andExpect(jsonPath("$..topicResponseDTOList[3].[?(@.topic.id == 4)]").exists())
-                .andExpect(jsonPath("$..topicResponseDTOList.length()", is(4)))
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[0].id", is(3)))
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[1].id", is(1)))
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[2].id", is(2)))
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[3].id", is(4)))
+                .andExpect(jsonPath("$..topicSummaryResponseDTOList.length()", is(4)))
                 .andExpect(jsonPath("$..page.[?(@.number == 0)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.size == 10)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.totalElements == 4)]").exists())
@@ -270,24 +308,24 @@ class TopicControllerTest {
         Pageable pageable = PageRequest.of(0, 2,
                 Sort.by(Sort.Direction.ASC, "status"));
 
-        Page<TopicResponseDTO> topicPage =
+        Page<TopicSummaryResponseDTO> topicPage =
                 new PageImpl<>(sortedTopicByStatus, pageable, 2)
-                        .map(TopicResponseDTO::new);
+                        .map(TestsHelper.TopicHelper::topicSummary);
 
         BDDMockito.given(this.topicService.topicList(pageable))
-                .willReturn(topicPage);
+                .willReturn(CountedPage.of(topicPage, CountMode.EXACT));
 
-        this.mockMvc.perform(get("/forumhub.io/api/v1/topics/listAll")
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/listAll")
                         .queryParam("size", "2")
                         .queryParam("sort", "status,asc")
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$..topicResponseDTOList[0].[?(@.topic.id == 3)]").exists())
-                .andExpect(jsonPath("$..topicResponseDTOList[0].[?(@.topic.status == \"SOLVED\")]").exists())
-                .andExpect(jsonPath("$..topicResponseDTOList[1].[?(@.topic.id == 2)]").exists())
-                .andExpect(jsonPath("$..topicResponseDTOList[1].[?(@.topic.status == \"UNSOLVED\")]").exists())
-                .andExpect(jsonPath("$..topicResponseDTOList.length()", is(2)))
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[0].id", is(3)))
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[0].status", is("SOLVED")))
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[1].id", is(2)))
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[1].status", is("UNSOLVED")))
+                .andExpect(jsonPath("$..topicSummaryResponseDTOList.length()", is(2)))
                 .andExpect(jsonPath("$..page.[?(@.number == 0)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.size == 2)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.totalElements == 2)]").exists())
@@ -309,23 +347,23 @@ class TopicControllerTest {
         Pageable pageable = PageRequest.of(0, 10,
                 Sort.by(Sort.Direction.ASC, "title"));
 
-        Page<TopicResponseDTO> topicPage =
+        Page<TopicSummaryResponseDTO> topicPage =
                 new PageImpl<>(sortedTopicByTitle, pageable, 4)
-                        .map(TopicResponseDTO::new);
+                        .map(TestsHelper.TopicHelper::topicSummary);
 
         BDDMockito.given(this.topicService.topicList(pageable))
-                .willReturn(topicPage);
+                .willReturn(CountedPage.of(topicPage, CountMode.EXACT));
 
-        this.mockMvc.perform(get("/forumhub.io/api/v1/topics/listAll")
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/listAll")
                         .queryParam("sort", "title,asc")
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$..topicResponseDTOList[0].[?(@.topic.id == 3)]").exists())
-                .andExpect(jsonPath("$..topicResponseDTOList[1].[?(@.topic.id == 1)]").exists())
-                .andExpect(jsonPath("$..topicResponseDTOList[2].[?(@.topic.id == 2)]").exists())
-                .andExpect(jsonPath("$..topicResponseDTOList[3].[?(@.topic.id == 4)]").exists())
-                .andExpect(jsonPath("$..topicResponseDTOList.length()", is(4)))
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[0].id", is(3)))
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[1].id", is(1)))
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[2].id", is(2)))
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[3].id", is(4)))
+                .andExpect(jsonPath("$..topicSummaryResponseDTOList.length()", is(4)))
                 .andExpect(jsonPath("$..page.[?(@.number == 0)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.size == 10)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.totalElements == 4)]").exists())
@@ -347,19 +385,19 @@ class TopicControllerTest {
 
         Pageable pageable = PageRequest.of(0, 10, Sort.unsorted());
 
-        Page<TopicResponseDTO> topicPage =
+        Page<TopicSummaryResponseDTO> topicPage =
                 new PageImpl<>(topicsListByCourse, pageable, 0)
-                        .map(TopicResponseDTO::new);
+                        .map(TestsHelper.TopicHelper::topicSummary);
 
         BDDMockito.given(this.topicService.topicsListByCourse(4L, pageable))
-                .willReturn(topicPage);
+                .willReturn(CountedPage.of(topicPage, CountMode.EXACT));
 
-        this.mockMvc.perform(get("/forumhub.io/api/v1/topics/searchTopicsByCourse")
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/searchTopicsByCourse")
                         .queryParam("course_id", "4")
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$..topicResponseDTOList.length()", is(0)))
+                .andExpect(jsonPath("$..topicSummaryResponseDTOList.length()", is(0)))
                 .andExpect(jsonPath("$..page.[?(@.size == 10)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.totalElements == 0)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.totalPages == 0)]").exists());
@@ -379,20 +417,20 @@ class TopicControllerTest {
 
         Pageable pageable = PageRequest.of(0, 10, Sort.unsorted());
 
-        Page<TopicResponseDTO> topicPage =
+        Page<TopicSummaryResponseDTO> topicPage =
                 new PageImpl<>(topicsListByCourse, pageable, 2)
-                        .map(TopicResponseDTO::new);
+                        .map(TestsHelper.TopicHelper::topicSummary);
 
         BDDMockito.given(this.topicService.topicsListByCourse(1L, pageable))
-                .willReturn(topicPage);
+                .willReturn(CountedPage.of(topicPage, CountMode.EXACT));
 
-        this.mockMvc.perform(get("/forumhub.io/api/v1/topics/searchTopicsByCourse")
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/searchTopicsByCourse")
                         .queryParam("course_id", "1")
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
                 .andExpect(status().isOk())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$..topicResponseDTOList.length()", is(2)))
+                .andExpect(jsonPath("$..topicSummaryResponseDTOList.length()", is(2)))
                 .andExpect(jsonPath("$..page.[?(@.size == 10)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.totalElements == 2)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.totalPages == 1)]").exists());
@@ -415,22 +453,22 @@ class TopicControllerTest {
         Pageable pageable = PageRequest.of(0, 10,
                 Sort.by(Sort.Direction.DESC, "createdAt"));
 
-        Page<TopicResponseDTO> topicPage =
+        Page<TopicSummaryResponseDTO> topicPage =
                 new PageImpl<>(sortedTopicByCreatedAt, pageable, 2)
-                        .map(TopicResponseDTO::new);
+                        .map(TestsHelper.TopicHelper::topicSummary);
 
         BDDMockito.given(this.topicService.topicsListByCourse(1L, pageable))
-                .willReturn(topicPage);
+                .willReturn(CountedPage.of(topicPage, CountMode.EXACT));
 
-        this.mockMvc.perform(get("/forumhub.io/api/v1/topics/searchTopicsByCourse")
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/searchTopicsByCourse")
                         .queryParam("course_id", "1")
                         .queryParam("sort", "createdAt,desc")
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$..topicResponseDTOList[0].[?(@.topic.id == 1)]").exists())
-                .andExpect(jsonPath("$..topicResponseDTOList[1].[?(@.topic.id == 4)]").exists())
-                .andExpect(jsonPath("$..topicResponseDTOList.length()", is(2)))
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[0].id", is(1)))
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[1].id", is(4)))
+                .andExpect(jsonPath("$..topicSummaryResponseDTOList.length()", is(2)))
                 .andExpect(jsonPath("$..page.[?(@.size == 10)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.totalElements == 2)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.totalPages == 1)]").exists());
@@ -453,23 +491,23 @@ class TopicControllerTest {
         Pageable pageable = PageRequest.of(0, 1,
                 Sort.by(Sort.Direction.ASC, "status"));
 
-        Page<TopicResponseDTO> topicPage =
+        Page<TopicSummaryResponseDTO> topicPage =
                 new PageImpl<>(sortedTopicByStatus, pageable, 1)
-                        .map(TopicResponseDTO::new);
+                        .map(TestsHelper.TopicHelper::topicSummary);
 
         BDDMockito.given(this.topicService.topicsListByCourse(1L, pageable))
-                .willReturn(topicPage);
+                .willReturn(CountedPage.of(topicPage, CountMode.EXACT));
 
-        this.mockMvc.perform(get("/forumhub.io/api/v1/topics/searchTopicsByCourse")
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/searchTopicsByCourse")
                         .queryParam("course_id", "1")
                         .queryParam("size", "1")
                         .queryParam("sort", "status,asc")
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$..topicResponseDTOList[0].[?(@.topic.status == \"UNSOLVED\")]").exists())
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[0].status", is("UNSOLVED")))
                 .andExpect(jsonPath("$..page.[?(@.number == 0)]").exists())
-                .andExpect(jsonPath("$..topicResponseDTOList.length()", is(1)))
+                .andExpect(jsonPath("$..topicSummaryResponseDTOList.length()", is(1)))
                 .andExpect(jsonPath("$..page.[?(@.size == 1)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.totalElements == 1)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.totalPages == 1)]").exists());
@@ -491,23 +529,23 @@ class TopicControllerTest {
         Pageable pageable = PageRequest.of(0, 10,
                 Sort.by(Sort.Direction.ASC, "title"));
 
-        Page<TopicResponseDTO> topicPage =
+        Page<TopicSummaryResponseDTO> topicPage =
                 new PageImpl<>(sortedTopicByTitle, pageable, 2)
-                        .map(TopicResponseDTO::new);
+                        .map(TestsHelper.TopicHelper::topicSummary);
 
         BDDMockito.given(this.topicService.topicsListByCourse(1L, pageable))
-                .willReturn(topicPage);
+                .willReturn(CountedPage.of(topicPage, CountMode.EXACT));
 
-        this.mockMvc.perform(get("/forumhub.io/api/v1/topics/searchTopicsByCourse")
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/searchTopicsByCourse")
                         .queryParam("course_id", "1")
                         .queryParam("sort", "title,asc")
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$..topicResponseDTOList[0].[?(@.topic.id == 1)]").exists())
-                .andExpect(jsonPath("$..topicResponseDTOList[1].[?(@.topic.id == 4)]").exists())
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[0].id", is(1)))
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[1].id", is(4)))
                 .andExpect(jsonPath("$..page.[?(@.number == 0)]").exists())
-                .andExpect(jsonPath("$..topicResponseDTOList.length()", is(2)))
+                .andExpect(jsonPath("$..topicSummaryResponseDTOList.length()", is(2)))
                 .andExpect(jsonPath("$..page.[?(@.size == 10)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.totalElements == 2)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.totalPages == 1)]").exists());
@@ -518,12 +556,149 @@ class TopicControllerTest {
 
     }
 
+    @DisplayName("Should report cached count mode on page metadata when list all topics")
+    @Test
+    void shouldReportCachedCountModeOnPageMetadataWhenListAllTopics() throws Exception {
+        Pageable pageable = PageRequest.of(0, 2);
+
+        List<TopicSummaryResponseDTO> topics = TestsHelper.TopicHelper.topicListWithAnswers().stream()
+                .limit(2)
+                .map(TestsHelper.TopicHelper::topicSummary)
+                .toList();
+
+        BDDMockito.given(this.topicService.topicList(pageable))
+                .willReturn(new CountedPage<>(topics, pageable, 4, CountMode.CACHED));
+
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/listAll")
+                        .queryParam("size", "2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$..topicSummaryResponseDTOList.length()", is(2)))
+                .andExpect(jsonPath("$.page.totalElements", is(4)))
+                .andExpect(jsonPath("$.page.totalPages", is(2)))
+                .andExpect(jsonPath("$.page.countMode", is("CACHED")))
+                .andExpect(jsonPath("$._links.last").exists());
+
+        BDDMockito.verify(this.topicService).topicList(pageable);
+        BDDMockito.verifyNoMoreInteractions(this.topicService);
+
+    }
+
+    @DisplayName("Should return has next flag without totals when topics by course are listed without count")
+    @Test
+    void shouldReturnHasNextFlagWithoutTotalsWhenTopicsByCourseAreListedWithoutCount() throws Exception {
+        Pageable pageable = PageRequest.of(0, 2);
+
+        List<TopicSummaryResponseDTO> topics = TestsHelper.TopicHelper.topicListWithAnswers().stream()
+                .limit(2)
+                .map(TestsHelper.TopicHelper::topicSummary)
+                .toList();
+
+        BDDMockito.given(this.topicService.topicsListByCourse(1L, pageable))
+                .willReturn(new CountedPage<>(topics, pageable, 3, CountMode.NONE));
+
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/searchTopicsByCourse")
+                        .queryParam("course_id", "1")
+                        .queryParam("size", "2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$..topicSummaryResponseDTOList.length()", is(2)))
+                .andExpect(jsonPath("$.page.countMode", is("NONE")))
+                .andExpect(jsonPath("$.page.hasNext", is(true)))
+                .andExpect(jsonPath("$.page.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.page.totalPages").doesNotExist())
+                .andExpect(jsonPath("$._links.next").exists())
+                .andExpect(jsonPath("$._links.last").doesNotExist());
+
+        BDDMockito.verify(this.topicService).topicsListByCourse(1L, pageable);
+        BDDMockito.verifyNoMoreInteractions(this.topicService);
+
+    }
+
+    @DisplayName("Should return first keyset page of topics with next link")
+    @Test
+    void shouldReturnFirstKeysetPageOfTopicsWithNextLink() throws Exception {
+        List<TopicSummaryResponseDTO> sortedTopicByCreatedAt = TestsHelper.TopicHelper.topicListWithAnswers()
+                .stream().sorted(Comparator.comparing(Topic::getCreatedAt).reversed())
+                .map(TestsHelper.TopicHelper::topicSummary)
+                .limit(2)
+                .toList();
+
+        BDDMockito.given(this.topicService.topicKeysetList("", 2))
+                .willReturn(new SliceImpl<>(sortedTopicByCreatedAt, PageRequest.ofSize(2), true));
+
+        String nextCursor = TopicCursorDTO.of(sortedTopicByCreatedAt.get(1)).encode();
+
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/listAll")
+                        .queryParam("cursor", "")
+                        .queryParam("size", "2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[0].id", is(3)))
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[1].id", is(1)))
+                .andExpect(jsonPath("$..topicSummaryResponseDTOList.length()", is(2)))
+                .andExpect(jsonPath("$._links.next.href", is("http://localhost/forumhub.io/api/v1/topics/listAll?size=2&cursor=" +
+                                                             nextCursor)))
+                .andExpect(jsonPath("$.page").doesNotExist());
+
+        BDDMockito.verify(this.topicService).topicKeysetList("", 2);
+        BDDMockito.verifyNoMoreInteractions(this.topicService);
+
+    }
+
+    @DisplayName("Should return last keyset page of topics by course without next link")
+    @Test
+    void shouldReturnLastKeysetPageOfTopicsByCourseWithoutNextLink() throws Exception {
+        String cursor = TopicCursorDTO.of(TestsHelper.TopicHelper.topicSummary(
+                TestsHelper.TopicHelper.topicList().get(0))).encode();
+
+        BDDMockito.given(this.topicService.topicsKeysetListByCourse(1L, cursor, 10))
+                .willReturn(new SliceImpl<>(List.of(TestsHelper.TopicHelper.topicSummary(
+                        TestsHelper.TopicHelper.topicList().get(3))), PageRequest.ofSize(10), false));
+
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/searchTopicsByCourse")
+                        .queryParam("course_id", "1")
+                        .queryParam("cursor", cursor)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[0].id", is(4)))
+                .andExpect(jsonPath("$..topicSummaryResponseDTOList.length()", is(1)))
+                .andExpect(jsonPath("$._links.self.href").exists())
+                .andExpect(jsonPath("$._links.next").doesNotExist());
+
+        BDDMockito.verify(this.topicService).topicsKeysetListByCourse(1L, cursor, 10);
+        BDDMockito.verifyNoMoreInteractions(this.topicService);
+
+    }
+
+    @DisplayName("Should fail with status code 418 when keyset cursor is malformed")
+    @Test
+    void shouldFailWhenKeysetCursorIsMalformed() throws Exception {
+        BDDMockito.given(this.topicService.topicKeysetList("cursor-invalido", 10))
+                .willThrow(new ValidationException("O cursor 'cursor-invalido' informado é inválido"));
+
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/listAll")
+                        .queryParam("cursor", "cursor-invalido")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isIAmATeapot())
+                .andExpect(jsonPath("$.detail", is("O cursor 'cursor-invalido' informado é inválido")));
+
+        BDDMockito.verify(this.topicService).topicKeysetList("cursor-invalido", 10);
+        BDDMockito.verifyNoMoreInteractions(this.topicService);
+
+    }
+
 
     @DisplayName("Should fail with status code 400 when attempt get topic if topic_id property " +
                  "of query param is sent empty")
     @Test
     void shouldFailIfTopicIdPropertyOfQueryParamIsEmptyWhenGetTopic() throws Exception {
-        this.mockMvc.perform(get("/forumhub.io/api/v1/topics")
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics")
                         .queryParam("topic_id", "")
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
@@ -537,7 +712,7 @@ class TopicControllerTest {
                  " param different of type number")
     @Test
     void shouldFailToRequestTopicIfParamDifferentOfTypeNumber() throws Exception {
-        this.mockMvc.perform(get("/forumhub.io/api/v1/topics")
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics")
                         .queryParam("topic_id", "unexpected")
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
@@ -551,22 +726,146 @@ class TopicControllerTest {
     @DisplayName("Should return the specified topic with successful if exists")
     @Test
     void shouldReturnTheSpecifiedTopicWithSuccessful() throws Exception {
-        BDDMockito.given(this.topicService.getTopicById(1L))
-                .willReturn(TestsHelper.TopicHelper.topicListWithAnswers().get(0));
+        BDDMockito.given(this.topicService.getTopicSnapshot(1L)).willReturn(new TopicSnapshotDTO(TOPIC_VERSION,
+                new TopicResponseDTO(TestsHelper.TopicHelper.topicListWithAnswers().get(0))));
 
-        this.mockMvc.perform(get("/forumhub.io/api/v1/topics")
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics")
                         .queryParam("topic_id", "1")
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
                 .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.ETAG, TOPIC_ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, TOPIC_LAST_MODIFIED.toEpochMilli()))
                 .andExpect(jsonPath("$.[?(@.topic.id == 1)]").exists())
                 .andExpect(jsonPath("$.topic.title", is("Dúvida na utilização do Feign Client")));
 
-        BDDMockito.verify(this.topicService).getTopicById(1L);
+        BDDMockito.verify(this.topicService).getTopicSnapshot(1L);
+        BDDMockito.verify(this.topicViewCounter).recordView(1L, "address:127.0.0.1");
         BDDMockito.verifyNoMoreInteractions(this.topicService);
 
     }
 
+    @DisplayName("Should record the topic view for the authenticated user")
+    @Test
+    void shouldRecordTopicViewForAuthenticatedUser() throws Exception {
+        BDDMockito.given(this.topicService.getTopicSnapshot(1L)).willReturn(new TopicSnapshotDTO(TOPIC_VERSION,
+                new TopicResponseDTO(TestsHelper.TopicHelper.topicListWithAnswers().get(0))));
+
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics")
+                        .with(jwt().jwt(JWT))
+                        .queryParam("topic_id", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.topic.viewCount", is(0)));
+
+        BDDMockito.verify(this.topicViewCounter).recordView(1L, "user:1");
+
+    }
+
+    @DisplayName("Should return status code 304 without loading the topic if If-None-Match matches the ETag")
+    @Test
+    void shouldReturnNotModifiedIfTopicETagMatches() throws Exception {
+        BDDMockito.given(this.topicService.getTopicSnapshot(1L)).willReturn(new TopicSnapshotDTO(TOPIC_VERSION,
+                new TopicResponseDTO(TestsHelper.TopicHelper.topicListWithAnswers().get(0))));
+
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics")
+                        .queryParam("topic_id", "1")
+                        .header(HttpHeaders.IF_NONE_MATCH, TOPIC_ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().stringValues(HttpHeaders.ETAG, TOPIC_ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(content().string(""));
+
+        BDDMockito.verify(this.topicService).getTopicSnapshot(1L);
+        BDDMockito.verify(this.topicViewCounter).recordView(1L, "address:127.0.0.1");
+        BDDMockito.verifyNoMoreInteractions(this.topicService);
+
+    }
+
+    @DisplayName("Should return status code 304 without loading the topic if it wasn't modified since the informed date")
+    @Test
+    void shouldReturnNotModifiedIfTopicWasNotModifiedSince() throws Exception {
+        BDDMockito.given(this.topicService.getTopicSnapshot(1L)).willReturn(new TopicSnapshotDTO(TOPIC_VERSION,
+                new TopicResponseDTO(TestsHelper.TopicHelper.topicListWithAnswers().get(0))));
+
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics")
+                        .queryParam("topic_id", "1")
+                        .header(HttpHeaders.IF_MODIFIED_SINCE,
+                                DateTimeFormatter.RFC_1123_DATE_TIME.format(TOPIC_LAST_MODIFIED.atZone(ZoneOffset.UTC))))
+                .andExpect(status().isNotModified());
+
+        BDDMockito.verify(this.topicService).getTopicSnapshot(1L);
+        BDDMockito.verifyNoMoreInteractions(this.topicService);
+
+    }
+
+    @DisplayName("Should return the topic if If-None-Match holds a stale ETag")
+    @Test
+    void shouldReturnTopicIfETagIsStale() throws Exception {
+        BDDMockito.given(this.topicService.getTopicSnapshot(1L)).willReturn(new TopicSnapshotDTO(
+                new TopicVersionDTO(1L, 1L, TOPIC_MODIFIED_AT, 2L, 0L, TOPIC_MODIFIED_AT),
+                new TopicResponseDTO(TestsHelper.TopicHelper.topicListWithAnswers().get(0))));
+
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics")
+                        .queryParam("topic_id", "1")
+                        .header(HttpHeaders.IF_NONE_MATCH, TOPIC_ETAG))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(TOPIC_ETAG)))
+                .andExpect(jsonPath("$.topic.id", is(1)));
+
+        BDDMockito.verify(this.topicService).getTopicSnapshot(1L);
+
+    }
+
+
+    @DisplayName("Should fail with status code 418 when request topic detail if answers preview is out of range")
+    @Test
+    void shouldFailToRequestTopicDetailIfAnswersPreviewIsOutOfRange() throws Exception {
+        BDDMockito.given(this.answerService.getTopicDetail(1L, 0))
+                .willThrow(new ValidationException("A prévia de respostas deve estar entre 1 e 100"));
+
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics")
+                        .queryParam("topic_id", "1")
+                        .queryParam("answers_preview", "0")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isIAmATeapot())
+                .andExpect(jsonPath("$.detail", is("A prévia de respostas deve estar entre 1 e 100")));
+
+        BDDMockito.verifyNoInteractions(this.topicService);
+
+    }
+
+
+    @DisplayName("Should return the specified topic with answers preview and answers link")
+    @Test
+    void shouldReturnTopicDetailWithAnswersPreview() throws Exception {
+        BDDMockito.given(this.answerService.getTopicDetail(1L, 1))
+                .willReturn(new TopicDetailResponseDTO(1L, "Dúvida na utilização do Feign Client",
+                        "Como utilizar o Feign Client para integração do serviço x?", Status.UNSOLVED,
+                        LocalDateTime.of(2024, 8, 10, 20, 5), "Jose", "Criação de uma API Rest", 2L, 10L, 3L,
+                        List.of(new AnswerSummaryResponseDTO(1L, "Resposta do primeiro tópico", true,
+                                LocalDateTime.of(2024, 8, 11, 10, 0), "Maria"))));
+
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics")
+                        .queryParam("topic_id", "1")
+                        .queryParam("answers_preview", "1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(1)))
+                .andExpect(jsonPath("$.answerCount", is(2)))
+                .andExpect(jsonPath("$.viewCount", is(10)))
+                .andExpect(jsonPath("$.uniqueViewerCount", is(3)))
+                .andExpect(jsonPath("$.answers.length()", is(1)))
+                .andExpect(jsonPath("$.answers[0].bestAnswer", is(true)))
+                .andExpect(jsonPath("$._links.answers.href", is("http://localhost/forumhub.io/api/v1/topics/1/answers")));
+
+        BDDMockito.verify(this.answerService).getTopicDetail(1L, 1);
+        BDDMockito.verifyNoInteractions(this.topicService);
+
+    }
+
 
     @DisplayName("Should fail with status code 403 if user authenticated hasn't authority 'topic:edit'" +
                  "when edit topic")
@@ -578,7 +877,7 @@ class TopicControllerTest {
                 Status.UNSOLVED, 1L
         );
 
-        this.mockMvc.perform(put("/forumhub.io/api/v1/topics/{topic_id}/edit", 1)
+        MockMvcHelper.perform(this.mockMvc, put("/forumhub.io/api/v1/topics/{topic_id}/edit", 1)
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8)
@@ -600,7 +899,7 @@ class TopicControllerTest {
                 Status.UNSOLVED, 1L
         );
 
-        this.mockMvc.perform(put("/forumhub.io/api/v1/topics/{topic_id}/edit", "unexpected")
+        MockMvcHelper.perform(this.mockMvc, put("/forumhub.io/api/v1/topics/{topic_id}/edit", "unexpected")
                         .with(jwt().jwt(JWT)
                                 .authorities(new SimpleGrantedAuthority("SCOPE_topic:edit")))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -622,7 +921,7 @@ class TopicControllerTest {
                 Status.UNSOLVED, 1L
         );
 
-        this.mockMvc.perform(put("/forumhub.io/api/v1/topics/{topic_id}/edit", 1)
+        MockMvcHelper.perform(this.mockMvc, put("/forumhub.io/api/v1/topics/{topic_id}/edit", 1)
                         .with(jwt().jwt(JWT)
                                 .authorities(new SimpleGrantedAuthority("SCOPE_topic:edit")))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -646,7 +945,7 @@ class TopicControllerTest {
                 Status.UNSOLVED, 1L
         );
 
-        this.mockMvc.perform(put("/forumhub.io/api/v1/topics/{topic_id}/edit", 1)
+        MockMvcHelper.perform(this.mockMvc, put("/forumhub.io/api/v1/topics/{topic_id}/edit", 1)
                         .with(jwt().jwt(JWT)
                                 .authorities(new SimpleGrantedAuthority("SCOPE_topic:edit")))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -671,7 +970,7 @@ class TopicControllerTest {
                 Status.UNSOLVED, 1L
         );
 
-        this.mockMvc.perform(put("/forumhub.io/api/v1/topics")
+        MockMvcHelper.perform(this.mockMvc, put("/forumhub.io/api/v1/topics")
                         .queryParam("topic_id", "")
                         .with(jwt().jwt(JWT)
                                 .authorities(new SimpleGrantedAuthority("SCOPE_topic:edit")))
@@ -699,10 +998,10 @@ class TopicControllerTest {
         topic.setTitle("Dúvida na utilização do WebClient");
         topic.setQuestion("Como utilizar o WebClient para integração do serviço x?");
 
-        BDDMockito.given(this.topicService.updateTopic(1L, 4L, topicUpdateRequestDTO))
-                .willReturn(new TopicResponseDTO(topic));
+        BDDMockito.given(this.topicService.updateTopicAsync(1L, 4L, topicUpdateRequestDTO))
+                .willReturn(Mono.just(new TopicResponseDTO(topic)));
 
-        this.mockMvc.perform(put("/forumhub.io/api/v1/topics/{topic_id}/edit", 1)
+        MockMvcHelper.perform(this.mockMvc, put("/forumhub.io/api/v1/topics/{topic_id}/edit", 1)
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "4"))
                                 .authorities(new SimpleGrantedAuthority("SCOPE_topic:edit")))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -715,7 +1014,7 @@ class TopicControllerTest {
                                                            "integração do serviço x?")));
 
 
-        BDDMockito.verify(this.topicService).updateTopic(1L, 4L, topicUpdateRequestDTO);
+        BDDMockito.verify(this.topicService).updateTopicAsync(1L, 4L, topicUpdateRequestDTO);
         BDDMockito.verifyNoMoreInteractions(this.topicService);
 
 
@@ -734,10 +1033,10 @@ class TopicControllerTest {
         topic.setTitle("Dúvida na utilização do WebClient");
         topic.setQuestion("Como utilizar o WebClient para integração do serviço x?");
 
-        BDDMockito.given(this.topicService.updateTopic(1L, 3L, topicUpdateRequestDTO))
-                .willReturn(new TopicResponseDTO(topic));
+        BDDMockito.given(this.topicService.updateTopicAsync(1L, 3L, topicUpdateRequestDTO))
+                .willReturn(Mono.just(new TopicResponseDTO(topic)));
 
-        this.mockMvc.perform(put("/forumhub.io/api/v1/topics/{topic_id}/edit", 1)
+        MockMvcHelper.perform(this.mockMvc, put("/forumhub.io/api/v1/topics/{topic_id}/edit", 1)
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "3"))
                                 .authorities(new SimpleGrantedAuthority("SCOPE_topic:edit")))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -750,7 +1049,7 @@ class TopicControllerTest {
                                                            "integração do serviço x?")));
 
 
-        BDDMockito.verify(this.topicService).updateTopic(1L, 3L, topicUpdateRequestDTO);
+        BDDMockito.verify(this.topicService).updateTopicAsync(1L, 3L, topicUpdateRequestDTO);
         BDDMockito.verifyNoMoreInteractions(this.topicService);
 
 
@@ -769,10 +1068,10 @@ class TopicControllerTest {
         topic.setTitle("Dúvida na utilização do WebClient");
         topic.setQuestion("Como utilizar o WebClient para integração do serviço x?");
 
-        BDDMockito.given(this.topicService.updateTopic(1L, 1L, topicUpdateRequestDTO))
-                .willReturn(new TopicResponseDTO(topic));
+        BDDMockito.given(this.topicService.updateTopicAsync(1L, 1L, topicUpdateRequestDTO))
+                .willReturn(Mono.just(new TopicResponseDTO(topic)));
 
-        this.mockMvc.perform(put("/forumhub.io/api/v1/topics/{topic_id}/edit", 1)
+        MockMvcHelper.perform(this.mockMvc, put("/forumhub.io/api/v1/topics/{topic_id}/edit", 1)
                         .with(jwt().jwt(JWT)
                                 .authorities(new SimpleGrantedAuthority("SCOPE_topic:edit")))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -785,7 +1084,7 @@ class TopicControllerTest {
                                                            "integração do serviço x?")));
 
 
-        BDDMockito.verify(this.topicService).updateTopic(1L, 1L, topicUpdateRequestDTO);
+        BDDMockito.verify(this.topicService).updateTopicAsync(1L, 1L, topicUpdateRequestDTO);
         BDDMockito.verifyNoMoreInteractions(this.topicService);
 
 
@@ -796,7 +1095,7 @@ class TopicControllerTest {
                  " when delete topic")
     @Test
     void shouldFailIfUserHasNotSuitableAuthorityWhenDeleteTopic() throws Exception {
-        this.mockMvc.perform(delete("/forumhub.io/api/v1/topics/{topic_id}/delete", 1)
+        MockMvcHelper.perform(this.mockMvc, delete("/forumhub.io/api/v1/topics/{topic_id}/delete", 1)
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
@@ -809,7 +1108,7 @@ class TopicControllerTest {
                  " param different of type number")
     @Test
     void shouldFailToDeleteTopicIfParamDifferentOfTypeNumber() throws Exception {
-        this.mockMvc.perform(delete("/forumhub.io/api/v1/topics/{topic_id}/delete", "unexpected")
+        MockMvcHelper.perform(this.mockMvc, delete("/forumhub.io/api/v1/topics/{topic_id}/delete", "unexpected")
                         .with(jwt().jwt(JWT)
                                 .authorities(new SimpleGrantedAuthority("SCOPE_topic:delete")))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -824,9 +1123,9 @@ class TopicControllerTest {
     @DisplayName("Should delete topic with success if user authenticated has authority 'topic:delete'")
     @Test
     void shouldDeleteTopicWithSuccessIfUserHasSuitableAuthority() throws Exception {
-        BDDMockito.doNothing().when(this.topicService).deleteTopic(1L, 1L);
+        BDDMockito.given(this.topicService.deleteTopicAsync(1L, 1L)).willReturn(Mono.empty());
 
-        this.mockMvc.perform(delete("/forumhub.io/api/v1/topics/{topic_id}/delete", 1)
+        MockMvcHelper.perform(this.mockMvc, delete("/forumhub.io/api/v1/topics/{topic_id}/delete", 1)
                         .with(jwt().jwt(JWT)
                                 .authorities(new SimpleGrantedAuthority("SCOPE_topic:delete")))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -834,7 +1133,61 @@ class TopicControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().json("{\"message\":\"HttpStatusCode OK\"}"));
 
-        BDDMockito.verify(this.topicService).deleteTopic(1L, 1L);
+        BDDMockito.verify(this.topicService).deleteTopicAsync(1L, 1L);
+        BDDMockito.verifyNoMoreInteractions(this.topicService);
+
+    }
+
+
+    @DisplayName("Should fail with status code 403 if user authenticated isn't ADM when delete topics in bulk")
+    @Test
+    void shouldFailIfUserIsNotAdmWhenDeleteTopicsInBulk() throws Exception {
+        MockMvcHelper.perform(this.mockMvc, delete("/forumhub.io/api/v1/topics/delete")
+                        .queryParam("topic_ids", "1", "2")
+                        .with(jwt().jwt(JWT)
+                                .authorities(new SimpleGrantedAuthority("SCOPE_topic:delete"))))
+                .andExpect(status().isForbidden());
+
+        BDDMockito.verifyNoInteractions(this.topicService);
+
+    }
+
+
+    @DisplayName("Should delete topics in bulk if user authenticated is ADM and has authority 'topic:delete'")
+    @Test
+    void shouldDeleteTopicsInBulkIfUserIsAdmWithSuitableAuthority() throws Exception {
+        BDDMockito.given(this.topicService.deleteTopicsAsync(List.of(1L, 2L)))
+                .willReturn(Mono.just(new TopicBulkDeleteResponseDTO(2, 3)));
+
+        MockMvcHelper.perform(this.mockMvc, delete("/forumhub.io/api/v1/topics/delete")
+                        .queryParam("topic_ids", "1", "2")
+                        .with(jwt().jwt(JWT)
+                                .authorities(new SimpleGrantedAuthority("ROLE_ADM"),
+                                        new SimpleGrantedAuthority("SCOPE_topic:delete"))))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"deletedTopics\":2,\"deletedAnswers\":3}"));
+
+        BDDMockito.verify(this.topicService).deleteTopicsAsync(List.of(1L, 2L));
+        BDDMockito.verifyNoMoreInteractions(this.topicService);
+
+    }
+
+
+    @DisplayName("Should delete topics of course in bulk if user authenticated is ADM and has authority 'topic:delete'")
+    @Test
+    void shouldDeleteTopicsOfCourseInBulkIfUserIsAdmWithSuitableAuthority() throws Exception {
+        BDDMockito.given(this.topicService.deleteTopicsByCourseAsync(1L))
+                .willReturn(Mono.just(new TopicBulkDeleteResponseDTO(4, 10)));
+
+        MockMvcHelper.perform(this.mockMvc, delete("/forumhub.io/api/v1/topics/delete")
+                        .queryParam("course_id", "1")
+                        .with(jwt().jwt(JWT)
+                                .authorities(new SimpleGrantedAuthority("ROLE_ADM"),
+                                        new SimpleGrantedAuthority("SCOPE_topic:delete"))))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"deletedTopics\":4,\"deletedAnswers\":10}"));
+
+        BDDMockito.verify(this.topicService).deleteTopicsByCourseAsync(1L);
         BDDMockito.verifyNoMoreInteractions(this.topicService);
 
     }
@@ -0,0 +1,131 @@
+package com.raul.forumhub.topic.controller;
+
+import com.raul.forumhub.topic.domain.Status;
+import com.raul.forumhub.topic.dto.request.TopicExportFilterDTO;
+import com.raul.forumhub.topic.exception.handler.GlobalExceptionHandler;
+import com.raul.forumhub.topic.export.TopicExportFormat;
+import com.raul.forumhub.topic.security.TopicSecurityConfig;
+import com.raul.forumhub.topic.service.TopicExportService;
+import com.raul.forumhub.topic.util.MockMvcHelper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.MockReset;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+@WebMvcTest
+@ActiveProfiles(value = "test")
+@ContextConfiguration(classes = {TopicExportController.class,
+        TopicSecurityConfig.class, GlobalExceptionHandler.class})
+class TopicExportControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean(reset = MockReset.BEFORE)
+    TopicExportService topicExportService;
+
+    @MockBean
+    ClientRegistrationRepository clientRegistrationRepository;
+
+
+    @DisplayName("Should fail with status code 401 when export topics if user unauthenticated")
+    @Test
+    void shouldFailToExportTopicsIfUnauthenticated() throws Exception {
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/export"))
+                .andExpect(status().isUnauthorized());
+
+        BDDMockito.verifyNoInteractions(this.topicExportService);
+
+    }
+
+    @DisplayName("Should fail with status code 403 when export topics if user isn't admin")
+    @Test
+    void shouldFailToExportTopicsIfUserIsNotAdmin() throws Exception {
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/export")
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_BASIC"))))
+                .andExpect(status().isForbidden());
+
+        BDDMockito.verifyNoInteractions(this.topicExportService);
+
+    }
+
+    @DisplayName("Should fail with status code 400 when export topics if format is unknown")
+    @Test
+    void shouldFailToExportTopicsIfFormatIsUnknown() throws Exception {
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/export")
+                        .queryParam("format", "XML")
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_ADM"))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail", is("O valor 'XML' enviado é inválido")));
+
+        BDDMockito.verifyNoInteractions(this.topicExportService);
+
+    }
+
+    @DisplayName("Should fail with status code 418 when export topics if createdAt range is inverted")
+    @Test
+    void shouldFailToExportTopicsIfCreatedAtRangeIsInverted() throws Exception {
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/export")
+                        .queryParam("from", "2024-02-01T00:00:00")
+                        .queryParam("to", "2024-01-01T00:00:00")
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_ADM"))))
+                .andExpect(status().isIAmATeapot())
+                .andExpect(jsonPath("$.detail",
+                        is("O período de exportação [2024-02-01T00:00 - 2024-01-01T00:00] informado é inválido")));
+
+        BDDMockito.verifyNoInteractions(this.topicExportService);
+
+    }
+
+    @DisplayName("Should stream filtered CSV export as attachment if user is admin")
+    @Test
+    void shouldStreamFilteredCsvExportIfUserIsAdmin() throws Exception {
+        TopicExportFilterDTO filter = new TopicExportFilterDTO(1L, Status.SOLVED,
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 2, 1, 0, 0));
+        BDDMockito.willAnswer(invocation -> {
+            invocation.getArgument(3, OutputStream.class).write("type,id\r\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).given(this.topicExportService).export(BDDMockito.eq(filter), BDDMockito.eq(TopicExportFormat.CSV),
+                BDDMockito.eq(false), any(OutputStream.class));
+
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/export")
+                        .queryParam("format", "CSV")
+                        .queryParam("course_id", "1")
+                        .queryParam("status", "SOLVED")
+                        .queryParam("from", "2024-01-01T00:00:00")
+                        .queryParam("to", "2024-02-01T00:00:00")
+                        .queryParam("answers", "false")
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_ADM"))))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"topics.csv\""))
+                .andExpect(content().string("type,id\r\n"));
+
+        BDDMockito.verify(this.topicExportService).export(BDDMockito.eq(filter), BDDMockito.eq(TopicExportFormat.CSV),
+                BDDMockito.eq(false), any(OutputStream.class));
+
+    }
+
+}
@@ -0,0 +1,139 @@
+package com.raul.forumhub.topic.controller;
+
+import com.raul.forumhub.topic.dto.response.TopicImportEventDTO;
+import com.raul.forumhub.topic.exception.handler.GlobalExceptionHandler;
+import com.raul.forumhub.topic.security.TopicSecurityConfig;
+import com.raul.forumhub.topic.service.TopicImportService;
+import com.raul.forumhub.topic.util.MockMvcHelper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.MockReset;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@WebMvcTest
+@ActiveProfiles(value = "test")
+@ContextConfiguration(classes = {TopicImportController.class,
+        TopicSecurityConfig.class, GlobalExceptionHandler.class})
+class TopicImportControllerTest {
+
+    private static final String RECORD = "{\"type\":\"topic\",\"ref\":\"t1\"}\n";
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean(reset = MockReset.BEFORE)
+    TopicImportService topicImportService;
+
+    @MockBean
+    ClientRegistrationRepository clientRegistrationRepository;
+
+    String body;
+
+
+    @DisplayName("Should fail with status code 401 when import topics if user unauthenticated")
+    @Test
+    void shouldFailToImportTopicsIfUnauthenticated() throws Exception {
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(RECORD))
+                .andExpect(status().isUnauthorized());
+
+        BDDMockito.verifyNoInteractions(this.topicImportService);
+
+    }
+
+    @DisplayName("Should fail with status code 403 when import topics if user isn't admin")
+    @Test
+    void shouldFailToImportTopicsIfUserIsNotAdmin() throws Exception {
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/import")
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_BASIC")))
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(RECORD))
+                .andExpect(status().isForbidden());
+
+        BDDMockito.verifyNoInteractions(this.topicImportService);
+
+    }
+
+    @DisplayName("Should stream import events as NDJSON if user is admin")
+    @Test
+    void shouldStreamImportEventsIfUserIsAdmin() throws Exception {
+        this.willEmitEvents();
+
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/import")
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_ADM")))
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(RECORD))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON_VALUE + ";charset=UTF-8"))
+                .andExpect(content().string("""
+                        {"type":"REJECTED","line":2,"reason":"O autor jose não existe"}
+                        {"type":"SUMMARY","lines":2,"topics":1,"answers":0,"rejected":1}
+                        """));
+
+        assertEquals(RECORD, this.body);
+
+    }
+
+    @DisplayName("Should decompress gzip encoded body when import topics")
+    @Test
+    void shouldDecompressGzipEncodedBodyWhenImportTopics() throws Exception {
+        this.willEmitEvents();
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(RECORD.getBytes(StandardCharsets.UTF_8));
+        }
+
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/import")
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_ADM")))
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                        .content(compressed.toByteArray()))
+                .andExpect(status().isOk());
+
+        assertEquals(RECORD, this.body);
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private void willEmitEvents() {
+        BDDMockito.given(this.topicImportService.importTopics(any(InputStream.class), any(Consumer.class)))
+                .willAnswer(invocation -> {
+                    byte[] body = invocation.getArgument(0, InputStream.class).readAllBytes();
+                    this.body = new String(body, StandardCharsets.UTF_8);
+                    Consumer<TopicImportEventDTO> events = invocation.getArgument(1);
+                    events.accept(TopicImportEventDTO.rejected(2, "O autor jose não existe"));
+                    TopicImportEventDTO summary = TopicImportEventDTO.summary(2, 1, 0, 1);
+                    events.accept(summary);
+                    return summary;
+                });
+    }
+
+}
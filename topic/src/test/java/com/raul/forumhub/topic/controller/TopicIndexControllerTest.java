@@ -0,0 +1,182 @@
+package com.raul.forumhub.topic.controller;
+
+import com.raul.forumhub.topic.domain.Status;
+import com.raul.forumhub.topic.dto.request.TopicSearchCursorDTO;
+import com.raul.forumhub.topic.dto.response.TopicSearchResponseDTO;
+import com.raul.forumhub.topic.exception.BusinessException;
+import com.raul.forumhub.topic.exception.handler.GlobalExceptionHandler;
+import com.raul.forumhub.topic.search.TopicIndex;
+import com.raul.forumhub.topic.security.TopicSecurityConfig;
+import com.raul.forumhub.topic.util.MockMvcHelper;
+import com.raul.forumhub.topic.util.TestsHelper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.MockReset;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@WebMvcTest(properties = "forumhub.search.index.enabled=true")
+@ActiveProfiles(value = "test")
+@ContextConfiguration(classes = {TopicIndexController.class,
+        TopicSecurityConfig.class, GlobalExceptionHandler.class})
+class TopicIndexControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean(reset = MockReset.BEFORE)
+    TopicIndex topicIndex;
+
+    @MockBean
+    ClientRegistrationRepository clientRegistrationRepository;
+
+
+    @DisplayName("Should fail with status code 418 if cursor is invalid when search topics on index")
+    @Test
+    void shouldFailIfCursorIsInvalidWhenSearchTopicsOnIndex() throws Exception {
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/search/index")
+                        .queryParam("query", "feign")
+                        .queryParam("cursor", "invalido")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isIAmATeapot())
+                .andExpect(jsonPath("$.detail", is("O cursor 'invalido' informado é inválido")));
+
+        BDDMockito.verifyNoInteractions(this.topicIndex);
+
+    }
+
+    @DisplayName("Should return ranked topics from index with next link when there are more results")
+    @Test
+    void shouldReturnRankedTopicsFromIndexWithNextLink() throws Exception {
+        TopicSearchResponseDTO topic = new TopicSearchResponseDTO(TestsHelper.TopicHelper.topicSummary(
+                TestsHelper.TopicHelper.topicList().get(0)), new BigDecimal("1.4217"));
+
+        BDDMockito.given(this.topicIndex.search("feign", 1L, Status.UNSOLVED, null, 1))
+                .willReturn(new SliceImpl<>(List.of(topic), PageRequest.ofSize(1), true));
+
+        String nextCursor = TopicSearchCursorDTO.of(topic).encode();
+
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/search/index")
+                        .queryParam("query", "feign")
+                        .queryParam("course_id", "1")
+                        .queryParam("status", "UNSOLVED")
+                        .queryParam("size", "1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.topicSearchResponseDTOList[0].id", is(1)))
+                .andExpect(jsonPath("$._embedded.topicSearchResponseDTOList[0].rank", is(1.4217)))
+                .andExpect(jsonPath("$._links.next.href", is("http://localhost/forumhub.io/api/v1/topics/search/index" +
+                                                             "?query=feign&course_id=1&status=UNSOLVED&size=1&cursor=" + nextCursor)));
+
+        BDDMockito.verify(this.topicIndex).search("feign", 1L, Status.UNSOLVED, null, 1);
+        BDDMockito.verifyNoMoreInteractions(this.topicIndex);
+
+    }
+
+    @DisplayName("Should return last page of ranked topics from index without next link")
+    @Test
+    void shouldReturnLastPageOfRankedTopicsFromIndexWithoutNextLink() throws Exception {
+        TopicSearchCursorDTO cursor = new TopicSearchCursorDTO(new BigDecimal("0.5"), 1L);
+
+        BDDMockito.given(this.topicIndex.search("feign", null, null, cursor, 10))
+                .willReturn(new SliceImpl<>(List.of(), PageRequest.ofSize(10), false));
+
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/search/index")
+                        .queryParam("query", "feign")
+                        .queryParam("cursor", cursor.encode())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded").doesNotExist())
+                .andExpect(jsonPath("$._links.next").doesNotExist());
+
+        BDDMockito.verify(this.topicIndex).search("feign", null, null, cursor, 10);
+        BDDMockito.verifyNoMoreInteractions(this.topicIndex);
+
+    }
+
+    @DisplayName("Should fail with status code 401 when rebuild index if user unauthenticated")
+    @Test
+    void shouldFailToRebuildIndexIfUnauthenticated() throws Exception {
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/search/index/rebuild")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isUnauthorized());
+
+        BDDMockito.verifyNoInteractions(this.topicIndex);
+
+    }
+
+    @DisplayName("Should fail with status code 403 when rebuild index if user isn't admin")
+    @Test
+    void shouldFailToRebuildIndexIfUserIsNotAdmin() throws Exception {
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/search/index/rebuild")
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_BASIC")))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isForbidden());
+
+        BDDMockito.verifyNoInteractions(this.topicIndex);
+
+    }
+
+    @DisplayName("Should fail with status code 422 when rebuild index if a rebuild is already running")
+    @Test
+    void shouldFailToRebuildIndexIfRebuildIsAlreadyRunning() throws Exception {
+        BDDMockito.given(this.topicIndex.rebuild())
+                .willThrow(new BusinessException("Uma reindexação dos tópicos já está em andamento"));
+
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/search/index/rebuild")
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_ADM")))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.detail", is("Uma reindexação dos tópicos já está em andamento")));
+
+        BDDMockito.verify(this.topicIndex).rebuild();
+        BDDMockito.verifyNoMoreInteractions(this.topicIndex);
+
+    }
+
+    @DisplayName("Should start index rebuild with status code 202 if user is admin")
+    @Test
+    void shouldStartIndexRebuildIfUserIsAdmin() throws Exception {
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/search/index/rebuild")
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_ADM")))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.message", is("HttpStatusCode ACCEPTED")));
+
+        BDDMockito.verify(this.topicIndex).rebuild();
+        BDDMockito.verifyNoMoreInteractions(this.topicIndex);
+
+    }
+
+}
@@ -0,0 +1,136 @@
+package com.raul.forumhub.topic.controller;
+
+import com.raul.forumhub.topic.domain.Status;
+import com.raul.forumhub.topic.dto.request.TopicSearchCursorDTO;
+import com.raul.forumhub.topic.dto.response.TopicSearchResponseDTO;
+import com.raul.forumhub.topic.exception.ValidationException;
+import com.raul.forumhub.topic.exception.handler.GlobalExceptionHandler;
+import com.raul.forumhub.topic.security.TopicSecurityConfig;
+import com.raul.forumhub.topic.service.TopicSearchService;
+import com.raul.forumhub.topic.util.MockMvcHelper;
+import com.raul.forumhub.topic.util.TestsHelper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@WebMvcTest
+@ActiveProfiles(value = "test")
+@ContextConfiguration(classes = {TopicSearchController.class,
+        TopicSecurityConfig.class, GlobalExceptionHandler.class})
+class TopicSearchControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean
+    TopicSearchService topicSearchService;
+
+    @MockBean
+    ClientRegistrationRepository clientRegistrationRepository;
+
+
+    @DisplayName("Should fail with status code 400 if query param is missing when search topics")
+    @Test
+    void shouldFailIfQueryIsMissingWhenSearchTopics() throws Exception {
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/search")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail", is("A propriedade 'query' não foi informada")));
+
+        BDDMockito.verifyNoInteractions(this.topicSearchService);
+
+    }
+
+    @DisplayName("Should fail with status code 418 if query is blank when search topics")
+    @Test
+    void shouldFailIfQueryIsBlankWhenSearchTopics() throws Exception {
+        BDDMockito.given(this.topicSearchService.searchTopics(" ", null, null, null, 10))
+                .willThrow(new ValidationException("O termo de busca não pode ser vazio"));
+
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/search")
+                        .queryParam("query", " ")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isIAmATeapot())
+                .andExpect(jsonPath("$.detail", is("O termo de busca não pode ser vazio")));
+
+        BDDMockito.verify(this.topicSearchService).searchTopics(" ", null, null, null, 10);
+        BDDMockito.verifyNoMoreInteractions(this.topicSearchService);
+
+    }
+
+    @DisplayName("Should return ranked topics with next link when there are more results")
+    @Test
+    void shouldReturnRankedTopicsWithNextLink() throws Exception {
+        TopicSearchResponseDTO topic = new TopicSearchResponseDTO(TestsHelper.TopicHelper.topicSummary(
+                TestsHelper.TopicHelper.topicList().get(0)), new BigDecimal("0.607927"));
+
+        BDDMockito.given(this.topicSearchService.searchTopics("feign", 1L, Status.UNSOLVED, null, 1))
+                .willReturn(new SliceImpl<>(List.of(topic), PageRequest.ofSize(1), true));
+
+        String nextCursor = TopicSearchCursorDTO.of(topic).encode();
+
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/search")
+                        .queryParam("query", "feign")
+                        .queryParam("course_id", "1")
+                        .queryParam("status", "UNSOLVED")
+                        .queryParam("size", "1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.topicSearchResponseDTOList[0].id", is(1)))
+                .andExpect(jsonPath("$._embedded.topicSearchResponseDTOList[0].rank", is(0.607927)))
+                .andExpect(jsonPath("$._embedded.topicSearchResponseDTOList[0].courseName", is("Criação de uma API Rest")))
+                .andExpect(jsonPath("$._links.next.href", is("http://localhost/forumhub.io/api/v1/topics/search" +
+                                                             "?query=feign&course_id=1&status=UNSOLVED&size=1&cursor=" + nextCursor)));
+
+        BDDMockito.verify(this.topicSearchService).searchTopics("feign", 1L, Status.UNSOLVED, null, 1);
+        BDDMockito.verifyNoMoreInteractions(this.topicSearchService);
+
+    }
+
+    @DisplayName("Should return last page of ranked topics without next link")
+    @Test
+    void shouldReturnLastPageOfRankedTopicsWithoutNextLink() throws Exception {
+        BDDMockito.given(this.topicSearchService.searchTopics("feign", null, null, "MC41fDE", 10))
+                .willReturn(new SliceImpl<>(List.of(), PageRequest.ofSize(10), false));
+
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/search")
+                        .queryParam("query", "feign")
+                        .queryParam("cursor", "MC41fDE")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded").doesNotExist())
+                .andExpect(jsonPath("$._links.self.href").exists())
+                .andExpect(jsonPath("$._links.next").doesNotExist());
+
+        BDDMockito.verify(this.topicSearchService).searchTopics("feign", null, null, "MC41fDE", 10);
+        BDDMockito.verifyNoMoreInteractions(this.topicSearchService);
+
+    }
+
+}
@@ -0,0 +1,186 @@
+package com.raul.forumhub.topic.datasource;
+
+import com.raul.forumhub.topic.outbox.DomainEventConsumer;
+import com.raul.forumhub.topic.outbox.DomainEventRelay;
+import com.raul.forumhub.topic.outbox.OutboxProperties;
+import com.raul.forumhub.topic.repository.EventConsumerOffsetRepository;
+import com.raul.forumhub.topic.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReadReplicaRoutingDataSourceTest {
+
+    SimpleMeterRegistry meterRegistry;
+
+    JdbcTemplate jdbcTemplate;
+
+    TransactionTemplate writeTransaction;
+
+    ReadReplicaTransactions readReplicaTransactions;
+
+    @BeforeEach
+    void setup() {
+        this.setup(Duration.ofMinutes(1));
+    }
+
+    private void setup(Duration readYourWritesWindow) {
+        DataSourceRoutingProperties dataSourceRoutingProperties = new DataSourceRoutingProperties();
+        dataSourceRoutingProperties.setReadYourWritesWindow(readYourWritesWindow);
+        ReadYourWritesTracker readYourWritesTracker = new ReadYourWritesTracker(dataSourceRoutingProperties);
+        this.meterRegistry = new SimpleMeterRegistry();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReadReplicaRoutingDataSource(
+                database(ReadReplicaRoutingDataSource.PRIMARY), database(ReadReplicaRoutingDataSource.REPLICA),
+                readYourWritesTracker, this.meterRegistry));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.readReplicaTransactions = new ReadReplicaTransactions(transactionManager, readYourWritesTracker);
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static DataSource database(String instance) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + instance + "-routing;DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS database_instance (name VARCHAR(10))");
+        jdbcTemplate.execute("DELETE FROM database_instance");
+        jdbcTemplate.update("INSERT INTO database_instance (name) VALUES (?)", instance);
+        return dataSource;
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(username, null));
+    }
+
+    private String instance() {
+        return this.jdbcTemplate.queryForObject("SELECT name FROM database_instance", String.class);
+    }
+
+    private void write() {
+        this.writeTransaction.executeWithoutResult(status -> this.instance());
+    }
+
+    private double routedConnections(String pool) {
+        return this.meterRegistry.get("forumhub.datasource.connections.routed").tag("pool", pool).counter().count();
+    }
+
+
+    @Test
+    void shouldRouteReplicaReadsToTheReplicaAndEverythingElseToThePrimary() {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(this.writeTransaction.getTransactionManager());
+        readOnlyTransaction.setReadOnly(true);
+
+        Assertions.assertAll(
+                () -> assertEquals("replica", this.readReplicaTransactions.read(status -> this.instance())),
+                () -> assertEquals("replica", this.readReplicaTransactions.readShared(status -> this.instance())),
+                () -> assertEquals("primary", readOnlyTransaction.execute(status -> this.instance())),
+                () -> assertEquals("primary", this.writeTransaction.execute(status -> this.instance())),
+                () -> assertEquals("primary", this.instance())
+        );
+    }
+
+    @Test
+    void shouldReadOwnWritesFromThePrimaryWithinTheWindow() {
+        authenticate("jose");
+        this.write();
+        String ownRead = this.readReplicaTransactions.read(status -> this.instance());
+
+        authenticate("maria");
+        String otherUserRead = this.readReplicaTransactions.read(status -> this.instance());
+        String sharedRead = this.readReplicaTransactions.readShared(status -> this.instance());
+
+        Assertions.assertAll(
+                () -> assertEquals("primary", ownRead),
+                () -> assertEquals("replica", otherUserRead),
+                () -> assertEquals("primary", sharedRead)
+        );
+    }
+
+    @Test
+    void shouldReturnToTheReplicaOnceTheWindowExpires() throws InterruptedException {
+        this.setup(Duration.ofMillis(50));
+        authenticate("jose");
+        this.write();
+
+        TimeUnit.MILLISECONDS.sleep(100);
+
+        Assertions.assertAll(
+                () -> assertEquals("replica", this.readReplicaTransactions.read(status -> this.instance())),
+                () -> assertEquals("replica", this.readReplicaTransactions.readShared(status -> this.instance()))
+        );
+    }
+
+    @Test
+    void shouldKeepSharedReadsOnTheReplicaAfterABackgroundRelayTick() {
+        EventConsumerOffsetRepository eventConsumerOffsetRepository = Mockito.mock(EventConsumerOffsetRepository.class);
+        DomainEventConsumer consumer = Mockito.mock(DomainEventConsumer.class);
+        BDDMockito.given(consumer.name()).willReturn("indexer");
+        BDDMockito.given(eventConsumerOffsetRepository.findForUpdate("indexer")).willAnswer(invocation -> {
+            this.instance();
+            return Optional.empty();
+        });
+        OutboxProperties outboxProperties = new OutboxProperties();
+        outboxProperties.getRelay().setEnabled(false);
+        DomainEventRelay relay = new DomainEventRelay(Mockito.mock(OutboxEventRepository.class),
+                eventConsumerOffsetRepository, this.writeTransaction, outboxProperties, List.of(consumer), this.meterRegistry);
+
+        relay.relay();
+        String afterRelayTick = this.readReplicaTransactions.readShared(status -> this.instance());
+        this.write();
+        String afterWrite = this.readReplicaTransactions.readShared(status -> this.instance());
+
+        Assertions.assertAll(
+                () -> assertEquals("replica", afterRelayTick),
+                () -> assertEquals("primary", afterWrite)
+        );
+    }
+
+    @Test
+    void shouldKeepReplicaReadsInsideAWriteTransactionOnThePrimary() {
+        String nestedRead = this.writeTransaction.execute(status ->
+                this.readReplicaTransactions.read(nested -> this.instance()));
+
+        assertEquals("primary", nestedRead);
+    }
+
+    @Test
+    void shouldCountRoutedConnectionsPerPool() {
+        this.instance();
+        double primaryConnections = this.routedConnections(ReadReplicaRoutingDataSource.PRIMARY);
+
+        this.readReplicaTransactions.read(status -> this.instance());
+        this.readReplicaTransactions.read(status -> this.instance());
+        this.write();
+
+        Assertions.assertAll(
+                () -> assertEquals(2, this.routedConnections(ReadReplicaRoutingDataSource.REPLICA)),
+                () -> assertEquals(primaryConnections + 1, this.routedConnections(ReadReplicaRoutingDataSource.PRIMARY))
+        );
+    }
+
+}
@@ -2,13 +2,18 @@ package com.raul.forumhub.topic.integration.controller;
 
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
 import com.raul.forumhub.topic.client.UserClientRequest;
 import com.raul.forumhub.topic.domain.Answer;
+import com.raul.forumhub.topic.domain.Author;
 import com.raul.forumhub.topic.domain.Topic;
 import com.raul.forumhub.topic.dto.request.AnswerRequestDTO;
 import com.raul.forumhub.topic.exception.RestClientException;
 import com.raul.forumhub.topic.repository.*;
+import com.raul.forumhub.topic.statistics.TopicStatisticsRepairer;
+import com.raul.forumhub.topic.util.MockMvcHelper;
 import com.raul.forumhub.topic.util.TestsHelper;
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.*;
 import org.mockito.BDDMockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,9 +29,14 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.*;
@@ -54,6 +64,9 @@ class AnswerControllerIT {
     @Autowired
     AuthorRepository authorRepository;
 
+    @Autowired
+    TopicStatisticsRepairer topicStatisticsRepairer;
+
     @MockBean
     ClientRegistrationRepository clientRegistrationRepository;
 
@@ -73,11 +86,13 @@ class AnswerControllerIT {
 
     @BeforeAll
     static void setup(@Autowired ProfileRepository profileRepository,
+                      @Autowired EntityManagerFactory entityManagerFactory,
                       @Autowired AuthorRepository authorRepository,
                       @Autowired CourseRepository courseRepository,
                       @Autowired TopicRepository topicRepository,
                       @Autowired AnswerRepository answerRepository) {
         if (!hasBeenInitialized) {
+            TestsHelper.CacheHelper.evictSecondLevelCache(entityManagerFactory);
             profileRepository.saveAll(TestsHelper.ProfileHelper.profileList());
             authorRepository.saveAll(TestsHelper.AuthorHelper.authorList());
             courseRepository.saveAll(TestsHelper.CourseHelper.courseList());
@@ -92,7 +107,7 @@ class AnswerControllerIT {
     void shouldFailIfResourceDoesNotExistToTheSendRequest() throws Exception {
         final AnswerRequestDTO answerRequestDTO = new AnswerRequestDTO("Resposta teste");
 
-        this.mockMvc.perform(post("/forumhub.io/api/v1/topics/{topic_id}/ans", 1)
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/{topic_id}/ans", 1)
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8)
                         .content(new ObjectMapper()
@@ -106,7 +121,7 @@ class AnswerControllerIT {
     void shouldFailIfMethodIsNotSupportedToTheSendRequest() throws Exception {
         final AnswerRequestDTO answerRequestDTO = new AnswerRequestDTO("Resposta teste");
 
-        this.mockMvc.perform(put("/forumhub.io/api/v1/topics/{topic_id}/answer", 1)
+        MockMvcHelper.perform(this.mockMvc, put("/forumhub.io/api/v1/topics/{topic_id}/answer", 1)
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8)
                         .content(new ObjectMapper()
@@ -121,7 +136,7 @@ class AnswerControllerIT {
     void shouldFailToAnswerTopicIfUnauthenticated() throws Exception {
         final AnswerRequestDTO answerRequestDTO = new AnswerRequestDTO("Resposta teste");
 
-        this.mockMvc.perform(post("/forumhub.io/api/v1/topics/{topic_id}/answer", 1)
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/{topic_id}/answer", 1)
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8)
                         .content(new ObjectMapper()
@@ -140,10 +155,10 @@ class AnswerControllerIT {
     void shouldFailIfQuestionPropertyIsEmptyWhenAnswerTopic() throws Exception {
         final AnswerRequestDTO answerRequestDTO = new AnswerRequestDTO("");
 
-        BDDMockito.given(this.userClientRequest.getUserById(2L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(1));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(1)));
 
-        this.mockMvc.perform(post("/forumhub.io/api/v1/topics/{topic_id}/answer", 1)
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/{topic_id}/answer", 1)
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8)
@@ -167,7 +182,7 @@ class AnswerControllerIT {
     void shouldFailToAnswerTopicIfSpecifiedTopicNotExists() throws Exception {
         final AnswerRequestDTO answerRequestDTO = new AnswerRequestDTO("Resposta teste");
 
-        this.mockMvc.perform(post("/forumhub.io/api/v1/topics/{topic_id}/answer", 6)
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/{topic_id}/answer", 6)
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8)
@@ -190,10 +205,10 @@ class AnswerControllerIT {
     void shouldFailToAnswerTopicIfUserServiceReturn404StatusCode() throws Exception {
         final AnswerRequestDTO answerRequestDTO = new AnswerRequestDTO("Resposta teste");
 
-        BDDMockito.given(this.userClientRequest.getUserById(2L))
-                .willThrow(new RestClientException(HttpStatus.NOT_FOUND, "Usuário não encontrado"));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L))
+                .willReturn(Mono.error(new RestClientException(HttpStatus.NOT_FOUND, "Usuário não encontrado")));
 
-        this.mockMvc.perform(post("/forumhub.io/api/v1/topics/{topic_id}/answer", 1)
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/{topic_id}/answer", 1)
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8)
@@ -204,7 +219,7 @@ class AnswerControllerIT {
 
         assertEquals(2, this.topicRepository.findById(1L).orElseThrow().getAnswers().size());
 
-        BDDMockito.verify(this.userClientRequest).getUserById(2L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(2L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
 
@@ -218,10 +233,10 @@ class AnswerControllerIT {
     void shouldAnswerTopicWithSuccessIfAuthenticated() throws Exception {
         final AnswerRequestDTO answerRequestDTO = new AnswerRequestDTO("Resposta teste");
 
-        BDDMockito.given(this.userClientRequest.getUserById(2L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(1));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(1)));
 
-        this.mockMvc.perform(post("/forumhub.io/api/v1/topics/{topic_id}/answer", 1)
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/{topic_id}/answer", 1)
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8)
@@ -236,7 +251,7 @@ class AnswerControllerIT {
                 () -> assertEquals("Resposta teste", answer.getSolution())
         );
 
-        BDDMockito.verify(this.userClientRequest).getUserById(2L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(2L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -245,7 +260,7 @@ class AnswerControllerIT {
     @DisplayName("Should fail with status code 401 when mark best answer if user unauthenticated")
     @Test
     void shouldFailToMarkBestAnswerIfUnauthenticated() throws Exception {
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/markBestAnswer",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/markBestAnswer",
                         1, 1)
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
@@ -267,7 +282,7 @@ class AnswerControllerIT {
                  " param different of number type")
     @Test
     void shouldFailToMarkBestAnswerIfParamDifferentOfNumberType() throws Exception {
-        this.mockMvc.perform(post("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/markBestAnswer",
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/markBestAnswer",
                         1, "unexpected")
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -280,7 +295,7 @@ class AnswerControllerIT {
                  "topic specified not exists")
     @Test
     void shouldFailToMarkBestAnswerIfSpecifiedTopicNotExists() throws Exception {
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/markBestAnswer",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/markBestAnswer",
                         6, 1)
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -302,10 +317,10 @@ class AnswerControllerIT {
                  "return 404 not found status code")
     @Test
     void shouldFailToMarkBestAnswerIfUserServiceReturn404StatusCode() throws Exception {
-        BDDMockito.given(this.userClientRequest.getUserById(2L)).
-                willThrow(new RestClientException(HttpStatus.NOT_FOUND, "Usuário não encontrado"));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L)).
+                willReturn(Mono.error(new RestClientException(HttpStatus.NOT_FOUND, "Usuário não encontrado")));
 
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/markBestAnswer",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/markBestAnswer",
                         1, 1)
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -320,7 +335,7 @@ class AnswerControllerIT {
                         .findFirst().orElseThrow().isBestAnswer())
         );
 
-        BDDMockito.verify(this.userClientRequest).getUserById(2L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(2L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -330,10 +345,10 @@ class AnswerControllerIT {
                  "authenticated user isn't owner of topic")
     @Test
     void shouldFailToMarkBestAnswerIfAuthenticatedUserIsNotOwnerTopic() throws Exception {
-        BDDMockito.given(this.userClientRequest.getUserById(3L)).
-                willReturn(TestsHelper.AuthorHelper.authorList().get(2));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(3L)).
+                willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(2)));
 
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/markBestAnswer",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/markBestAnswer",
                         1, 1)
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "3")))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -351,7 +366,7 @@ class AnswerControllerIT {
                         .findFirst().orElseThrow().isBestAnswer())
         );
 
-        BDDMockito.verify(this.userClientRequest).getUserById(3L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(3L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -361,10 +376,10 @@ class AnswerControllerIT {
                  "yet not exists a answer for specified topic")
     @Test
     void shouldFailToMarkAnswerBestIfYetNotExistsAnswer() throws Exception {
-        BDDMockito.given(this.userClientRequest.getUserById(2L)).
-                willReturn(TestsHelper.AuthorHelper.authorList().get(1));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L)).
+                willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(1)));
 
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/markBestAnswer",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/markBestAnswer",
                         4, 1)
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -381,7 +396,7 @@ class AnswerControllerIT {
                 () -> assertEquals(0, topic.getAnswers().size())
         );
 
-        BDDMockito.verify(this.userClientRequest).getUserById(2L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(2L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -391,10 +406,10 @@ class AnswerControllerIT {
                  "exists a best answer for specified topic")
     @Test
     void shouldFailToMarkBestAnswerIfAlreadyExistsBestAnswer() throws Exception {
-        BDDMockito.given(this.userClientRequest.getUserById(3L)).
-                willReturn(TestsHelper.AuthorHelper.authorList().get(2));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(3L)).
+                willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(2)));
 
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/markBestAnswer",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/markBestAnswer",
                         2, 2)
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "3")))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -411,7 +426,7 @@ class AnswerControllerIT {
                         .findFirst().orElseThrow().isBestAnswer())
         );
 
-        BDDMockito.verify(this.userClientRequest).getUserById(3L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(3L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -422,10 +437,10 @@ class AnswerControllerIT {
                  "previous premisses are adequate")
     @Test
     void shouldMarkBestAnswerWithSuccessIfAuthenticated() throws Exception {
-        BDDMockito.given(this.userClientRequest.getUserById(2L)).
-                willReturn(TestsHelper.AuthorHelper.authorList().get(1));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L)).
+                willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(1)));
 
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/markBestAnswer",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/markBestAnswer",
                         1, 1)
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -441,7 +456,7 @@ class AnswerControllerIT {
                         .findFirst().orElseThrow().isBestAnswer())
         );
 
-        BDDMockito.verify(this.userClientRequest).getUserById(2L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(2L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -449,7 +464,7 @@ class AnswerControllerIT {
     @DisplayName("Should fail with status code 401 when unmark best answer if user unauthenticated")
     @Test
     void shouldFailToUnmarkBestAnswerIfUnauthenticated() throws Exception {
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/unmarkBestAnswer",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/unmarkBestAnswer",
                         1, 1)
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
@@ -471,7 +486,7 @@ class AnswerControllerIT {
                  " param different of number type")
     @Test
     void shouldFailToUnmarkBestAnswerIfParamDifferentOfNumberType() throws Exception {
-        this.mockMvc.perform(post("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/unmarkBestAnswer",
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/unmarkBestAnswer",
                         1, "unexpected")
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -484,7 +499,7 @@ class AnswerControllerIT {
                  "topic specified not exists")
     @Test
     void shouldFailToUnmarkBestAnswerIfSpecifiedTopicNotExists() throws Exception {
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/unmarkBestAnswer",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/unmarkBestAnswer",
                         6, 1)
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -505,7 +520,7 @@ class AnswerControllerIT {
                  "answer specified not exists")
     @Test
     void shouldFailToUnmarkBestAnswerIfSpecifiedAnswerNotExists() throws Exception {
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/unmarkBestAnswer",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/unmarkBestAnswer",
                         1, 6)
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -527,10 +542,10 @@ class AnswerControllerIT {
                  "return 404 not found status code")
     @Test
     void shouldFailToUnmarkBestAnswerIfUserServiceReturn404StatusCode() throws Exception {
-        BDDMockito.given(this.userClientRequest.getUserById(2L)).
-                willThrow(new RestClientException(HttpStatus.NOT_FOUND, "Usuário não encontrado"));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L)).
+                willReturn(Mono.error(new RestClientException(HttpStatus.NOT_FOUND, "Usuário não encontrado")));
 
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/unmarkBestAnswer",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/unmarkBestAnswer",
                         1, 1)
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -546,7 +561,7 @@ class AnswerControllerIT {
                         .findFirst().orElseThrow().isBestAnswer())
         );
 
-        BDDMockito.verify(this.userClientRequest).getUserById(2L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(2L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -556,10 +571,10 @@ class AnswerControllerIT {
                  "authenticated user isn't owner of topic")
     @Test
     void shouldFailToUnmarkBestAnswerIfAuthenticatedUserIsNotOwnerTopic() throws Exception {
-        BDDMockito.given(this.userClientRequest.getUserById(3L)).
-                willReturn(TestsHelper.AuthorHelper.authorList().get(2));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(3L)).
+                willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(2)));
 
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/unmarkBestAnswer",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/unmarkBestAnswer",
                         1, 1)
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "3")))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -577,7 +592,7 @@ class AnswerControllerIT {
                         .findFirst().orElseThrow().isBestAnswer())
         );
 
-        BDDMockito.verify(this.userClientRequest).getUserById(3L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(3L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -587,10 +602,10 @@ class AnswerControllerIT {
                  "yet not exists a answer for specified topic")
     @Test
     void shouldFailToUnmarkAnswerBestIfYetNotExistsAnswer() throws Exception {
-        BDDMockito.given(this.userClientRequest.getUserById(2L)).
-                willReturn(TestsHelper.AuthorHelper.authorList().get(1));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L)).
+                willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(1)));
 
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/unmarkBestAnswer",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/unmarkBestAnswer",
                         4, 1)
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -607,7 +622,7 @@ class AnswerControllerIT {
                 () -> assertEquals(0, topic.getAnswers().size())
         );
 
-        BDDMockito.verify(this.userClientRequest).getUserById(2L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(2L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -617,10 +632,10 @@ class AnswerControllerIT {
                  "not belongs to the topic provided")
     @Test
     void shouldFailToUnmarkBestAnswerIfAnswerProvidedNotBelongsToTheTopicProvided() throws Exception {
-        BDDMockito.given(this.userClientRequest.getUserById(3L)).
-                willReturn(TestsHelper.AuthorHelper.authorList().get(2));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(3L)).
+                willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(2)));
 
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/unmarkBestAnswer",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/unmarkBestAnswer",
                         2, 1)
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "3")))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -636,7 +651,7 @@ class AnswerControllerIT {
                 () -> assertTrue(topic.getAnswers().stream().noneMatch(a -> a.getId().equals(1L)))
         );
 
-        BDDMockito.verify(this.userClientRequest).getUserById(3L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(3L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -645,10 +660,10 @@ class AnswerControllerIT {
                  "isn't as best answer")
     @Test
     void shouldFailToUnmarkBestAnswerIfAnswerProvidedIsNotAsBestAnswer() throws Exception {
-        BDDMockito.given(this.userClientRequest.getUserById(2L)).
-                willReturn(TestsHelper.AuthorHelper.authorList().get(1));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L)).
+                willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(1)));
 
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/unmarkBestAnswer",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/unmarkBestAnswer",
                         1, 1)
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -664,7 +679,7 @@ class AnswerControllerIT {
                 () -> assertFalse(topic.getAnswers().stream().allMatch(Answer::isBestAnswer))
         );
 
-        BDDMockito.verify(this.userClientRequest).getUserById(2L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(2L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -675,10 +690,10 @@ class AnswerControllerIT {
                  "previous premisses are adequate")
     @Test
     void shouldUnmarkBestAnswerWithSuccessIfAuthenticated() throws Exception {
-        BDDMockito.given(this.userClientRequest.getUserById(3L)).
-                willReturn(TestsHelper.AuthorHelper.authorList().get(2));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(3L)).
+                willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(2)));
 
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/unmarkBestAnswer",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/unmarkBestAnswer",
                         2, 2)
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "3")))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -694,7 +709,7 @@ class AnswerControllerIT {
                         .findFirst().orElseThrow().isBestAnswer())
         );
 
-        BDDMockito.verify(this.userClientRequest).getUserById(3L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(3L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -707,7 +722,7 @@ class AnswerControllerIT {
         final AnswerRequestDTO answerUpdateDTO =
                 new AnswerRequestDTO("Primeiro teste de edição de uma resposta");
 
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
                         1, 1)
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -738,7 +753,7 @@ class AnswerControllerIT {
         final AnswerRequestDTO answerUpdateDTO =
                 new AnswerRequestDTO("Primeiro teste de edição de uma resposta");
 
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
                         1, "unexpected")
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "2"))
                                 .authorities(new SimpleGrantedAuthority("SCOPE_answer:edit")))
@@ -754,7 +769,7 @@ class AnswerControllerIT {
     void shouldFailIfSolutionPropertyIsEmptyWhenEditAnswer() throws Exception {
         final AnswerRequestDTO answerUpdateDTO = new AnswerRequestDTO("");
 
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
                         1, 1)
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "2"))
                                 .authorities(new SimpleGrantedAuthority("SCOPE_answer:edit")))
@@ -784,7 +799,7 @@ class AnswerControllerIT {
         final AnswerRequestDTO answerUpdateDTO =
                 new AnswerRequestDTO("Primeiro teste de edição de uma resposta");
 
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
                         6, 1)
                         .queryParam("answer_id", "1")
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "2"))
@@ -816,7 +831,7 @@ class AnswerControllerIT {
         final AnswerRequestDTO answerUpdateDTO =
                 new AnswerRequestDTO("Primeiro teste de edição de uma resposta");
 
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
                         1, 6)
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "2"))
                                 .authorities(new SimpleGrantedAuthority("SCOPE_answer:edit")))
@@ -848,10 +863,10 @@ class AnswerControllerIT {
         final AnswerRequestDTO answerUpdateDTO =
                 new AnswerRequestDTO("Primeiro teste de edição de uma resposta");
 
-        BDDMockito.given(this.userClientRequest.getUserById(2L))
-                .willThrow(new RestClientException(HttpStatus.NOT_FOUND, "Usuário não encontrado"));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L))
+                .willReturn(Mono.error(new RestClientException(HttpStatus.NOT_FOUND, "Usuário não encontrado")));
 
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
                         1, 1)
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "2"))
                                 .authorities(new SimpleGrantedAuthority("SCOPE_answer:edit")))
@@ -872,7 +887,7 @@ class AnswerControllerIT {
                         .getSolution())
         );
 
-        BDDMockito.verify(this.userClientRequest).getUserById(2L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(2L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -884,10 +899,10 @@ class AnswerControllerIT {
         final AnswerRequestDTO answerUpdateDTO =
                 new AnswerRequestDTO("Primeiro teste de edição de uma resposta");
 
-        BDDMockito.given(this.userClientRequest.getUserById(2L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(1));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(1)));
 
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
                         1, 1)
                         .with(jwt().jwt(JWT)
                                 .authorities(new SimpleGrantedAuthority("SCOPE_answer:edit")))
@@ -907,7 +922,7 @@ class AnswerControllerIT {
                         .getSolution())
         );
 
-        BDDMockito.verify(this.userClientRequest).getUserById(2L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(2L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -919,10 +934,10 @@ class AnswerControllerIT {
         final AnswerRequestDTO answerUpdateDTO =
                 new AnswerRequestDTO("Primeiro teste de edição de uma resposta");
 
-        BDDMockito.given(this.userClientRequest.getUserById(3L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(2));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(3L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(2)));
 
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
                         1, 4)
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "3"))
                                 .authorities(new SimpleGrantedAuthority("SCOPE_answer:edit")))
@@ -945,7 +960,7 @@ class AnswerControllerIT {
                         .getSolution())
         );
 
-        BDDMockito.verify(this.userClientRequest).getUserById(3L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(3L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -957,15 +972,15 @@ class AnswerControllerIT {
         final AnswerRequestDTO answerUpdateDTO =
                 new AnswerRequestDTO("Primeiro teste de edição de uma resposta");
 
-        BDDMockito.given(this.userClientRequest.getUserById(3L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(2));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(3L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(2)));
 
         this.authorRepository.findById(1L).ifPresent(author -> {
             author.setId(5L);
             this.authorRepository.save(author);
         });
 
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
                         1, 4)
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "3"))
                                 .authorities(new SimpleGrantedAuthority("SCOPE_answer:edit")))
@@ -977,7 +992,7 @@ class AnswerControllerIT {
                 .andExpect(jsonPath("$.answer.solution",
                         is("Primeiro teste de edição de uma resposta")));
 
-        BDDMockito.verify(this.userClientRequest).getUserById(3L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(3L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -989,15 +1004,15 @@ class AnswerControllerIT {
         final AnswerRequestDTO answerUpdateDTO =
                 new AnswerRequestDTO("Primeiro teste de edição de uma resposta");
 
-        BDDMockito.given(this.userClientRequest.getUserById(3L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(2));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(3L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(2)));
 
         this.authorRepository.findById(1L).ifPresent(author -> {
             author.setUsername("João");
             this.authorRepository.save(author);
         });
 
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
                         1, 4)
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "3"))
                                 .authorities(new SimpleGrantedAuthority("SCOPE_answer:edit")))
@@ -1010,7 +1025,7 @@ class AnswerControllerIT {
                         is("Primeiro teste de edição de uma resposta")));
 
 
-        BDDMockito.verify(this.userClientRequest).getUserById(3L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(3L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
 
@@ -1025,10 +1040,10 @@ class AnswerControllerIT {
         final AnswerRequestDTO answerUpdateDTO =
                 new AnswerRequestDTO("Primeiro teste de edição de uma resposta");
 
-        BDDMockito.given(this.userClientRequest.getUserById(3L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(2));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(3L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(2)));
 
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
                         1, 1)
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "3"))
                                 .authorities(new SimpleGrantedAuthority("SCOPE_answer:edit")))
@@ -1050,7 +1065,7 @@ class AnswerControllerIT {
                         .getSolution())
         );
 
-        BDDMockito.verify(this.userClientRequest).getUserById(3L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(3L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -1064,10 +1079,10 @@ class AnswerControllerIT {
         final AnswerRequestDTO answerUpdateDTO =
                 new AnswerRequestDTO("Segundo teste de edição de uma resposta");
 
-        BDDMockito.given(this.userClientRequest.getUserById(3L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(2));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(3L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(2)));
 
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
                         1, 1)
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "3"))
                                 .authorities(new SimpleGrantedAuthority("SCOPE_answer:edit")))
@@ -1088,7 +1103,7 @@ class AnswerControllerIT {
                         .getSolution())
         );
 
-        BDDMockito.verify(this.userClientRequest).getUserById(3L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(3L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -1102,10 +1117,10 @@ class AnswerControllerIT {
         final AnswerRequestDTO answerUpdateDTO =
                 new AnswerRequestDTO("Terceiro teste de edição de uma resposta");
 
-        BDDMockito.given(this.userClientRequest.getUserById(3L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(2));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(3L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(2)));
 
-        this.mockMvc.perform(patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
+        MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/edit",
                         3, 3)
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "3"))
                                 .authorities(new SimpleGrantedAuthority("SCOPE_answer:edit")))
@@ -1126,7 +1141,7 @@ class AnswerControllerIT {
                         .getSolution())
         );
 
-        BDDMockito.verify(this.userClientRequest).getUserById(3L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(3L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -1136,7 +1151,7 @@ class AnswerControllerIT {
                  " when delete answer")
     @Test
     void shouldFailIfUserHasNotSuitableAuthorityWhenDeleteAnswer() throws Exception {
-        this.mockMvc.perform(delete("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/delete",
+        MockMvcHelper.perform(this.mockMvc, delete("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/delete",
                         1, 1)
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -1159,7 +1174,7 @@ class AnswerControllerIT {
                  " param different of type number")
     @Test
     void shouldFailToDeleteTopicIfParamDifferentOfTypeNumber() throws Exception {
-        this.mockMvc.perform(delete("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/delete",
+        MockMvcHelper.perform(this.mockMvc, delete("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/delete",
                         1, "unexpected")
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "2"))
                                 .authorities(new SimpleGrantedAuthority("SCOPE_answer:delete")))
@@ -1173,10 +1188,10 @@ class AnswerControllerIT {
                  "return 404 not found status code")
     @Test
     void shouldFailToDeleteAnswerIfUserServiceReturn404StatusCode() throws Exception {
-        BDDMockito.given(this.userClientRequest.getUserById(2L))
-                .willThrow(new RestClientException(HttpStatus.NOT_FOUND, "Usuário não encontrado"));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L))
+                .willReturn(Mono.error(new RestClientException(HttpStatus.NOT_FOUND, "Usuário não encontrado")));
 
-        this.mockMvc.perform(delete("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/delete",
+        MockMvcHelper.perform(this.mockMvc, delete("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/delete",
                         1, 1)
                         .with(jwt().jwt(JWT)
                                 .authorities(new SimpleGrantedAuthority("SCOPE_answer:delete")))
@@ -1192,7 +1207,7 @@ class AnswerControllerIT {
 
         );
 
-        BDDMockito.verify(this.userClientRequest).getUserById(2L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(2L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -1202,10 +1217,10 @@ class AnswerControllerIT {
                  "provided topic when delete answer")
     @Test
     void shouldFailIfProvidedAnswerNotBelongingToTheProvidedTopicWhenDeleteAnswer() throws Exception {
-        BDDMockito.given(this.userClientRequest.getUserById(2L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(1));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(1)));
 
-        this.mockMvc.perform(delete("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/delete",
+        MockMvcHelper.perform(this.mockMvc, delete("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/delete",
                         1, 2)
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "2"))
                                 .authorities(new SimpleGrantedAuthority("SCOPE_answer:delete")))
@@ -1224,7 +1239,7 @@ class AnswerControllerIT {
 
         );
 
-        BDDMockito.verify(this.userClientRequest).getUserById(2L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(2L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
     }
 
@@ -1232,10 +1247,10 @@ class AnswerControllerIT {
     @DisplayName("Should fail with status code 418 if basic user attempt delete answer of other author")
     @Test
     void shouldFailIfBasicUserAttemptDeleteAnswerOfOtherAuthor() throws Exception {
-        BDDMockito.given(this.userClientRequest.getUserById(2L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(1));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(1)));
 
-        this.mockMvc.perform(delete("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/delete",
+        MockMvcHelper.perform(this.mockMvc, delete("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/delete",
                         1, 1)
                         .with(jwt().jwt(JWT)
                                 .authorities(new SimpleGrantedAuthority("SCOPE_answer:delete")))
@@ -1252,7 +1267,7 @@ class AnswerControllerIT {
 
         );
 
-        BDDMockito.verify(this.userClientRequest).getUserById(2L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(2L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -1263,10 +1278,10 @@ class AnswerControllerIT {
                  "has authority 'answer:delete' and previous premisses are adequate")
     @Test
     void answerAuthorShouldDeleteYourAnswerWithSuccessIfHasSuitableAuthority() throws Exception {
-        BDDMockito.given(this.userClientRequest.getUserById(3L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(2));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(3L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(2)));
 
-        this.mockMvc.perform(delete("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/delete",
+        MockMvcHelper.perform(this.mockMvc, delete("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/delete",
                         1, 1)
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "3"))
                                 .authorities(new SimpleGrantedAuthority("SCOPE_answer:delete")))
@@ -1275,7 +1290,7 @@ class AnswerControllerIT {
                 .andExpect(status().isOk())
                 .andExpect(content().json("{\"message\":\"HttpStatusCode OK\"}"));
 
-        BDDMockito.verify(this.userClientRequest).getUserById(3L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(3L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -1286,10 +1301,10 @@ class AnswerControllerIT {
                  "with successful if has authority 'answer:delete'")
     @Test
     void userADMShouldDeleteAnAnswerOfTheOtherAuthorWithSuccessful() throws Exception {
-        BDDMockito.given(this.userClientRequest.getUserById(3L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(2));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(3L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(2)));
 
-        this.mockMvc.perform(delete("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/delete",
+        MockMvcHelper.perform(this.mockMvc, delete("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/delete",
                         2, 2)
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "3"))
                                 .authorities(new SimpleGrantedAuthority("SCOPE_answer:delete")))
@@ -1298,7 +1313,7 @@ class AnswerControllerIT {
                 .andExpect(status().isOk())
                 .andExpect(content().json("{\"message\":\"HttpStatusCode OK\"}"));
 
-        BDDMockito.verify(this.userClientRequest).getUserById(3L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(3L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -1309,10 +1324,10 @@ class AnswerControllerIT {
                  "with successful if has authority 'answer:delete'")
     @Test
     void userMODShouldDeleteAnAnswerOfTheOtherAuthorWithSuccessful() throws Exception {
-        BDDMockito.given(this.userClientRequest.getUserById(2L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(1));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(1)));
 
-        this.mockMvc.perform(delete("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/delete",
+        MockMvcHelper.perform(this.mockMvc, delete("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/delete",
                         2, 2)
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "2"))
                                 .authorities(new SimpleGrantedAuthority("SCOPE_answer:delete")))
@@ -1321,10 +1336,68 @@ class AnswerControllerIT {
                 .andExpect(status().isOk())
                 .andExpect(content().json("{\"message\":\"HttpStatusCode OK\"}"));
 
-        BDDMockito.verify(this.userClientRequest).getUserById(2L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(2L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
 
 
+    @Order(Integer.MAX_VALUE)
+    @Transactional
+    @DisplayName("Should list answers of the topic with best answer pinned following next links")
+    @Test
+    void shouldListAnswersWithBestAnswerPinnedFollowingNextLinks() throws Exception {
+        Author author = TestsHelper.AuthorHelper.authorList().get(1);
+        Topic topic = this.topicRepository.save(new Topic("Dúvida sobre paginação", "Como paginar respostas?", author,
+                TestsHelper.CourseHelper.courseList().get(0)));
+        List<Answer> answers = this.answerRepository.saveAll(List.of(
+                Answer.builder().topic(topic).author(author).solution("Primeira resposta")
+                        .createdAt(LocalDateTime.of(2024, 8, 10, 10, 0)).build(),
+                Answer.builder().topic(topic).author(author).solution("Segunda resposta")
+                        .createdAt(LocalDateTime.of(2024, 8, 11, 10, 0)).bestAnswer(true).build(),
+                Answer.builder().topic(topic).author(author).solution("Terceira resposta")
+                        .createdAt(LocalDateTime.of(2024, 8, 12, 10, 0)).build()));
+        this.topicStatisticsRepairer.repair();
+
+        String firstPage = MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/{topic_id}/answers",
+                                topic.getId())
+                        .queryParam("size", "1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.answerSummaryResponseDTOList[*].id",
+                        contains(answers.get(1).getId().intValue())))
+                .andExpect(jsonPath("$._links.next.href").exists())
+                .andReturn().getResponse().getContentAsString();
+
+        String secondPage = MockMvcHelper.perform(this.mockMvc, get(URI.create(JsonPath.read(firstPage, "$._links.next.href")))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.answerSummaryResponseDTOList[*].id",
+                        contains(answers.get(0).getId().intValue())))
+                .andExpect(jsonPath("$._links.next.href").exists())
+                .andReturn().getResponse().getContentAsString();
+
+        MockMvcHelper.perform(this.mockMvc, get(URI.create(JsonPath.read(secondPage, "$._links.next.href")))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.answerSummaryResponseDTOList[*].id",
+                        contains(answers.get(2).getId().intValue())))
+                .andExpect(jsonPath("$._links.next").doesNotExist());
+
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics")
+                        .queryParam("topic_id", String.valueOf(topic.getId()))
+                        .queryParam("answers_preview", "2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.answerCount", is(3)))
+                .andExpect(jsonPath("$.answers[*].id",
+                        contains(answers.get(1).getId().intValue(), answers.get(0).getId().intValue())));
+
+    }
+
+
 }
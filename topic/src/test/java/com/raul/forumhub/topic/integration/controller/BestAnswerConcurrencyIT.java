@@ -0,0 +1,189 @@
+package com.raul.forumhub.topic.integration.controller;
+
+import com.raul.forumhub.topic.client.UserClientRequest;
+import com.raul.forumhub.topic.domain.Answer;
+import com.raul.forumhub.topic.domain.Author;
+import com.raul.forumhub.topic.domain.Status;
+import com.raul.forumhub.topic.domain.Topic;
+import com.raul.forumhub.topic.dto.response.AnswerSummaryResponseDTO;
+import com.raul.forumhub.topic.repository.*;
+import com.raul.forumhub.topic.statistics.TopicStatisticsRepairer;
+import com.raul.forumhub.topic.util.MockMvcHelper;
+import com.raul.forumhub.topic.util.TestsHelper;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.*;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc(printOnlyOnFailure = false)
+@ActiveProfiles(value = "test")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@TestClassOrder(ClassOrderer.ClassName.class)
+@Order(8)
+class BestAnswerConcurrencyIT {
+
+    private static final int ANSWERS = 4;
+
+    private static final int THREADS = 8;
+
+    private static final int REQUESTS_PER_THREAD = 25;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    TopicRepository topicRepository;
+
+    @Autowired
+    AnswerRepository answerRepository;
+
+    @MockBean
+    ClientRegistrationRepository clientRegistrationRepository;
+
+    @MockBean
+    UserClientRequest userClientRequest;
+
+    private static Long topicId;
+
+    private static final List<Long> answerIds = new ArrayList<>();
+
+    @BeforeAll
+    static void setup(@Autowired ProfileRepository profileRepository,
+                      @Autowired EntityManagerFactory entityManagerFactory,
+                      @Autowired AuthorRepository authorRepository,
+                      @Autowired CourseRepository courseRepository,
+                      @Autowired TopicRepository topicRepository,
+                      @Autowired AnswerRepository answerRepository,
+                      @Autowired TopicStatisticsRepairer topicStatisticsRepairer) {
+        TestsHelper.CacheHelper.evictSecondLevelCache(entityManagerFactory);
+        profileRepository.saveAll(TestsHelper.ProfileHelper.profileList());
+        authorRepository.saveAll(TestsHelper.AuthorHelper.authorList());
+        courseRepository.saveAll(TestsHelper.CourseHelper.courseList());
+
+        Author author = TestsHelper.AuthorHelper.authorList().get(1);
+        Topic topic = topicRepository.save(new Topic("Dúvida disputada", "Qual é a melhor resposta?", author,
+                TestsHelper.CourseHelper.courseList().get(0)));
+        topicId = topic.getId();
+
+        answerRepository.saveAll(IntStream.range(0, ANSWERS)
+                        .mapToObj(i -> Answer.builder().topic(topic)
+                                .author(TestsHelper.AuthorHelper.authorList().get(2))
+                                .solution("Resposta concorrente " + i)
+                                .createdAt(LocalDateTime.now())
+                                .build())
+                        .toList())
+                .forEach(answer -> answerIds.add(answer.getId()));
+        topicStatisticsRepairer.repair();
+    }
+
+    @AfterAll
+    static void cleanup(@Autowired TopicRepository topicRepository) {
+        topicRepository.deleteById(topicId);
+    }
+
+    @BeforeEach
+    void mockAuthor() {
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(1)));
+    }
+
+    private int request(String operation, Long answer_id) throws Exception {
+        return MockMvcHelper.perform(this.mockMvc, patch("/forumhub.io/api/v1/topics/{topic_id}/answers/{answer_id}/{operation}",
+                        topicId, answer_id, operation)
+                        .with(jwt().jwt(jwt -> jwt.claim("user_id", "2"))))
+                .andReturn().getResponse().getStatus();
+    }
+
+    private List<Integer> concurrently(int threads, int requestsPerThread, Callable<Integer> request) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CyclicBarrier start = new CyclicBarrier(threads);
+        try {
+            List<Future<List<Integer>>> workers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    List<Integer> statuses = new ArrayList<>();
+                    for (int j = 0; j < requestsPerThread; j++) {
+                        statuses.add(request.call());
+                    }
+                    return statuses;
+                }));
+            }
+
+            List<Integer> statuses = new ArrayList<>();
+            for (Future<List<Integer>> worker : workers) {
+                statuses.addAll(worker.get(60, TimeUnit.SECONDS));
+            }
+            return statuses;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void assertConsistentBestAnswer(long expectedBestAnswers) {
+        Topic topic = this.topicRepository.findById(topicId).orElseThrow();
+        List<AnswerSummaryResponseDTO> bestAnswers = this.answerRepository.findBestAnswerSummariesByTopicId(topicId,
+                Limit.of(ANSWERS));
+
+        assertAll(
+                () -> assertEquals(expectedBestAnswers, bestAnswers.size()),
+                () -> assertEquals(bestAnswers.isEmpty() ? null : bestAnswers.get(0).id(), topic.getBestAnswerId()),
+                () -> assertEquals(bestAnswers.isEmpty() ? Status.UNSOLVED : Status.SOLVED, topic.getStatus())
+        );
+    }
+
+
+    @Order(1)
+    @DisplayName("Should mark only one best answer when different answers are marked concurrently")
+    @Test
+    void shouldMarkOnlyOneBestAnswerWhenAnswersAreMarkedConcurrently() throws Exception {
+        List<Integer> statuses = this.concurrently(THREADS, 1, () ->
+                this.request("markBestAnswer", answerIds.get(ThreadLocalRandom.current().nextInt(ANSWERS))));
+
+        assertAll(
+                () -> assertEquals(1, statuses.stream().filter(status -> status == 200).count()),
+                () -> assertEquals(THREADS - 1, statuses.stream().filter(status -> status == 422).count())
+        );
+        this.assertConsistentBestAnswer(1);
+
+    }
+
+
+    @Order(2)
+    @DisplayName("Should keep a single consistent best answer under concurrent mark and unmark requests")
+    @Test
+    void shouldKeepSingleBestAnswerUnderConcurrentMarkAndUnmark() throws Exception {
+        List<Integer> statuses = this.concurrently(THREADS, REQUESTS_PER_THREAD, () -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            Long answer_id = answerIds.get(random.nextInt(ANSWERS));
+            String operation = random.nextBoolean() ? "markBestAnswer" : "unmarkBestAnswer";
+            return this.request(operation, answer_id);
+        });
+
+        assertTrue(statuses.stream().allMatch(status -> status == 200 || status == 418 || status == 422),
+                () -> "Status inesperados: " + statuses);
+        Long bestAnswerId = this.topicRepository.findById(topicId).orElseThrow().getBestAnswerId();
+        this.assertConsistentBestAnswer(bestAnswerId == null ? 0 : 1);
+
+    }
+
+}
@@ -9,11 +9,14 @@ import com.raul.forumhub.topic.repository.CourseRepository;
 import com.raul.forumhub.topic.repository.ProfileRepository;
 import com.raul.forumhub.topic.repository.TopicRepository;
 import com.raul.forumhub.topic.util.TestsHelper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
@@ -24,6 +27,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.nio.charset.StandardCharsets;
 
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -49,9 +53,15 @@ class CourseControllerIT {
     @Autowired
     ProfileRepository profileRepository;
 
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
     @Autowired
     AuthorRepository authorRepository;
 
+    @Autowired
+    MeterRegistry meterRegistry;
+
     @MockBean
     ClientRegistrationRepository clientRegistrationRepository;
 
@@ -61,6 +71,7 @@ class CourseControllerIT {
     @BeforeEach
     void setup() {
         if (!hasBeenInitialized) {
+            TestsHelper.CacheHelper.evictSecondLevelCache(this.entityManagerFactory);
             this.profileRepository.saveAll(TestsHelper.ProfileHelper.profileList());
             this.authorRepository.saveAll(TestsHelper.AuthorHelper.authorList());
             this.courseRepository.saveAll(TestsHelper.CourseHelper.courseList());
@@ -283,6 +294,33 @@ class CourseControllerIT {
 
     }
 
+    @DisplayName("Should serve the course listing from the query cache and expose per-region cache metrics")
+    @Test
+    void shouldServeCourseListingFromQueryCacheWithRegionMetrics() throws Exception {
+        this.mockMvc.perform(get("/forumhub.io/api/v1/courses/listAll")
+                        .with(jwt()))
+                .andExpect(status().isOk());
+        double hits = this.meterRegistry.get("hibernate.cache.query.requests").tag("result", "hit")
+                .functionCounter().count();
+
+        this.mockMvc.perform(get("/forumhub.io/api/v1/courses/listAll")
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$..course.length()", is(4)));
+
+        assertAll(
+                () -> assertEquals(hits + 1, this.meterRegistry.get("hibernate.cache.query.requests")
+                        .tag("result", "hit").functionCounter().count()),
+                () -> assertNotNull(this.meterRegistry.find("hibernate.second.level.cache.requests")
+                        .tags("region", "course", "result", "hit").functionCounter()),
+                () -> assertNotNull(this.meterRegistry.find("hibernate.second.level.cache.requests")
+                        .tags("region", "author", "result", "hit").functionCounter()),
+                () -> assertNotNull(this.meterRegistry.find("hibernate.second.level.cache.requests")
+                        .tags("region", "profile", "result", "hit").functionCounter())
+        );
+
+    }
+
     @Test
     @DisplayName("Should fail with status code 401 when get course if unauthenticated")
     void shouldFailWhenGetCourseIfIsUnauthenticated() throws Exception {
@@ -431,6 +469,56 @@ class CourseControllerIT {
     }
 
 
+    @Test
+    @DisplayName("Should answer status code 304 while the course isn't edited and the course once it's edited")
+    void shouldAnswerNotModifiedWhileCourseIsNotEdited() throws Exception {
+        String eTag = this.mockMvc.perform(get("/forumhub.io/api/v1/courses")
+                        .queryParam("course_id", "2")
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String listETag = this.mockMvc.perform(get("/forumhub.io/api/v1/courses/listAll")
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        this.mockMvc.perform(get("/forumhub.io/api/v1/courses")
+                        .queryParam("course_id", "2")
+                        .with(jwt())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        this.mockMvc.perform(get("/forumhub.io/api/v1/courses/listAll")
+                        .with(jwt())
+                        .header(HttpHeaders.IF_NONE_MATCH, listETag))
+                .andExpect(status().isNotModified());
+
+        this.mockMvc.perform(put("/forumhub.io/api/v1/courses/{course_id}/edit", 2L)
+                        .with(jwt().authorities(
+                                new SimpleGrantedAuthority("SCOPE_course:edit"),
+                                new SimpleGrantedAuthority("ROLE_ADM")))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .content(new ObjectMapper().writeValueAsString(
+                                new CourseRequestDTO("Gerenciamento de contêiners", Course.Category.CLOUD_COMPUTATION))))
+                .andExpect(status().isOk());
+
+        this.mockMvc.perform(get("/forumhub.io/api/v1/courses")
+                        .queryParam("course_id", "2")
+                        .with(jwt())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+                .andExpect(jsonPath("$.course.name", is("Gerenciamento de contêiners")));
+        this.mockMvc.perform(get("/forumhub.io/api/v1/courses/listAll")
+                        .with(jwt())
+                        .header(HttpHeaders.IF_NONE_MATCH, listETag))
+                .andExpect(status().isOk());
+
+    }
+
+
     @Transactional
     @DisplayName("Should edit course with success if user ADM authenticated, " +
                  "has authority course:edit and previous premisses are adequate")
@@ -2,20 +2,28 @@ package com.raul.forumhub.topic.integration.controller;
 
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
 import com.raul.forumhub.topic.client.UserClientRequest;
 import com.raul.forumhub.topic.domain.Status;
 import com.raul.forumhub.topic.domain.Topic;
 import com.raul.forumhub.topic.dto.request.TopicCreateRequestDTO;
 import com.raul.forumhub.topic.dto.request.TopicUpdateRequestDTO;
+import com.raul.forumhub.topic.dto.response.TopicDetailResponseDTO;
 import com.raul.forumhub.topic.exception.RestClientException;
 import com.raul.forumhub.topic.repository.*;
+import com.raul.forumhub.topic.service.TopicService;
+import com.raul.forumhub.topic.util.MockMvcHelper;
 import com.raul.forumhub.topic.util.TestsHelper;
+import com.raul.forumhub.topic.views.TopicViewCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.*;
 import org.mockito.BDDMockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -25,10 +33,15 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -60,6 +73,18 @@ class TopicControllerIT {
     @Autowired
     ProfileRepository profileRepository;
 
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    TopicService topicService;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    TopicViewCounter topicViewCounter;
+
     @MockBean
     ClientRegistrationRepository clientRegistrationRepository;
 
@@ -80,6 +105,7 @@ class TopicControllerIT {
     @BeforeEach
     void setup() {
         if (!hasBeenInitialized) {
+            TestsHelper.CacheHelper.evictSecondLevelCache(this.entityManagerFactory);
             this.profileRepository.saveAll(TestsHelper.ProfileHelper.profileList());
             this.authorRepository.saveAll(TestsHelper.AuthorHelper.authorList());
             this.courseRepository.saveAll(TestsHelper.CourseHelper.courseList());
@@ -97,7 +123,7 @@ class TopicControllerIT {
                 "Como utilizar o Feign Client para integração do serviço x?",
                 1L);
 
-        this.mockMvc.perform(post("/forumhub.io/api/v1/topics/creat")
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/creat")
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8)
@@ -114,7 +140,7 @@ class TopicControllerIT {
                 "Como utilizar o Feign Client para integração do serviço x?",
                 1L);
 
-        this.mockMvc.perform(put("/forumhub.io/api/v1/topics/create")
+        MockMvcHelper.perform(this.mockMvc, put("/forumhub.io/api/v1/topics/create")
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8)
@@ -132,7 +158,7 @@ class TopicControllerIT {
                 "Como utilizar o Feign Client para integração do serviço x?",
                 1L);
 
-        this.mockMvc.perform(post("/forumhub.io/api/v1/topics/create")
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/create")
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8)
                         .content(new ObjectMapper()
@@ -153,10 +179,10 @@ class TopicControllerIT {
                 "Como utilizar o Feign Client para integração do serviço x?",
                 1L);
 
-        BDDMockito.given(this.userClientRequest.getUserById(2L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(1));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(1)));
 
-        this.mockMvc.perform(post("/forumhub.io/api/v1/topics/create")
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/create")
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8)
@@ -179,10 +205,10 @@ class TopicControllerIT {
                 "",
                 1L);
 
-        BDDMockito.given(this.userClientRequest.getUserById(2L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(1));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(1)));
 
-        this.mockMvc.perform(post("/forumhub.io/api/v1/topics/create")
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/create")
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8)
@@ -207,10 +233,10 @@ class TopicControllerIT {
                 "Diferença entre o Feign Client, RestTemplate e WebClient",
                 1L);
 
-        BDDMockito.given(this.userClientRequest.getUserById(2L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(1));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(1)));
 
-        this.mockMvc.perform(post("/forumhub.io/api/v1/topics/create")
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/create")
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8)
@@ -219,7 +245,7 @@ class TopicControllerIT {
                 .andExpect(status().isPayloadTooLarge())
                 .andExpect(jsonPath("$.detail", is("Payload com valor muito grande")));
 
-        BDDMockito.verify(this.userClientRequest).getUserById(2L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(2L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -232,10 +258,10 @@ class TopicControllerIT {
                 "Como utilizar o Feign Client para integração do serviço x?",
                 5L);
 
-        BDDMockito.given(this.userClientRequest.getUserById(2L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(1));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(1)));
 
-        this.mockMvc.perform(post("/forumhub.io/api/v1/topics/create")
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/create")
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8)
@@ -245,7 +271,7 @@ class TopicControllerIT {
 
         Assertions.assertEquals(4, this.topicRepository.findAll().size());
 
-        BDDMockito.verify(this.userClientRequest).getUserById(2L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(2L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -259,10 +285,10 @@ class TopicControllerIT {
                 "Como utilizar o Feign Client para integração do serviço x?",
                 1L);
 
-        BDDMockito.given(this.userClientRequest.getUserById(2L))
-                .willThrow(new RestClientException(HttpStatus.NOT_FOUND, "Usuário não encontrado"));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L))
+                .willReturn(Mono.error(new RestClientException(HttpStatus.NOT_FOUND, "Usuário não encontrado")));
 
-        this.mockMvc.perform(post("/forumhub.io/api/v1/topics/create")
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/create")
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8)
@@ -272,7 +298,7 @@ class TopicControllerIT {
 
         Assertions.assertEquals(4, this.topicRepository.findAll().size());
 
-        BDDMockito.verify(this.userClientRequest).getUserById(2L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(2L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -287,10 +313,10 @@ class TopicControllerIT {
                 "Como utilizar o Feign Client para integração do serviço x?",
                 1L);
 
-        BDDMockito.given(this.userClientRequest.getUserById(2L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(1));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(1)));
 
-        this.mockMvc.perform(post("/forumhub.io/api/v1/topics/create")
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/create")
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8)
@@ -300,7 +326,7 @@ class TopicControllerIT {
 
         Assertions.assertEquals(5, this.topicRepository.findAll().size());
 
-        BDDMockito.verify(this.userClientRequest).getUserById(2L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(2L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -310,7 +336,7 @@ class TopicControllerIT {
                  "property 'sort' of pagination properties not exists")
     @Test
     void shouldFailWhenRequestAllTopicIfSortPropertyValueNotExists() throws Exception {
-        this.mockMvc.perform(get("/forumhub.io/api/v1/topics/listAll")
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/listAll")
                         .queryParam("sort", "unexpected")
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
@@ -323,11 +349,11 @@ class TopicControllerIT {
     @DisplayName("Should return all topics unsorted with successful")
     @Test
     void shouldReturnAllTopicsUnsortedWithSuccessful() throws Exception {
-        this.mockMvc.perform(get("/forumhub.io/api/v1/topics/listAll")
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/listAll")
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$..topicResponseDTOList.length()", is(4)))
+                .andExpect(jsonPath("$..topicSummaryResponseDTOList.length()", is(4)))
                 .andExpect(jsonPath("$..page.[?(@.size == 10)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.totalElements == 4)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.totalPages == 1)]").exists());
@@ -337,20 +363,45 @@ class TopicControllerIT {
 
     }
 
+    @DisplayName("Should walk all topics newest first following keyset next links")
+    @Test
+    void shouldWalkAllTopicsFollowingKeysetNextLinks() throws Exception {
+        String firstPage = MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/listAll")
+                        .queryParam("cursor", "")
+                        .queryParam("size", "3")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[*].id", contains(3, 1, 2)))
+                .andExpect(jsonPath("$._links.next.href").exists())
+                .andExpect(jsonPath("$.page").doesNotExist())
+                .andReturn().getResponse().getContentAsString();
+
+        String nextLink = JsonPath.read(firstPage, "$._links.next.href");
+
+        MockMvcHelper.perform(this.mockMvc, get(URI.create(nextLink))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[*].id", contains(4)))
+                .andExpect(jsonPath("$._links.next").doesNotExist());
+
+    }
+
 
     @DisplayName("Should return all topics sorted descendants by created date with successful")
     @Test
     void shouldReturnAllTopicsSortedDescendantByCreateDateWithSuccessful() throws Exception {
-        this.mockMvc.perform(get("/forumhub.io/api/v1/topics/listAll")
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/listAll")
                         .queryParam("sort", "createdAt,desc")
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$..topicResponseDTOList[0].[?(@.topic.id == 3)]").exists())
-                .andExpect(jsonPath("$..topicResponseDTOList[1].[?(@.topic.id == 1)]").exists())
-                .andExpect(jsonPath("$..topicResponseDTOList[2].[?(@.topic.id == 2)]").exists())
-                .andExpect(jsonPath("$..topicResponseDTOList[3].[?(@.topic.id == 4)]").exists())
-                .andExpect(jsonPath("$..topicResponseDTOList.length()", is(4)))
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[0].id", is(3)))
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[1].id", is(1)))
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[2].id", is(2)))
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[3].id", is(4)))
+                .andExpect(jsonPath("$..topicSummaryResponseDTOList.length()", is(4)))
                 .andExpect(jsonPath("$..page.[?(@.size == 10)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.totalElements == 4)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.totalPages == 1)]").exists());
@@ -364,16 +415,16 @@ class TopicControllerIT {
     @DisplayName("Should return only two topics sorted in ascendant by status with successful")
     @Test
     void shouldReturnTwoTopicsSortedAscendantByStatusWithSuccessful() throws Exception {
-        this.mockMvc.perform(get("/forumhub.io/api/v1/topics/listAll")
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/listAll")
                         .queryParam("size", "2")
                         .queryParam("sort", "status,asc")
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$..topicResponseDTOList[0].[?(@.topic.status == \"SOLVED\")]").exists())
-                .andExpect(jsonPath("$..topicResponseDTOList[1].[?(@.topic.status == \"UNSOLVED\")]").exists())
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[0].status", is("SOLVED")))
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[1].status", is("UNSOLVED")))
                 .andExpect(jsonPath("$..page.[?(@.number == 0)]").exists())
-                .andExpect(jsonPath("$..topicResponseDTOList.length()", is(2)))
+                .andExpect(jsonPath("$..topicSummaryResponseDTOList.length()", is(2)))
                 .andExpect(jsonPath("$..page.[?(@.size == 2)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.totalElements == 4)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.totalPages == 2)]").exists());
@@ -386,17 +437,17 @@ class TopicControllerIT {
     @DisplayName("Should return all topics sorted ascendants by title with successful")
     @Test
     void shouldReturnAllTopicsSortedAscendantByTitleWithSuccessful() throws Exception {
-        this.mockMvc.perform(get("/forumhub.io/api/v1/topics/listAll")
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/listAll")
                         .queryParam("sort", "title,asc")
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$..topicResponseDTOList[0].[?(@.topic.id == 3)]").exists())
-                .andExpect(jsonPath("$..topicResponseDTOList[1].[?(@.topic.id == 1)]").exists())
-                .andExpect(jsonPath("$..topicResponseDTOList[2].[?(@.topic.id == 2)]").exists())
-                .andExpect(jsonPath("$..topicResponseDTOList[3].[?(@.topic.id == 4)]").exists())
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[0].id", is(3)))
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[1].id", is(1)))
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[2].id", is(2)))
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[3].id", is(4)))
                 .andExpect(jsonPath("$..page.[?(@.number == 0)]").exists())
-                .andExpect(jsonPath("$..topicResponseDTOList.length()", is(4)))
+                .andExpect(jsonPath("$..topicSummaryResponseDTOList.length()", is(4)))
                 .andExpect(jsonPath("$..page.[?(@.size == 10)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.totalElements == 4)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.totalPages == 1)]").exists());
@@ -410,12 +461,12 @@ class TopicControllerIT {
                  " isn't exist none topics associate with course")
     @Test
     void shouldReturnPageWithoutContentWhenIsNotExistNoneTopicAssociatedToTheCourse() throws Exception {
-        this.mockMvc.perform(get("/forumhub.io/api/v1/topics/searchTopicsByCourse")
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/searchTopicsByCourse")
                         .queryParam("course_id", "4")
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$..topicResponseDTOList.length()", is(0)))
+                .andExpect(jsonPath("$..topicSummaryResponseDTOList.length()", is(0)))
                 .andExpect(jsonPath("$..page.[?(@.size == 10)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.totalElements == 0)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.totalPages == 0)]").exists());
@@ -429,12 +480,12 @@ class TopicControllerIT {
     @DisplayName("Should return topics by course id unsorted with successful")
     @Test
     void shouldReturnTopicsByCourseUnsortedWithSuccessful() throws Exception {
-        this.mockMvc.perform(get("/forumhub.io/api/v1/topics/searchTopicsByCourse")
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/searchTopicsByCourse")
                         .queryParam("course_id", "1")
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$..topicResponseDTOList.length()", is(2)))
+                .andExpect(jsonPath("$..topicSummaryResponseDTOList.length()", is(2)))
                 .andExpect(jsonPath("$..page.[?(@.size == 10)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.totalElements == 2)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.totalPages == 1)]").exists());
@@ -449,15 +500,15 @@ class TopicControllerIT {
     @DisplayName("Should return topics by course id sorted descendants by created date with successful")
     @Test
     void shouldReturnTopicsByCourseSortedDescendantByCreateDateWithSuccessful() throws Exception {
-        this.mockMvc.perform(get("/forumhub.io/api/v1/topics/searchTopicsByCourse")
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/searchTopicsByCourse")
                         .queryParam("course_id", "1")
                         .queryParam("sort", "createdAt,desc")
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$..topicResponseDTOList[0].[?(@.topic.id == 1)]").exists())
-                .andExpect(jsonPath("$..topicResponseDTOList[1].[?(@.topic.id == 4)]").exists())
-                .andExpect(jsonPath("$..topicResponseDTOList.length()", is(2)))
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[0].id", is(1)))
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[1].id", is(4)))
+                .andExpect(jsonPath("$..topicSummaryResponseDTOList.length()", is(2)))
                 .andExpect(jsonPath("$..page.[?(@.size == 10)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.totalElements == 2)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.totalPages == 1)]").exists());
@@ -472,16 +523,16 @@ class TopicControllerIT {
     @DisplayName("Should return only one topic by course id sorted in ascendant by status with successful")
     @Test
     void shouldReturnOneTopicByCourseSortedAscendantByStatusWithSuccessful() throws Exception {
-        this.mockMvc.perform(get("/forumhub.io/api/v1/topics/searchTopicsByCourse")
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/searchTopicsByCourse")
                         .queryParam("course_id", "1")
                         .queryParam("size", "1")
                         .queryParam("sort", "status,asc")
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$..topicResponseDTOList[0].[?(@.topic.status == \"UNSOLVED\")]").exists())
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[0].status", is("UNSOLVED")))
                 .andExpect(jsonPath("$..page.[?(@.number == 0)]").exists())
-                .andExpect(jsonPath("$..topicResponseDTOList.length()", is(1)))
+                .andExpect(jsonPath("$..topicSummaryResponseDTOList.length()", is(1)))
                 .andExpect(jsonPath("$..page.[?(@.size == 1)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.totalElements == 2)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.totalPages == 2)]").exists());
@@ -495,16 +546,16 @@ class TopicControllerIT {
     @DisplayName("Should return topics by course id sorted ascendants by title with successful")
     @Test
     void shouldReturnTopicsByCourseSortedAscendantByTitleWithSuccessful() throws Exception {
-        this.mockMvc.perform(get("/forumhub.io/api/v1/topics/searchTopicsByCourse")
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/searchTopicsByCourse")
                         .queryParam("course_id", "1")
                         .queryParam("sort", "title,asc")
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$..topicResponseDTOList[0].[?(@.topic.id == 1)]").exists())
-                .andExpect(jsonPath("$..topicResponseDTOList[1].[?(@.topic.id == 4)]").exists())
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[0].id", is(1)))
+                .andExpect(jsonPath("$._embedded.topicSummaryResponseDTOList[1].id", is(4)))
                 .andExpect(jsonPath("$..page.[?(@.number == 0)]").exists())
-                .andExpect(jsonPath("$..topicResponseDTOList.length()", is(2)))
+                .andExpect(jsonPath("$..topicSummaryResponseDTOList.length()", is(2)))
                 .andExpect(jsonPath("$..page.[?(@.size == 10)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.totalElements == 2)]").exists())
                 .andExpect(jsonPath("$..page.[?(@.totalPages == 1)]").exists());
@@ -520,7 +571,7 @@ class TopicControllerIT {
                  "of query param is sent empty")
     @Test
     void shouldFailIfTopicIdPropertyOfQueryParamIsEmptyWhenGetTopic() throws Exception {
-        this.mockMvc.perform(get("/forumhub.io/api/v1/topics")
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics")
                         .queryParam("topic_id", "")
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
@@ -534,7 +585,7 @@ class TopicControllerIT {
                  " param different of type number")
     @Test
     void shouldFailToRequestTopicIfParamDifferentOfTypeNumber() throws Exception {
-        this.mockMvc.perform(get("/forumhub.io/api/v1/topics")
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics")
                         .queryParam("topic_id", "unexpected")
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
@@ -548,7 +599,7 @@ class TopicControllerIT {
     @DisplayName("Should fail with status code 404 when request the specified topic if not exists")
     @Test
     void shouldFailToRequestTheSpecifiedTopicIfNotExists() throws Exception {
-        this.mockMvc.perform(get("/forumhub.io/api/v1/topics")
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics")
                         .queryParam("topic_id", "7")
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
@@ -565,7 +616,7 @@ class TopicControllerIT {
     @DisplayName("Should return the specified topic with successful if exists")
     @Test
     void shouldReturnTheSpecifiedTopicWithSuccessful() throws Exception {
-        this.mockMvc.perform(get("/forumhub.io/api/v1/topics")
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics")
                         .queryParam("topic_id", "1")
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
@@ -581,6 +632,99 @@ class TopicControllerIT {
     }
 
 
+    @DisplayName("Should count topic views and unique viewers once the pending views are flushed")
+    @Test
+    void shouldCountTopicViewsOnceFlushed() throws Exception {
+        this.topicViewCounter.flush();
+        TopicDetailResponseDTO before = this.topicService.getTopicDetail(2L);
+
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics")
+                        .queryParam("topic_id", "2"))
+                .andExpect(status().isOk());
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics")
+                        .queryParam("topic_id", "2"))
+                .andExpect(status().isOk());
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics")
+                        .with(jwt().jwt(JWT))
+                        .queryParam("topic_id", "2"))
+                .andExpect(status().isOk());
+
+        TopicDetailResponseDTO unflushed = this.topicService.getTopicDetail(2L);
+        this.topicViewCounter.flush();
+        TopicDetailResponseDTO after = this.topicService.getTopicDetail(2L);
+
+        assertAll(
+                () -> assertThat(unflushed.viewCount(), is(before.viewCount())),
+                () -> assertThat(after.viewCount(), is(before.viewCount() + 3)),
+                () -> assertTrue(after.uniqueViewerCount() >= 2),
+                () -> assertTrue(after.uniqueViewerCount() <= before.uniqueViewerCount() + 2)
+        );
+
+    }
+
+
+    @DisplayName("Should answer status code 304 while the cached topic version doesn't change and the topic once it's invalidated")
+    @Test
+    void shouldAnswerNotModifiedWhileTopicVersionIsUnchanged() throws Exception {
+        String eTag = MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics")
+                        .queryParam("topic_id", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics")
+                        .queryParam("topic_id", "1")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        this.topicRepository.bumpVersion(1L);
+
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics")
+                        .queryParam("topic_id", "1")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        this.topicService.invalidateTopicResponse(1L);
+
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics")
+                        .queryParam("topic_id", "1")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+                .andExpect(jsonPath("$.topic.id", is(1)));
+
+    }
+
+
+    @DisplayName("Should serve repeated reads of the same normalized listing from the response cache")
+    @Test
+    void shouldServeRepeatedListingReadsFromResponseCache() throws Exception {
+        this.topicService.invalidateTopicListings(null);
+        double hits = this.meterRegistry.get("cache.gets").tags("cache", "forumhub.response.cache",
+                "response", "topic-listings", "result", "hit").functionCounter().count();
+
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/searchTopicsByCourse")
+                        .queryParam("course_id", "1")
+                        .queryParam("sort", "title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$..page.[?(@.totalElements == 2)]").exists());
+
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/searchTopicsByCourse")
+                        .queryParam("course_id", "1")
+                        .queryParam("sort", "title,asc")
+                        .queryParam("page", "0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$..page.[?(@.totalElements == 2)]").exists());
+
+        assertEquals(hits + 1, this.meterRegistry.get("cache.gets").tags("cache", "forumhub.response.cache",
+                "response", "topic-listings", "result", "hit").functionCounter().count());
+
+    }
+
+
     @DisplayName("Should fail with status code 403 if user authenticated hasn't authority 'topic:edit'" +
                  "when edit topic")
     @Test
@@ -591,7 +735,7 @@ class TopicControllerIT {
                 Status.UNSOLVED, 1L
         );
 
-        this.mockMvc.perform(put("/forumhub.io/api/v1/topics/{topic_id}/edit", 1)
+        MockMvcHelper.perform(this.mockMvc, put("/forumhub.io/api/v1/topics/{topic_id}/edit", 1)
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8)
@@ -620,10 +764,10 @@ class TopicControllerIT {
                 Status.UNSOLVED, 1L
         );
 
-        BDDMockito.given(this.userClientRequest.getUserById(2L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(1));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(1)));
 
-        this.mockMvc.perform(put("/forumhub.io/api/v1/topics/{topic_id}/edit", "unexpected")
+        MockMvcHelper.perform(this.mockMvc, put("/forumhub.io/api/v1/topics/{topic_id}/edit", "unexpected")
                         .with(jwt().jwt(JWT)
                                 .authorities(new SimpleGrantedAuthority("SCOPE_topic:edit")))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -646,10 +790,10 @@ class TopicControllerIT {
                 Status.UNSOLVED, 1L
         );
 
-        BDDMockito.given(this.userClientRequest.getUserById(2L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(1));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(1)));
 
-        this.mockMvc.perform(put("/forumhub.io/api/v1/topics/{topic_id}/edit", 1)
+        MockMvcHelper.perform(this.mockMvc, put("/forumhub.io/api/v1/topics/{topic_id}/edit", 1)
                         .with(jwt().jwt(JWT)
                                 .authorities(new SimpleGrantedAuthority("SCOPE_topic:edit")))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -680,10 +824,10 @@ class TopicControllerIT {
                 Status.UNSOLVED, 1L
         );
 
-        BDDMockito.given(this.userClientRequest.getUserById(2L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(1));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(1)));
 
-        this.mockMvc.perform(put("/forumhub.io/api/v1/topics/{topic_id}/edit", 1)
+        MockMvcHelper.perform(this.mockMvc, put("/forumhub.io/api/v1/topics/{topic_id}/edit", 1)
                         .with(jwt().jwt(JWT)
                                 .authorities(new SimpleGrantedAuthority("SCOPE_topic:edit")))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -713,7 +857,7 @@ class TopicControllerIT {
                 Status.UNSOLVED, 1L
         );
 
-        this.mockMvc.perform(put("/forumhub.io/api/v1/topics/{topic_id}/edit", 10)
+        MockMvcHelper.perform(this.mockMvc, put("/forumhub.io/api/v1/topics/{topic_id}/edit", 10)
                         .with(jwt().jwt(JWT)
                                 .authorities(new SimpleGrantedAuthority("SCOPE_topic:edit")))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -739,7 +883,7 @@ class TopicControllerIT {
                 Status.UNSOLVED, 5L
         );
 
-        this.mockMvc.perform(put("/forumhub.io/api/v1/topics/{topic_id}/edit", 1)
+        MockMvcHelper.perform(this.mockMvc, put("/forumhub.io/api/v1/topics/{topic_id}/edit", 1)
                         .with(jwt().jwt(JWT)
                                 .authorities(new SimpleGrantedAuthority("SCOPE_topic:edit")))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -770,10 +914,10 @@ class TopicControllerIT {
                 Status.UNSOLVED, 1L
         );
 
-        BDDMockito.given(this.userClientRequest.getUserById(2L))
-                .willThrow(new RestClientException(HttpStatus.NOT_FOUND, "Usuário não encontrado"));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L))
+                .willReturn(Mono.error(new RestClientException(HttpStatus.NOT_FOUND, "Usuário não encontrado")));
 
-        this.mockMvc.perform(put("/forumhub.io/api/v1/topics/{topic_id}/edit", 1)
+        MockMvcHelper.perform(this.mockMvc, put("/forumhub.io/api/v1/topics/{topic_id}/edit", 1)
                         .with(jwt().jwt(JWT)
                                 .authorities(new SimpleGrantedAuthority("SCOPE_topic:edit")))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -789,7 +933,7 @@ class TopicControllerIT {
                 () -> assertEquals("Como utilizar o Feign Client para integração do serviço x?", topic.getQuestion())
         );
 
-        BDDMockito.verify(this.userClientRequest).getUserById(2L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(2L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -804,10 +948,10 @@ class TopicControllerIT {
                 Status.UNSOLVED, 1L
         );
 
-        BDDMockito.given(this.userClientRequest.getUserById(2L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(1));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(1)));
 
-        this.mockMvc.perform(put("/forumhub.io/api/v1/topics/{topic_id}/edit", 2)
+        MockMvcHelper.perform(this.mockMvc, put("/forumhub.io/api/v1/topics/{topic_id}/edit", 2)
                         .with(jwt().jwt(JWT)
                                 .authorities(new SimpleGrantedAuthority("SCOPE_topic:edit")))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -826,7 +970,7 @@ class TopicControllerIT {
                 () -> assertEquals("Como utilizar o Rosa/OpenShift para implantação do serviço x?", topic.getQuestion())
         );
 
-        BDDMockito.verify(this.userClientRequest).getUserById(2L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(2L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -841,10 +985,10 @@ class TopicControllerIT {
                 Status.SOLVED, 1L
         );
 
-        BDDMockito.given(this.userClientRequest.getUserById(3L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(2));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(3L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(2)));
 
-        this.mockMvc.perform(put("/forumhub.io/api/v1/topics/{topic_id}/edit", 3)
+        MockMvcHelper.perform(this.mockMvc, put("/forumhub.io/api/v1/topics/{topic_id}/edit", 3)
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "3"))
                                 .authorities(new SimpleGrantedAuthority("SCOPE_topic:edit")))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -864,7 +1008,44 @@ class TopicControllerIT {
                 () -> assertEquals("Quais as boas práticas na execução dos testes end-to-end?", topic.getQuestion())
         );
 
-        BDDMockito.verify(this.userClientRequest).getUserById(3L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(3L);
+        BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
+
+    }
+
+    @DisplayName("Should fail with status code 422 when attempt change the topic status on edit")
+    @Test
+    void shouldFailWhenAttemptChangeTopicStatusOnEdit() throws Exception {
+        final TopicUpdateRequestDTO topicUpdateRequestDTO = new TopicUpdateRequestDTO(
+                "Dúvida na utilização do WebClient",
+                "Como utilizar o WebClient para integração do serviço x?",
+                Status.SOLVED, 1L
+        );
+
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(1)));
+
+        MockMvcHelper.perform(this.mockMvc, put("/forumhub.io/api/v1/topics/{topic_id}/edit", 1)
+                        .with(jwt().jwt(jwt -> jwt.claim("user_id", "2"))
+                                .authorities(new SimpleGrantedAuthority("SCOPE_topic:edit")))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .content(new ObjectMapper()
+                                .writeValueAsString(topicUpdateRequestDTO)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.detail", is(
+                        "O status do tópico [ID: 1] é definido pela melhor resposta, " +
+                        "ele não pode ser alterado na edição!"
+                )));
+
+        Topic topic = this.topicRepository.findById(1L).orElseThrow();
+
+        assertAll(
+                () -> assertEquals("Dúvida na utilização do Feign Client", topic.getTitle()),
+                () -> assertEquals(Status.UNSOLVED, topic.getStatus())
+        );
+
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(2L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -876,18 +1057,18 @@ class TopicControllerIT {
         final TopicUpdateRequestDTO topicUpdateRequestDTO = new TopicUpdateRequestDTO(
                 "Dúvida na utilização do WebClient",
                 "Como utilizar o WebClient para integração do serviço x?",
-                Status.UNSOLVED, 1L
+                Status.SOLVED, 1L
         );
 
-        BDDMockito.given(this.userClientRequest.getUserById(3L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(2));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(3L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(2)));
 
         this.authorRepository.findById(1L).ifPresent(author -> {
             author.setId(7L);
             this.authorRepository.save(author);
         });
 
-        this.mockMvc.perform(put("/forumhub.io/api/v1/topics/{topic_id}/edit", 3)
+        MockMvcHelper.perform(this.mockMvc, put("/forumhub.io/api/v1/topics/{topic_id}/edit", 3)
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "3"))
                                 .authorities(new SimpleGrantedAuthority("SCOPE_topic:edit")))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -900,7 +1081,7 @@ class TopicControllerIT {
                                                            "integração do serviço x?")));
 
 
-        BDDMockito.verify(this.userClientRequest).getUserById(3L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(3L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -912,18 +1093,18 @@ class TopicControllerIT {
         final TopicUpdateRequestDTO topicUpdateRequestDTO = new TopicUpdateRequestDTO(
                 "Dúvida na utilização do WebClient",
                 "Como utilizar o WebClient para integração do serviço x?",
-                Status.UNSOLVED, 1L
+                Status.SOLVED, 1L
         );
 
-        BDDMockito.given(this.userClientRequest.getUserById(3L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(2));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(3L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(2)));
 
         this.authorRepository.findById(1L).ifPresent(author -> {
             author.setUsername("João");
             this.authorRepository.save(author);
         });
 
-        this.mockMvc.perform(put("/forumhub.io/api/v1/topics/{topic_id}/edit", 3)
+        MockMvcHelper.perform(this.mockMvc, put("/forumhub.io/api/v1/topics/{topic_id}/edit", 3)
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "3"))
                                 .authorities(new SimpleGrantedAuthority("SCOPE_topic:edit")))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -936,7 +1117,7 @@ class TopicControllerIT {
                                                            "integração do serviço x?")));
 
 
-        BDDMockito.verify(this.userClientRequest).getUserById(3L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(3L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
 
@@ -954,10 +1135,10 @@ class TopicControllerIT {
                 Status.UNSOLVED, 1L
         );
 
-        BDDMockito.given(this.userClientRequest.getUserById(2L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(1));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(1)));
 
-        this.mockMvc.perform(put("/forumhub.io/api/v1/topics/{topic_id}/edit", 1)
+        MockMvcHelper.perform(this.mockMvc, put("/forumhub.io/api/v1/topics/{topic_id}/edit", 1)
                         .with(jwt().jwt(JWT)
                                 .authorities(new SimpleGrantedAuthority("SCOPE_topic:edit")))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -977,7 +1158,7 @@ class TopicControllerIT {
                 () -> assertEquals("Como utilizar o WebClient para integração do serviço x?", topic.getQuestion())
         );
 
-        BDDMockito.verify(this.userClientRequest).getUserById(2L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(2L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -993,10 +1174,10 @@ class TopicControllerIT {
                 Status.UNSOLVED, 1L
         );
 
-        BDDMockito.given(this.userClientRequest.getUserById(4L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(3));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(4L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(3)));
 
-        this.mockMvc.perform(put("/forumhub.io/api/v1/topics/{topic_id}/edit", 1)
+        MockMvcHelper.perform(this.mockMvc, put("/forumhub.io/api/v1/topics/{topic_id}/edit", 1)
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "4"))
                                 .authorities(new SimpleGrantedAuthority("SCOPE_topic:edit")))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -1016,7 +1197,7 @@ class TopicControllerIT {
                 () -> assertEquals("Como utilizar o RestTemplate para integração do serviço x?", topic.getQuestion())
         );
 
-        BDDMockito.verify(this.userClientRequest).getUserById(4L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(4L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -1032,10 +1213,10 @@ class TopicControllerIT {
                 Status.UNSOLVED, 1L
         );
 
-        BDDMockito.given(this.userClientRequest.getUserById(3L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(2));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(3L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(2)));
 
-        this.mockMvc.perform(put("/forumhub.io/api/v1/topics/{topic_id}/edit", 1)
+        MockMvcHelper.perform(this.mockMvc, put("/forumhub.io/api/v1/topics/{topic_id}/edit", 1)
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "3"))
                                 .authorities(new SimpleGrantedAuthority("SCOPE_topic:edit")))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -1056,7 +1237,7 @@ class TopicControllerIT {
                 () -> assertEquals("Quais são as anotações da API de validação do Spring?", topic.getQuestion())
         );
 
-        BDDMockito.verify(this.userClientRequest).getUserById(3L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(3L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -1066,7 +1247,7 @@ class TopicControllerIT {
                  " when delete topic")
     @Test
     void shouldFailIfUserHasNotSuitableAuthorityWhenDeleteTopic() throws Exception {
-        this.mockMvc.perform(delete("/forumhub.io/api/v1/topics/{topic_id}/delete", 1)
+        MockMvcHelper.perform(this.mockMvc, delete("/forumhub.io/api/v1/topics/{topic_id}/delete", 1)
                         .with(jwt().jwt(JWT))
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
@@ -1082,10 +1263,10 @@ class TopicControllerIT {
                  " param different of type number")
     @Test
     void shouldFailToDeleteTopicIfParamDifferentOfTypeNumber() throws Exception {
-        BDDMockito.given(this.userClientRequest.getUserById(2L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(2));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(2)));
 
-        this.mockMvc.perform(delete("/forumhub.io/api/v1/topics/{topic_id}/delete", "unexpected")
+        MockMvcHelper.perform(this.mockMvc, delete("/forumhub.io/api/v1/topics/{topic_id}/delete", "unexpected")
                         .with(jwt().jwt(JWT)
                                 .authorities(new SimpleGrantedAuthority("SCOPE_topic:delete")))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -1097,7 +1278,7 @@ class TopicControllerIT {
     @DisplayName("Should fail with status code 404 when delete topic if the desired topic not exists")
     @Test
     void shouldFailToDeleteTopicIfTopicNotExists() throws Exception {
-        this.mockMvc.perform(delete("/forumhub.io/api/v1/topics/{topic_id}/delete", 10)
+        MockMvcHelper.perform(this.mockMvc, delete("/forumhub.io/api/v1/topics/{topic_id}/delete", 10)
                         .with(jwt().jwt(JWT)
                                 .authorities(new SimpleGrantedAuthority("SCOPE_topic:delete")))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -1116,10 +1297,10 @@ class TopicControllerIT {
                  "return 404 not found status code")
     @Test
     void shouldFailToDeleteTopicIfUserServiceReturn404StatusCode() throws Exception {
-        BDDMockito.given(this.userClientRequest.getUserById(2L))
-                .willThrow(new RestClientException(HttpStatus.NOT_FOUND, "Usuário não encontrado"));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L))
+                .willReturn(Mono.error(new RestClientException(HttpStatus.NOT_FOUND, "Usuário não encontrado")));
 
-        this.mockMvc.perform(delete("/forumhub.io/api/v1/topics/{topic_id}/delete", 1)
+        MockMvcHelper.perform(this.mockMvc, delete("/forumhub.io/api/v1/topics/{topic_id}/delete", 1)
                         .with(jwt().jwt(JWT)
                                 .authorities(new SimpleGrantedAuthority("SCOPE_topic:delete")))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -1128,7 +1309,7 @@ class TopicControllerIT {
 
         Assertions.assertEquals(4, this.topicRepository.findAll().size());
 
-        BDDMockito.verify(this.userClientRequest).getUserById(2L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(2L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -1137,10 +1318,10 @@ class TopicControllerIT {
     @DisplayName("Should fail with status code 418 if basic user attempt delete topic of other author")
     @Test
     void shouldFailIfBasicUserAttemptDeleteTopicOfOtherAuthor() throws Exception {
-        BDDMockito.given(this.userClientRequest.getUserById(2L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(1));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(1)));
 
-        this.mockMvc.perform(delete("/forumhub.io/api/v1/topics/{topic_id}/delete", 2)
+        MockMvcHelper.perform(this.mockMvc, delete("/forumhub.io/api/v1/topics/{topic_id}/delete", 2)
                         .with(jwt().jwt(JWT)
                                 .authorities(new SimpleGrantedAuthority("SCOPE_topic:delete")))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -1152,7 +1333,7 @@ class TopicControllerIT {
 
         Assertions.assertEquals(4, this.topicRepository.findAll().size());
 
-        BDDMockito.verify(this.userClientRequest).getUserById(2L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(2L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -1162,10 +1343,10 @@ class TopicControllerIT {
                  "has authority 'topic:delete' and previous premisses are adequate")
     @Test
     void topicAuthorShouldDeleteSpecifiedTopicWithSuccessIfHasSuitableAuthority() throws Exception {
-        BDDMockito.given(this.userClientRequest.getUserById(2L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(1));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(1)));
 
-        this.mockMvc.perform(delete("/forumhub.io/api/v1/topics/{topic_id}/delete", 1)
+        MockMvcHelper.perform(this.mockMvc, delete("/forumhub.io/api/v1/topics/{topic_id}/delete", 1)
                         .with(jwt().jwt(JWT)
                                 .authorities(new SimpleGrantedAuthority("SCOPE_topic:delete")))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -1175,7 +1356,7 @@ class TopicControllerIT {
 
         Assertions.assertEquals(3, this.topicRepository.findAll().size());
 
-        BDDMockito.verify(this.userClientRequest).getUserById(2L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(2L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -1185,10 +1366,10 @@ class TopicControllerIT {
                  "has authority 'topic:delete' and previous premisses are adequate")
     @Test
     void userADMShouldDeleteTopicOfOtherAuthorWithSuccessIfHasSuitableAuthority() throws Exception {
-        BDDMockito.given(this.userClientRequest.getUserById(4L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(3));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(4L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(3)));
 
-        this.mockMvc.perform(delete("/forumhub.io/api/v1/topics/{topic_id}/delete", 2)
+        MockMvcHelper.perform(this.mockMvc, delete("/forumhub.io/api/v1/topics/{topic_id}/delete", 2)
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "4"))
                                 .authorities(new SimpleGrantedAuthority("SCOPE_topic:delete")))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -1198,7 +1379,7 @@ class TopicControllerIT {
 
         Assertions.assertEquals(3, this.topicRepository.findAll().size());
 
-        BDDMockito.verify(this.userClientRequest).getUserById(4L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(4L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
@@ -1208,10 +1389,10 @@ class TopicControllerIT {
                  "has authority 'topic:delete' and previous premisses are adequate")
     @Test
     void userMODShouldDeleteTopicOfOtherAuthorWithSuccessIfHasSuitableAuthority() throws Exception {
-        BDDMockito.given(this.userClientRequest.getUserById(3L))
-                .willReturn(TestsHelper.AuthorHelper.authorList().get(2));
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(3L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(2)));
 
-        this.mockMvc.perform(delete("/forumhub.io/api/v1/topics/{topic_id}/delete", 3)
+        MockMvcHelper.perform(this.mockMvc, delete("/forumhub.io/api/v1/topics/{topic_id}/delete", 3)
                         .with(jwt().jwt(jwt -> jwt.claim("user_id", "3"))
                                 .authorities(new SimpleGrantedAuthority("SCOPE_topic:delete")))
                         .contentType(MediaType.APPLICATION_JSON)
@@ -1221,7 +1402,7 @@ class TopicControllerIT {
 
         Assertions.assertEquals(3, this.topicRepository.findAll().size());
 
-        BDDMockito.verify(this.userClientRequest).getUserById(3L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(3L);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
     }
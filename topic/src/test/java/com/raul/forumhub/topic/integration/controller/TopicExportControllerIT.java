@@ -0,0 +1,148 @@
+package com.raul.forumhub.topic.integration.controller;
+
+import com.raul.forumhub.topic.client.UserClientRequest;
+import com.raul.forumhub.topic.domain.Answer;
+import com.raul.forumhub.topic.domain.Author;
+import com.raul.forumhub.topic.domain.Course;
+import com.raul.forumhub.topic.domain.Status;
+import com.raul.forumhub.topic.domain.Topic;
+import com.raul.forumhub.topic.repository.*;
+import com.raul.forumhub.topic.statistics.TopicStatisticsRepairer;
+import com.raul.forumhub.topic.util.MockMvcHelper;
+import com.raul.forumhub.topic.util.TestsHelper;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc(printOnlyOnFailure = false)
+@ActiveProfiles(value = "test")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@TestClassOrder(ClassOrderer.ClassName.class)
+@Order(7)
+class TopicExportControllerIT {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2010, 5, 1, 10, 0);
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean
+    ClientRegistrationRepository clientRegistrationRepository;
+
+    @MockBean
+    UserClientRequest userClientRequest;
+
+    private static final List<Long> exportedTopicIds = new ArrayList<>();
+
+    private static long exportedAnswerId;
+
+    @BeforeAll
+    static void setup(@Autowired ProfileRepository profileRepository,
+                      @Autowired EntityManagerFactory entityManagerFactory,
+                      @Autowired AuthorRepository authorRepository,
+                      @Autowired CourseRepository courseRepository,
+                      @Autowired TopicRepository topicRepository,
+                      @Autowired AnswerRepository answerRepository,
+                      @Autowired TopicStatisticsRepairer topicStatisticsRepairer) {
+        TestsHelper.CacheHelper.evictSecondLevelCache(entityManagerFactory);
+        profileRepository.saveAll(TestsHelper.ProfileHelper.profileList());
+        authorRepository.saveAll(TestsHelper.AuthorHelper.authorList());
+        courseRepository.saveAll(TestsHelper.CourseHelper.courseList());
+
+        Author author = TestsHelper.AuthorHelper.authorList().get(1);
+        Course course = TestsHelper.CourseHelper.courseList().get(2);
+
+        List<Topic> topics = topicRepository.saveAll(List.of(
+                topic("Exportado, resolvido", Status.SOLVED, author, course, CREATED_AT),
+                topic("Exportado pendente", Status.UNSOLVED, author, course, CREATED_AT.plusDays(1)),
+                topic("Fora do período", Status.SOLVED, author, course, CREATED_AT.plusYears(1))));
+        exportedAnswerId = answerRepository.save(Answer.builder().topic(topics.get(0))
+                .author(TestsHelper.AuthorHelper.authorList().get(2))
+                .solution("Resposta \"exportada\"")
+                .bestAnswer(true)
+                .createdAt(CREATED_AT.plusHours(1))
+                .build()).getId();
+        topicStatisticsRepairer.repair();
+
+        topics.forEach(topic -> exportedTopicIds.add(topic.getId()));
+    }
+
+    @AfterAll
+    static void cleanup(@Autowired TopicRepository topicRepository) {
+        topicRepository.deleteAllById(exportedTopicIds);
+    }
+
+    private static Topic topic(String title, Status status, Author author, Course course, LocalDateTime createdAt) {
+        return Topic.builder().title(title).question("Como exportar?").status(status)
+                .author(author).course(course)
+                .createdAt(createdAt).lastActivityAt(createdAt)
+                .build();
+    }
+
+
+    @Order(1)
+    @DisplayName("Should stream topics and answers of the createdAt range as NDJSON")
+    @Test
+    void shouldStreamTopicsAndAnswersOfRangeAsNdjson() throws Exception {
+        long solvedId = exportedTopicIds.get(0);
+        long unsolvedId = exportedTopicIds.get(1);
+
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/export")
+                        .queryParam("from", "2010-01-01T00:00:00")
+                        .queryParam("to", "2011-01-01T00:00:00")
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_ADM"))))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string(String.format("""
+                        {"type":"topic","ref":"%1$d","id":%1$d,"title":"Exportado, resolvido","question":"Como exportar?",\
+                        "status":"SOLVED","createdAt":"2010-05-01T10:00","author":"Jose","course":"Lidando com testes",\
+                        "answerCount":1}
+                        {"type":"topic","ref":"%2$d","id":%2$d,"title":"Exportado pendente","question":"Como exportar?",\
+                        "status":"UNSOLVED","createdAt":"2010-05-02T10:00","author":"Jose","course":"Lidando com testes",\
+                        "answerCount":0}
+                        {"type":"answer","id":%3$d,"topic_ref":"%1$d","solution":"Resposta \\"exportada\\"",\
+                        "bestAnswer":true,"createdAt":"2010-05-01T11:00","author":"Maria"}
+                        """, solvedId, unsolvedId, exportedAnswerId)));
+
+    }
+
+    @Order(2)
+    @DisplayName("Should stream only solved topics of the course as CSV without answers")
+    @Test
+    void shouldStreamSolvedTopicsOfCourseAsCsv() throws Exception {
+        long solvedId = exportedTopicIds.get(0);
+
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/export")
+                        .queryParam("format", "CSV")
+                        .queryParam("course_id", "3")
+                        .queryParam("status", "SOLVED")
+                        .queryParam("from", "2010-01-01T00:00:00")
+                        .queryParam("to", "2011-01-01T00:00:00")
+                        .queryParam("answers", "false")
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_ADM"))))
+                .andExpect(status().isOk())
+                .andExpect(content().string(String.format(
+                        "type,id,topic_id,title,question,status,created_at,author,course,answer_count,solution,best_answer\r\n" +
+                        "topic,%1$d,%1$d,\"Exportado, resolvido\",Como exportar?,SOLVED,2010-05-01T10:00,Jose," +
+                        "Lidando com testes,1,,\r\n", solvedId)));
+
+    }
+
+}
@@ -0,0 +1,144 @@
+package com.raul.forumhub.topic.integration.controller;
+
+import com.raul.forumhub.topic.client.UserClientRequest;
+import com.raul.forumhub.topic.repository.AuthorRepository;
+import com.raul.forumhub.topic.repository.CourseRepository;
+import com.raul.forumhub.topic.repository.ProfileRepository;
+import com.raul.forumhub.topic.repository.TopicRepository;
+import com.raul.forumhub.topic.util.MockMvcHelper;
+import com.raul.forumhub.topic.util.TestsHelper;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc(printOnlyOnFailure = false)
+@ActiveProfiles(value = "test")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@TestClassOrder(ClassOrderer.ClassName.class)
+@Order(6)
+class TopicImportControllerIT {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    ClientRegistrationRepository clientRegistrationRepository;
+
+    @MockBean
+    UserClientRequest userClientRequest;
+
+    @BeforeAll
+    static void setup(@Autowired ProfileRepository profileRepository,
+                      @Autowired EntityManagerFactory entityManagerFactory,
+                      @Autowired AuthorRepository authorRepository,
+                      @Autowired CourseRepository courseRepository) {
+        TestsHelper.CacheHelper.evictSecondLevelCache(entityManagerFactory);
+        profileRepository.saveAll(TestsHelper.ProfileHelper.profileList());
+        authorRepository.saveAll(TestsHelper.AuthorHelper.authorList());
+        courseRepository.saveAll(TestsHelper.CourseHelper.courseList());
+    }
+
+    @AfterAll
+    static void cleanup(@Autowired JdbcTemplate jdbcTemplate, @Autowired TopicRepository topicRepository) {
+        topicRepository.deleteAllById(jdbcTemplate.queryForList(
+                "select topic_id from topic where title like 'Importado%'", Long.class));
+    }
+
+
+    @Order(1)
+    @DisplayName("Should import topics and answers in batches reporting rejected lines")
+    @Test
+    void shouldImportTopicsAndAnswersReportingRejectedLines() throws Exception {
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/import")
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_ADM")))
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("""
+                                {"type":"topic","ref":"a","title":"Importado A","question":"Como migrar?","author":"Jose","course":"Lidando com testes","createdAt":"2020-01-01T10:00:00"}
+                                {"type":"topic","ref":"b","title":"Importado B","question":"Como migrar?","author":"Ninguem","course":"Lidando com testes"}
+                                {"type":"answer","topic_ref":"a","solution":"Assim","author":"Maria","createdAt":"2020-01-02T10:00:00"}
+                                {"type":"answer","topic_ref":"a","solution":"Assado","author":"Joao","bestAnswer":true,"createdAt":"2020-01-03T10:00:00"}
+                                {"type":"answer","topic_id":999,"solution":"?","author":"Jose"}
+                                """.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(content().string("""
+                        {"type":"REJECTED","line":2,"reason":"O autor Ninguem não existe"}
+                        {"type":"PROGRESS","lines":2,"topics":1,"answers":0,"rejected":1}
+                        {"type":"PROGRESS","lines":4,"topics":1,"answers":2,"rejected":1}
+                        {"type":"REJECTED","line":5,"reason":"O tópico [ID: 999] informado não existe"}
+                        {"type":"PROGRESS","lines":5,"topics":1,"answers":2,"rejected":2}
+                        {"type":"SUMMARY","lines":5,"topics":1,"answers":2,"rejected":2}
+                        """));
+
+        Map<String, Object> topic = this.jdbcTemplate.queryForMap("""
+                select t.answer_count, t.status, a.solution as best_answer
+                from topic t left join answer a on a.answer_id = t.best_answer_id
+                where t.title = 'Importado A'""");
+
+        assertAll(
+                () -> assertEquals(2L, ((Number) topic.get("answer_count")).longValue()),
+                () -> assertEquals(LocalDateTime.of(2020, 1, 3, 10, 0), this.jdbcTemplate.queryForObject(
+                        "select last_activity_at from topic where title = 'Importado A'", LocalDateTime.class)),
+                () -> assertEquals("SOLVED", String.valueOf(topic.get("status"))),
+                () -> assertEquals("Assado", topic.get("best_answer")),
+                () -> assertEquals(List.of(), this.jdbcTemplate.queryForList(
+                        "select topic_id from topic where title = 'Importado B'", Long.class))
+        );
+
+    }
+
+    @Order(2)
+    @DisplayName("Should import gzip compressed NDJSON body")
+    @Test
+    void shouldImportGzipCompressedBody() throws Exception {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write("""
+                    {"type":"topic","ref":"c","title":"Importado C","question":"Compactado?","status":"SOLVED","author":"Maria","course":"Lidando com testes"}
+                    """.getBytes(StandardCharsets.UTF_8));
+        }
+
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/import")
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_ADM")))
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                        .content(compressed.toByteArray()))
+                .andExpect(status().isOk())
+                .andExpect(content().string("""
+                        {"type":"PROGRESS","lines":1,"topics":1,"answers":0,"rejected":0}
+                        {"type":"SUMMARY","lines":1,"topics":1,"answers":0,"rejected":0}
+                        """));
+
+        assertEquals("UNSOLVED", this.jdbcTemplate.queryForObject(
+                "select status from topic where title = 'Importado C'", String.class));
+
+    }
+
+}
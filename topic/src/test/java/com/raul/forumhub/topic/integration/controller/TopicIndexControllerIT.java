@@ -0,0 +1,198 @@
+package com.raul.forumhub.topic.integration.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.raul.forumhub.topic.client.UserClientRequest;
+import com.raul.forumhub.topic.domain.Answer;
+import com.raul.forumhub.topic.domain.Author;
+import com.raul.forumhub.topic.domain.Course;
+import com.raul.forumhub.topic.domain.Topic;
+import com.raul.forumhub.topic.dto.request.TopicCreateRequestDTO;
+import com.raul.forumhub.topic.repository.*;
+import com.raul.forumhub.topic.search.TopicIndex;
+import com.raul.forumhub.topic.service.TopicService;
+import com.raul.forumhub.topic.util.MockMvcHelper;
+import com.raul.forumhub.topic.util.TestsHelper;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.*;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "forumhub.search.index.enabled=true",
+        "forumhub.search.index.directory=target/topic-index-it"})
+@AutoConfigureMockMvc(printOnlyOnFailure = false)
+@ActiveProfiles(value = "test")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@TestClassOrder(ClassOrderer.ClassName.class)
+@Order(5)
+class TopicIndexControllerIT {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    TopicIndex topicIndex;
+
+    @Autowired
+    TopicService topicService;
+
+    @MockBean
+    ClientRegistrationRepository clientRegistrationRepository;
+
+    @MockBean
+    UserClientRequest userClientRequest;
+
+    private static boolean hasBeenInitialized = false;
+
+    private static final List<Long> kafkaTopicIds = new ArrayList<>();
+
+    @BeforeAll
+    static void setup(@Autowired ProfileRepository profileRepository,
+                      @Autowired EntityManagerFactory entityManagerFactory,
+                      @Autowired AuthorRepository authorRepository,
+                      @Autowired CourseRepository courseRepository,
+                      @Autowired TopicRepository topicRepository,
+                      @Autowired AnswerRepository answerRepository) {
+        if (!hasBeenInitialized) {
+            TestsHelper.CacheHelper.evictSecondLevelCache(entityManagerFactory);
+            profileRepository.saveAll(TestsHelper.ProfileHelper.profileList());
+            authorRepository.saveAll(TestsHelper.AuthorHelper.authorList());
+            courseRepository.saveAll(TestsHelper.CourseHelper.courseList());
+
+            Author author = TestsHelper.AuthorHelper.authorList().get(1);
+            Course apiCourse = TestsHelper.CourseHelper.courseList().get(0);
+
+            Topic titleMatch = new Topic("Consumidor Kafka parado", "Como reprocessar as mensagens?", author, apiCourse);
+            Topic questionMatch = new Topic("Dúvida de mensageria", "Devo usar Kafka ou RabbitMQ?", author, apiCourse);
+            Topic answerMatch = new Topic("Mensagens duplicadas", "O evento chega duas vezes", author, apiCourse);
+
+            List<Topic> topics = topicRepository.saveAll(List.of(titleMatch, questionMatch, answerMatch));
+            answerRepository.save(Answer.builder().topic(answerMatch).author(author)
+                    .solution("Habilite a idempotência do produtor Kafka")
+                    .createdAt(LocalDateTime.now())
+                    .build());
+
+            topics.forEach(topic -> kafkaTopicIds.add(topic.getId()));
+            hasBeenInitialized = true;
+        }
+    }
+
+    @AfterAll
+    static void cleanup(@Autowired TopicRepository topicRepository) {
+        topicRepository.deleteAllById(kafkaTopicIds);
+    }
+
+    private void awaitIndex(String query, int expectedTopics) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while ((this.topicIndex.isRebuilding() ||
+                this.topicIndex.search(query, null, null, null, 10).getNumberOfElements() != expectedTopics)
+               && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+
+    @Order(1)
+    @DisplayName("Should fail with status code 403 when rebuild index if user isn't admin")
+    @Test
+    void shouldFailToRebuildIndexIfUserIsNotAdmin() throws Exception {
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/search/index/rebuild")
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_BASIC")))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isForbidden());
+
+    }
+
+    @Order(2)
+    @DisplayName("Should rebuild index from database with status code 202 if user is admin")
+    @Test
+    void shouldRebuildIndexIfUserIsAdmin() throws Exception {
+        MockMvcHelper.perform(this.mockMvc, post("/forumhub.io/api/v1/topics/search/index/rebuild")
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_ADM")))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.message", is("HttpStatusCode ACCEPTED")));
+
+        this.awaitIndex("kafka", 3);
+
+        Assertions.assertFalse(this.topicIndex.isRebuilding());
+
+    }
+
+    @Order(3)
+    @DisplayName("Should return ranked topics from index following next links")
+    @Test
+    void shouldReturnRankedTopicsFromIndexFollowingNextLinks() throws Exception {
+        String firstPage = MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/search/index")
+                        .queryParam("query", "kafka")
+                        .queryParam("size", "2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.topicSearchResponseDTOList[*].id",
+                        contains(kafkaTopicIds.get(0).intValue(), kafkaTopicIds.get(1).intValue())))
+                .andExpect(jsonPath("$._embedded.topicSearchResponseDTOList[0].authorUsername", is("Jose")))
+                .andExpect(jsonPath("$._links.next.href").exists())
+                .andReturn().getResponse().getContentAsString();
+
+        String nextLink = JsonPath.read(firstPage, "$._links.next.href");
+
+        MockMvcHelper.perform(this.mockMvc, get(URI.create(nextLink))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.topicSearchResponseDTOList[*].id",
+                        contains(kafkaTopicIds.get(2).intValue())))
+                .andExpect(jsonPath("$._embedded.topicSearchResponseDTOList[0].answerCount", is(1)))
+                .andExpect(jsonPath("$._links.next").doesNotExist());
+
+    }
+
+    @Order(4)
+    @DisplayName("Should index topic incrementally after it is created")
+    @Test
+    void shouldIndexTopicIncrementallyAfterCreated() throws Exception {
+        BDDMockito.given(this.userClientRequest.getUserById(2L))
+                .willReturn(TestsHelper.AuthorHelper.authorList().get(1));
+
+        kafkaTopicIds.add(this.topicService.createTopic(new TopicCreateRequestDTO("Particionamento no Kafka",
+                "Quantas partições devo criar?", 1L), 2L).topic().getId());
+
+        this.awaitIndex("kafka", 4);
+
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/search/index")
+                        .queryParam("query", "partições")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.topicSearchResponseDTOList[*].id",
+                        contains(kafkaTopicIds.get(3).intValue())));
+
+    }
+
+}
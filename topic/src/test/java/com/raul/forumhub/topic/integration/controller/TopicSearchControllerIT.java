@@ -0,0 +1,180 @@
+package com.raul.forumhub.topic.integration.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.raul.forumhub.topic.client.UserClientRequest;
+import com.raul.forumhub.topic.domain.Answer;
+import com.raul.forumhub.topic.domain.Author;
+import com.raul.forumhub.topic.domain.Course;
+import com.raul.forumhub.topic.domain.Status;
+import com.raul.forumhub.topic.domain.Topic;
+import com.raul.forumhub.topic.repository.*;
+import com.raul.forumhub.topic.statistics.TopicStatisticsRepairer;
+import com.raul.forumhub.topic.util.MockMvcHelper;
+import com.raul.forumhub.topic.util.TestsHelper;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc(printOnlyOnFailure = false)
+@ActiveProfiles(value = "test")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@TestClassOrder(ClassOrderer.ClassName.class)
+@Order(4)
+class TopicSearchControllerIT {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean
+    ClientRegistrationRepository clientRegistrationRepository;
+
+    @MockBean
+    UserClientRequest userClientRequest;
+
+    private static boolean hasBeenInitialized = false;
+
+    private static List<Long> kubernetesTopicIds;
+
+    @BeforeAll
+    static void setup(@Autowired ProfileRepository profileRepository,
+                      @Autowired EntityManagerFactory entityManagerFactory,
+                      @Autowired AuthorRepository authorRepository,
+                      @Autowired CourseRepository courseRepository,
+                      @Autowired TopicRepository topicRepository,
+                      @Autowired AnswerRepository answerRepository,
+                      @Autowired TopicStatisticsRepairer topicStatisticsRepairer) {
+        if (!hasBeenInitialized) {
+            TestsHelper.CacheHelper.evictSecondLevelCache(entityManagerFactory);
+            profileRepository.saveAll(TestsHelper.ProfileHelper.profileList());
+            authorRepository.saveAll(TestsHelper.AuthorHelper.authorList());
+            courseRepository.saveAll(TestsHelper.CourseHelper.courseList());
+
+            Author author = TestsHelper.AuthorHelper.authorList().get(1);
+            Course apiCourse = TestsHelper.CourseHelper.courseList().get(0);
+            Course containerCourse = TestsHelper.CourseHelper.courseList().get(1);
+
+            Topic titleMatch = new Topic("Deploy no Kubernetes", "Como publicar a aplicação?", author, apiCourse);
+            Topic questionMatch = new Topic("Dúvida de infraestrutura", "Devo usar Kubernetes ou OpenShift?",
+                    author, containerCourse);
+            Topic answerMatch = new Topic("Erro ao subir pods", "O pod reinicia sempre", author, apiCourse);
+            answerMatch.setStatus(Status.SOLVED);
+
+            List<Topic> topics = topicRepository.saveAll(List.of(titleMatch, questionMatch, answerMatch));
+            answerRepository.save(Answer.builder().topic(answerMatch).author(author)
+                    .solution("Revise o liveness probe configurado no Kubernetes")
+                    .bestAnswer(true)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+            topicStatisticsRepairer.repair();
+
+            kubernetesTopicIds = topics.stream().map(Topic::getId).toList();
+            hasBeenInitialized = true;
+        }
+    }
+
+    @AfterAll
+    static void cleanup(@Autowired TopicRepository topicRepository) {
+        topicRepository.deleteAllById(kubernetesTopicIds);
+    }
+
+    @DisplayName("Should fail with status code 400 if query param is missing when search topics")
+    @Test
+    void shouldFailIfQueryIsMissingWhenSearchTopics() throws Exception {
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/search")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail", is("A propriedade 'query' não foi informada")));
+
+    }
+
+    @DisplayName("Should fail with status code 418 if query is blank when search topics")
+    @Test
+    void shouldFailIfQueryIsBlankWhenSearchTopics() throws Exception {
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/search")
+                        .queryParam("query", " ")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isIAmATeapot())
+                .andExpect(jsonPath("$.detail", is("O termo de busca não pode ser vazio")));
+
+    }
+
+    @DisplayName("Should return ranked topics matching title, question and answers following next links")
+    @Test
+    void shouldReturnRankedTopicsFollowingNextLinks() throws Exception {
+        String firstPage = MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/search")
+                        .queryParam("query", "kubernetes")
+                        .queryParam("size", "2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.topicSearchResponseDTOList[*].id",
+                        contains(kubernetesTopicIds.get(0).intValue(), kubernetesTopicIds.get(1).intValue())))
+                .andExpect(jsonPath("$._embedded.topicSearchResponseDTOList[0].rank", is(1.0)))
+                .andExpect(jsonPath("$._embedded.topicSearchResponseDTOList[1].rank", is(0.5)))
+                .andExpect(jsonPath("$._links.next.href").exists())
+                .andReturn().getResponse().getContentAsString();
+
+        String nextLink = JsonPath.read(firstPage, "$._links.next.href");
+
+        MockMvcHelper.perform(this.mockMvc, get(URI.create(nextLink))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.topicSearchResponseDTOList[*].id",
+                        contains(kubernetesTopicIds.get(2).intValue())))
+                .andExpect(jsonPath("$._embedded.topicSearchResponseDTOList[0].answerCount", is(1)))
+                .andExpect(jsonPath("$._links.next").doesNotExist());
+
+    }
+
+    @DisplayName("Should return only topics of the course and status informed when search topics")
+    @Test
+    void shouldFilterByCourseAndStatusWhenSearchTopics() throws Exception {
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/search")
+                        .queryParam("query", "kubernetes")
+                        .queryParam("course_id", "1")
+                        .queryParam("status", "SOLVED")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.topicSearchResponseDTOList[*].id",
+                        contains(kubernetesTopicIds.get(2).intValue())))
+                .andExpect(jsonPath("$._embedded.topicSearchResponseDTOList[0].status", is("SOLVED")));
+
+    }
+
+    @DisplayName("Should return empty collection when none topic matches the query")
+    @Test
+    void shouldReturnEmptyCollectionWhenNoneTopicMatches() throws Exception {
+        MockMvcHelper.perform(this.mockMvc, get("/forumhub.io/api/v1/topics/search")
+                        .queryParam("query", "100%_inexistente")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded").doesNotExist())
+                .andExpect(jsonPath("$._links.next").doesNotExist());
+
+    }
+
+}
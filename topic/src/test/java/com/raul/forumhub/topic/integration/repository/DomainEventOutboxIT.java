@@ -0,0 +1,171 @@
+package com.raul.forumhub.topic.integration.repository;
+
+import com.raul.forumhub.topic.event.DomainEvent;
+import com.raul.forumhub.topic.event.DomainEventType;
+import com.raul.forumhub.topic.outbox.DomainEventConsumer;
+import com.raul.forumhub.topic.outbox.DomainEventOutbox;
+import com.raul.forumhub.topic.outbox.DomainEventRelay;
+import com.raul.forumhub.topic.outbox.OutboxProperties;
+import com.raul.forumhub.topic.repository.EventConsumerOffsetRepository;
+import com.raul.forumhub.topic.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest
+@Import(DomainEventOutbox.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+class DomainEventOutboxIT {
+
+    @Autowired
+    DomainEventOutbox domainEventOutbox;
+
+    @Autowired
+    OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    EventConsumerOffsetRepository eventConsumerOffsetRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private OutboxProperties outboxProperties;
+
+    private RecordingConsumer consumer;
+
+
+    @BeforeEach
+    void setup() {
+        this.outboxEventRepository.deleteAll();
+        this.eventConsumerOffsetRepository.deleteAll();
+        this.transactionTemplate = new TransactionTemplate(this.transactionManager);
+        this.outboxProperties = new OutboxProperties();
+        this.outboxProperties.getRelay().setEnabled(false);
+        this.outboxProperties.getRelay().setBatchSize(2);
+        this.consumer = new RecordingConsumer();
+    }
+
+    private DomainEventRelay relay() {
+        return new DomainEventRelay(this.outboxEventRepository, this.eventConsumerOffsetRepository,
+                this.transactionTemplate, this.outboxProperties, List.of(this.consumer), new SimpleMeterRegistry());
+    }
+
+    private void append(DomainEventType type, Long aggregate_id, Long topic_id) {
+        this.transactionTemplate.executeWithoutResult(status -> this.domainEventOutbox.append(type, aggregate_id, topic_id));
+    }
+
+
+    @Test
+    void shouldRequireTheTransactionOfTheChangeToAppendAnEvent() {
+        assertThrows(IllegalTransactionStateException.class,
+                () -> this.domainEventOutbox.append(DomainEventType.TOPIC_CREATED, 1L, 1L));
+
+        assertEquals(0, this.outboxEventRepository.count());
+    }
+
+    @Test
+    void shouldDiscardTheEventWhenTheChangeIsRolledBack() {
+        this.transactionTemplate.executeWithoutResult(status -> {
+            this.domainEventOutbox.append(DomainEventType.TOPIC_DELETED, 1L, 1L);
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, this.relay().relay());
+    }
+
+    @Test
+    void shouldRelayEventsInOrderAndResumeFromTheStoredOffset() {
+        this.append(DomainEventType.TOPIC_CREATED, 1L, 1L);
+        this.append(DomainEventType.ANSWER_CREATED, 1L, 1L);
+        this.append(DomainEventType.BEST_ANSWER_MARKED, 1L, 1L);
+
+        long firstRelay = this.relay().relay();
+        this.append(DomainEventType.COURSE_UPDATED, 2L, null);
+        long resumedRelay = this.relay().relay();
+
+        Assertions.assertAll(
+                () -> assertEquals(3, firstRelay),
+                () -> assertEquals(1, resumedRelay),
+                () -> assertEquals(List.of(DomainEventType.TOPIC_CREATED, DomainEventType.ANSWER_CREATED,
+                        DomainEventType.BEST_ANSWER_MARKED, DomainEventType.COURSE_UPDATED), this.consumer.types()),
+                () -> assertEquals(this.consumer.events.get(3).id(), this.eventConsumerOffsetRepository
+                        .findById("recording").orElseThrow().getLastEventId())
+        );
+    }
+
+    @Test
+    void shouldWaitForAnUncommittedEventBeforeRelayingTheOnesAfterIt() {
+        this.append(DomainEventType.TOPIC_CREATED, 1L, 1L);
+        this.relay().relay();
+        this.transactionTemplate.executeWithoutResult(status -> {
+            this.domainEventOutbox.append(DomainEventType.TOPIC_UPDATED, 1L, 1L);
+            status.setRollbackOnly();
+        });
+        this.append(DomainEventType.TOPIC_DELETED, 1L, 1L);
+
+        long withinGapTimeout = this.relay().relay();
+        this.outboxProperties.getRelay().setGapTimeout(Duration.ZERO);
+        long afterGapTimeout = this.relay().relay();
+
+        Assertions.assertAll(
+                () -> assertEquals(0, withinGapTimeout),
+                () -> assertEquals(1, afterGapTimeout),
+                () -> assertEquals(List.of(DomainEventType.TOPIC_CREATED, DomainEventType.TOPIC_DELETED), this.consumer.types())
+        );
+    }
+
+    @Test
+    void shouldPurgeDeliveredEventsOnceRetentionExpires() {
+        this.append(DomainEventType.COURSE_CREATED, 1L, null);
+        this.append(DomainEventType.COURSE_DELETED, 1L, null);
+        this.outboxProperties.setRetention(Duration.ZERO);
+
+        this.relay().relay();
+
+        Assertions.assertAll(
+                () -> assertEquals(2, this.consumer.events.size()),
+                () -> assertEquals(0, this.outboxEventRepository.count())
+        );
+    }
+
+    private static class RecordingConsumer implements DomainEventConsumer {
+
+        private final List<DomainEvent> events = new ArrayList<>();
+
+        @Override
+        public String name() {
+            return "recording";
+        }
+
+        @Override
+        public void accept(List<DomainEvent> events) {
+            this.events.addAll(events);
+        }
+
+        private List<DomainEventType> types() {
+            return this.events.stream().map(DomainEvent::type).toList();
+        }
+
+    }
+
+}
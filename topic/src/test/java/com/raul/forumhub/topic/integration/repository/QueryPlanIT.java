@@ -0,0 +1,257 @@
+package com.raul.forumhub.topic.integration.repository;
+
+import com.raul.forumhub.topic.domain.Answer;
+import com.raul.forumhub.topic.domain.Topic;
+import com.raul.forumhub.topic.dto.request.AnswerCursorDTO;
+import com.raul.forumhub.topic.dto.request.TopicCursorDTO;
+import com.raul.forumhub.topic.repository.*;
+import com.raul.forumhub.topic.util.TestsHelper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+                          "com.raul.forumhub.topic.integration.repository.QueryPlanIT$RecordingStatementInspector")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+class QueryPlanIT {
+
+    private static final int TOPICS = 300;
+
+    private static final int ANSWERS_PER_TOPIC = 3;
+
+    private static final Pattern TABLE_SCAN = Pattern.compile("/\\* PUBLIC\\.(\\w+)\\.tableScan \\*/");
+
+    @Autowired
+    TopicRepository topicRepository;
+
+    @Autowired
+    AnswerRepository answerRepository;
+
+    @Autowired
+    AuthorRepository authorRepository;
+
+    @Autowired
+    CourseRepository courseRepository;
+
+    @Autowired
+    ProfileRepository profileRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Value("${forumhub.query-plan.full-scan-row-threshold}")
+    long fullScanRowThreshold;
+
+    private static boolean hasBeenInitialized = false;
+
+
+    @BeforeEach
+    void setup() {
+        if (hasBeenInitialized) {
+            return;
+        }
+        TestsHelper.CacheHelper.evictSecondLevelCache(this.entityManagerFactory);
+        this.profileRepository.saveAll(TestsHelper.ProfileHelper.profileList());
+        this.authorRepository.saveAll(TestsHelper.AuthorHelper.authorList());
+        this.courseRepository.saveAll(TestsHelper.CourseHelper.courseList());
+
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Topic> topics = this.topicRepository.saveAll(IntStream.range(0, TOPICS)
+                .mapToObj(i -> Topic.builder()
+                        .title("Tópico " + i)
+                        .question("Pergunta do tópico " + i)
+                        .createdAt(createdAt.plusMinutes(i))
+                        .lastActivityAt(createdAt.plusMinutes(i))
+                        .answerCount(ANSWERS_PER_TOPIC)
+                        .status(TestsHelper.TopicHelper.topicList().get(i % 4).getStatus())
+                        .author(TestsHelper.AuthorHelper.authorList().get(i % 4))
+                        .course(TestsHelper.CourseHelper.courseList().get(i % 3))
+                        .build())
+                .toList());
+
+        this.answerRepository.saveAll(topics.stream()
+                .flatMap(topic -> IntStream.range(0, ANSWERS_PER_TOPIC)
+                        .mapToObj(i -> Answer.builder()
+                                .topic(topic)
+                                .solution("Resposta " + i)
+                                .createdAt(topic.getCreatedAt().plusSeconds(i))
+                                .author(topic.getAuthor())
+                                .build()))
+                .toList());
+
+        this.jdbcTemplate.execute("ANALYZE");
+        hasBeenInitialized = true;
+    }
+
+    @TestFactory
+    Stream<DynamicTest> queriesShouldNotScanLargeTables() {
+        TopicCursorDTO topicCursor = TopicCursorDTO.start();
+        AnswerCursorDTO answerCursor = AnswerCursorDTO.decode(null);
+        PageRequest newestFirst = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        return Stream.of(
+                        this.scenario("findTopicSummaries", () -> this.topicRepository
+                                .findTopicSummaries(newestFirst), "topic"),
+                        this.scenario("findTopicSummarySlice by activity", () -> this.topicRepository
+                                .findTopicSummarySlice(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "lastActivityAt")))),
+                        this.scenario("findTopicSummariesByCourseId", () -> this.topicRepository
+                                .findTopicSummariesByCourseId(1L, newestFirst)),
+                        this.scenario("findTopicSummarySliceByCourseId", () -> this.topicRepository
+                                .findTopicSummarySliceByCourseId(1L, newestFirst)),
+                        this.scenario("findTopicSummariesBefore", () -> this.topicRepository
+                                .findTopicSummariesBefore(topicCursor.createdAt(), topicCursor.id(), Limit.of(10))),
+                        this.scenario("findTopicSummariesByCourseIdBefore", () -> this.topicRepository
+                                .findTopicSummariesByCourseIdBefore(1L, topicCursor.createdAt(), topicCursor.id(),
+                                        Limit.of(10))),
+                        this.scenario("findTopicSummariesByIds", () -> this.topicRepository
+                                .findTopicSummariesByIds(List.of(1L, 2L, 3L))),
+                        this.scenario("findTopicDetailById", () -> this.topicRepository.findTopicDetailById(1L)),
+                        this.scenario("findById", () -> this.topicRepository.findById(1L)),
+                        this.scenario("findTopicsForIndexing", () -> this.topicRepository.findTopicsForIndexing(1L, 10L)),
+                        this.scenario("findBestAnswerSummariesByTopicId", () -> this.answerRepository
+                                .findBestAnswerSummariesByTopicId(1L, Limit.of(1))),
+                        this.scenario("findAnswerSummariesByTopicIdAfter", () -> this.answerRepository
+                                .findAnswerSummariesByTopicIdAfter(1L, answerCursor.createdAt(), answerCursor.id(),
+                                        Limit.of(10))),
+                        this.scenario("registerAnswer", () -> this.inTransaction(() -> this.topicRepository
+                                .registerAnswer(1L, LocalDateTime.now()))),
+                        this.scenario("unregisterAnswer", () -> this.inTransaction(() -> this.topicRepository
+                                .unregisterAnswer(1L, 0L))),
+                        this.sqlScenario("fn_declareAnonymousAuthor on topic", "UPDATE topic SET user_id = 0 WHERE user_id = ?"),
+                        this.sqlScenario("fn_declareAnonymousAuthor on answer", "UPDATE answer SET user_id = 0 WHERE user_id = ?"))
+                .map(scenario -> DynamicTest.dynamicTest(scenario.name(), () -> this.assertNoLargeTableScan(scenario)));
+    }
+
+    @Test
+    void shouldDetectFullScanOfLargeTable() {
+        QueryPlanScenario unindexed = this.sqlScenario("unindexed", "select topic_id from topic where question = ?");
+
+        AssertionFailedError failure = assertThrows(AssertionFailedError.class, () -> this.assertNoLargeTableScan(unindexed));
+
+        assertTrue(failure.getMessage().contains("varredura completa na tabela topic com 300 registros"));
+    }
+
+    private QueryPlanScenario scenario(String name, Runnable query, String... allowedScans) {
+        return new QueryPlanScenario(name, () -> {
+            RecordingStatementInspector.STATEMENTS.clear();
+            query.run();
+            return List.copyOf(RecordingStatementInspector.STATEMENTS);
+        }, Set.of(allowedScans));
+    }
+
+    private QueryPlanScenario sqlScenario(String name, String sql) {
+        return new QueryPlanScenario(name, () -> List.of(sql), Set.of());
+    }
+
+    private void inTransaction(Runnable action) {
+        new TransactionTemplate(this.transactionManager).executeWithoutResult(status -> {
+            action.run();
+            status.setRollbackOnly();
+        });
+    }
+
+    private void assertNoLargeTableScan(QueryPlanScenario scenario) {
+        List<String> statements = scenario.statements().get();
+        assertFalse(statements.isEmpty(), "Nenhuma instrução SQL foi capturada para " + scenario.name());
+
+        for (String statement : statements) {
+            String plan = this.explain(statement);
+            Matcher tableScan = TABLE_SCAN.matcher(plan);
+            while (tableScan.find()) {
+                String table = tableScan.group(1).toLowerCase(Locale.ROOT);
+                long rows = Objects.requireNonNull(this.jdbcTemplate.queryForObject("select count(*) from " + table, Long.class));
+                assertTrue(rows <= this.fullScanRowThreshold || scenario.allowedScans().contains(table),
+                        String.format("A consulta '%s' realiza varredura completa na tabela %s com %d registros:%n%s",
+                                scenario.name(), table, rows, plan));
+            }
+        }
+    }
+
+    private String explain(String statement) {
+        return this.jdbcTemplate.execute((Connection connection) -> {
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement)) {
+                ParameterMetaData parameters = explain.getParameterMetaData();
+                for (int i = 1; i <= parameters.getParameterCount(); i++) {
+                    explain.setObject(i, sampleValue(parameters.getParameterType(i)));
+                }
+                return this.readPlan(explain);
+            }
+        });
+    }
+
+    private String readPlan(PreparedStatement explain) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (var resultSet = explain.executeQuery()) {
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1));
+            }
+        }
+        return plan.toString();
+    }
+
+    private static Object sampleValue(int sqlType) {
+        return switch (sqlType) {
+            case Types.TIMESTAMP, Types.TIMESTAMP_WITH_TIMEZONE -> LocalDateTime.now();
+            case Types.BOOLEAN -> true;
+            case Types.VARCHAR, Types.CHAR -> "UNSOLVED";
+            default -> 1L;
+        };
+    }
+
+    private record QueryPlanScenario(String name, Supplier<List<String>> statements,
+                                     Set<String> allowedScans) {
+    }
+
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.raul.forumhub.topic.integration.repository;
+
+import com.raul.forumhub.topic.domain.Author;
+import com.raul.forumhub.topic.domain.Course;
+import com.raul.forumhub.topic.repository.AuthorRepository;
+import com.raul.forumhub.topic.repository.CourseRepository;
+import com.raul.forumhub.topic.repository.ProfileRepository;
+import com.raul.forumhub.topic.util.TestsHelper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+class SecondLevelCacheIT {
+
+    @Autowired
+    CourseRepository courseRepository;
+
+    @Autowired
+    AuthorRepository authorRepository;
+
+    @Autowired
+    ProfileRepository profileRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private static boolean hasBeenInitialized = false;
+
+    private Statistics statistics;
+
+
+    @BeforeEach
+    void setup() {
+        TestsHelper.CacheHelper.evictSecondLevelCache(this.entityManagerFactory);
+        if (!hasBeenInitialized) {
+            this.profileRepository.saveAll(TestsHelper.ProfileHelper.profileList());
+            this.authorRepository.saveAll(TestsHelper.AuthorHelper.authorList());
+            this.courseRepository.saveAll(TestsHelper.CourseHelper.courseList());
+            hasBeenInitialized = true;
+        }
+        this.statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.clear();
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return new TransactionTemplate(this.transactionManager).execute(status -> action.get());
+    }
+
+    @Test
+    void shouldLoadCoursesAndAuthorsWithProfileFromSecondLevelCacheOnceCached() {
+        this.inTransaction(() -> this.courseRepository.findById(1L).orElseThrow());
+        this.inTransaction(() -> this.authorRepository.findById(2L).orElseThrow());
+        long statements = this.statistics.getPrepareStatementCount();
+
+        Course course = this.inTransaction(() -> this.courseRepository.findById(1L).orElseThrow());
+        Author author = this.inTransaction(() -> this.authorRepository.findById(2L).orElseThrow());
+
+        CacheRegionStatistics courseRegion = this.statistics.getDomainDataRegionStatistics("course");
+        CacheRegionStatistics authorRegion = this.statistics.getDomainDataRegionStatistics("author");
+        assertAll(
+                () -> assertEquals("Criação de uma API Rest", course.getName()),
+                () -> assertEquals(TestsHelper.AuthorHelper.authorList().get(1).getUsername(), author.getUsername()),
+                () -> assertTrue(author.getProfile().getProfileName() != null),
+                () -> assertEquals(statements, this.statistics.getPrepareStatementCount()),
+                () -> assertEquals(1, courseRegion.getHitCount()),
+                () -> assertEquals(1, authorRegion.getHitCount()),
+                () -> assertTrue(this.statistics.getDomainDataRegionStatistics("profile").getHitCount() >= 1)
+        );
+    }
+
+    @Test
+    void shouldServeCourseListingFromQueryCacheUntilACourseChanges() {
+        this.inTransaction(this.courseRepository::findAll);
+        List<Course> cached = this.inTransaction(this.courseRepository::findAll);
+
+        assertEquals(1, this.statistics.getQueryCacheHitCount());
+
+        Course course = cached.get(0);
+        String name = course.getName();
+        course.setName("Criação de uma API Rest com cache");
+        this.courseRepository.save(course);
+
+        List<Course> refreshed = this.inTransaction(this.courseRepository::findAll);
+
+        assertAll(
+                () -> assertEquals(1, this.statistics.getQueryCacheHitCount()),
+                () -> assertEquals(2, this.statistics.getQueryCacheMissCount()),
+                () -> assertEquals("Criação de uma API Rest com cache", refreshed.get(0).getName())
+        );
+
+        course.setName(name);
+        this.courseRepository.save(course);
+    }
+
+    @Test
+    void shouldEvictCachedCourseWhenItsVersionIsBumped() {
+        long version = this.inTransaction(() -> this.courseRepository.findById(2L).orElseThrow()).getVersion();
+
+        this.courseRepository.bumpVersion(2L);
+        Course course = this.inTransaction(() -> this.courseRepository.findById(2L).orElseThrow());
+
+        assertAll(
+                () -> assertEquals(version + 1, course.getVersion()),
+                () -> assertEquals(0, this.statistics.getDomainDataRegionStatistics("course").getHitCount())
+        );
+    }
+
+}
@@ -0,0 +1,341 @@
+package com.raul.forumhub.topic.integration.repository;
+
+import com.raul.forumhub.topic.domain.Answer;
+import com.raul.forumhub.topic.domain.Status;
+import com.raul.forumhub.topic.domain.Topic;
+import com.raul.forumhub.topic.dto.request.AnswerCursorDTO;
+import com.raul.forumhub.topic.dto.request.TopicCursorDTO;
+import com.raul.forumhub.topic.dto.response.TopicOwnerDTO;
+import com.raul.forumhub.topic.dto.response.TopicSummaryResponseDTO;
+import com.raul.forumhub.topic.repository.*;
+import com.raul.forumhub.topic.util.TestsHelper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+class TopicRepositoryIT {
+
+    private static final int ANSWERS_PER_TOPIC = 200;
+
+    @Autowired
+    TopicRepository topicRepository;
+
+    @Autowired
+    AnswerRepository answerRepository;
+
+    @Autowired
+    AuthorRepository authorRepository;
+
+    @Autowired
+    CourseRepository courseRepository;
+
+    @Autowired
+    ProfileRepository profileRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private static Topic answeredTopic;
+
+
+    @BeforeEach
+    void setup() {
+        if (answeredTopic != null) {
+            return;
+        }
+        TestsHelper.CacheHelper.evictSecondLevelCache(this.entityManagerFactory);
+        this.profileRepository.saveAll(TestsHelper.ProfileHelper.profileList());
+        this.authorRepository.saveAll(TestsHelper.AuthorHelper.authorList());
+        this.courseRepository.saveAll(TestsHelper.CourseHelper.courseList());
+        List<Topic> topics = this.topicRepository.saveAll(TestsHelper.TopicHelper.topicList());
+        answeredTopic = topics.get(0);
+
+        this.answerRepository.saveAll(IntStream.range(0, ANSWERS_PER_TOPIC)
+                .mapToObj(i -> Answer.builder()
+                        .topic(answeredTopic)
+                        .solution("Resposta " + i)
+                        .createdAt(LocalDateTime.now())
+                        .author(answeredTopic.getAuthor())
+                        .build())
+                .toList());
+
+        this.inTransaction(() -> this.topicRepository.repairStatistics(1L, this.topicRepository.findMaxTopicId()));
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return new TransactionTemplate(this.transactionManager).execute(status -> action.get());
+    }
+
+    @Test
+    void shouldReturnFlatSummaryRowsWithAnswerCount() {
+        Page<TopicSummaryResponseDTO> summaries = this.topicRepository.findTopicSummaries(
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        TopicSummaryResponseDTO summary = summaries.getContent().stream()
+                .filter(topic -> topic.id().equals(answeredTopic.getId()))
+                .findFirst().orElseThrow();
+
+        assertAll(
+                () -> assertEquals(4, summaries.getTotalElements()),
+                () -> assertEquals("Dúvida na utilização do Feign Client", summary.title()),
+                () -> assertEquals("Jose", summary.authorUsername()),
+                () -> assertEquals("Criação de uma API Rest", summary.courseName()),
+                () -> assertEquals(ANSWERS_PER_TOPIC, summary.answerCount())
+        );
+
+    }
+
+    @Test
+    void shouldLoadSummaryPageWithoutFetchingAnswers() {
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<TopicSummaryResponseDTO> summaries = this.topicRepository.findTopicSummariesByCourseId(
+                answeredTopic.getCourse().getId(), PageRequest.of(0, 1, Sort.by("title")));
+
+        assertAll(
+                () -> assertEquals(1, summaries.getContent().size()),
+                () -> assertEquals(2, summaries.getTotalElements()),
+                () -> assertEquals(2, statistics.getPrepareStatementCount()),
+                () -> assertEquals(0, statistics.getEntityLoadCount())
+        );
+
+    }
+
+    @Test
+    void shouldLoadSummarySliceWithoutCountQuery() {
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Slice<TopicSummaryResponseDTO> summaries = this.topicRepository.findTopicSummarySliceByCourseId(
+                answeredTopic.getCourse().getId(), PageRequest.of(0, 1, Sort.by("title")));
+
+        assertAll(
+                () -> assertEquals(1, summaries.getContent().size()),
+                () -> assertTrue(summaries.hasNext()),
+                () -> assertEquals(1, statistics.getPrepareStatementCount()),
+                () -> assertEquals(2, this.topicRepository.countByCourseId(answeredTopic.getCourse().getId()))
+        );
+
+    }
+
+    @Test
+    void shouldWalkTopicsNewestFirstUsingKeysetCursor() {
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        TopicCursorDTO start = TopicCursorDTO.start();
+        List<TopicSummaryResponseDTO> firstPage = this.topicRepository.findTopicSummariesBefore(start.createdAt(),
+                start.id(), Limit.of(2));
+
+        TopicCursorDTO next = TopicCursorDTO.of(firstPage.get(1));
+        List<TopicSummaryResponseDTO> secondPage = this.topicRepository.findTopicSummariesBefore(next.createdAt(),
+                next.id(), Limit.of(2));
+
+        assertAll(
+                () -> assertEquals(List.of(3L, 1L), firstPage.stream().map(TopicSummaryResponseDTO::id).toList()),
+                () -> assertEquals(List.of(2L, 4L), secondPage.stream().map(TopicSummaryResponseDTO::id).toList()),
+                () -> assertEquals(2, statistics.getPrepareStatementCount()),
+                () -> assertEquals(0, statistics.getEntityLoadCount())
+        );
+
+    }
+
+    @Test
+    void shouldWalkTopicsOfCourseUsingKeysetCursor() {
+        Long course_id = answeredTopic.getCourse().getId();
+        TopicCursorDTO start = TopicCursorDTO.start();
+        List<TopicSummaryResponseDTO> firstPage = this.topicRepository.findTopicSummariesByCourseIdBefore(course_id,
+                start.createdAt(), start.id(), Limit.of(1));
+
+        TopicCursorDTO next = TopicCursorDTO.of(firstPage.get(0));
+        List<TopicSummaryResponseDTO> secondPage = this.topicRepository.findTopicSummariesByCourseIdBefore(course_id,
+                next.createdAt(), next.id(), Limit.of(1));
+
+        TopicCursorDTO last = TopicCursorDTO.of(secondPage.get(0));
+
+        assertAll(
+                () -> assertEquals(1L, firstPage.get(0).id()),
+                () -> assertEquals(ANSWERS_PER_TOPIC, firstPage.get(0).answerCount()),
+                () -> assertEquals(4L, secondPage.get(0).id()),
+                () -> assertEquals(List.of(), this.topicRepository.findTopicSummariesByCourseIdBefore(course_id,
+                        last.createdAt(), last.id(), Limit.of(1)))
+        );
+
+    }
+
+    @Test
+    void shouldKeepStatisticsUpToDateOnAnswerWrites() {
+        Topic topic = this.topicRepository.save(new Topic("Dúvida sobre estatísticas", "Como manter contadores?",
+                answeredTopic.getAuthor(), answeredTopic.getCourse()));
+        Answer answer = this.answerRepository.save(Answer.builder().topic(topic).author(topic.getAuthor())
+                .solution("Atualize na escrita").createdAt(LocalDateTime.of(2024, 9, 1, 10, 0)).build());
+
+        this.inTransaction(() -> this.topicRepository.registerAnswer(topic.getId(), answer.getCreatedAt()));
+        Long author_id = topic.getAuthor().getId();
+        int notOwnerMark = this.inTransaction(() -> this.topicRepository.markBestAnswer(topic.getId(), answer.getId(), -1L));
+        AnswerCursorDTO start = AnswerCursorDTO.start();
+        Long foreignAnswer_id = this.answerRepository.findAnswerSummariesByTopicIdAfter(answeredTopic.getId(),
+                start.createdAt(), start.id(), Limit.of(1)).get(0).id();
+        int foreignAnswerMark = this.inTransaction(() -> this.topicRepository.markBestAnswer(topic.getId(),
+                foreignAnswer_id, author_id));
+        int firstMark = this.inTransaction(() -> this.topicRepository.markBestAnswer(topic.getId(), answer.getId(), author_id));
+        int secondMark = this.inTransaction(() -> this.topicRepository.markBestAnswer(topic.getId(), answer.getId(), author_id));
+        Topic marked = this.topicRepository.findById(topic.getId()).orElseThrow();
+
+        this.inTransaction(() -> {
+            this.topicRepository.unregisterAnswer(topic.getId(), answer.getId());
+            this.answerRepository.deleteById(answer.getId());
+            return null;
+        });
+        Topic unanswered = this.topicRepository.findById(topic.getId()).orElseThrow();
+
+        this.topicRepository.deleteById(topic.getId());
+
+        assertAll(
+                () -> assertEquals(0, notOwnerMark),
+                () -> assertEquals(0, foreignAnswerMark),
+                () -> assertEquals(1, firstMark),
+                () -> assertEquals(0, secondMark),
+                () -> assertEquals(1, marked.getAnswerCount()),
+                () -> assertEquals(answer.getId(), marked.getBestAnswerId()),
+                () -> assertEquals(Status.SOLVED, marked.getStatus()),
+                () -> assertEquals(answer.getCreatedAt(), marked.getLastActivityAt()),
+                () -> assertEquals(0, unanswered.getAnswerCount()),
+                () -> assertNull(unanswered.getBestAnswerId()),
+                () -> assertEquals(Status.UNSOLVED, unanswered.getStatus()),
+                () -> assertEquals(unanswered.getCreatedAt(), unanswered.getLastActivityAt())
+        );
+
+    }
+
+    @Test
+    void shouldDeleteTopicsAndTheirAnswersWithSetBasedStatements() {
+        List<Topic> topics = this.topicRepository.saveAll(IntStream.range(0, 2)
+                .mapToObj(i -> new Topic("Dúvida para remoção " + i, "Como remover em lote?",
+                        answeredTopic.getAuthor(), answeredTopic.getCourse()))
+                .toList());
+        List<Long> topic_ids = topics.stream().map(Topic::getId).toList();
+        this.answerRepository.saveAll(topics.stream()
+                .flatMap(topic -> IntStream.range(0, 3).mapToObj(i -> Answer.builder().topic(topic)
+                        .author(topic.getAuthor()).solution("Resposta " + i).createdAt(LocalDateTime.now()).build()))
+                .toList());
+
+        List<TopicOwnerDTO> owners = this.topicRepository.findTopicOwnersByIdIn(topic_ids);
+        List<Long> courseTopicIds = this.topicRepository.findTopicOwnersByCourseId(answeredTopic.getCourse().getId(),
+                Limit.of(100)).stream().map(TopicOwnerDTO::id).toList();
+        int deletedAnswers = this.inTransaction(() -> this.topicRepository.deleteAnswersByTopicIdIn(topic_ids));
+        int deletedTopics = this.inTransaction(() -> this.topicRepository.deleteTopicsByIdIn(topic_ids));
+
+        assertAll(
+                () -> assertEquals(2, owners.size()),
+                () -> assertTrue(owners.stream().allMatch(owner ->
+                        owner.authorId().equals(answeredTopic.getAuthor().getId()) &&
+                        owner.courseId().equals(answeredTopic.getCourse().getId()))),
+                () -> assertTrue(courseTopicIds.containsAll(topic_ids)),
+                () -> assertEquals(6, deletedAnswers),
+                () -> assertEquals(2, deletedTopics),
+                () -> assertTrue(this.topicRepository.findAllById(topic_ids).isEmpty()),
+                () -> assertEquals(ANSWERS_PER_TOPIC, this.topicRepository.findById(answeredTopic.getId())
+                        .orElseThrow().getAnswers().size())
+        );
+
+    }
+
+    @Test
+    void shouldUnsolveTopicWhenBestAnswerIsDeletedWithBestAnswerForeignKey() {
+        Topic topic = this.topicRepository.save(new Topic("Dúvida sobre chave estrangeira", "Como remover a melhor resposta?",
+                answeredTopic.getAuthor(), answeredTopic.getCourse()));
+        Answer answer = this.answerRepository.save(Answer.builder().topic(topic).author(topic.getAuthor())
+                .solution("Desmarque antes de remover").createdAt(LocalDateTime.of(2024, 9, 1, 10, 0)).build());
+        this.inTransaction(() -> this.topicRepository.registerAnswer(topic.getId(), answer.getCreatedAt()));
+        this.inTransaction(() -> this.topicRepository.markBestAnswer(topic.getId(), answer.getId(),
+                topic.getAuthor().getId()));
+
+        this.jdbcTemplate.execute("ALTER TABLE topic ADD CONSTRAINT fk_best_answer_topic " +
+                                  "FOREIGN KEY (best_answer_id) REFERENCES answer (answer_id) ON DELETE SET NULL");
+        try {
+            this.inTransaction(() -> {
+                this.topicRepository.unregisterAnswer(topic.getId(), answer.getId());
+                this.answerRepository.deleteById(answer.getId());
+                return null;
+            });
+        } finally {
+            this.jdbcTemplate.execute("ALTER TABLE topic DROP CONSTRAINT fk_best_answer_topic");
+        }
+        Topic unanswered = this.topicRepository.findById(topic.getId()).orElseThrow();
+
+        this.topicRepository.deleteById(topic.getId());
+
+        assertAll(
+                () -> assertEquals(0, unanswered.getAnswerCount()),
+                () -> assertNull(unanswered.getBestAnswerId()),
+                () -> assertEquals(Status.UNSOLVED, unanswered.getStatus()),
+                () -> assertEquals(unanswered.getCreatedAt(), unanswered.getLastActivityAt())
+        );
+
+    }
+
+    @Test
+    void shouldNotOverwriteStatisticsWhenTopicIsSaved() {
+        Topic topic = this.topicRepository.findById(answeredTopic.getId()).orElseThrow();
+        topic.setAnswerCount(0);
+        topic.setTitle(answeredTopic.getTitle());
+
+        this.topicRepository.save(topic);
+
+        assertEquals(ANSWERS_PER_TOPIC, this.topicRepository.findById(answeredTopic.getId()).orElseThrow().getAnswerCount());
+
+    }
+
+    @Test
+    void shouldRepairOnlyTopicsWithOutdatedStatistics() {
+        assertEquals(0, this.inTransaction(() -> this.topicRepository.repairStatistics(1L,
+                this.topicRepository.findMaxTopicId())));
+
+    }
+
+    @Test
+    void shouldSortSummariesByMostRecentActivity() {
+        Page<TopicSummaryResponseDTO> summaries = this.topicRepository.findTopicSummaries(
+                PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "lastActivityAt")));
+
+        assertEquals(answeredTopic.getId(), summaries.getContent().get(0).id());
+
+    }
+
+}
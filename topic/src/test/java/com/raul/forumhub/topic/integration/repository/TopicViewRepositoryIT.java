@@ -0,0 +1,133 @@
+package com.raul.forumhub.topic.integration.repository;
+
+import com.raul.forumhub.topic.domain.Topic;
+import com.raul.forumhub.topic.repository.*;
+import com.raul.forumhub.topic.repository.TopicViewRepository.ViewRow;
+import com.raul.forumhub.topic.util.TestsHelper;
+import com.raul.forumhub.topic.views.HyperLogLog;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@Import(TopicViewRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+class TopicViewRepositoryIT {
+
+    @Autowired
+    TopicViewRepository topicViewRepository;
+
+    @Autowired
+    TopicRepository topicRepository;
+
+    @Autowired
+    AuthorRepository authorRepository;
+
+    @Autowired
+    CourseRepository courseRepository;
+
+    @Autowired
+    ProfileRepository profileRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private Topic topic;
+
+
+    @BeforeEach
+    void setup() {
+        TestsHelper.CacheHelper.evictSecondLevelCache(this.entityManagerFactory);
+        this.profileRepository.saveAll(TestsHelper.ProfileHelper.profileList());
+        this.authorRepository.saveAll(TestsHelper.AuthorHelper.authorList());
+        this.courseRepository.saveAll(TestsHelper.CourseHelper.courseList());
+        this.topic = this.topicRepository.save(new Topic("Dúvida sobre contadores de visualizações",
+                "Como contar as visualizações de um tópico?", TestsHelper.AuthorHelper.authorList().get(1),
+                TestsHelper.CourseHelper.courseList().get(0)));
+    }
+
+    private static HyperLogLog viewers(String... viewers) {
+        HyperLogLog sketch = new HyperLogLog();
+        for (String viewer : viewers) {
+            sketch.add(HyperLogLog.hash(viewer));
+        }
+        return sketch;
+    }
+
+    private int addViews(List<ViewRow> views) {
+        return new TransactionTemplate(this.transactionManager).execute(status -> this.topicViewRepository.addViews(views));
+    }
+
+    private Map<String, Object> viewColumns() {
+        return this.jdbcTemplate.queryForMap("SELECT view_count, unique_viewer_count FROM topic WHERE topic_id = ?",
+                this.topic.getId());
+    }
+
+
+    @Test
+    void shouldAddViewsAndMergeUniqueViewersWithThePersistedSketch() {
+        int updated = this.addViews(List.of(new ViewRow(this.topic.getId(), 3, viewers("user:1", "user:2")),
+                new ViewRow(Long.MAX_VALUE, 1, viewers("user:1"))));
+        Map<String, Object> firstFlush = this.viewColumns();
+
+        this.addViews(List.of(new ViewRow(this.topic.getId(), 2, viewers("user:2", "user:3"))));
+        Map<String, Object> secondFlush = this.viewColumns();
+
+        Assertions.assertAll(
+                () -> assertEquals(1, updated),
+                () -> assertEquals(3L, firstFlush.get("view_count")),
+                () -> assertEquals(2L, firstFlush.get("unique_viewer_count")),
+                () -> assertEquals(5L, secondFlush.get("view_count")),
+                () -> assertEquals(3L, secondFlush.get("unique_viewer_count")),
+                () -> assertEquals(3L, this.topicRepository.findTopicDetailById(this.topic.getId())
+                        .orElseThrow().uniqueViewerCount())
+        );
+
+        this.topicRepository.deleteById(this.topic.getId());
+    }
+
+    @Test
+    void shouldRemoveViewerSketchWhenTopicIsDeleted() {
+        this.addViews(List.of(new ViewRow(this.topic.getId(), 1, viewers("user:1"))));
+
+        this.topicRepository.deleteById(this.topic.getId());
+
+        assertEquals(0, this.jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM topic_viewer_sketch WHERE topic_id = ?", Integer.class, this.topic.getId()));
+    }
+
+    @Test
+    void shouldNotOverwriteViewCountsWhenTopicIsSaved() {
+        this.addViews(List.of(new ViewRow(this.topic.getId(), 4, viewers("user:1"))));
+
+        this.topic.setTitle("Dúvida sobre contadores de visualizações editada");
+        this.topicRepository.save(this.topic);
+
+        assertEquals(4L, this.viewColumns().get("view_count"));
+
+        this.topicRepository.deleteById(this.topic.getId());
+    }
+
+}
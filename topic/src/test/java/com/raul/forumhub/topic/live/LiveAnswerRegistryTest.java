@@ -0,0 +1,185 @@
+package com.raul.forumhub.topic.live;
+
+import com.raul.forumhub.topic.dto.response.AnswerSummaryResponseDTO;
+import com.raul.forumhub.topic.event.AnswerChangedEvent;
+import com.raul.forumhub.topic.event.DomainEventType;
+import com.raul.forumhub.topic.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LiveAnswerRegistryTest {
+
+    LiveAnswerProperties liveAnswerProperties;
+
+    SimpleMeterRegistry meterRegistry;
+
+    LiveAnswerRegistry liveAnswerRegistry;
+
+    @BeforeEach
+    void setup() {
+        this.liveAnswerProperties = new LiveAnswerProperties();
+        this.liveAnswerProperties.setHeartbeatInterval(Duration.ofHours(1));
+        this.liveAnswerProperties.setBufferSize(2);
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.liveAnswerRegistry = new LiveAnswerRegistry(this.liveAnswerProperties, this.meterRegistry);
+    }
+
+    private static AnswerChangedEvent event(Long topic_id, DomainEventType type, Long answer_id) {
+        return new AnswerChangedEvent(topic_id, type, new AnswerSummaryResponseDTO(answer_id, "Resposta teste",
+                type == DomainEventType.BEST_ANSWER_MARKED, LocalDateTime.of(2024, 1, 1, 12, 0), "jose"));
+    }
+
+
+    @Test
+    void shouldFanOutAnswerEventsOnlyToSubscribersOfTheTopic() {
+        List<ServerSentEvent<AnswerSummaryResponseDTO>> first = new CopyOnWriteArrayList<>();
+        List<ServerSentEvent<AnswerSummaryResponseDTO>> second = new CopyOnWriteArrayList<>();
+        List<ServerSentEvent<AnswerSummaryResponseDTO>> other = new CopyOnWriteArrayList<>();
+        Disposable firstSubscription = this.liveAnswerRegistry.subscribe(1L).subscribe(first::add);
+        Disposable secondSubscription = this.liveAnswerRegistry.subscribe(1L).subscribe(second::add);
+        Disposable otherSubscription = this.liveAnswerRegistry.subscribe(2L).subscribe(other::add);
+
+        this.liveAnswerRegistry.onAnswerChanged(event(1L, DomainEventType.ANSWER_CREATED, 1L));
+        this.liveAnswerRegistry.onAnswerChanged(event(1L, DomainEventType.BEST_ANSWER_MARKED, 1L));
+        this.liveAnswerRegistry.onAnswerChanged(event(3L, DomainEventType.ANSWER_UPDATED, 2L));
+
+        Assertions.assertAll(
+                () -> assertEquals(List.of("answer-created", "best-answer-marked"),
+                        first.stream().map(ServerSentEvent::event).toList()),
+                () -> assertEquals(first.stream().map(ServerSentEvent::data).toList(),
+                        second.stream().map(ServerSentEvent::data).toList()),
+                () -> assertEquals(1L, first.get(0).data().id()),
+                () -> assertEquals(true, first.get(1).data().bestAnswer()),
+                () -> assertEquals(List.of(), other),
+                () -> assertEquals(3, this.meterRegistry.get("forumhub.live.answers.subscribers").gauge().value())
+        );
+
+        firstSubscription.dispose();
+        secondSubscription.dispose();
+        otherSubscription.dispose();
+    }
+
+    @Test
+    void shouldReleaseTheTopicChannelWhenTheLastSubscriberLeaves() {
+        Disposable firstSubscription = this.liveAnswerRegistry.subscribe(1L).subscribe();
+        Disposable secondSubscription = this.liveAnswerRegistry.subscribe(1L).subscribe();
+        assertEquals(2, this.liveAnswerRegistry.subscribers(1L));
+
+        firstSubscription.dispose();
+        assertEquals(1, this.liveAnswerRegistry.subscribers(1L));
+        secondSubscription.dispose();
+
+        Assertions.assertAll(
+                () -> assertEquals(0, this.liveAnswerRegistry.subscribers(1L)),
+                () -> assertEquals(0, this.meterRegistry.get("forumhub.live.answers.topics").gauge().value()),
+                () -> assertEquals(0, this.meterRegistry.get("forumhub.live.answers.subscribers").gauge().value())
+        );
+    }
+
+    @Test
+    void shouldDisconnectSubscriberThatDoesNotKeepUpWithTheBufferedEvents() {
+        AtomicReference<SignalType> termination = new AtomicReference<>();
+        this.liveAnswerRegistry.subscribe(1L).subscribe(new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+            }
+
+            @Override
+            protected void hookFinally(SignalType type) {
+                termination.set(type);
+            }
+        });
+        List<ServerSentEvent<AnswerSummaryResponseDTO>> received = new CopyOnWriteArrayList<>();
+        Disposable subscription = this.liveAnswerRegistry.subscribe(1L).subscribe(received::add);
+
+        for (long answer_id = 1; answer_id <= 5; answer_id++) {
+            this.liveAnswerRegistry.onAnswerChanged(event(1L, DomainEventType.ANSWER_CREATED, answer_id));
+        }
+
+        Assertions.assertAll(
+                () -> assertEquals(SignalType.ON_COMPLETE, termination.get()),
+                () -> assertEquals(5, received.size()),
+                () -> assertEquals(1, this.liveAnswerRegistry.subscribers(1L)),
+                () -> assertEquals(1, this.meterRegistry.get("forumhub.live.answers.disconnected").counter().count())
+        );
+
+        subscription.dispose();
+    }
+
+    @Test
+    void shouldSendHeartbeatsToIdleSubscribers() throws InterruptedException {
+        this.liveAnswerProperties.setHeartbeatInterval(Duration.ofMillis(20));
+        LiveAnswerRegistry registry = new LiveAnswerRegistry(this.liveAnswerProperties, new SimpleMeterRegistry());
+        List<ServerSentEvent<AnswerSummaryResponseDTO>> received = new CopyOnWriteArrayList<>();
+
+        Disposable subscription = registry.subscribe(1L).subscribe(received::add);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (received.size() < 2 && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        subscription.dispose();
+
+        Assertions.assertAll(
+                () -> Assertions.assertTrue(received.size() >= 2),
+                () -> assertEquals("heartbeat", received.get(0).comment()),
+                () -> assertEquals(null, received.get(0).data())
+        );
+    }
+
+    @Test
+    void shouldEndTheStreamWithReconnectHintWhenTheMaxDurationElapses() throws InterruptedException {
+        this.liveAnswerProperties.setMaxDuration(Duration.ofMillis(50));
+        this.liveAnswerProperties.setReconnectDelay(Duration.ofSeconds(3));
+        LiveAnswerRegistry registry = new LiveAnswerRegistry(this.liveAnswerProperties, new SimpleMeterRegistry());
+        List<ServerSentEvent<AnswerSummaryResponseDTO>> received = new CopyOnWriteArrayList<>();
+        AtomicReference<SignalType> termination = new AtomicReference<>();
+
+        registry.subscribe(1L).doFinally(termination::set).subscribe(received::add);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (termination.get() == null && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+
+        Assertions.assertAll(
+                () -> assertEquals(SignalType.ON_COMPLETE, termination.get()),
+                () -> assertEquals(1, received.size()),
+                () -> assertEquals("reconnect", received.get(0).comment()),
+                () -> assertEquals(Duration.ofSeconds(3), received.get(0).retry()),
+                () -> assertEquals(0, registry.subscribers(1L))
+        );
+    }
+
+    @Test
+    void shouldRejectSubscriberWhenTheMaxSubscribersIsReached() {
+        this.liveAnswerProperties.setMaxSubscribers(2);
+        Disposable firstSubscription = this.liveAnswerRegistry.subscribe(1L).subscribe();
+        Disposable secondSubscription = this.liveAnswerRegistry.subscribe(2L).subscribe();
+
+        assertThrows(BusinessException.class, () -> this.liveAnswerRegistry.subscribe(1L));
+
+        firstSubscription.dispose();
+        Disposable thirdSubscription = this.liveAnswerRegistry.subscribe(1L).subscribe();
+        assertEquals(1, this.liveAnswerRegistry.subscribers(1L));
+
+        secondSubscription.dispose();
+        thirdSubscription.dispose();
+    }
+
+}
@@ -0,0 +1,194 @@
+package com.raul.forumhub.topic.outbox;
+
+import com.raul.forumhub.topic.domain.EventConsumerOffset;
+import com.raul.forumhub.topic.domain.OutboxEvent;
+import com.raul.forumhub.topic.event.DomainEvent;
+import com.raul.forumhub.topic.event.DomainEventType;
+import com.raul.forumhub.topic.repository.EventConsumerOffsetRepository;
+import com.raul.forumhub.topic.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.BDDMockito;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+
+@ExtendWith(MockitoExtension.class)
+class DomainEventRelayTest {
+
+    @Mock
+    OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    EventConsumerOffsetRepository eventConsumerOffsetRepository;
+
+    @Captor
+    ArgumentCaptor<EventConsumerOffset> offsetCaptor;
+
+    OutboxProperties outboxProperties;
+
+    SimpleMeterRegistry meterRegistry;
+
+    RecordingConsumer consumer;
+
+    @BeforeEach
+    void setup() {
+        this.outboxProperties = new OutboxProperties();
+        this.outboxProperties.getRelay().setEnabled(false);
+        this.outboxProperties.getRelay().setBatchSize(2);
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.consumer = new RecordingConsumer("indexer");
+    }
+
+    private DomainEventRelay relay(DomainEventConsumer... consumers) {
+        return new DomainEventRelay(this.outboxEventRepository, this.eventConsumerOffsetRepository,
+                TransactionOperations.withoutTransaction(), this.outboxProperties, List.of(consumers), this.meterRegistry);
+    }
+
+    private static OutboxEvent event(long id, LocalDateTime occurredAt) {
+        return new OutboxEvent(id, DomainEventType.TOPIC_UPDATED, 1L, 1L, occurredAt);
+    }
+
+    private static EventConsumerOffset offset(String consumer, long lastEventId) {
+        return new EventConsumerOffset(consumer, lastEventId, LocalDateTime.now());
+    }
+
+
+    @Test
+    void shouldDeliverEventsInBatchesAndStoreTheConsumerOffset() {
+        LocalDateTime occurredAt = LocalDateTime.now();
+        BDDMockito.given(this.eventConsumerOffsetRepository.findForUpdate("indexer"))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(offset("indexer", 2)));
+        BDDMockito.given(this.outboxEventRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2)))
+                .willReturn(List.of(event(1, occurredAt), event(2, occurredAt)));
+        BDDMockito.given(this.outboxEventRepository.findByIdGreaterThanOrderByIdAsc(2L, Limit.of(2)))
+                .willReturn(List.of(event(3, occurredAt)));
+
+        long relayed = this.relay(this.consumer).relay();
+
+        BDDMockito.verify(this.eventConsumerOffsetRepository, BDDMockito.times(2)).save(this.offsetCaptor.capture());
+        Assertions.assertAll(
+                () -> assertEquals(3, relayed),
+                () -> assertEquals(List.of(List.of(1L, 2L), List.of(3L)), this.consumer.batches),
+                () -> assertEquals(List.of(2L, 3L), this.offsetCaptor.getAllValues().stream()
+                        .map(EventConsumerOffset::getLastEventId).toList()),
+                () -> assertEquals(3, this.meterRegistry.get("forumhub.outbox.events.relayed")
+                        .tag("consumer", "indexer").counter().count())
+        );
+
+    }
+
+    @Test
+    void shouldStopBeforeARecentGapUntilItTimesOut() {
+        LocalDateTime occurredAt = LocalDateTime.now();
+        BDDMockito.given(this.eventConsumerOffsetRepository.findForUpdate("indexer"))
+                .willReturn(Optional.of(offset("indexer", 5)))
+                .willReturn(Optional.of(offset("indexer", 6)))
+                .willReturn(Optional.of(offset("indexer", 6)));
+        BDDMockito.given(this.outboxEventRepository.findByIdGreaterThanOrderByIdAsc(5L, Limit.of(2)))
+                .willReturn(List.of(event(6, occurredAt), event(8, occurredAt)));
+        BDDMockito.given(this.outboxEventRepository.findByIdGreaterThanOrderByIdAsc(6L, Limit.of(2)))
+                .willReturn(List.of(event(8, occurredAt)))
+                .willReturn(List.of(event(8, occurredAt.minusMinutes(1))));
+        DomainEventRelay domainEventRelay = this.relay(this.consumer);
+
+        long beforeGap = domainEventRelay.relay();
+        long withinTimeout = domainEventRelay.relay();
+        long afterTimeout = domainEventRelay.relay();
+
+        Assertions.assertAll(
+                () -> assertEquals(1, beforeGap),
+                () -> assertEquals(0, withinTimeout),
+                () -> assertEquals(1, afterTimeout),
+                () -> assertEquals(List.of(List.of(6L), List.of(8L)), this.consumer.batches)
+        );
+
+    }
+
+    @Test
+    void shouldKeepTheOffsetOfAFailingConsumerWithoutBlockingTheOthers() {
+        DomainEventConsumer failingConsumer = new RecordingConsumer("webhooks") {
+            @Override
+            public void accept(List<DomainEvent> events) {
+                throw new IllegalStateException("Transporte indisponível");
+            }
+        };
+        BDDMockito.given(this.eventConsumerOffsetRepository.findForUpdate(any()))
+                .willReturn(Optional.of(offset("webhooks", 1)))
+                .willReturn(Optional.of(offset("indexer", 1)));
+        BDDMockito.given(this.outboxEventRepository.findByIdGreaterThanOrderByIdAsc(1L, Limit.of(2)))
+                .willReturn(List.of(event(2, LocalDateTime.now())));
+
+        long relayed = this.relay(failingConsumer, this.consumer).relay();
+
+        BDDMockito.verify(this.eventConsumerOffsetRepository).save(this.offsetCaptor.capture());
+        Assertions.assertAll(
+                () -> assertEquals(1, relayed),
+                () -> assertEquals(List.of(List.of(2L)), this.consumer.batches),
+                () -> assertEquals("indexer", this.offsetCaptor.getValue().getConsumer())
+        );
+
+    }
+
+    @Test
+    void shouldPurgeEventsDeliveredToEveryConsumerOnceRetentionExpires() {
+        BDDMockito.given(this.eventConsumerOffsetRepository.findForUpdate(any())).willReturn(Optional.empty());
+        BDDMockito.given(this.eventConsumerOffsetRepository.findByConsumerIn(any()))
+                .willReturn(List.of(offset("indexer", 8), offset("webhooks", 5)));
+
+        this.relay(this.consumer, new RecordingConsumer("webhooks")).relay();
+
+        BDDMockito.verify(this.outboxEventRepository).deleteDeliveredEvents(BDDMockito.eq(5L), any(LocalDateTime.class));
+
+    }
+
+    @Test
+    void shouldNotPurgeEventsWhileAConsumerHasNoStoredOffset() {
+        BDDMockito.given(this.eventConsumerOffsetRepository.findForUpdate(any())).willReturn(Optional.empty());
+        BDDMockito.given(this.eventConsumerOffsetRepository.findByConsumerIn(any()))
+                .willReturn(List.of(offset("indexer", 8)));
+
+        this.relay(this.consumer, new RecordingConsumer("webhooks")).relay();
+
+        BDDMockito.verify(this.outboxEventRepository, BDDMockito.never()).deleteDeliveredEvents(anyLong(), any());
+
+    }
+
+    private static class RecordingConsumer implements DomainEventConsumer {
+
+        private final String name;
+        private final List<List<Long>> batches = new ArrayList<>();
+
+        private RecordingConsumer(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String name() {
+            return this.name;
+        }
+
+        @Override
+        public void accept(List<DomainEvent> events) {
+            this.batches.add(events.stream().map(DomainEvent::id).toList());
+        }
+
+    }
+
+}
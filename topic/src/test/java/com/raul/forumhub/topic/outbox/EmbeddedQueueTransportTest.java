@@ -0,0 +1,47 @@
+package com.raul.forumhub.topic.outbox;
+
+import com.raul.forumhub.topic.event.DomainEvent;
+import com.raul.forumhub.topic.event.DomainEventType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EmbeddedQueueTransportTest {
+
+    private static final DomainEvent TOPIC_CREATED = new DomainEvent(1L, DomainEventType.TOPIC_CREATED, 1L, 1L,
+            LocalDateTime.of(2024, 1, 1, 12, 0));
+
+    private static final DomainEvent ANSWER_CREATED = new DomainEvent(2L, DomainEventType.ANSWER_CREATED, 3L, 1L,
+            LocalDateTime.of(2024, 1, 1, 12, 1));
+
+
+    @Test
+    void shouldEmitEventsInOrderToSubscribers() {
+        EmbeddedQueueTransport transport = new EmbeddedQueueTransport();
+
+        List<DomainEvent> received = new ArrayList<>();
+        Disposable subscription = transport.events().subscribe(received::add);
+
+        transport.accept(List.of(TOPIC_CREATED, ANSWER_CREATED));
+        subscription.dispose();
+        transport.accept(List.of(TOPIC_CREATED));
+
+        assertEquals(List.of(TOPIC_CREATED, ANSWER_CREATED), received);
+
+    }
+
+    @Test
+    void shouldAcceptEventsWithoutSubscribers() {
+        EmbeddedQueueTransport transport = new EmbeddedQueueTransport();
+
+        Assertions.assertDoesNotThrow(() -> transport.accept(List.of(TOPIC_CREATED)));
+
+    }
+
+}
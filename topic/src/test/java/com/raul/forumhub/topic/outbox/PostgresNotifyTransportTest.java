@@ -0,0 +1,44 @@
+package com.raul.forumhub.topic.outbox;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.raul.forumhub.topic.event.DomainEvent;
+import com.raul.forumhub.topic.event.DomainEventType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+
+@ExtendWith(MockitoExtension.class)
+class PostgresNotifyTransportTest {
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+
+    @Test
+    void shouldNotifyEachEventAsJsonOnTheConfiguredChannel() {
+        OutboxProperties outboxProperties = new OutboxProperties();
+        outboxProperties.getTransport().setChannel("forumhub_test_events");
+        PostgresNotifyTransport transport = new PostgresNotifyTransport(this.jdbcTemplate,
+                JsonMapper.builder().findAndAddModules()
+                        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build(), outboxProperties);
+
+        transport.accept(List.of(new DomainEvent(7L, DomainEventType.ANSWER_DELETED, 3L, 1L,
+                LocalDateTime.of(2024, 1, 1, 12, 0))));
+
+        BDDMockito.verify(this.jdbcTemplate).query(BDDMockito.eq("SELECT pg_notify(?, ?)"), any(RowCallbackHandler.class),
+                BDDMockito.eq("forumhub_test_events"), BDDMockito.eq("""
+                        {"id":7,"type":"ANSWER_DELETED","aggregateId":3,"topicId":1,"occurredAt":"2024-01-01T12:00:00"}"""));
+
+    }
+
+}
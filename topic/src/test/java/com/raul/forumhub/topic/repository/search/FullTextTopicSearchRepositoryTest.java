@@ -0,0 +1,92 @@
+package com.raul.forumhub.topic.repository.search;
+
+import com.raul.forumhub.topic.domain.Status;
+import com.raul.forumhub.topic.dto.request.TopicSearchCursorDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyString;
+
+@ExtendWith(MockitoExtension.class)
+class FullTextTopicSearchRepositoryTest {
+
+    @Mock
+    EntityManager entityManager;
+
+    @Mock(answer = Answers.RETURNS_SELF)
+    Query query;
+
+    @InjectMocks
+    FullTextTopicSearchRepository fullTextTopicSearchRepository;
+
+
+    @Test
+    void shouldRankWithoutOptionalFiltersOnFirstPage() {
+        BDDMockito.given(this.entityManager.createNativeQuery(anyString())).willReturn(this.query);
+        BDDMockito.given(this.query.getResultList())
+                .willReturn(List.<Object[]>of(new Object[]{3L, new BigDecimal("0.607927")}));
+
+
+        List<TopicSearchRepository.Hit> hits = this.fullTextTopicSearchRepository.search("feign client", null, null,
+                null, 11);
+
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        BDDMockito.verify(this.entityManager).createNativeQuery(sql.capture());
+
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(List.of(new TopicSearchRepository.Hit(3L, new BigDecimal("0.607927"))), hits),
+                () -> Assertions.assertTrue(sql.getValue().contains("websearch_to_tsquery('portuguese', :query)")),
+                () -> Assertions.assertTrue(sql.getValue().endsWith("ORDER BY r.rank DESC, r.topic_id DESC")),
+                () -> Assertions.assertFalse(sql.getValue().contains(":course_id")),
+                () -> Assertions.assertFalse(sql.getValue().contains(":status")),
+                () -> Assertions.assertFalse(sql.getValue().contains(":rank"))
+        );
+
+        BDDMockito.verify(this.query).setParameter("query", "feign client");
+        BDDMockito.verify(this.query).setMaxResults(11);
+        BDDMockito.verify(this.query).getResultList();
+        BDDMockito.verifyNoMoreInteractions(this.query);
+
+    }
+
+    @Test
+    void shouldApplyFiltersAndKeysetWhenInformed() {
+        TopicSearchCursorDTO cursor = new TopicSearchCursorDTO(new BigDecimal("0.5"), 7L);
+
+        BDDMockito.given(this.entityManager.createNativeQuery(anyString())).willReturn(this.query);
+        BDDMockito.given(this.query.getResultList()).willReturn(List.of());
+
+
+        this.fullTextTopicSearchRepository.search("openshift", 2L, Status.SOLVED, cursor, 3);
+
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        BDDMockito.verify(this.entityManager).createNativeQuery(sql.capture());
+
+        Assertions.assertAll(
+                () -> Assertions.assertTrue(sql.getValue().contains("AND t.course_id = :course_id")),
+                () -> Assertions.assertTrue(sql.getValue().contains("AND t.status = CAST(:status AS BPCHAR)")),
+                () -> Assertions.assertTrue(sql.getValue().contains("AND (r.rank, r.topic_id) < (:rank, :id)"))
+        );
+
+        BDDMockito.verify(this.query).setParameter("course_id", 2L);
+        BDDMockito.verify(this.query).setParameter("status", "SOLVED");
+        BDDMockito.verify(this.query).setParameter("rank", new BigDecimal("0.5"));
+        BDDMockito.verify(this.query).setParameter("id", 7L);
+
+    }
+
+}
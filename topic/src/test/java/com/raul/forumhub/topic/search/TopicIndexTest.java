@@ -0,0 +1,265 @@
+package com.raul.forumhub.topic.search;
+
+import com.raul.forumhub.topic.domain.Answer;
+import com.raul.forumhub.topic.domain.Status;
+import com.raul.forumhub.topic.domain.Topic;
+import com.raul.forumhub.topic.dto.request.TopicSearchCursorDTO;
+import com.raul.forumhub.topic.dto.response.TopicSearchResponseDTO;
+import com.raul.forumhub.topic.event.TopicChangedEvent;
+import com.raul.forumhub.topic.event.TopicDeletedEvent;
+import com.raul.forumhub.topic.event.TopicsImportedEvent;
+import com.raul.forumhub.topic.exception.BusinessException;
+import com.raul.forumhub.topic.exception.ValidationException;
+import com.raul.forumhub.topic.repository.TopicRepository;
+import com.raul.forumhub.topic.util.TestsHelper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Slice;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@ExtendWith(MockitoExtension.class)
+class TopicIndexTest {
+
+    @Mock
+    TopicRepository topicRepository;
+
+    @TempDir
+    Path directory;
+
+    MeterRegistry meterRegistry;
+
+    TopicIndexProperties topicIndexProperties;
+
+    TopicIndex topicIndex;
+
+    List<Topic> topics;
+
+
+    @BeforeEach
+    void setup() throws IOException {
+        this.topicIndexProperties = new TopicIndexProperties();
+        this.topicIndexProperties.setDirectory(this.directory.toString());
+        this.topicIndexProperties.setRefreshInterval(Duration.ofHours(1));
+        this.topicIndexProperties.setCommitInterval(Duration.ofHours(1));
+        this.topicIndexProperties.getRebuild().setBatchSize(2);
+        this.topicIndexProperties.getRebuild().setParallelism(2);
+
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.topicIndex = new TopicIndex(this.topicRepository, this.topicIndexProperties, this.meterRegistry);
+
+        Topic titleMatch = topic(1L, "Deploy no Kubernetes", "Como publicar a aplicação?", 0, Status.UNSOLVED);
+        Topic questionMatch = topic(2L, "Dúvida de infraestrutura", "Devo usar Kubernetes ou OpenShift?", 1,
+                Status.UNSOLVED);
+        Topic answerMatch = topic(3L, "Erro ao subir pods", "O pod reinicia sempre", 0, Status.SOLVED);
+        answerMatch.setAnswers(Set.of(Answer.builder().id(1L).topic(answerMatch)
+                .solution("Revise o liveness probe configurado no Kubernetes").build()));
+
+        this.topics = List.of(titleMatch, questionMatch, answerMatch);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        this.topicIndex.close();
+    }
+
+    private static Topic topic(Long id, String title, String question, int course, Status status) {
+        return Topic.builder().id(id).title(title).question(question)
+                .createdAt(LocalDateTime.of(2024, 8, 10, 20, 5))
+                .status(status)
+                .author(TestsHelper.AuthorHelper.authorList().get(1))
+                .course(TestsHelper.CourseHelper.courseList().get(course))
+                .answers(Set.of())
+                .build();
+    }
+
+    private void indexAll() {
+        this.topics.forEach(topic -> {
+            BDDMockito.given(this.topicRepository.findTopicsForIndexing(topic.getId(), topic.getId()))
+                    .willReturn(List.of(topic));
+            this.topicIndex.onTopicChanged(new TopicChangedEvent(topic.getId()));
+        });
+        this.topicIndex.refresh();
+    }
+
+    private static List<Long> ids(Slice<TopicSearchResponseDTO> slice) {
+        return slice.map(TopicSearchResponseDTO::id).getContent();
+    }
+
+
+    @Test
+    void shouldRankTitleAboveQuestionAboveAnswerMatches() {
+        this.indexAll();
+
+        Slice<TopicSearchResponseDTO> topics = this.topicIndex.search("kubernetes", null, null, null, 10);
+
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(List.of(1L, 2L, 3L), ids(topics)),
+                () -> Assertions.assertFalse(topics.hasNext()),
+                () -> Assertions.assertEquals("Deploy no Kubernetes", topics.getContent().get(0).title()),
+                () -> Assertions.assertEquals("Jose", topics.getContent().get(0).authorUsername()),
+                () -> Assertions.assertEquals("Criação de uma API Rest", topics.getContent().get(0).courseName()),
+                () -> Assertions.assertEquals(LocalDateTime.of(2024, 8, 10, 20, 5), topics.getContent().get(0).createdAt()),
+                () -> Assertions.assertEquals(1L, topics.getContent().get(2).answerCount()),
+                () -> Assertions.assertTrue(topics.getContent().get(0).rank()
+                        .compareTo(topics.getContent().get(1).rank()) > 0),
+                () -> Assertions.assertEquals(1L, this.meterRegistry.get("forumhub.search.index.query").timer().count()),
+                () -> Assertions.assertEquals(3.0, this.meterRegistry.get("forumhub.search.index.indexed").counter().count()),
+                () -> Assertions.assertEquals(3.0, this.meterRegistry.get("forumhub.search.index.documents").gauge().value())
+        );
+    }
+
+    @Test
+    void shouldContinueAfterCursorWhenSearchNextPage() {
+        this.indexAll();
+
+        Slice<TopicSearchResponseDTO> firstPage = this.topicIndex.search("kubernetes", null, null, null, 2);
+        Slice<TopicSearchResponseDTO> secondPage = this.topicIndex.search("kubernetes", null, null,
+                TopicSearchCursorDTO.of(firstPage.getContent().get(1)), 2);
+
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(List.of(1L, 2L), ids(firstPage)),
+                () -> Assertions.assertTrue(firstPage.hasNext()),
+                () -> Assertions.assertEquals(List.of(3L), ids(secondPage)),
+                () -> Assertions.assertFalse(secondPage.hasNext())
+        );
+    }
+
+    @Test
+    void shouldFilterByCourseAndStatus() {
+        this.indexAll();
+
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(List.of(1L, 3L),
+                        ids(this.topicIndex.search("kubernetes", 1L, null, null, 10))),
+                () -> Assertions.assertEquals(List.of(3L),
+                        ids(this.topicIndex.search("kubernetes", 1L, Status.SOLVED, null, 10))),
+                () -> Assertions.assertEquals(List.of(),
+                        ids(this.topicIndex.search("kubernetes", 2L, Status.SOLVED, null, 10)))
+        );
+    }
+
+    @Test
+    void shouldFailIfQueryIsBlankAndMatchNothingIfQueryHasOnlyStopWords() {
+        this.indexAll();
+
+        ValidationException ex = Assertions.assertThrows(ValidationException.class,
+                () -> this.topicIndex.search(" ", null, null, null, 10));
+
+        Assertions.assertAll(
+                () -> Assertions.assertEquals("O termo de busca não pode ser vazio", ex.getMessage()),
+                () -> Assertions.assertEquals(List.of(), ids(this.topicIndex.search("de", null, null, null, 10)))
+        );
+    }
+
+    @Test
+    void shouldRemoveTopicFromIndexWhenDeletedOrNoLongerFound() {
+        this.indexAll();
+        BDDMockito.given(this.topicRepository.findTopicsForIndexing(2L, 2L)).willReturn(List.of());
+
+        this.topicIndex.onTopicDeleted(new TopicDeletedEvent(1L));
+        this.topicIndex.onTopicChanged(new TopicChangedEvent(2L));
+        this.topicIndex.refresh();
+
+        Assertions.assertEquals(List.of(3L), ids(this.topicIndex.search("kubernetes", null, null, null, 10)));
+    }
+
+    @Test
+    void shouldKeepCommittedSnapshotWhenIndexIsReopened() throws IOException {
+        this.indexAll();
+        this.topicIndex.commit();
+        this.topicIndex.close();
+
+        this.topicIndex = new TopicIndex(this.topicRepository, this.topicIndexProperties, new SimpleMeterRegistry());
+
+        Assertions.assertEquals(List.of(1L, 2L, 3L), ids(this.topicIndex.search("kubernetes", null, null, null, 10)));
+    }
+
+    @Test
+    void shouldRebuildIndexInBatchesFromRepository() {
+        this.indexAll();
+        BDDMockito.given(this.topicRepository.findMaxTopicId()).willReturn(3L);
+        BDDMockito.given(this.topicRepository.findTopicsForIndexing(1L, 2L)).willReturn(this.topics.subList(0, 2));
+        BDDMockito.given(this.topicRepository.findTopicsForIndexing(3L, 4L)).willReturn(List.of());
+
+        Long indexed = this.topicIndex.rebuild().block(Duration.ofSeconds(10));
+
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(2L, indexed),
+                () -> Assertions.assertFalse(this.topicIndex.isRebuilding()),
+                () -> Assertions.assertEquals(List.of(1L, 2L),
+                        ids(this.topicIndex.search("kubernetes", null, null, null, 10)))
+        );
+    }
+
+    @Test
+    void shouldKeepPreviousIndexWhenRebuildFails() {
+        this.indexAll();
+        BDDMockito.given(this.topicRepository.findMaxTopicId()).willReturn(3L);
+        BDDMockito.given(this.topicRepository.findTopicsForIndexing(1L, 2L)).willReturn(this.topics.subList(0, 2));
+        BDDMockito.given(this.topicRepository.findTopicsForIndexing(3L, 4L))
+                .willThrow(new IllegalStateException("conexão perdida"));
+
+        Assertions.assertThrows(IllegalStateException.class, () -> this.topicIndex.rebuild().block(Duration.ofSeconds(10)));
+        this.topicIndex.commit();
+        this.topicIndex.refresh();
+
+        Assertions.assertAll(
+                () -> Assertions.assertFalse(this.topicIndex.isRebuilding()),
+                () -> Assertions.assertEquals(List.of(1L, 2L, 3L),
+                        ids(this.topicIndex.search("kubernetes", null, null, null, 10))),
+                () -> Assertions.assertEquals(3.0, this.meterRegistry.get("forumhub.search.index.documents").gauge().value())
+        );
+    }
+
+    @Test
+    void shouldFailIfRebuildIsAlreadyRunning() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BDDMockito.given(this.topicRepository.findMaxTopicId()).willAnswer(invocation -> {
+            started.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return 0L;
+        });
+
+        this.topicIndexProperties.getRebuild().setOnStartup(true);
+        this.topicIndex.rebuildOnStartup();
+        Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        BusinessException ex = Assertions.assertThrows(BusinessException.class, () -> this.topicIndex.rebuild());
+        Assertions.assertDoesNotThrow(() -> this.topicIndex.onTopicsImported(new TopicsImportedEvent(1, 0)));
+        release.countDown();
+        while (this.topicIndex.isRebuilding()) {
+            Thread.sleep(10);
+        }
+
+        Assertions.assertEquals("Uma reindexação dos tópicos já está em andamento", ex.getMessage());
+        BDDMockito.verify(this.topicRepository).findMaxTopicId();
+    }
+
+    @Test
+    void shouldRebuildIndexWhenTopicsAreImported() {
+        BDDMockito.given(this.topicRepository.findMaxTopicId()).willReturn(0L);
+
+        this.topicIndex.onTopicsImported(new TopicsImportedEvent(3, 1));
+        while (this.topicIndex.isRebuilding()) {
+            Thread.onSpinWait();
+        }
+
+        BDDMockito.verify(this.topicRepository).findMaxTopicId();
+    }
+
+}
@@ -3,9 +3,18 @@ package com.raul.forumhub.topic.service;
 import com.raul.forumhub.topic.client.UserClientRequest;
 import com.raul.forumhub.topic.domain.Answer;
 import com.raul.forumhub.topic.domain.Author;
+import com.raul.forumhub.topic.domain.Status;
 import com.raul.forumhub.topic.domain.Topic;
+import com.raul.forumhub.topic.dto.request.AnswerCursorDTO;
 import com.raul.forumhub.topic.dto.request.AnswerRequestDTO;
+import com.raul.forumhub.topic.dto.response.AnswerResponseDTO;
+import com.raul.forumhub.topic.dto.response.AnswerSummaryResponseDTO;
+import com.raul.forumhub.topic.dto.response.TopicDetailResponseDTO;
+import com.raul.forumhub.topic.event.AnswerChangedEvent;
+import com.raul.forumhub.topic.event.DomainEventType;
+import com.raul.forumhub.topic.event.TopicChangedEvent;
 import com.raul.forumhub.topic.exception.*;
+import com.raul.forumhub.topic.outbox.DomainEventOutbox;
 import com.raul.forumhub.topic.repository.AnswerRepository;
 import com.raul.forumhub.topic.util.TestsHelper;
 import jakarta.validation.ConstraintViolationException;
@@ -14,9 +23,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionOperations;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -35,6 +54,15 @@ class AnswerServiceTest {
     @Mock
     UserClientRequest userClientRequest;
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
+    @Mock
+    DomainEventOutbox domainEventOutbox;
+
     @InjectMocks
     AnswerService answerService;
 
@@ -60,6 +88,7 @@ class AnswerServiceTest {
         BDDMockito.verify(this.topicService).getTopicById(1L);
         BDDMockito.verify(this.userClientRequest).getUserById(1L);
         BDDMockito.verify(this.answerRepository).save(any(Answer.class));
+        BDDMockito.verifyNoInteractions(this.eventPublisher);
         BDDMockito.verifyNoMoreInteractions(this.topicService);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
         BDDMockito.verifyNoMoreInteractions(this.answerRepository);
@@ -133,6 +162,14 @@ class AnswerServiceTest {
         BDDMockito.verify(this.topicService).getTopicById(1L);
         BDDMockito.verify(this.userClientRequest).getUserById(1L);
         BDDMockito.verify(this.answerRepository).save(any(Answer.class));
+        BDDMockito.verify(this.topicService).registerAnswer(BDDMockito.eq(1L), any(LocalDateTime.class));
+        BDDMockito.verify(this.domainEventOutbox).append(BDDMockito.eq(DomainEventType.ANSWER_CREATED), any(), BDDMockito.eq(1L));
+        BDDMockito.verify(this.eventPublisher).publishEvent(new TopicChangedEvent(1L));
+        BDDMockito.verify(this.eventPublisher).publishEvent(BDDMockito.<Object>argThat(event ->
+                event instanceof AnswerChangedEvent answerChanged && answerChanged.topicId().equals(1L)
+                        && answerChanged.type() == DomainEventType.ANSWER_CREATED
+                        && answerChanged.answer().solution().equals("Resposta teste")));
+        BDDMockito.verify(this.topicService).invalidateTopicResponses(1L, 1L);
         BDDMockito.verifyNoMoreInteractions(this.topicService);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
         BDDMockito.verifyNoMoreInteractions(this.answerRepository);
@@ -143,8 +180,8 @@ class AnswerServiceTest {
 
     @Test
     void shouldNotToMarkBestAnswerIfSpecifiedTopicNotExists() {
-        BDDMockito.given(this.topicService.getTopicById(1L)).
-                willThrow(new InstanceNotFoundException("O tópico informado não existe"));
+        BDDMockito.willThrow(new InstanceNotFoundException("O tópico informado não existe"))
+                .given(this.topicService).validateTopicExists(1L);
 
 
         Assertions.assertThrows(InstanceNotFoundException.class,
@@ -152,7 +189,7 @@ class AnswerServiceTest {
                 "O tópico informado não existe");
 
 
-        BDDMockito.verify(this.topicService).getTopicById(1L);
+        BDDMockito.verify(this.topicService).validateTopicExists(1L);
         BDDMockito.verifyNoMoreInteractions(this.topicService);
         BDDMockito.verifyNoInteractions(this.userClientRequest);
         BDDMockito.verifyNoInteractions(this.answerRepository);
@@ -163,11 +200,8 @@ class AnswerServiceTest {
 
     @Test
     void shouldNotToMarkBestAnswerIfUserServiceReturn404StatusCode() {
-        BDDMockito.given(this.topicService.getTopicById(1L))
-                .willReturn(TestsHelper.TopicHelper.topicListWithAnswers().get(0));
-
-        BDDMockito.given(this.answerRepository.findById(1L))
-                .willReturn(Optional.of(TestsHelper.AnswerHelper.answerList().get(0)));
+        BDDMockito.given(this.answerRepository.existsById(1L))
+                .willReturn(true);
 
         BDDMockito.given(this.userClientRequest.getUserById(1L)).
                 willThrow(new RestClientException(HttpStatus.NOT_FOUND, "Usuário não encontrado"));
@@ -177,9 +211,9 @@ class AnswerServiceTest {
                 () -> this.answerService.markBestAnswer(1L, 1L, 1L));
 
 
-        BDDMockito.verify(this.topicService).getTopicById(1L);
+        BDDMockito.verify(this.topicService).validateTopicExists(1L);
         BDDMockito.verify(this.userClientRequest).getUserById(1L);
-        BDDMockito.verify(this.answerRepository).findById(1L);
+        BDDMockito.verify(this.answerRepository).existsById(1L);
         BDDMockito.verifyNoMoreInteractions(this.topicService);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
         BDDMockito.verifyNoMoreInteractions(this.answerRepository);
@@ -189,25 +223,24 @@ class AnswerServiceTest {
 
     @Test
     void shouldNotToMarkBestAnswerIfAuthenticatedUserIsNotOwnerTopic() {
-        BDDMockito.given(this.topicService.getTopicById(1L))
-                .willReturn(TestsHelper.TopicHelper.topicListWithAnswers().get(0));
-
-        BDDMockito.given(this.answerRepository.findById(1L))
-                .willReturn(Optional.of(TestsHelper.AnswerHelper.answerList().get(0)));
+        BDDMockito.given(this.answerRepository.existsById(1L))
+                .willReturn(true);
 
         BDDMockito.given(this.userClientRequest.getUserById(3L)).
                 willReturn(TestsHelper.AuthorHelper.authorList().get(2));
 
+        BDDMockito.given(this.topicService.getTopicById(1L))
+                .willReturn(TestsHelper.TopicHelper.topicListWithAnswers().get(0));
+
         Assertions.assertThrows(PrivilegeValidationException.class,
                 () -> this.answerService.markBestAnswer(1L, 1L, 3L));
 
 
+        BDDMockito.verify(this.topicService).markBestAnswer(1L, 1L, 3L);
         BDDMockito.verify(this.topicService).getTopicById(1L);
-        BDDMockito.verify(this.userClientRequest).getUserById(3L);
-        BDDMockito.verify(this.answerRepository).findById(1L);
-        BDDMockito.verifyNoMoreInteractions(this.topicService);
-        BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
-        BDDMockito.verifyNoMoreInteractions(this.answerRepository);
+        BDDMockito.verify(this.answerRepository, BDDMockito.never()).markBestAnswer(any(), any());
+        BDDMockito.verifyNoInteractions(this.domainEventOutbox);
+        BDDMockito.verifyNoInteractions(this.eventPublisher);
 
 
     }
@@ -215,52 +248,55 @@ class AnswerServiceTest {
 
     @Test
     void shouldNotToMarkBestAnswerIfYetNotExistsAnswer() {
+        BDDMockito.given(this.answerRepository.existsById(1L))
+                .willReturn(true);
+
+        BDDMockito.given(this.userClientRequest.getUserById(2L)).
+                willReturn(TestsHelper.AuthorHelper.authorList().get(1));
+
         BDDMockito.given(this.topicService.getTopicById(4L))
                 .willReturn(TestsHelper.TopicHelper.topicList().get(3));
 
         BDDMockito.given(this.answerRepository.findById(1L))
                 .willReturn(Optional.of(TestsHelper.AnswerHelper.answerList().get(0)));
 
-        BDDMockito.given(this.userClientRequest.getUserById(2L)).
-                willReturn(TestsHelper.AuthorHelper.authorList().get(1));
-
 
         Assertions.assertThrows(ValidationException.class,
                 () -> this.answerService.markBestAnswer(4L, 1L, 2L));
 
 
-        BDDMockito.verify(this.topicService).getTopicById(4L);
-        BDDMockito.verify(this.userClientRequest).getUserById(2L);
-        BDDMockito.verify(this.answerRepository).findById(1L);
-        BDDMockito.verifyNoMoreInteractions(this.topicService);
-        BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
-        BDDMockito.verifyNoMoreInteractions(this.answerRepository);
+        BDDMockito.verify(this.topicService).markBestAnswer(4L, 1L, 2L);
+        BDDMockito.verify(this.answerRepository, BDDMockito.never()).markBestAnswer(any(), any());
+        BDDMockito.verifyNoInteractions(this.domainEventOutbox);
+        BDDMockito.verifyNoInteractions(this.eventPublisher);
 
     }
 
 
     @Test
     void shouldNotToMarkBestAnswerIfAlreadyExistsBestAnswer() {
+        BDDMockito.given(this.answerRepository.existsById(2L))
+                .willReturn(true);
+
+        BDDMockito.given(this.userClientRequest.getUserById(3L)).
+                willReturn(TestsHelper.AuthorHelper.authorList().get(2));
+
         BDDMockito.given(this.topicService.getTopicById(2L))
                 .willReturn(TestsHelper.TopicHelper.topicListWithAnswers().get(1));
 
         BDDMockito.given(this.answerRepository.findById(2L))
                 .willReturn(Optional.of(TestsHelper.AnswerHelper.answerList().get(1)));
 
-        BDDMockito.given(this.userClientRequest.getUserById(3L)).
-                willReturn(TestsHelper.AuthorHelper.authorList().get(2));
-
 
         Assertions.assertThrows(BusinessException.class,
-                () -> this.answerService.markBestAnswer(2L, 2L, 3L));
+                () -> this.answerService.markBestAnswer(2L, 2L, 3L),
+                "Este tópico já possui como melhor resposta a resposta [ID: 2]");
 
 
-        BDDMockito.verify(this.topicService).getTopicById(2L);
-        BDDMockito.verify(this.userClientRequest).getUserById(3L);
-        BDDMockito.verify(this.answerRepository).findById(2L);
-        BDDMockito.verifyNoMoreInteractions(this.topicService);
-        BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
-        BDDMockito.verifyNoMoreInteractions(this.answerRepository);
+        BDDMockito.verify(this.topicService).markBestAnswer(2L, 2L, 3L);
+        BDDMockito.verify(this.answerRepository, BDDMockito.never()).markBestAnswer(any(), any());
+        BDDMockito.verifyNoInteractions(this.domainEventOutbox);
+        BDDMockito.verifyNoInteractions(this.eventPublisher);
 
 
     }
@@ -268,24 +304,36 @@ class AnswerServiceTest {
 
     @Test
     void shouldToMarkBestAnswerWithSuccessIfEverythingIsOk() {
-        BDDMockito.given(this.topicService.getTopicById(1L))
-                .willReturn(TestsHelper.TopicHelper.topicListWithAnswers().get(0));
+        final Answer answer = TestsHelper.AnswerHelper.answerList().get(0);
+        answer.setBestAnswer(true);
+
+        BDDMockito.given(this.answerRepository.existsById(1L))
+                .willReturn(true);
 
         BDDMockito.given(this.userClientRequest.getUserById(2L)).
                 willReturn(TestsHelper.AuthorHelper.authorList().get(1));
 
-        BDDMockito.given(this.answerRepository.findById(1L))
-                .willReturn(Optional.of(TestsHelper.AnswerHelper.answerList().get(0)));
+        BDDMockito.given(this.topicService.markBestAnswer(1L, 1L, 2L))
+                .willReturn(true);
+
+        BDDMockito.given(this.answerRepository.findAnswerSummaryById(1L))
+                .willReturn(Optional.of(new AnswerSummaryResponseDTO(answer)));
 
 
         Assertions.assertDoesNotThrow(
                 () -> this.answerService.markBestAnswer(1L, 1L, 2L));
 
 
-        BDDMockito.verify(this.topicService).getTopicById(1L);
+        BDDMockito.verify(this.topicService).validateTopicExists(1L);
         BDDMockito.verify(this.userClientRequest).getUserById(2L);
-        BDDMockito.verify(this.answerRepository).findById(1L);
-        BDDMockito.verify(this.topicService).saveTopic(any(Topic.class));
+        BDDMockito.verify(this.answerRepository).existsById(1L);
+        BDDMockito.verify(this.topicService).markBestAnswer(1L, 1L, 2L);
+        BDDMockito.verify(this.answerRepository).markBestAnswer(1L, 1L);
+        BDDMockito.verify(this.answerRepository).findAnswerSummaryById(1L);
+        BDDMockito.verify(this.domainEventOutbox).append(DomainEventType.BEST_ANSWER_MARKED, 1L, 1L);
+        BDDMockito.verify(this.topicService).invalidateTopicResponses(1L, null);
+        BDDMockito.verify(this.eventPublisher).publishEvent(BDDMockito.<Object>argThat(event ->
+                event instanceof AnswerChangedEvent answerChanged && answerChanged.answer().bestAnswer()));
         BDDMockito.verifyNoMoreInteractions(this.topicService);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
         BDDMockito.verifyNoMoreInteractions(this.answerRepository);
@@ -296,14 +344,14 @@ class AnswerServiceTest {
 
     @Test
     void shouldFailToUnmarkBestAnswerIfSpecifiedTopicNotExists() {
-        BDDMockito.given(this.topicService.getTopicById(6L))
-                .willThrow(new InstanceNotFoundException("O tópico informado não existe"));
+        BDDMockito.willThrow(new InstanceNotFoundException("O tópico informado não existe"))
+                .given(this.topicService).validateTopicExists(6L);
 
         Assertions.assertThrows(InstanceNotFoundException.class,
                 () -> this.answerService.unmarkBestAnswer(6L, 1L, 1L),
                 "O tópico informado não existe");
 
-        BDDMockito.verify(this.topicService).getTopicById(6L);
+        BDDMockito.verify(this.topicService).validateTopicExists(6L);
         BDDMockito.verifyNoMoreInteractions(this.topicService);
         BDDMockito.verifyNoInteractions(this.userClientRequest);
         BDDMockito.verifyNoInteractions(this.answerRepository);
@@ -313,18 +361,15 @@ class AnswerServiceTest {
 
     @Test
     void shouldFailToUnmarkBestAnswerIfSpecifiedAnswerNotExists() {
-        BDDMockito.given(this.topicService.getTopicById(1L))
-                .willReturn(TestsHelper.TopicHelper.topicList().get(0));
-
-        BDDMockito.given(this.answerRepository.findById(6L))
-                .willThrow(new InstanceNotFoundException("A resposta informada não existe"));
+        BDDMockito.given(this.answerRepository.existsById(6L))
+                .willReturn(false);
 
         Assertions.assertThrows(InstanceNotFoundException.class,
                 () -> this.answerService.unmarkBestAnswer(1L, 6L, 1L),
-                "A resposta informada não existe");
+                "A resposta [ID: 6] informada não existe");
 
-        BDDMockito.verify(this.topicService).getTopicById(1L);
-        BDDMockito.verify(this.answerRepository).findById(6L);
+        BDDMockito.verify(this.topicService).validateTopicExists(1L);
+        BDDMockito.verify(this.answerRepository).existsById(6L);
         BDDMockito.verifyNoMoreInteractions(this.topicService);
         BDDMockito.verifyNoMoreInteractions(this.answerRepository);
         BDDMockito.verifyNoInteractions(this.userClientRequest);
@@ -334,11 +379,8 @@ class AnswerServiceTest {
 
     @Test
     void shouldFailToUnmarkBestAnswerIfUserServiceReturn404StatusCode() {
-        BDDMockito.given(this.topicService.getTopicById(1L))
-                .willReturn(TestsHelper.TopicHelper.topicList().get(0));
-
-        BDDMockito.given(this.answerRepository.findById(1L))
-                .willReturn(Optional.of(TestsHelper.AnswerHelper.answerList().get(0)));
+        BDDMockito.given(this.answerRepository.existsById(1L))
+                .willReturn(true);
 
         BDDMockito.given(this.userClientRequest.getUserById(1L))
                 .willThrow(new RestClientException(HttpStatus.NOT_FOUND, "Usuário não encontrado"));
@@ -347,8 +389,8 @@ class AnswerServiceTest {
                 () -> this.answerService.unmarkBestAnswer(1L, 1L, 1L),
                 "Usuário não encontrado");
 
-        BDDMockito.verify(this.topicService).getTopicById(1L);
-        BDDMockito.verify(this.answerRepository).findById(1L);
+        BDDMockito.verify(this.topicService).validateTopicExists(1L);
+        BDDMockito.verify(this.answerRepository).existsById(1L);
         BDDMockito.verify(this.userClientRequest).getUserById(1L);
         BDDMockito.verifyNoMoreInteractions(this.topicService);
         BDDMockito.verifyNoMoreInteractions(this.answerRepository);
@@ -359,25 +401,24 @@ class AnswerServiceTest {
 
     @Test
     void shouldNotToUnmarkBestAnswerIfAuthenticatedUserIsNotOwnerTopic() {
-        BDDMockito.given(this.topicService.getTopicById(2L))
-                .willReturn(TestsHelper.TopicHelper.topicListWithAnswers().get(1));
-
-        BDDMockito.given(this.answerRepository.findById(2L)).
-                willReturn(Optional.of(TestsHelper.AnswerHelper.answerList().get(1)));
+        BDDMockito.given(this.answerRepository.existsById(2L))
+                .willReturn(true);
 
         BDDMockito.given(this.userClientRequest.getUserById(1L)).
                 willReturn(TestsHelper.AuthorHelper.authorList().get(0));
 
+        BDDMockito.given(this.topicService.getTopicById(2L))
+                .willReturn(TestsHelper.TopicHelper.topicListWithAnswers().get(1));
+
         Assertions.assertThrows(PrivilegeValidationException.class,
                 () -> this.answerService.unmarkBestAnswer(2L, 2L, 1L));
 
 
+        BDDMockito.verify(this.topicService).unmarkBestAnswer(2L, 2L, 1L);
         BDDMockito.verify(this.topicService).getTopicById(2L);
-        BDDMockito.verify(this.answerRepository).findById(2L);
-        BDDMockito.verify(this.userClientRequest).getUserById(1L);
-        BDDMockito.verifyNoMoreInteractions(this.topicService);
-        BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
-        BDDMockito.verifyNoMoreInteractions(this.answerRepository);
+        BDDMockito.verify(this.answerRepository, BDDMockito.never()).unmarkBestAnswer(any(), any());
+        BDDMockito.verifyNoInteractions(this.domainEventOutbox);
+        BDDMockito.verifyNoInteractions(this.eventPublisher);
 
 
     }
@@ -385,102 +426,200 @@ class AnswerServiceTest {
 
     @Test
     void shouldNotToUnmarkBestAnswerIfYetNotExistsAnswer() {
+        BDDMockito.given(this.answerRepository.existsById(1L))
+                .willReturn(true);
+
+        BDDMockito.given(this.userClientRequest.getUserById(2L)).
+                willReturn(TestsHelper.AuthorHelper.authorList().get(1));
+
         BDDMockito.given(this.topicService.getTopicById(4L))
                 .willReturn(TestsHelper.TopicHelper.topicList().get(3));
 
         BDDMockito.given(this.answerRepository.findById(1L)).
                 willReturn(Optional.of(TestsHelper.AnswerHelper.answerList().get(0)));
 
-        BDDMockito.given(this.userClientRequest.getUserById(2L)).
-                willReturn(TestsHelper.AuthorHelper.authorList().get(1));
-
 
         Assertions.assertThrows(ValidationException.class,
                 () -> this.answerService.unmarkBestAnswer(4L, 1L, 2L));
 
 
-        BDDMockito.verify(this.topicService).getTopicById(4L);
-        BDDMockito.verify(this.answerRepository).findById(1L);
-        BDDMockito.verify(this.userClientRequest).getUserById(2L);
-        BDDMockito.verifyNoMoreInteractions(this.topicService);
-        BDDMockito.verifyNoMoreInteractions(this.answerRepository);
-        BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
+        BDDMockito.verify(this.topicService).unmarkBestAnswer(4L, 1L, 2L);
+        BDDMockito.verify(this.answerRepository, BDDMockito.never()).unmarkBestAnswer(any(), any());
+        BDDMockito.verifyNoInteractions(this.domainEventOutbox);
+        BDDMockito.verifyNoInteractions(this.eventPublisher);
 
     }
 
 
     @Test
     void shouldNotToUnmarkBestAnswerIfAnswerProvidedNotBelongsToTheTopicProvided() {
+        BDDMockito.given(this.answerRepository.existsById(2L))
+                .willReturn(true);
+
+        BDDMockito.given(this.userClientRequest.getUserById(2L)).
+                willReturn(TestsHelper.AuthorHelper.authorList().get(1));
+
         BDDMockito.given(this.topicService.getTopicById(1L))
                 .willReturn(TestsHelper.TopicHelper.topicListWithAnswers().get(0));
 
         BDDMockito.given(this.answerRepository.findById(2L)).
                 willReturn(Optional.of(TestsHelper.AnswerHelper.answerList().get(1)));
 
-        BDDMockito.given(this.userClientRequest.getUserById(2L)).
-                willReturn(TestsHelper.AuthorHelper.authorList().get(1));
-
 
         Assertions.assertThrows(ValidationException.class,
                 () -> this.answerService.unmarkBestAnswer(1L, 2L, 2L));
 
 
-        BDDMockito.verify(this.topicService).getTopicById(1L);
-        BDDMockito.verify(this.answerRepository).findById(2L);
-        BDDMockito.verify(this.userClientRequest).getUserById(2L);
-        BDDMockito.verifyNoMoreInteractions(this.topicService);
-        BDDMockito.verifyNoMoreInteractions(this.answerRepository);
-        BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
+        BDDMockito.verify(this.topicService).unmarkBestAnswer(1L, 2L, 2L);
+        BDDMockito.verify(this.answerRepository, BDDMockito.never()).unmarkBestAnswer(any(), any());
+        BDDMockito.verifyNoInteractions(this.domainEventOutbox);
+        BDDMockito.verifyNoInteractions(this.eventPublisher);
 
 
     }
 
     @Test
     void shouldNotToUnmarkBestAnswerIfAnswerProvidedIsNotAsBestAnswer() {
+        BDDMockito.given(this.answerRepository.existsById(1L))
+                .willReturn(true);
+
+        BDDMockito.given(this.userClientRequest.getUserById(2L)).
+                willReturn(TestsHelper.AuthorHelper.authorList().get(1));
+
         BDDMockito.given(this.topicService.getTopicById(1L))
                 .willReturn(TestsHelper.TopicHelper.topicListWithAnswers().get(0));
 
         BDDMockito.given(this.answerRepository.findById(1L)).
                 willReturn(Optional.of(TestsHelper.AnswerHelper.answerList().get(0)));
 
+
+        Assertions.assertThrows(ValidationException.class,
+                () -> this.answerService.unmarkBestAnswer(1L, 1L, 2L));
+
+
+        BDDMockito.verify(this.topicService).unmarkBestAnswer(1L, 1L, 2L);
+        BDDMockito.verify(this.answerRepository, BDDMockito.never()).unmarkBestAnswer(any(), any());
+        BDDMockito.verifyNoInteractions(this.domainEventOutbox);
+        BDDMockito.verifyNoInteractions(this.eventPublisher);
+
+
+    }
+
+    @Test
+    void shouldNotMarkBestAnswerIfBestAnswerWasMarkedConcurrently() {
+        BDDMockito.given(this.answerRepository.existsById(1L))
+                .willReturn(true);
+
         BDDMockito.given(this.userClientRequest.getUserById(2L)).
                 willReturn(TestsHelper.AuthorHelper.authorList().get(1));
 
+        BDDMockito.given(this.topicService.getTopicById(1L))
+                .willReturn(TestsHelper.TopicHelper.topicListWithAnswers().get(0));
 
-        Assertions.assertThrows(ValidationException.class,
-                () -> this.answerService.unmarkBestAnswer(1L, 1L, 2L));
+        BDDMockito.given(this.answerRepository.findById(1L))
+                .willReturn(Optional.of(TestsHelper.AnswerHelper.answerList().get(0)));
 
 
-        BDDMockito.verify(this.topicService).getTopicById(1L);
-        BDDMockito.verify(this.answerRepository).findById(1L);
-        BDDMockito.verify(this.userClientRequest).getUserById(2L);
-        BDDMockito.verifyNoMoreInteractions(this.topicService);
-        BDDMockito.verifyNoMoreInteractions(this.answerRepository);
-        BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
+        Assertions.assertThrows(BusinessException.class,
+                () -> this.answerService.markBestAnswer(1L, 1L, 2L),
+                "O tópico [ID: 1] já possui uma melhor resposta marcada");
+
+
+        BDDMockito.verify(this.topicService).markBestAnswer(1L, 1L, 2L);
+        BDDMockito.verify(this.answerRepository, BDDMockito.never()).markBestAnswer(any(), any());
+        BDDMockito.verifyNoInteractions(this.domainEventOutbox);
+        BDDMockito.verifyNoInteractions(this.eventPublisher);
 
 
     }
 
     @Test
-    void shouldUnmarkBestAnswerWithSuccessIfEverythingIsOk() {
-        BDDMockito.given(this.topicService.getTopicById(2L))
-                .willReturn(TestsHelper.TopicHelper.topicListWithAnswers().get(1));
+    void shouldNotMarkBestAnswerIfAnotherAnswerOfTheTopicIsAlreadyFlagged() {
+        BDDMockito.given(this.answerRepository.existsById(1L))
+                .willReturn(true);
+
+        BDDMockito.given(this.userClientRequest.getUserById(2L)).
+                willReturn(TestsHelper.AuthorHelper.authorList().get(1));
+
+        BDDMockito.given(this.topicService.markBestAnswer(1L, 1L, 2L))
+                .willReturn(true);
+
+        BDDMockito.given(this.answerRepository.markBestAnswer(1L, 1L))
+                .willThrow(new DataIntegrityViolationException("uk_answer_topic_id_best_answer"));
+
+
+        Assertions.assertThrows(BusinessException.class,
+                () -> this.answerService.markBestAnswer(1L, 1L, 2L),
+                "O tópico [ID: 1] já possui uma melhor resposta marcada");
+
+
+        BDDMockito.verify(this.topicService, BDDMockito.never()).invalidateTopicResponses(any(), any());
+        BDDMockito.verifyNoInteractions(this.domainEventOutbox);
+        BDDMockito.verifyNoInteractions(this.eventPublisher);
+
+
+    }
+
+    @Test
+    void shouldNotUnmarkBestAnswerIfBestAnswerWasUnmarkedConcurrently() {
+        BDDMockito.given(this.answerRepository.existsById(2L))
+                .willReturn(true);
 
         BDDMockito.given(this.userClientRequest.getUserById(3L)).
                 willReturn(TestsHelper.AuthorHelper.authorList().get(2));
 
+        BDDMockito.given(this.topicService.getTopicById(2L))
+                .willReturn(TestsHelper.TopicHelper.topicListWithAnswers().get(1));
+
         BDDMockito.given(this.answerRepository.findById(2L))
                 .willReturn(Optional.of(TestsHelper.AnswerHelper.answerList().get(1)));
 
 
+        Assertions.assertThrows(BusinessException.class,
+                () -> this.answerService.unmarkBestAnswer(2L, 2L, 3L),
+                "A resposta [ID: 2] não é mais a melhor resposta do tópico [ID: 2]");
+
+
+        BDDMockito.verify(this.topicService).unmarkBestAnswer(2L, 2L, 3L);
+        BDDMockito.verify(this.answerRepository, BDDMockito.never()).unmarkBestAnswer(any(), any());
+        BDDMockito.verifyNoInteractions(this.domainEventOutbox);
+        BDDMockito.verifyNoInteractions(this.eventPublisher);
+
+
+    }
+
+    @Test
+    void shouldUnmarkBestAnswerWithSuccessIfEverythingIsOk() {
+        final Answer answer = TestsHelper.AnswerHelper.answerList().get(1);
+        answer.setBestAnswer(false);
+
+        BDDMockito.given(this.answerRepository.existsById(2L))
+                .willReturn(true);
+
+        BDDMockito.given(this.userClientRequest.getUserById(3L)).
+                willReturn(TestsHelper.AuthorHelper.authorList().get(2));
+
+        BDDMockito.given(this.topicService.unmarkBestAnswer(2L, 2L, 3L))
+                .willReturn(true);
+
+        BDDMockito.given(this.answerRepository.findAnswerSummaryById(2L))
+                .willReturn(Optional.of(new AnswerSummaryResponseDTO(answer)));
+
+
         Assertions.assertDoesNotThrow(
                 () -> this.answerService.unmarkBestAnswer(2L, 2L, 3L));
 
 
-        BDDMockito.verify(this.topicService).getTopicById(2L);
+        BDDMockito.verify(this.topicService).validateTopicExists(2L);
         BDDMockito.verify(this.userClientRequest).getUserById(3L);
-        BDDMockito.verify(this.answerRepository).findById(2L);
-        BDDMockito.verify(this.topicService).saveTopic(any(Topic.class));
+        BDDMockito.verify(this.answerRepository).existsById(2L);
+        BDDMockito.verify(this.topicService).unmarkBestAnswer(2L, 2L, 3L);
+        BDDMockito.verify(this.answerRepository).unmarkBestAnswer(2L, 2L);
+        BDDMockito.verify(this.answerRepository).findAnswerSummaryById(2L);
+        BDDMockito.verify(this.domainEventOutbox).append(DomainEventType.BEST_ANSWER_UNMARKED, 2L, 2L);
+        BDDMockito.verify(this.topicService).invalidateTopicResponses(2L, null);
+        BDDMockito.verify(this.eventPublisher).publishEvent(BDDMockito.<Object>argThat(event ->
+                event instanceof AnswerChangedEvent answerChanged && !answerChanged.answer().bestAnswer()));
         BDDMockito.verifyNoMoreInteractions(this.topicService);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
         BDDMockito.verifyNoMoreInteractions(this.answerRepository);
@@ -488,6 +627,7 @@ class AnswerServiceTest {
 
     }
 
+
     @Test
     void shouldFailToRequestTheSpecifiedAnswerIfNotExists() {
         BDDMockito.given(this.answerRepository.findById(1L))
@@ -731,6 +871,8 @@ class AnswerServiceTest {
         BDDMockito.verify(this.answerRepository).findById(4L);
         BDDMockito.verify(this.userClientRequest).getUserById(3L);
         BDDMockito.verify(this.answerRepository).save(any(Answer.class));
+        BDDMockito.verify(this.topicService).bumpVersion(1L);
+        BDDMockito.verify(this.topicService).invalidateTopicResponse(1L);
         BDDMockito.verifyNoMoreInteractions(this.topicService);
         BDDMockito.verifyNoMoreInteractions(this.answerRepository);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
@@ -767,6 +909,8 @@ class AnswerServiceTest {
         BDDMockito.verify(this.answerRepository).findById(4L);
         BDDMockito.verify(this.userClientRequest).getUserById(3L);
         BDDMockito.verify(this.answerRepository).save(any(Answer.class));
+        BDDMockito.verify(this.topicService).bumpVersion(1L);
+        BDDMockito.verify(this.topicService).invalidateTopicResponse(1L);
         BDDMockito.verifyNoMoreInteractions(this.topicService);
         BDDMockito.verifyNoMoreInteractions(this.answerRepository);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
@@ -799,6 +943,8 @@ class AnswerServiceTest {
         BDDMockito.verify(this.answerRepository).findById(1L);
         BDDMockito.verify(this.userClientRequest).getUserById(3L);
         BDDMockito.verify(this.answerRepository).save(any(Answer.class));
+        BDDMockito.verify(this.topicService).bumpVersion(1L);
+        BDDMockito.verify(this.topicService).invalidateTopicResponse(1L);
         BDDMockito.verifyNoMoreInteractions(this.topicService);
         BDDMockito.verifyNoMoreInteractions(this.answerRepository);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
@@ -832,6 +978,8 @@ class AnswerServiceTest {
         BDDMockito.verify(this.answerRepository).findById(1L);
         BDDMockito.verify(this.userClientRequest).getUserById(3L);
         BDDMockito.verify(this.answerRepository).save(any(Answer.class));
+        BDDMockito.verify(this.topicService).bumpVersion(1L);
+        BDDMockito.verify(this.topicService).invalidateTopicResponse(1L);
         BDDMockito.verifyNoMoreInteractions(this.topicService);
         BDDMockito.verifyNoMoreInteractions(this.answerRepository);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
@@ -864,6 +1012,8 @@ class AnswerServiceTest {
         BDDMockito.verify(this.answerRepository).findById(3L);
         BDDMockito.verify(this.userClientRequest).getUserById(3L);
         BDDMockito.verify(this.answerRepository).save(any(Answer.class));
+        BDDMockito.verify(this.topicService).bumpVersion(3L);
+        BDDMockito.verify(this.topicService).invalidateTopicResponse(3L);
         BDDMockito.verifyNoMoreInteractions(this.topicService);
         BDDMockito.verifyNoMoreInteractions(this.answerRepository);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
@@ -957,6 +1107,8 @@ class AnswerServiceTest {
         BDDMockito.verify(this.answerRepository).findById(1L);
         BDDMockito.verify(this.userClientRequest).getUserById(3L);
         BDDMockito.verify(this.answerRepository).delete(any(Answer.class));
+        BDDMockito.verify(this.topicService).unregisterAnswer(1L, 1L);
+        BDDMockito.verify(this.topicService).invalidateTopicResponses(1L, null);
         BDDMockito.verifyNoMoreInteractions(this.answerRepository);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
@@ -980,6 +1132,8 @@ class AnswerServiceTest {
         BDDMockito.verify(this.answerRepository).findById(1L);
         BDDMockito.verify(this.userClientRequest).getUserById(3L);
         BDDMockito.verify(this.answerRepository).delete(any(Answer.class));
+        BDDMockito.verify(this.topicService).unregisterAnswer(1L, 1L);
+        BDDMockito.verify(this.topicService).invalidateTopicResponses(1L, null);
         BDDMockito.verifyNoMoreInteractions(this.answerRepository);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
@@ -1003,10 +1157,341 @@ class AnswerServiceTest {
         BDDMockito.verify(this.answerRepository).findById(3L);
         BDDMockito.verify(this.userClientRequest).getUserById(3L);
         BDDMockito.verify(this.answerRepository).delete(any(Answer.class));
+        BDDMockito.verify(this.topicService).unregisterAnswer(3L, 3L);
+        BDDMockito.verify(this.topicService).invalidateTopicResponses(3L, null);
         BDDMockito.verifyNoMoreInteractions(this.answerRepository);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
 
     }
 
-}
\ No newline at end of file
+
+    @Test
+    void shouldAnswerTopicAsyncWithSuccessIfEverythingIsOk() {
+        final AnswerService asyncAnswerService = new AnswerService(this.answerRepository, this.topicService,
+                this.userClientRequest, Schedulers.immediate(), this.eventPublisher,
+                this.transactionOperations, this.domainEventOutbox);
+        final AnswerRequestDTO answerRequestDTO = new AnswerRequestDTO("Resposta teste");
+
+        BDDMockito.given(this.topicService.getTopicById(1L))
+                .willReturn(TestsHelper.TopicHelper.topicListWithAnswers().get(0));
+
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(1L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(0)));
+
+
+        AnswerResponseDTO answerResponseDTO = asyncAnswerService.answerTopicAsync(1L, 1L, answerRequestDTO).block();
+
+        assertEquals("Resposta teste", answerResponseDTO.answer().getSolution());
+        BDDMockito.verify(this.topicService).getTopicById(1L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(1L);
+        BDDMockito.verify(this.answerRepository).save(any(Answer.class));
+        BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
+
+    }
+
+
+    @Test
+    void shouldMarkBestAnswerAsyncWithoutLoadingTheTopicAnswers() {
+        final AnswerService asyncAnswerService = new AnswerService(this.answerRepository, this.topicService,
+                this.userClientRequest, Schedulers.immediate(), this.eventPublisher,
+                this.transactionOperations, this.domainEventOutbox);
+        final Answer answer = TestsHelper.AnswerHelper.answerList().get(0);
+        answer.setBestAnswer(true);
+
+        BDDMockito.given(this.answerRepository.existsById(1L))
+                .willReturn(true);
+
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(1)));
+
+        BDDMockito.given(this.topicService.markBestAnswer(1L, 1L, 2L))
+                .willReturn(true);
+
+        BDDMockito.given(this.answerRepository.findAnswerSummaryById(1L))
+                .willReturn(Optional.of(new AnswerSummaryResponseDTO(answer)));
+
+
+        Assertions.assertDoesNotThrow(() -> asyncAnswerService.markBestAnswerAsync(1L, 1L, 2L).block());
+
+        BDDMockito.verify(this.answerRepository).markBestAnswer(1L, 1L);
+        BDDMockito.verify(this.domainEventOutbox).append(DomainEventType.BEST_ANSWER_MARKED, 1L, 1L);
+        BDDMockito.verify(this.topicService, BDDMockito.never()).getTopicById(any());
+        BDDMockito.verify(this.answerRepository, BDDMockito.never()).findById(any());
+
+    }
+
+
+    @Test
+    void shouldFailToUnmarkBestAnswerAsyncIfAnswerNotBelongsToTheTopic() {
+        final AnswerService asyncAnswerService = new AnswerService(this.answerRepository, this.topicService,
+                this.userClientRequest, Schedulers.immediate(), this.eventPublisher,
+                this.transactionOperations, this.domainEventOutbox);
+
+        BDDMockito.given(this.answerRepository.existsById(2L))
+                .willReturn(true);
+
+        BDDMockito.given(this.topicService.getTopicById(1L))
+                .willReturn(TestsHelper.TopicHelper.topicListWithAnswers().get(0));
+
+        BDDMockito.given(this.answerRepository.findById(2L))
+                .willReturn(Optional.of(TestsHelper.AnswerHelper.answerList().get(1)));
+
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(1)));
+
+        Mono<Void> unmarkBestAnswer = asyncAnswerService.unmarkBestAnswerAsync(1L, 2L, 2L);
+
+        Assertions.assertThrows(ValidationException.class, unmarkBestAnswer::block);
+
+        BDDMockito.verify(this.answerRepository).findById(2L);
+        BDDMockito.verify(this.answerRepository, BDDMockito.never()).unmarkBestAnswer(any(), any());
+        BDDMockito.verifyNoInteractions(this.domainEventOutbox);
+
+    }
+
+
+    @Test
+    void shouldEditAnswerAsyncWithSuccessIfEverythingIsOk() {
+        final AnswerService asyncAnswerService = new AnswerService(this.answerRepository, this.topicService,
+                this.userClientRequest, Schedulers.immediate(), this.eventPublisher,
+                this.transactionOperations, this.domainEventOutbox);
+        final AnswerRequestDTO answerUpdateDTO =
+                new AnswerRequestDTO("Primeiro teste de edição de uma resposta");
+
+        BDDMockito.given(this.topicService.getTopicById(1L))
+                .willReturn(TestsHelper.TopicHelper.topicList().get(0));
+
+        BDDMockito.given(this.answerRepository.findById(1L))
+                .willReturn(Optional.of(TestsHelper.AnswerHelper.answerList().get(0)));
+
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(3L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(2)));
+
+
+        AnswerResponseDTO answerResponseDTO = asyncAnswerService.updateAnswerAsync(1L, 1L, 3L, answerUpdateDTO).block();
+
+        assertEquals("Primeiro teste de edição de uma resposta", answerResponseDTO.answer().getSolution());
+        BDDMockito.verify(this.answerRepository).save(any(Answer.class));
+
+    }
+
+
+    @Test
+    void shouldNotRequestAuthorAsyncIfAnswerNotExistsWhenDeleteAnswer() {
+        final AnswerService asyncAnswerService = new AnswerService(this.answerRepository, this.topicService,
+                this.userClientRequest, Schedulers.immediate(), this.eventPublisher,
+                this.transactionOperations, this.domainEventOutbox);
+
+        BDDMockito.given(this.answerRepository.findById(1L))
+                .willReturn(Optional.empty());
+
+        Mono<Void> deleteAnswer = asyncAnswerService.deleteAnswerAsync(1L, 1L, 3L);
+
+        Assertions.assertThrows(InstanceNotFoundException.class, deleteAnswer::block,
+                "A resposta [ID: 1] informada não existe");
+
+        BDDMockito.verifyNoInteractions(this.userClientRequest);
+
+    }
+
+
+    @Test
+    void answerAuthorShouldDeleteAnswerAsyncWithSuccessIfEverythingIsOk() {
+        final AnswerService asyncAnswerService = new AnswerService(this.answerRepository, this.topicService,
+                this.userClientRequest, Schedulers.immediate(), this.eventPublisher,
+                this.transactionOperations, this.domainEventOutbox);
+
+        BDDMockito.given(this.answerRepository.findById(1L))
+                .willReturn(Optional.of(TestsHelper.AnswerHelper.answerList().get(0)));
+
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(3L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(2)));
+
+
+        Assertions.assertDoesNotThrow(() -> asyncAnswerService.deleteAnswerAsync(1L, 1L, 3L).block());
+
+        BDDMockito.verify(this.answerRepository).delete(any(Answer.class));
+
+    }
+
+
+    @Test
+    void shouldFailToListAnswersIfTopicNotExists() {
+        BDDMockito.willThrow(new InstanceNotFoundException("O tópico [ID: 1] informado não existe"))
+                .given(this.topicService).validateTopicExists(1L);
+
+        Assertions.assertThrows(InstanceNotFoundException.class,
+                () -> this.answerService.answerList(1L, null, 10), "O tópico [ID: 1] informado não existe");
+
+        BDDMockito.verifyNoInteractions(this.answerRepository);
+
+    }
+
+
+    @Test
+    void shouldPinBestAnswerOnFirstPageWhenListAnswers() {
+        final AnswerSummaryResponseDTO bestAnswer = new AnswerSummaryResponseDTO(5L, "Melhor resposta", true,
+                LocalDateTime.of(2024, 8, 12, 10, 0), "Maria");
+        final List<AnswerSummaryResponseDTO> answers = List.of(
+                new AnswerSummaryResponseDTO(1L, "Primeira resposta", false, LocalDateTime.of(2024, 8, 10, 10, 0), "Jose"),
+                new AnswerSummaryResponseDTO(2L, "Segunda resposta", false, LocalDateTime.of(2024, 8, 11, 10, 0), "Joao"),
+                new AnswerSummaryResponseDTO(3L, "Terceira resposta", false, LocalDateTime.of(2024, 8, 13, 10, 0), "Jose"));
+
+        BDDMockito.given(this.answerRepository.findBestAnswerSummariesByTopicId(1L, Limit.of(1)))
+                .willReturn(List.of(bestAnswer));
+        BDDMockito.given(this.answerRepository.findAnswerSummariesByTopicIdAfter(1L, AnswerCursorDTO.start().createdAt(),
+                        AnswerCursorDTO.start().id(), Limit.of(2)))
+                .willReturn(answers.subList(0, 2));
+
+
+        Slice<AnswerSummaryResponseDTO> slice = this.answerService.answerList(1L, null, 2);
+
+
+        Assertions.assertAll(
+                () -> assertEquals(List.of(bestAnswer, answers.get(0)), slice.getContent()),
+                () -> Assertions.assertTrue(slice.getNumberOfElements() <= 2),
+                () -> Assertions.assertTrue(slice.hasNext())
+        );
+
+        BDDMockito.verify(this.topicService).validateTopicExists(1L);
+        BDDMockito.verifyNoMoreInteractions(this.topicService);
+
+    }
+
+
+    @Test
+    void shouldReturnOnlyBestAnswerWhenPageSizeIsOneAndTopicHasBestAnswer() {
+        final AnswerSummaryResponseDTO bestAnswer = new AnswerSummaryResponseDTO(5L, "Melhor resposta", true,
+                LocalDateTime.of(2024, 8, 12, 10, 0), "Maria");
+        final AnswerSummaryResponseDTO answer = new AnswerSummaryResponseDTO(1L, "Primeira resposta", false,
+                LocalDateTime.of(2024, 8, 10, 10, 0), "Jose");
+
+        BDDMockito.given(this.answerRepository.findBestAnswerSummariesByTopicId(1L, Limit.of(1)))
+                .willReturn(List.of(bestAnswer));
+        BDDMockito.given(this.answerRepository.findAnswerSummariesByTopicIdAfter(1L, AnswerCursorDTO.start().createdAt(),
+                        AnswerCursorDTO.start().id(), Limit.of(1)))
+                .willReturn(List.of(answer));
+
+
+        Slice<AnswerSummaryResponseDTO> slice = this.answerService.answerList(1L, null, 1);
+
+
+        Assertions.assertAll(
+                () -> assertEquals(List.of(bestAnswer), slice.getContent()),
+                () -> Assertions.assertTrue(slice.hasNext())
+        );
+
+    }
+
+
+    @Test
+    void shouldNotPinBestAnswerAfterFirstPageWhenListAnswers() {
+        final AnswerCursorDTO cursor = new AnswerCursorDTO(LocalDateTime.of(2024, 8, 11, 10, 0), 2L);
+        final AnswerSummaryResponseDTO answer = new AnswerSummaryResponseDTO(3L, "Terceira resposta", false,
+                LocalDateTime.of(2024, 8, 13, 10, 0), "Jose");
+
+        BDDMockito.given(this.answerRepository.findAnswerSummariesByTopicIdAfter(1L, cursor.createdAt(), cursor.id(),
+                        Limit.of(3)))
+                .willReturn(List.of(answer));
+
+
+        Slice<AnswerSummaryResponseDTO> slice = this.answerService.answerList(1L, cursor.encode(), 2);
+
+
+        Assertions.assertAll(
+                () -> assertEquals(List.of(answer), slice.getContent()),
+                () -> Assertions.assertFalse(slice.hasNext())
+        );
+
+        BDDMockito.verify(this.answerRepository, BDDMockito.never()).findBestAnswerSummariesByTopicId(any(), any());
+
+    }
+
+
+    @Test
+    void shouldFailToListAnswersIfCursorIsInvalid() {
+        Assertions.assertThrows(ValidationException.class,
+                () -> this.answerService.answerList(1L, "invalido", 10), "O cursor 'invalido' informado é inválido");
+
+        BDDMockito.verifyNoInteractions(this.answerRepository);
+
+    }
+
+
+    @Test
+    void shouldFailToReturnTopicDetailIfAnswersPreviewIsOutOfRange() {
+        Assertions.assertAll(
+                () -> Assertions.assertThrows(ValidationException.class,
+                        () -> this.answerService.getTopicDetail(1L, 0), "A prévia de respostas deve estar entre 1 e 100"),
+                () -> Assertions.assertThrows(ValidationException.class,
+                        () -> this.answerService.getTopicDetail(1L, 101), "A prévia de respostas deve estar entre 1 e 100")
+        );
+
+        BDDMockito.verifyNoInteractions(this.topicService);
+        BDDMockito.verifyNoInteractions(this.answerRepository);
+
+    }
+
+
+    @Test
+    void shouldReturnTopicDetailWithAnswersPreview() {
+        final TopicDetailResponseDTO topic = new TopicDetailResponseDTO(1L, "Dúvida na utilização do Feign Client",
+                "Como utilizar o Feign Client para integração do serviço x?", Status.UNSOLVED,
+                LocalDateTime.of(2024, 8, 10, 20, 5), "Jose", "Criação de uma API Rest", 4L, 10L, 3L);
+        final AnswerSummaryResponseDTO answer = new AnswerSummaryResponseDTO(1L, "Primeira resposta", false,
+                LocalDateTime.of(2024, 8, 10, 10, 0), "Jose");
+
+        BDDMockito.given(this.topicService.getTopicDetail(1L)).willReturn(topic);
+        BDDMockito.given(this.answerRepository.findBestAnswerSummariesByTopicId(1L, Limit.of(1)))
+                .willReturn(List.of());
+        BDDMockito.given(this.answerRepository.findAnswerSummariesByTopicIdAfter(1L, AnswerCursorDTO.start().createdAt(),
+                        AnswerCursorDTO.start().id(), Limit.of(2)))
+                .willReturn(List.of(answer, answer));
+
+
+        TopicDetailResponseDTO detail = this.answerService.getTopicDetail(1L, 1);
+
+
+        Assertions.assertAll(
+                () -> assertEquals(List.of(answer), detail.answers()),
+                () -> assertEquals(4L, detail.answerCount()),
+                () -> assertEquals(10L, detail.viewCount()),
+                () -> assertEquals(topic.question(), detail.question())
+        );
+
+        BDDMockito.verify(this.topicService).getTopicDetail(1L);
+        BDDMockito.verifyNoMoreInteractions(this.topicService);
+
+    }
+
+
+    @Test
+    void shouldCountBestAnswerAgainstAnswersPreview() {
+        final TopicDetailResponseDTO topic = new TopicDetailResponseDTO(1L, "Dúvida na utilização do Feign Client",
+                "Como utilizar o Feign Client para integração do serviço x?", Status.SOLVED,
+                LocalDateTime.of(2024, 8, 10, 20, 5), "Jose", "Criação de uma API Rest", 4L, 10L, 3L);
+        final AnswerSummaryResponseDTO bestAnswer = new AnswerSummaryResponseDTO(5L, "Melhor resposta", true,
+                LocalDateTime.of(2024, 8, 12, 10, 0), "Maria");
+        final AnswerSummaryResponseDTO answer = new AnswerSummaryResponseDTO(1L, "Primeira resposta", false,
+                LocalDateTime.of(2024, 8, 10, 10, 0), "Jose");
+
+        BDDMockito.given(this.topicService.getTopicDetail(1L)).willReturn(topic);
+        BDDMockito.given(this.answerRepository.findBestAnswerSummariesByTopicId(1L, Limit.of(1)))
+                .willReturn(List.of(bestAnswer));
+        BDDMockito.given(this.answerRepository.findAnswerSummariesByTopicIdAfter(1L, AnswerCursorDTO.start().createdAt(),
+                        AnswerCursorDTO.start().id(), Limit.of(2)))
+                .willReturn(List.of(answer, answer));
+
+
+        TopicDetailResponseDTO detail = this.answerService.getTopicDetail(1L, 2);
+
+
+        Assertions.assertAll(
+                () -> assertEquals(List.of(bestAnswer, answer), detail.answers()),
+                () -> Assertions.assertTrue(detail.answers().size() <= 2)
+        );
+
+    }
+
+}
@@ -1,10 +1,16 @@
 package com.raul.forumhub.topic.service;
 
+import com.raul.forumhub.topic.cache.ResponseCache;
 import com.raul.forumhub.topic.domain.Course;
 import com.raul.forumhub.topic.dto.request.CourseRequestDTO;
+import com.raul.forumhub.topic.dto.response.EntityVersionDTO;
+import com.raul.forumhub.topic.event.DomainEventType;
 import com.raul.forumhub.topic.exception.InstanceNotFoundException;
+import com.raul.forumhub.topic.outbox.DomainEventOutbox;
 import com.raul.forumhub.topic.repository.CourseRepository;
 import com.raul.forumhub.topic.util.TestsHelper;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.validation.ConstraintViolationException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.MethodOrderer;
@@ -14,9 +20,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -28,6 +37,21 @@ class CourseServiceTest {
     @Mock
     CourseRepository courseRepository;
 
+    @Mock
+    ResponseCache responseCache;
+
+    @Mock
+    EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    Cache secondLevelCache;
+
+    @Spy
+    TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
+    @Mock
+    DomainEventOutbox domainEventOutbox;
+
     @InjectMocks
     CourseService courseService;
 
@@ -129,6 +153,29 @@ class CourseServiceTest {
         BDDMockito.verifyNoMoreInteractions(this.courseRepository);
     }
 
+    @Test
+    void shouldGetCourseVersionWithSuccessIfCourseExists() {
+        final EntityVersionDTO version = new EntityVersionDTO(1L, 2L, LocalDateTime.of(2024, 1, 1, 12, 0));
+        BDDMockito.given(this.courseRepository.findCourseVersionById(1L)).willReturn(Optional.of(version));
+
+        Assertions.assertEquals(version, this.courseService.getCourseVersion(1L));
+
+        BDDMockito.verify(this.courseRepository).findCourseVersionById(1L);
+        BDDMockito.verifyNoMoreInteractions(this.courseRepository);
+    }
+
+    @Test
+    void shouldFailWhenGetCourseVersionIfCourseNotExists() {
+        BDDMockito.given(this.courseRepository.findCourseVersionById(5L)).willReturn(Optional.empty());
+
+        InstanceNotFoundException ex = Assertions.assertThrows(InstanceNotFoundException.class,
+                () -> this.courseService.getCourseVersion(5L));
+
+        Assertions.assertEquals("O curso [ID: 5] informado não existe", ex.getMessage());
+        BDDMockito.verify(this.courseRepository).findCourseVersionById(5L);
+        BDDMockito.verifyNoMoreInteractions(this.courseRepository);
+    }
+
     @Test
     void shouldGetCourseWithSuccessIfEvertythingIsOk(){
         BDDMockito.given(this.courseRepository.findById(1L))
@@ -190,6 +237,7 @@ class CourseServiceTest {
 
         BDDMockito.given(this.courseRepository.findById(1L))
                 .willReturn(Optional.of(TestsHelper.CourseHelper.courseList().get(0)));
+        BDDMockito.given(this.entityManagerFactory.getCache()).willReturn(this.secondLevelCache);
 
 
         Assertions.assertDoesNotThrow(() -> this.courseService.updateCourse(1L, courseUpdateDTO));
@@ -197,6 +245,9 @@ class CourseServiceTest {
 
         BDDMockito.verify(this.courseRepository).findById(1L);
         BDDMockito.verify(this.courseRepository).save(any(Course.class));
+        BDDMockito.verify(this.courseRepository).bumpVersion(1L);
+        BDDMockito.verify(this.secondLevelCache).evict(Course.class, 1L);
+        BDDMockito.verify(this.responseCache).invalidateAll();
         BDDMockito.verifyNoMoreInteractions(this.courseRepository);
 
     }
@@ -223,6 +274,7 @@ class CourseServiceTest {
     void shouldDeleteCourseWithSuccessIfEverythingIsOk() {
         BDDMockito.given(this.courseRepository.findById(1L))
                 .willReturn(Optional.of(TestsHelper.CourseHelper.courseList().get(0)));
+        BDDMockito.given(this.entityManagerFactory.getCache()).willReturn(this.secondLevelCache);
 
 
         Assertions.assertDoesNotThrow(() -> this.courseService.deleteCourse(1L));
@@ -230,6 +282,8 @@ class CourseServiceTest {
 
         BDDMockito.verify(this.courseRepository).findById(1L);
         BDDMockito.verify(this.courseRepository).delete(any(Course.class));
+        BDDMockito.verify(this.domainEventOutbox).append(DomainEventType.COURSE_DELETED, 1L, null);
+        BDDMockito.verify(this.secondLevelCache).evict(Course.class, 1L);
         BDDMockito.verifyNoMoreInteractions(this.courseRepository);
 
 
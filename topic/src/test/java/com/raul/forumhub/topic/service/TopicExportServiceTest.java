@@ -0,0 +1,144 @@
+package com.raul.forumhub.topic.service;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.raul.forumhub.topic.domain.Status;
+import com.raul.forumhub.topic.dto.request.TopicExportFilterDTO;
+import com.raul.forumhub.topic.exception.ValidationException;
+import com.raul.forumhub.topic.export.TopicExportFormat;
+import com.raul.forumhub.topic.repository.TopicExportRepository;
+import com.raul.forumhub.topic.repository.TopicExportRepository.AnswerRow;
+import com.raul.forumhub.topic.repository.TopicExportRepository.TopicRow;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+
+@ExtendWith(MockitoExtension.class)
+class TopicExportServiceTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private static final TopicExportFilterDTO FILTER = new TopicExportFilterDTO(1L, Status.UNSOLVED, null, null);
+
+    @Mock
+    TopicExportRepository topicExportRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    TopicExportService topicExportService;
+
+    @BeforeEach
+    void setup() {
+        this.topicExportService = new TopicExportService(this.topicExportRepository, this.transactionManager,
+                JsonMapper.builder().findAndAddModules().build());
+    }
+
+    private void willStreamRows() {
+        this.willStreamTopics();
+        this.willStreamAnswers();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void willStreamTopics() {
+        BDDMockito.willAnswer(invocation -> {
+            Consumer<TopicRow> consumer = invocation.getArgument(1);
+            consumer.accept(new TopicRow(1L, "Dúvida, \"Feign\"", "Como usar?\nAjuda", Status.UNSOLVED, CREATED_AT,
+                    "Jose", "Criação de uma API Rest", 1L));
+            return null;
+        }).given(this.topicExportRepository).streamTopics(BDDMockito.eq(FILTER), any(Consumer.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void willStreamAnswers() {
+        BDDMockito.willAnswer(invocation -> {
+            Consumer<AnswerRow> consumer = invocation.getArgument(1);
+            consumer.accept(new AnswerRow(5L, 1L, "Assim", true, CREATED_AT, "Maria"));
+            return null;
+        }).given(this.topicExportRepository).streamAnswers(BDDMockito.eq(FILTER), any(Consumer.class));
+    }
+
+
+    @Test
+    void shouldExportTopicsAndAnswersAsNdjsonInsideReadOnlySnapshotTransaction() throws IOException {
+        this.willStreamRows();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        this.topicExportService.export(FILTER, TopicExportFormat.NDJSON, true, output);
+
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        BDDMockito.verify(this.transactionManager).getTransaction(definition.capture());
+        Assertions.assertAll(
+                () -> assertEquals("""
+                        {"type":"topic","ref":"1","id":1,"title":"Dúvida, \\"Feign\\"","question":"Como usar?\\nAjuda",\
+                        "status":"UNSOLVED","createdAt":"2024-01-01T12:00","author":"Jose",\
+                        "course":"Criação de uma API Rest","answerCount":1}
+                        {"type":"answer","id":5,"topic_ref":"1","solution":"Assim","bestAnswer":true,\
+                        "createdAt":"2024-01-01T12:00","author":"Maria"}
+                        """, output.toString(StandardCharsets.UTF_8)),
+                () -> Assertions.assertTrue(definition.getValue().isReadOnly()),
+                () -> assertEquals(TransactionDefinition.ISOLATION_REPEATABLE_READ,
+                        definition.getValue().getIsolationLevel())
+        );
+
+    }
+
+    @Test
+    void shouldExportTopicsAsEscapedCsvWithoutAnswers() throws IOException {
+        this.willStreamTopics();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        this.topicExportService.export(FILTER, TopicExportFormat.CSV, false, output);
+
+        assertEquals("type,id,topic_id,title,question,status,created_at,author,course,answer_count,solution,best_answer\r\n" +
+                     "topic,1,1,\"Dúvida, \"\"Feign\"\"\",\"Como usar?\nAjuda\",UNSOLVED,2024-01-01T12:00,Jose," +
+                     "Criação de uma API Rest,1,,\r\n", output.toString(StandardCharsets.UTF_8));
+        BDDMockito.verify(this.topicExportRepository, BDDMockito.never()).streamAnswers(any(), any());
+
+    }
+
+    @Test
+    void shouldPropagateClientDisconnectionAndRollbackSnapshot() {
+        this.willStreamRows();
+        OutputStream disconnected = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        IOException ex = Assertions.assertThrows(IOException.class, () ->
+                this.topicExportService.export(FILTER, TopicExportFormat.CSV, true, disconnected));
+
+        assertEquals("Broken pipe", ex.getMessage());
+        BDDMockito.verify(this.transactionManager).rollback(any());
+
+    }
+
+    @Test
+    void shouldFailIfCreatedAtRangeIsInverted() {
+        ValidationException ex = Assertions.assertThrows(ValidationException.class, () ->
+                new TopicExportFilterDTO(null, null, CREATED_AT, CREATED_AT.minusDays(1)));
+
+        assertEquals("O período de exportação [2024-01-01T12:00 - 2023-12-31T12:00] informado é inválido",
+                ex.getMessage());
+
+    }
+
+}
@@ -0,0 +1,291 @@
+package com.raul.forumhub.topic.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.raul.forumhub.topic.config.TopicImportProperties;
+import com.raul.forumhub.topic.dto.response.TopicImportEventDTO;
+import com.raul.forumhub.topic.event.DomainEventType;
+import com.raul.forumhub.topic.event.TopicsImportedEvent;
+import com.raul.forumhub.topic.outbox.DomainEventOutbox;
+import com.raul.forumhub.topic.repository.TopicImportRepository;
+import com.raul.forumhub.topic.repository.TopicImportRepository.AnswerRow;
+import com.raul.forumhub.topic.repository.TopicImportRepository.TopicRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+@ExtendWith(MockitoExtension.class)
+class TopicImportServiceTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Mock
+    TopicImportRepository topicImportRepository;
+
+    @Mock
+    TopicService topicService;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    DomainEventOutbox domainEventOutbox;
+
+    TopicImportProperties topicImportProperties;
+
+    TopicImportService topicImportService;
+
+    List<TopicImportEventDTO> events;
+
+    @BeforeEach
+    void setup() {
+        this.topicImportProperties = new TopicImportProperties();
+        this.topicImportProperties.setBatchSize(2);
+        this.topicImportProperties.setMaxLineLength(256);
+        ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+        this.topicImportService = new TopicImportService(this.topicImportRepository,
+                TransactionOperations.withoutTransaction(), this.topicImportProperties, objectMapper,
+                this.topicService, this.eventPublisher, this.domainEventOutbox);
+        this.events = new ArrayList<>();
+
+        Map<String, Long> importedRefs = new HashMap<>();
+        BDDMockito.lenient().doAnswer(invocation -> {
+            importedRefs.putAll(invocation.getArgument(1));
+            return null;
+        }).when(this.topicImportRepository).insertRefs(anyString(), anyMap());
+        BDDMockito.lenient().when(this.topicImportRepository.findTopicIdsByRef(anyString(), anyCollection()))
+                .thenAnswer(invocation -> importedRefs.entrySet().stream()
+                        .filter(ref -> invocation.<Collection<String>>getArgument(1).contains(ref.getKey()))
+                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+    }
+
+
+    @Test
+    void shouldImportTopicsAndAnswersInBatchesResolvingReferences() {
+        BDDMockito.given(this.topicImportRepository.findAuthorIdsByUsername(Set.of("jose", "maria")))
+                .willReturn(Map.of("jose", 2L, "maria", 3L));
+        BDDMockito.given(this.topicImportRepository.findCourseIdsByName(Set.of("Java")))
+                .willReturn(Map.of("Java", 1L));
+        BDDMockito.given(this.topicImportRepository.insertTopics(anyList())).willReturn(List.of(10L, 11L));
+        BDDMockito.given(this.topicImportRepository.findExistingTopicIds(List.of(4L))).willReturn(Set.of(4L));
+
+        TopicImportEventDTO summary = this.importTopics("""
+                {"type":"topic","ref":"a","title":"Feign","question":"Como usar?","author":"jose","course":"Java","createdAt":"2024-01-01T12:00:00"}
+                {"type":"topic","ref":"b","title":"Kafka","question":"Como usar?","status":"SOLVED","author":"maria","course":"Java","createdAt":"2024-01-01T12:00:00"}
+                {"type":"answer","topic_ref":"a","solution":"Assim","author":"maria","bestAnswer":true,"createdAt":"2024-01-01T12:00:00"}
+                {"type":"answer","topic_id":4,"solution":"Assado","author":"jose","createdAt":"2024-01-01T12:00:00"}
+                """);
+
+        ArgumentCaptor<List<TopicRow>> topics = captor();
+        ArgumentCaptor<List<AnswerRow>> answers = captor();
+        BDDMockito.verify(this.topicImportRepository).insertTopics(topics.capture());
+        BDDMockito.verify(this.topicImportRepository).insertAnswers(answers.capture());
+        BDDMockito.verify(this.topicImportRepository).refreshStatistics(List.of(10L, 11L));
+        BDDMockito.verify(this.topicImportRepository).refreshStatistics(Set.of(10L, 4L));
+        BDDMockito.verify(this.topicService).invalidateTopicCounts(1L);
+        BDDMockito.verify(this.eventPublisher).publishEvent(new TopicsImportedEvent(2, 2));
+        BDDMockito.verify(this.domainEventOutbox, BDDMockito.atLeastOnce()).append(DomainEventType.TOPICS_IMPORTED, null, null);
+
+        assertAll(
+                () -> assertEquals(TopicImportEventDTO.summary(4, 2, 2, 0), summary),
+                () -> assertEquals(List.of(
+                        new TopicRow("Feign", "Como usar?", CREATED_AT, 2L, 1L),
+                        new TopicRow("Kafka", "Como usar?", CREATED_AT, 3L, 1L)), topics.getValue()),
+                () -> assertEquals(List.of(
+                        new AnswerRow("Assim", true, CREATED_AT, 10L, 3L),
+                        new AnswerRow("Assado", false, CREATED_AT, 4L, 2L)), answers.getValue()),
+                () -> assertEquals(List.of(
+                        TopicImportEventDTO.progress(2, 2, 0, 0),
+                        TopicImportEventDTO.progress(4, 2, 2, 0),
+                        summary), this.events)
+        );
+
+    }
+
+    @Test
+    void shouldRejectInvalidLinesWithTheirLineNumbers() {
+        this.topicImportProperties.setMaxLineLength(512);
+        BDDMockito.given(this.topicImportRepository.findAuthorIdsByUsername(anyCollection())).willReturn(Map.of("jose", 2L));
+        BDDMockito.given(this.topicImportRepository.findCourseIdsByName(Set.of("Java", "Cobol")))
+                .willReturn(Map.of("Java", 1L));
+        BDDMockito.given(this.topicImportRepository.insertTopics(anyList())).willReturn(List.of(10L));
+        BDDMockito.given(this.topicImportRepository.findExistingTopicIds(anyCollection())).willReturn(Set.of());
+        BDDMockito.given(this.topicImportRepository.findTopicIdsWithBestAnswer(anyCollection()))
+                .willReturn(Set.of())
+                .willReturn(Set.of(10L));
+
+        TopicImportEventDTO summary = this.importTopics("""
+                {"type":"topic","ref":"a","title":"Feign","question":"Como usar?","author":"jose","course":"Java","createdAt":"2024-01-01T12:00:00"}
+                {invalido
+
+                {"type":"comment"}
+                {"type":"topic","ref":"a","title":"Duplicado","question":"?","author":"jose","course":"Java"}
+                {"type":"topic","ref":"b","title":"%s","question":"?","author":"jose","course":"Java"}
+                {"type":"topic","ref":"c","title":"Cobol","question":"?","author":"jose","course":"Cobol"}
+                {"type":"answer","topic_ref":"x","solution":"?","author":"jose"}
+                {"type":"answer","topic_ref":"a","topic_id":1,"solution":"?","author":"jose"}
+                {"type":"answer","topic_ref":"a","solution":"Assim","author":"jose","bestAnswer":true,"createdAt":"2024-01-01T12:00:00"}
+                {"type":"answer","topic_ref":"a","solution":"Outra","author":"jose","bestAnswer":true}
+                {"type":"answer","topic_id":99,"solution":"?","author":"jose"}
+                {"type":"answer","topic_ref":"a","solution":"?","author":"ninguem"}
+                {"type":"topic","ref":"d","title":"%s"}
+                """.formatted("t".repeat(201), "t".repeat(600)));
+
+        List<TopicImportEventDTO> rejected = this.events.stream()
+                .filter(event -> event.type() == TopicImportEventDTO.Type.REJECTED)
+                .toList();
+
+        assertAll(
+                () -> assertEquals(TopicImportEventDTO.summary(14, 1, 1, 11), summary),
+                () -> assertEquals(List.of(2L, 4L, 5L, 6L, 7L, 9L, 8L, 11L, 12L, 14L, 13L),
+                        rejected.stream().map(TopicImportEventDTO::line).toList()),
+                () -> assertTrue(rejected.get(0).reason().startsWith("JSON inválido")),
+                () -> assertEquals(List.of(
+                        "Tipo de registro desconhecido: comment",
+                        "A referência do tópico a está duplicada",
+                        "O título excede o tamanho máximo de 200 caracteres",
+                        "O curso Cobol não existe",
+                        "Informe apenas um entre topic_ref e topic_id",
+                        "O tópico de referência x não foi importado",
+                        "O tópico de referência a já possui uma melhor resposta",
+                        "O tópico [ID: 99] informado não existe",
+                        "A linha excede o tamanho máximo de 512 caracteres",
+                        "O autor ninguem não existe"), rejected.stream().skip(1).map(TopicImportEventDTO::reason).toList())
+        );
+        BDDMockito.verify(this.topicImportRepository).insertTopics(List.of(
+                new TopicRow("Feign", "Como usar?", CREATED_AT, 2L, 1L)));
+        BDDMockito.verify(this.topicImportRepository).insertAnswers(List.of(
+                new AnswerRow("Assim", true, CREATED_AT, 10L, 2L)));
+        BDDMockito.verify(this.topicImportRepository).refreshStatistics(Set.of(10L));
+
+    }
+
+    @Test
+    void shouldResolveReferencesOfPreviousBatchesFromDatabaseAndReleaseThem() {
+        BDDMockito.given(this.topicImportRepository.findAuthorIdsByUsername(Set.of("jose"))).willReturn(Map.of("jose", 2L));
+        BDDMockito.given(this.topicImportRepository.findCourseIdsByName(Set.of("Java"))).willReturn(Map.of("Java", 1L));
+        BDDMockito.given(this.topicImportRepository.insertTopics(anyList())).willReturn(List.of(10L, 11L));
+
+        TopicImportEventDTO summary = this.importTopics("""
+                {"type":"topic","ref":"a","title":"Feign","question":"?","author":"jose","course":"Java"}
+                {"type":"topic","ref":"b","title":"Kafka","question":"?","author":"jose","course":"Java"}
+                {"type":"topic","ref":"a","title":"Duplicado","question":"?","author":"jose","course":"Java"}
+                {"type":"answer","topic_ref":"b","solution":"Assim","author":"jose","createdAt":"2024-01-01T12:00:00"}
+                """);
+
+        assertAll(
+                () -> assertEquals(TopicImportEventDTO.summary(4, 2, 1, 1), summary),
+                () -> assertEquals(List.of(TopicImportEventDTO.rejected(3, "A referência do tópico a está duplicada")),
+                        this.events.stream().filter(event -> event.type() == TopicImportEventDTO.Type.REJECTED).toList())
+        );
+        BDDMockito.verify(this.topicImportRepository).insertRefs(anyString(), eq(Map.of("a", 10L, "b", 11L)));
+        BDDMockito.verify(this.topicImportRepository).insertAnswers(List.of(
+                new AnswerRow("Assim", false, CREATED_AT, 11L, 2L)));
+        BDDMockito.verify(this.topicImportRepository).findAuthorIdsByUsername(anyCollection());
+        BDDMockito.verify(this.topicImportRepository).deleteRefs(anyString());
+
+    }
+
+    @Test
+    void shouldRejectSecondBestAnswerForTheSameExistingTopic() {
+        BDDMockito.given(this.topicImportRepository.findAuthorIdsByUsername(Set.of("jose"))).willReturn(Map.of("jose", 2L));
+        BDDMockito.given(this.topicImportRepository.findExistingTopicIds(anyCollection())).willReturn(Set.of(4L, 5L));
+        BDDMockito.given(this.topicImportRepository.findTopicIdsWithBestAnswer(anyCollection())).willReturn(Set.of(5L));
+
+        TopicImportEventDTO summary = this.importTopics("""
+                {"type":"answer","topic_id":4,"solution":"Assim","author":"jose","bestAnswer":true,"createdAt":"2024-01-01T12:00:00"}
+                {"type":"answer","topic_id":4,"solution":"Outra","author":"jose","bestAnswer":true}
+                {"type":"answer","topic_id":5,"solution":"Assado","author":"jose","bestAnswer":true}
+                {"type":"answer","topic_id":5,"solution":"Cozido","author":"jose","createdAt":"2024-01-01T12:00:00"}
+                """);
+
+        assertAll(
+                () -> assertEquals(TopicImportEventDTO.summary(4, 0, 2, 2), summary),
+                () -> assertEquals(List.of(
+                        TopicImportEventDTO.rejected(2, "O tópico [ID: 4] já possui uma melhor resposta"),
+                        TopicImportEventDTO.rejected(3, "O tópico [ID: 5] já possui uma melhor resposta")),
+                        this.events.stream().filter(event -> event.type() == TopicImportEventDTO.Type.REJECTED).toList())
+        );
+        BDDMockito.verify(this.topicImportRepository).insertAnswers(List.of(
+                new AnswerRow("Assim", true, CREATED_AT, 4L, 2L)));
+        BDDMockito.verify(this.topicImportRepository).insertAnswers(List.of(
+                new AnswerRow("Cozido", false, CREATED_AT, 5L, 2L)));
+
+    }
+
+    @Test
+    void shouldReportFailureAndKeepCommittedBatchesIfDatabaseFails() {
+        this.topicImportProperties.setBatchSize(1);
+        BDDMockito.given(this.topicImportRepository.findAuthorIdsByUsername(Set.of("jose"))).willReturn(Map.of("jose", 2L));
+        BDDMockito.given(this.topicImportRepository.findCourseIdsByName(Set.of("Java"))).willReturn(Map.of("Java", 1L));
+        BDDMockito.given(this.topicImportRepository.insertTopics(anyList()))
+                .willReturn(List.of(10L))
+                .willThrow(new DataAccessResourceFailureException("conexão perdida"));
+
+        TopicImportEventDTO result = this.importTopics("""
+                {"type":"topic","ref":"a","title":"Feign","question":"?","author":"jose","course":"Java"}
+                {"type":"topic","ref":"b","title":"Kafka","question":"?","author":"jose","course":"Java"}
+                """);
+
+        assertEquals(TopicImportEventDTO.failed(2, 1, 0, 0, "Falha na importação após a linha 2: conexão perdida"),
+                result);
+        BDDMockito.verify(this.topicService).invalidateTopicCounts(1L);
+        BDDMockito.verify(this.eventPublisher).publishEvent(new TopicsImportedEvent(1, 0));
+
+    }
+
+    @Test
+    void shouldReportFailureIfBodyCannotBeRead() {
+        InputStream broken = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Unexpected end of ZLIB input stream");
+            }
+        };
+
+        TopicImportEventDTO result = this.topicImportService.importTopics(broken, this.events::add);
+
+        assertAll(
+                () -> assertEquals(TopicImportEventDTO.failed(0, 0, 0, 0,
+                        "Falha na importação após a linha 0: Unexpected end of ZLIB input stream"), result),
+                () -> assertEquals(List.of(result), this.events)
+        );
+        BDDMockito.verifyNoInteractions(this.topicImportRepository, this.topicService, this.eventPublisher);
+
+    }
+
+    private TopicImportEventDTO importTopics(String body) {
+        return this.topicImportService.importTopics(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)),
+                this.events::add);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ArgumentCaptor<List<T>> captor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.raul.forumhub.topic.service;
+
+import com.raul.forumhub.topic.domain.Status;
+import com.raul.forumhub.topic.domain.Topic;
+import com.raul.forumhub.topic.dto.request.TopicSearchCursorDTO;
+import com.raul.forumhub.topic.dto.response.TopicSearchResponseDTO;
+import com.raul.forumhub.topic.exception.ValidationException;
+import com.raul.forumhub.topic.repository.TopicRepository;
+import com.raul.forumhub.topic.repository.search.TopicSearchRepository;
+import com.raul.forumhub.topic.util.TestsHelper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Slice;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class TopicSearchServiceTest {
+
+    @Mock
+    TopicSearchRepository topicSearchRepository;
+
+    @Mock
+    TopicRepository topicRepository;
+
+    @InjectMocks
+    TopicSearchService topicSearchService;
+
+
+    @Test
+    void shouldFailIfQueryIsBlankWhenSearchTopics() {
+        Assertions.assertThrows(ValidationException.class,
+                () -> this.topicSearchService.searchTopics(" ", null, null, null, 10),
+                "O termo de busca não pode ser vazio");
+
+        BDDMockito.verifyNoInteractions(this.topicSearchRepository, this.topicRepository);
+
+    }
+
+    @Test
+    void shouldFailIfCursorIsMalformedWhenSearchTopics() {
+        Assertions.assertThrows(ValidationException.class,
+                () -> this.topicSearchService.searchTopics("feign", null, null, "cursor-invalido", 10),
+                "O cursor 'cursor-invalido' informado é inválido");
+
+        BDDMockito.verifyNoInteractions(this.topicSearchRepository, this.topicRepository);
+
+    }
+
+    @Test
+    void shouldReturnRankedTopicsInRankOrderWithNextWhenThereAreMoreHits() {
+        List<Topic> topics = TestsHelper.TopicHelper.topicList();
+
+        BDDMockito.given(this.topicSearchRepository.search("dúvida", 1L, Status.UNSOLVED, null, 3))
+                .willReturn(List.of(new TopicSearchRepository.Hit(4L, new BigDecimal("0.9")),
+                        new TopicSearchRepository.Hit(1L, new BigDecimal("0.6")),
+                        new TopicSearchRepository.Hit(2L, new BigDecimal("0.3"))));
+
+        BDDMockito.given(this.topicRepository.findTopicSummariesByIds(List.of(4L, 1L)))
+                .willReturn(List.of(TestsHelper.TopicHelper.topicSummary(topics.get(0)),
+                        TestsHelper.TopicHelper.topicSummary(topics.get(3))));
+
+
+        Slice<TopicSearchResponseDTO> topicSlice = this.topicSearchService.searchTopics(" dúvida ", 1L,
+                Status.UNSOLVED, "", 2);
+
+
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(4L, topicSlice.getContent().get(0).id()),
+                () -> Assertions.assertEquals(new BigDecimal("0.9"), topicSlice.getContent().get(0).rank()),
+                () -> Assertions.assertEquals(1L, topicSlice.getContent().get(1).id()),
+                () -> Assertions.assertEquals("Dúvida na utilização do Feign Client", topicSlice.getContent().get(1).title()),
+                () -> Assertions.assertEquals(2, topicSlice.getNumberOfElements()),
+                () -> Assertions.assertTrue(topicSlice.hasNext())
+        );
+
+        BDDMockito.verify(this.topicSearchRepository).search("dúvida", 1L, Status.UNSOLVED, null, 3);
+        BDDMockito.verify(this.topicRepository).findTopicSummariesByIds(List.of(4L, 1L));
+
+    }
+
+    @Test
+    void shouldSearchAfterCursorWithoutLoadingSummariesWhenThereAreNoHits() {
+        TopicSearchCursorDTO cursor = new TopicSearchCursorDTO(new BigDecimal("0.250000"), 3L);
+
+        BDDMockito.given(this.topicSearchRepository.search("feign", null, null, cursor, 11))
+                .willReturn(List.of());
+
+
+        Slice<TopicSearchResponseDTO> topicSlice = this.topicSearchService.searchTopics("feign", null, null,
+                cursor.encode(), 10);
+
+
+        Assertions.assertAll(
+                () -> Assertions.assertTrue(topicSlice.getContent().isEmpty()),
+                () -> Assertions.assertFalse(topicSlice.hasNext())
+        );
+
+        BDDMockito.verify(this.topicSearchRepository).search("feign", null, null, cursor, 11);
+        BDDMockito.verifyNoInteractions(this.topicRepository);
+
+    }
+
+}
@@ -1,18 +1,40 @@
 package com.raul.forumhub.topic.service;
 
+import com.raul.forumhub.topic.cache.ResponseCache;
+import com.raul.forumhub.topic.cache.ResponseCacheProperties;
 import com.raul.forumhub.topic.client.UserClientRequest;
+import com.raul.forumhub.topic.datasource.DataSourceRoutingProperties;
+import com.raul.forumhub.topic.datasource.ReadReplicaTransactions;
+import com.raul.forumhub.topic.datasource.ReadYourWritesTracker;
 import com.raul.forumhub.topic.domain.Author;
 import com.raul.forumhub.topic.domain.Status;
 import com.raul.forumhub.topic.domain.Topic;
 import com.raul.forumhub.topic.dto.request.TopicCreateRequestDTO;
+import com.raul.forumhub.topic.dto.request.TopicCursorDTO;
 import com.raul.forumhub.topic.dto.request.TopicUpdateRequestDTO;
+import com.raul.forumhub.topic.dto.response.TopicBulkDeleteResponseDTO;
+import com.raul.forumhub.topic.dto.response.TopicDetailResponseDTO;
+import com.raul.forumhub.topic.dto.response.TopicOwnerDTO;
 import com.raul.forumhub.topic.dto.response.TopicResponseDTO;
+import com.raul.forumhub.topic.dto.response.TopicSnapshotDTO;
+import com.raul.forumhub.topic.dto.response.TopicSummaryResponseDTO;
+import com.raul.forumhub.topic.dto.response.TopicVersionDTO;
+import com.raul.forumhub.topic.event.DomainEventType;
+import com.raul.forumhub.topic.event.TopicChangedEvent;
+import com.raul.forumhub.topic.event.TopicDeletedEvent;
 import com.raul.forumhub.topic.exception.BusinessException;
 import com.raul.forumhub.topic.exception.InstanceNotFoundException;
 import com.raul.forumhub.topic.exception.PrivilegeValidationException;
 import com.raul.forumhub.topic.exception.RestClientException;
+import com.raul.forumhub.topic.exception.ValidationException;
+import com.raul.forumhub.topic.outbox.DomainEventOutbox;
+import com.raul.forumhub.topic.pagination.CountMode;
+import com.raul.forumhub.topic.pagination.CountedPage;
+import com.raul.forumhub.topic.pagination.PageCounter;
+import com.raul.forumhub.topic.pagination.PaginationProperties;
 import com.raul.forumhub.topic.repository.TopicRepository;
 import com.raul.forumhub.topic.util.TestsHelper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.validation.ConstraintViolationException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.MethodOrderer;
@@ -23,16 +45,22 @@ import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.*;
 import org.springframework.data.mapping.PropertyReferenceException;
-import org.springframework.data.util.TypeInformation;
 import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionOperations;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
@@ -50,6 +78,25 @@ class TopicServiceTest {
     @Mock
     CourseService courseService;
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    PageCounter pageCounter = new PageCounter(new PaginationProperties(), null, new SimpleMeterRegistry());
+
+    @Spy
+    ResponseCache responseCache = new ResponseCache(new ResponseCacheProperties(), new SimpleMeterRegistry());
+
+    @Spy
+    TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
+    @Mock
+    DomainEventOutbox domainEventOutbox;
+
+    @Spy
+    ReadReplicaTransactions readReplicaTransactions = new ReadReplicaTransactions(TransactionOperations.withoutTransaction(),
+            TransactionOperations.withoutTransaction(), new ReadYourWritesTracker(new DataSourceRoutingProperties()));
+
     @InjectMocks
     TopicService topicService;
 
@@ -77,6 +124,7 @@ class TopicServiceTest {
         BDDMockito.verify(this.userClientRequest).getUserById(1L);
         BDDMockito.verify(this.courseService).getCourseById(1L);
         BDDMockito.verify(this.topicRepository).save(any(Topic.class));
+        BDDMockito.verifyNoInteractions(this.eventPublisher);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
         BDDMockito.verifyNoMoreInteractions(this.courseService);
         BDDMockito.verifyNoMoreInteractions(this.topicRepository);
@@ -219,6 +267,8 @@ class TopicServiceTest {
         BDDMockito.verify(this.userClientRequest).getUserById(1L);
         BDDMockito.verify(this.courseService).getCourseById(1L);
         BDDMockito.verify(this.topicRepository).save(any(Topic.class));
+        BDDMockito.verify(this.domainEventOutbox).append(BDDMockito.eq(DomainEventType.TOPIC_CREATED), any(), any());
+        BDDMockito.verify(this.eventPublisher).publishEvent(any(TopicChangedEvent.class));
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
         BDDMockito.verifyNoMoreInteractions(this.courseService);
         BDDMockito.verifyNoMoreInteractions(this.topicRepository);
@@ -230,15 +280,10 @@ class TopicServiceTest {
         Pageable pageable = PageRequest.of(0, 10,
                 Sort.by(Sort.Direction.DESC, "unexpected"));
 
-        BDDMockito.given(this.topicRepository.findAll(pageable))
-                .willThrow(new PropertyReferenceException("unexpected",
-                        TypeInformation.of(Topic.class), List.of()));
-
         Assertions.assertThrows(PropertyReferenceException.class,
                 () -> this.topicService.topicList(pageable));
 
-        BDDMockito.verify(this.topicRepository).findAll(pageable);
-        BDDMockito.verifyNoMoreInteractions(this.topicRepository);
+        BDDMockito.verifyNoInteractions(this.topicRepository);
     }
 
     @Test
@@ -247,12 +292,13 @@ class TopicServiceTest {
 
         List<Topic> topicList = TestsHelper.TopicHelper.topicListWithAnswers();
 
-        Page<TopicResponseDTO> topicPage =
+        Page<TopicSummaryResponseDTO> topicPage =
                 new PageImpl<>(topicList, pageable, 4)
-                        .map(TopicResponseDTO::new);
+                        .map(TestsHelper.TopicHelper::topicSummary);
 
-        BDDMockito.given(this.topicRepository.findAll(pageable))
-                .willReturn(new PageImpl<>(topicList, Pageable.unpaged(), 4));
+        BDDMockito.given(this.topicRepository.findTopicSummaries(pageable))
+                .willReturn(new PageImpl<>(topicList, Pageable.unpaged(), 4)
+                        .map(TestsHelper.TopicHelper::topicSummary));
 
 
         Assertions.assertDoesNotThrow(() -> this.topicService.topicList(pageable));
@@ -265,7 +311,7 @@ class TopicServiceTest {
                 () -> assertEquals(1, topicPage.getTotalPages())
         );
 
-        BDDMockito.verify(this.topicRepository).findAll(pageable);
+        BDDMockito.verify(this.topicRepository).findTopicSummaries(pageable);
         BDDMockito.verifyNoMoreInteractions(this.topicRepository);
 
     }
@@ -280,22 +326,23 @@ class TopicServiceTest {
         Pageable pageable = PageRequest.of(0, 10,
                 Sort.by(Sort.Direction.DESC, "createdAt"));
 
-        Page<TopicResponseDTO> topicPage =
+        Page<TopicSummaryResponseDTO> topicPage =
                 new PageImpl<>(sortedTopicByCreatedAt, pageable, 4)
-                        .map(TopicResponseDTO::new);
+                        .map(TestsHelper.TopicHelper::topicSummary);
 
-        BDDMockito.given(this.topicRepository.findAll(pageable))
-                .willReturn(new PageImpl<>(sortedTopicByCreatedAt, pageable, 4));
+        BDDMockito.given(this.topicRepository.findTopicSummaries(pageable))
+                .willReturn(new PageImpl<>(sortedTopicByCreatedAt, pageable, 4)
+                        .map(TestsHelper.TopicHelper::topicSummary));
 
 
         Assertions.assertDoesNotThrow(() -> this.topicService.topicList(pageable));
 
 
         Assertions.assertAll(
-                () -> Assertions.assertEquals(3L, topicPage.getContent().get(0).topic().getId()),
-                () -> Assertions.assertEquals(1L, topicPage.getContent().get(1).topic().getId()),
-                () -> Assertions.assertEquals(2L, topicPage.getContent().get(2).topic().getId()),
-                () -> Assertions.assertEquals(4L, topicPage.getContent().get(3).topic().getId()),
+                () -> Assertions.assertEquals(3L, topicPage.getContent().get(0).id()),
+                () -> Assertions.assertEquals(1L, topicPage.getContent().get(1).id()),
+                () -> Assertions.assertEquals(2L, topicPage.getContent().get(2).id()),
+                () -> Assertions.assertEquals(4L, topicPage.getContent().get(3).id()),
                 () -> Assertions.assertEquals(0, topicPage.getNumber()),
                 () -> Assertions.assertEquals(4, topicPage.getContent().size()),
                 () -> Assertions.assertEquals(10, topicPage.getSize()),
@@ -303,7 +350,7 @@ class TopicServiceTest {
                 () -> Assertions.assertEquals(1, topicPage.getTotalPages())
         );
 
-        BDDMockito.verify(this.topicRepository).findAll(pageable);
+        BDDMockito.verify(this.topicRepository).findTopicSummaries(pageable);
         BDDMockito.verifyNoMoreInteractions(this.topicRepository);
 
     }
@@ -319,22 +366,23 @@ class TopicServiceTest {
         Pageable pageable = PageRequest.of(0, 2,
                 Sort.by(Sort.Direction.ASC, "status"));
 
-        Page<TopicResponseDTO> topicPage =
+        Page<TopicSummaryResponseDTO> topicPage =
                 new PageImpl<>(sortedTopicByStatus, pageable, 2)
-                        .map(TopicResponseDTO::new);
+                        .map(TestsHelper.TopicHelper::topicSummary);
 
-        BDDMockito.given(this.topicRepository.findAll(pageable))
-                .willReturn(new PageImpl<>(sortedTopicByStatus, pageable, 2));
+        BDDMockito.given(this.topicRepository.findTopicSummaries(pageable))
+                .willReturn(new PageImpl<>(sortedTopicByStatus, pageable, 2)
+                        .map(TestsHelper.TopicHelper::topicSummary));
 
 
         Assertions.assertDoesNotThrow(() -> this.topicService.topicList(pageable));
 
 
         Assertions.assertAll(
-                () -> Assertions.assertEquals(3L, topicPage.getContent().get(0).topic().getId()),
-                () -> Assertions.assertEquals(Status.SOLVED, topicPage.getContent().get(0).topic().getStatus()),
-                () -> Assertions.assertEquals(2L, topicPage.getContent().get(1).topic().getId()),
-                () -> Assertions.assertEquals(Status.UNSOLVED, topicPage.getContent().get(1).topic().getStatus()),
+                () -> Assertions.assertEquals(3L, topicPage.getContent().get(0).id()),
+                () -> Assertions.assertEquals(Status.SOLVED, topicPage.getContent().get(0).status()),
+                () -> Assertions.assertEquals(2L, topicPage.getContent().get(1).id()),
+                () -> Assertions.assertEquals(Status.UNSOLVED, topicPage.getContent().get(1).status()),
                 () -> Assertions.assertEquals(0, topicPage.getNumber()),
                 () -> Assertions.assertEquals(2, topicPage.getContent().size()),
                 () -> Assertions.assertEquals(2, topicPage.getSize()),
@@ -342,7 +390,7 @@ class TopicServiceTest {
                 () -> Assertions.assertEquals(1, topicPage.getTotalPages())
         );
 
-        BDDMockito.verify(this.topicRepository).findAll(pageable);
+        BDDMockito.verify(this.topicRepository).findTopicSummaries(pageable);
         BDDMockito.verifyNoMoreInteractions(this.topicRepository);
 
     }
@@ -357,22 +405,23 @@ class TopicServiceTest {
         Pageable pageable = PageRequest.of(0, 10,
                 Sort.by(Sort.Direction.ASC, "title"));
 
-        Page<TopicResponseDTO> topicPage =
+        Page<TopicSummaryResponseDTO> topicPage =
                 new PageImpl<>(sortedTopicByTitle, pageable, 4)
-                        .map(TopicResponseDTO::new);
+                        .map(TestsHelper.TopicHelper::topicSummary);
 
-        BDDMockito.given(this.topicRepository.findAll(pageable))
-                .willReturn(new PageImpl<>(sortedTopicByTitle, pageable, 4));
+        BDDMockito.given(this.topicRepository.findTopicSummaries(pageable))
+                .willReturn(new PageImpl<>(sortedTopicByTitle, pageable, 4)
+                        .map(TestsHelper.TopicHelper::topicSummary));
 
 
         Assertions.assertDoesNotThrow(() -> this.topicService.topicList(pageable));
 
 
         Assertions.assertAll(
-                () -> Assertions.assertEquals(3L, topicPage.getContent().get(0).topic().getId()),
-                () -> Assertions.assertEquals(1L, topicPage.getContent().get(1).topic().getId()),
-                () -> Assertions.assertEquals(2L, topicPage.getContent().get(2).topic().getId()),
-                () -> Assertions.assertEquals(4L, topicPage.getContent().get(3).topic().getId()),
+                () -> Assertions.assertEquals(3L, topicPage.getContent().get(0).id()),
+                () -> Assertions.assertEquals(1L, topicPage.getContent().get(1).id()),
+                () -> Assertions.assertEquals(2L, topicPage.getContent().get(2).id()),
+                () -> Assertions.assertEquals(4L, topicPage.getContent().get(3).id()),
                 () -> Assertions.assertEquals(0, topicPage.getNumber()),
                 () -> Assertions.assertEquals(4, topicPage.getContent().size()),
                 () -> Assertions.assertEquals(10, topicPage.getSize()),
@@ -380,7 +429,7 @@ class TopicServiceTest {
                 () -> Assertions.assertEquals(1, topicPage.getTotalPages())
         );
 
-        BDDMockito.verify(this.topicRepository).findAll(pageable);
+        BDDMockito.verify(this.topicRepository).findTopicSummaries(pageable);
         BDDMockito.verifyNoMoreInteractions(this.topicRepository);
 
     }
@@ -393,12 +442,13 @@ class TopicServiceTest {
 
         Pageable pageable = PageRequest.of(0, 10, Sort.unsorted());
 
-        Page<TopicResponseDTO> topicPage =
+        Page<TopicSummaryResponseDTO> topicPage =
                 new PageImpl<>(topicsListByCourse, pageable, 0)
-                        .map(TopicResponseDTO::new);
+                        .map(TestsHelper.TopicHelper::topicSummary);
 
-        BDDMockito.given(this.topicRepository.findTopicsByCourseId(4L, pageable))
-                .willReturn(new PageImpl<>(topicsListByCourse, Pageable.unpaged(), 0));
+        BDDMockito.given(this.topicRepository.findTopicSummariesByCourseId(4L, pageable))
+                .willReturn(new PageImpl<>(topicsListByCourse, Pageable.unpaged(), 0)
+                        .map(TestsHelper.TopicHelper::topicSummary));
 
 
         Assertions.assertDoesNotThrow(() -> this.topicService.topicsListByCourse(4L, pageable));
@@ -411,7 +461,7 @@ class TopicServiceTest {
                 () -> assertEquals(0, topicPage.getTotalPages())
         );
 
-        BDDMockito.verify(this.topicRepository).findTopicsByCourseId(4L, pageable);
+        BDDMockito.verify(this.topicRepository).findTopicSummariesByCourseId(4L, pageable);
         BDDMockito.verifyNoMoreInteractions(this.topicRepository);
 
 
@@ -425,12 +475,13 @@ class TopicServiceTest {
 
         Pageable pageable = PageRequest.of(0, 10, Sort.unsorted());
 
-        Page<TopicResponseDTO> topicPage =
+        Page<TopicSummaryResponseDTO> topicPage =
                 new PageImpl<>(topicsListByCourse, pageable, 2)
-                        .map(TopicResponseDTO::new);
+                        .map(TestsHelper.TopicHelper::topicSummary);
 
-        BDDMockito.given(this.topicRepository.findTopicsByCourseId(1L, pageable))
-                .willReturn(new PageImpl<>(topicsListByCourse, pageable, 2));
+        BDDMockito.given(this.topicRepository.findTopicSummariesByCourseId(1L, pageable))
+                .willReturn(new PageImpl<>(topicsListByCourse, pageable, 2)
+                        .map(TestsHelper.TopicHelper::topicSummary));
 
 
         Assertions.assertDoesNotThrow(() -> this.topicService.topicsListByCourse(1L, pageable));
@@ -443,7 +494,7 @@ class TopicServiceTest {
                 () -> assertEquals(1, topicPage.getTotalPages())
         );
 
-        BDDMockito.verify(this.topicRepository).findTopicsByCourseId(1L, pageable);
+        BDDMockito.verify(this.topicRepository).findTopicSummariesByCourseId(1L, pageable);
         BDDMockito.verifyNoMoreInteractions(this.topicRepository);
 
     }
@@ -461,20 +512,21 @@ class TopicServiceTest {
                 Sort.by(Sort.Direction.DESC, "createdAt"));
 
 
-        Page<TopicResponseDTO> topicPage =
+        Page<TopicSummaryResponseDTO> topicPage =
                 new PageImpl<>(sortedTopicByCreatedAt, pageable, 2)
-                        .map(TopicResponseDTO::new);
+                        .map(TestsHelper.TopicHelper::topicSummary);
 
-        BDDMockito.given(this.topicRepository.findTopicsByCourseId(1L, pageable))
-                .willReturn(new PageImpl<>(sortedTopicByCreatedAt, pageable, 2));
+        BDDMockito.given(this.topicRepository.findTopicSummariesByCourseId(1L, pageable))
+                .willReturn(new PageImpl<>(sortedTopicByCreatedAt, pageable, 2)
+                        .map(TestsHelper.TopicHelper::topicSummary));
 
 
         Assertions.assertDoesNotThrow(() -> this.topicService.topicsListByCourse(1L, pageable));
 
 
         Assertions.assertAll(
-                () -> Assertions.assertEquals(1L, topicPage.getContent().get(0).topic().getId()),
-                () -> Assertions.assertEquals(4L, topicPage.getContent().get(1).topic().getId()),
+                () -> Assertions.assertEquals(1L, topicPage.getContent().get(0).id()),
+                () -> Assertions.assertEquals(4L, topicPage.getContent().get(1).id()),
                 () -> Assertions.assertEquals(0, topicPage.getNumber()),
                 () -> Assertions.assertEquals(2, topicPage.getContent().size()),
                 () -> Assertions.assertEquals(10, topicPage.getSize()),
@@ -482,7 +534,7 @@ class TopicServiceTest {
                 () -> Assertions.assertEquals(1, topicPage.getTotalPages())
         );
 
-        BDDMockito.verify(this.topicRepository).findTopicsByCourseId(1L, pageable);
+        BDDMockito.verify(this.topicRepository).findTopicSummariesByCourseId(1L, pageable);
         BDDMockito.verifyNoMoreInteractions(this.topicRepository);
 
     }
@@ -498,19 +550,20 @@ class TopicServiceTest {
         Pageable pageable = PageRequest.of(0, 1,
                 Sort.by(Sort.Direction.ASC, "status"));
 
-        Page<TopicResponseDTO> topicPage =
+        Page<TopicSummaryResponseDTO> topicPage =
                 new PageImpl<>(sortedTopicByStatus, pageable, 1)
-                        .map(TopicResponseDTO::new);
+                        .map(TestsHelper.TopicHelper::topicSummary);
 
-        BDDMockito.given(this.topicRepository.findTopicsByCourseId(1L, pageable))
-                .willReturn(new PageImpl<>(sortedTopicByStatus, pageable, 1));
+        BDDMockito.given(this.topicRepository.findTopicSummariesByCourseId(1L, pageable))
+                .willReturn(new PageImpl<>(sortedTopicByStatus, pageable, 1)
+                        .map(TestsHelper.TopicHelper::topicSummary));
 
 
         Assertions.assertDoesNotThrow(() -> this.topicService.topicsListByCourse(1L, pageable));
 
 
         Assertions.assertAll(
-                () -> Assertions.assertEquals(Status.UNSOLVED, topicPage.getContent().get(0).topic().getStatus()),
+                () -> Assertions.assertEquals(Status.UNSOLVED, topicPage.getContent().get(0).status()),
                 () -> Assertions.assertEquals(0, topicPage.getNumber()),
                 () -> Assertions.assertEquals(1, topicPage.getContent().size()),
                 () -> Assertions.assertEquals(1, topicPage.getSize()),
@@ -518,7 +571,7 @@ class TopicServiceTest {
                 () -> Assertions.assertEquals(1, topicPage.getTotalPages())
         );
 
-        BDDMockito.verify(this.topicRepository).findTopicsByCourseId(1L, pageable);
+        BDDMockito.verify(this.topicRepository).findTopicSummariesByCourseId(1L, pageable);
         BDDMockito.verifyNoMoreInteractions(this.topicRepository);
 
     }
@@ -534,20 +587,21 @@ class TopicServiceTest {
         Pageable pageable = PageRequest.of(0, 10,
                 Sort.by(Sort.Direction.ASC, "title"));
 
-        Page<TopicResponseDTO> topicPage =
+        Page<TopicSummaryResponseDTO> topicPage =
                 new PageImpl<>(sortedTopicByTitle, pageable, 2)
-                        .map(TopicResponseDTO::new);
+                        .map(TestsHelper.TopicHelper::topicSummary);
 
-        BDDMockito.given(this.topicRepository.findTopicsByCourseId(1L, pageable))
-                .willReturn(new PageImpl<>(sortedTopicByTitle, pageable, 2));
+        BDDMockito.given(this.topicRepository.findTopicSummariesByCourseId(1L, pageable))
+                .willReturn(new PageImpl<>(sortedTopicByTitle, pageable, 2)
+                        .map(TestsHelper.TopicHelper::topicSummary));
 
 
         Assertions.assertDoesNotThrow(() -> this.topicService.topicsListByCourse(1L, pageable));
 
 
         Assertions.assertAll(
-                () -> Assertions.assertEquals(1L, topicPage.getContent().get(0).topic().getId()),
-                () -> Assertions.assertEquals(4L, topicPage.getContent().get(1).topic().getId()),
+                () -> Assertions.assertEquals(1L, topicPage.getContent().get(0).id()),
+                () -> Assertions.assertEquals(4L, topicPage.getContent().get(1).id()),
                 () -> Assertions.assertEquals(0, topicPage.getNumber()),
                 () -> Assertions.assertEquals(2, topicPage.getContent().size()),
                 () -> Assertions.assertEquals(10, topicPage.getSize()),
@@ -555,11 +609,75 @@ class TopicServiceTest {
                 () -> Assertions.assertEquals(1, topicPage.getTotalPages())
         );
 
-        BDDMockito.verify(this.topicRepository).findTopicsByCourseId(1L, pageable);
+        BDDMockito.verify(this.topicRepository).findTopicSummariesByCourseId(1L, pageable);
+        BDDMockito.verifyNoMoreInteractions(this.topicRepository);
+
+    }
+
+    @Test
+    void shouldReturnFirstKeysetSliceWithNextWhenThereAreMoreTopics() {
+        List<TopicSummaryResponseDTO> sortedTopicByCreatedAt = TestsHelper.TopicHelper.topicListWithAnswers()
+                .stream().sorted(Comparator.comparing(Topic::getCreatedAt).reversed())
+                .map(TestsHelper.TopicHelper::topicSummary)
+                .limit(3)
+                .toList();
+
+        TopicCursorDTO start = TopicCursorDTO.start();
+
+        BDDMockito.given(this.topicRepository.findTopicSummariesBefore(start.createdAt(), start.id(), Limit.of(3)))
+                .willReturn(sortedTopicByCreatedAt);
+
+
+        Slice<TopicSummaryResponseDTO> topicSlice = this.topicService.topicKeysetList("", 2);
+
+
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(3L, topicSlice.getContent().get(0).id()),
+                () -> Assertions.assertEquals(1L, topicSlice.getContent().get(1).id()),
+                () -> Assertions.assertEquals(2, topicSlice.getNumberOfElements()),
+                () -> Assertions.assertTrue(topicSlice.hasNext())
+        );
+
+        BDDMockito.verify(this.topicRepository).findTopicSummariesBefore(start.createdAt(), start.id(), Limit.of(3));
         BDDMockito.verifyNoMoreInteractions(this.topicRepository);
 
     }
 
+    @Test
+    void shouldReturnLastKeysetSliceOfCourseWithoutNext() {
+        Topic lastSeen = TestsHelper.TopicHelper.topicList().get(0);
+        TopicCursorDTO cursor = TopicCursorDTO.of(TestsHelper.TopicHelper.topicSummary(lastSeen));
+
+        BDDMockito.given(this.topicRepository.findTopicSummariesByCourseIdBefore(1L, lastSeen.getCreatedAt(),
+                        lastSeen.getId(), Limit.of(11)))
+                .willReturn(List.of(TestsHelper.TopicHelper.topicSummary(TestsHelper.TopicHelper.topicList().get(3))));
+
+
+        Slice<TopicSummaryResponseDTO> topicSlice = this.topicService.topicsKeysetListByCourse(1L, cursor.encode(), 10);
+
+
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(4L, topicSlice.getContent().get(0).id()),
+                () -> Assertions.assertEquals(1, topicSlice.getNumberOfElements()),
+                () -> Assertions.assertFalse(topicSlice.hasNext())
+        );
+
+        BDDMockito.verify(this.topicRepository).findTopicSummariesByCourseIdBefore(1L, lastSeen.getCreatedAt(),
+                lastSeen.getId(), Limit.of(11));
+        BDDMockito.verifyNoMoreInteractions(this.topicRepository);
+
+    }
+
+    @Test
+    void shouldFailWhenKeysetCursorIsMalformed() {
+        Assertions.assertThrows(ValidationException.class,
+                () -> this.topicService.topicKeysetList("cursor-invalido", 10),
+                "O cursor 'cursor-invalido' informado é inválido");
+
+        BDDMockito.verifyNoInteractions(this.topicRepository);
+
+    }
+
 
     @Test
     void shouldFailToRequestTheSpecifiedTopicIfNotExists() {
@@ -579,6 +697,36 @@ class TopicServiceTest {
     }
 
 
+    @Test
+    void shouldFailToRequestTopicVersionIfTopicNotExists() {
+        BDDMockito.given(this.topicRepository.findTopicVersionById(1L)).willReturn(Optional.empty());
+
+        InstanceNotFoundException ex = Assertions.assertThrows(InstanceNotFoundException.class,
+                () -> this.topicService.getTopicVersion(1L));
+
+        assertEquals("O tópico [ID: 1] informado não existe", ex.getMessage());
+        BDDMockito.verify(this.topicRepository).findTopicVersionById(1L);
+        BDDMockito.verifyNoMoreInteractions(this.topicRepository);
+
+    }
+
+
+    @Test
+    void shouldResolveTopicLastModifiedAsTheLatestOfTopicAndCourse() {
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        BDDMockito.given(this.topicRepository.findTopicVersionById(1L)).willReturn(Optional.of(
+                new TopicVersionDTO(1L, 3L, modifiedAt, 2L, 1L, modifiedAt.plusDays(1))));
+
+        TopicVersionDTO version = this.topicService.getTopicVersion(1L);
+
+        Assertions.assertAll(
+                () -> assertEquals(modifiedAt.plusDays(1), version.lastModified()),
+                () -> assertEquals(modifiedAt, new TopicVersionDTO(1L, 3L, modifiedAt, 2L, 1L, null).lastModified())
+        );
+
+    }
+
+
     @Test
     void shouldReturnTheSpecifiedTopicWithSuccessful() {
         Topic topic = TestsHelper.TopicHelper.topicList().get(0);
@@ -601,6 +749,60 @@ class TopicServiceTest {
     }
 
 
+    @Test
+    void shouldFailToReturnTopicDetailIfNotExists() {
+        BDDMockito.given(this.topicRepository.findTopicDetailById(1L))
+                .willReturn(Optional.empty());
+
+
+        Assertions.assertThrows(InstanceNotFoundException.class,
+                () -> this.topicService.getTopicDetail(1L),
+                String.format("O tópico [ID: %d] informado não existe", 1));
+
+
+        BDDMockito.verify(this.topicRepository).findTopicDetailById(1L);
+        BDDMockito.verifyNoMoreInteractions(this.topicRepository);
+
+    }
+
+
+    @Test
+    void shouldReturnTopicDetailWithoutLoadingTheTopicAggregate() {
+        TopicDetailResponseDTO topic = new TopicDetailResponseDTO(1L, "Dúvida na utilização do Feign Client",
+                "Como utilizar o Feign Client para integração do serviço x?", Status.UNSOLVED,
+                LocalDateTime.of(2024, 8, 10, 20, 5), "Jose", "Criação de uma API Rest", 2L, 10L, 3L);
+
+        BDDMockito.given(this.topicRepository.findTopicDetailById(1L))
+                .willReturn(Optional.of(topic));
+
+
+        assertEquals(topic, this.topicService.getTopicDetail(1L));
+
+
+        BDDMockito.verify(this.topicRepository).findTopicDetailById(1L);
+        BDDMockito.verifyNoMoreInteractions(this.topicRepository);
+
+    }
+
+
+    @Test
+    void shouldValidateIfTopicExists() {
+        BDDMockito.given(this.topicRepository.existsById(1L)).willReturn(true);
+        BDDMockito.given(this.topicRepository.existsById(2L)).willReturn(false);
+
+
+        Assertions.assertAll(
+                () -> Assertions.assertDoesNotThrow(() -> this.topicService.validateTopicExists(1L)),
+                () -> Assertions.assertThrows(InstanceNotFoundException.class,
+                        () -> this.topicService.validateTopicExists(2L),
+                        String.format("O tópico [ID: %d] informado não existe", 2))
+        );
+
+        BDDMockito.verify(this.topicRepository, Mockito.never()).findById(any());
+
+    }
+
+
     @Test
     void shouldFailIfTitlePropertyIsEmptyWhenEditTopic() {
         final TopicUpdateRequestDTO topicUpdateRequestDTO = new TopicUpdateRequestDTO(
@@ -855,6 +1057,7 @@ class TopicServiceTest {
         BDDMockito.verify(this.courseService).getCourseById(1L);
         BDDMockito.verify(this.userClientRequest).getUserById(3L);
         BDDMockito.verify(this.topicRepository).save(any(Topic.class));
+        BDDMockito.verify(this.topicRepository).bumpVersion(3L);
         BDDMockito.verifyNoMoreInteractions(this.topicRepository);
         BDDMockito.verifyNoMoreInteractions(this.courseService);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
@@ -894,6 +1097,7 @@ class TopicServiceTest {
         BDDMockito.verify(this.courseService).getCourseById(1L);
         BDDMockito.verify(this.userClientRequest).getUserById(3L);
         BDDMockito.verify(this.topicRepository).save(any(Topic.class));
+        BDDMockito.verify(this.topicRepository).bumpVersion(3L);
         BDDMockito.verifyNoMoreInteractions(this.topicRepository);
         BDDMockito.verifyNoMoreInteractions(this.courseService);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
@@ -926,6 +1130,7 @@ class TopicServiceTest {
         BDDMockito.verify(this.courseService).getCourseById(1L);
         BDDMockito.verify(this.userClientRequest).getUserById(2L);
         BDDMockito.verify(this.topicRepository).save(any(Topic.class));
+        BDDMockito.verify(this.topicRepository).bumpVersion(1L);
         BDDMockito.verifyNoMoreInteractions(this.topicRepository);
         BDDMockito.verifyNoMoreInteractions(this.courseService);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
@@ -958,6 +1163,7 @@ class TopicServiceTest {
         BDDMockito.verify(this.courseService).getCourseById(1L);
         BDDMockito.verify(this.userClientRequest).getUserById(4L);
         BDDMockito.verify(this.topicRepository).save(any(Topic.class));
+        BDDMockito.verify(this.topicRepository).bumpVersion(1L);
         BDDMockito.verifyNoMoreInteractions(this.topicRepository);
         BDDMockito.verifyNoMoreInteractions(this.courseService);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
@@ -990,6 +1196,7 @@ class TopicServiceTest {
         BDDMockito.verify(this.courseService).getCourseById(1L);
         BDDMockito.verify(this.userClientRequest).getUserById(3L);
         BDDMockito.verify(this.topicRepository).save(any(Topic.class));
+        BDDMockito.verify(this.topicRepository).bumpVersion(1L);
         BDDMockito.verifyNoMoreInteractions(this.topicRepository);
         BDDMockito.verifyNoMoreInteractions(this.courseService);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
@@ -999,14 +1206,14 @@ class TopicServiceTest {
 
     @Test
     void shouldFailToDeleteTopicIfTopicNotExists() {
-        BDDMockito.given(this.topicRepository.findById(1L))
+        BDDMockito.given(this.topicRepository.findTopicOwnerById(1L))
                 .willThrow(new InstanceNotFoundException("O tópico informado não existe"));
 
         Assertions.assertThrows(InstanceNotFoundException.class,
                 () -> this.topicService.deleteTopic(1L, 1L),
                 "O tópico informado não existe");
 
-        BDDMockito.verify(this.topicRepository).findById(1L);
+        BDDMockito.verify(this.topicRepository).findTopicOwnerById(1L);
         BDDMockito.verifyNoInteractions(this.userClientRequest);
         BDDMockito.verifyNoMoreInteractions(this.topicRepository);
 
@@ -1014,8 +1221,8 @@ class TopicServiceTest {
 
     @Test
     void shouldFailToDeleteTopicIfUserServiceReturn404StatusCode() {
-        BDDMockito.given(this.topicRepository.findById(1L))
-                .willReturn(Optional.of(TestsHelper.TopicHelper.topicList().get(0)));
+        BDDMockito.given(this.topicRepository.findTopicOwnerById(1L))
+                .willReturn(Optional.of(TestsHelper.TopicHelper.topicOwner(TestsHelper.TopicHelper.topicList().get(0))));
 
         BDDMockito.given(this.userClientRequest.getUserById(1L))
                 .willThrow(new RestClientException(HttpStatus.NOT_FOUND, "Usuário não encontrado"));
@@ -1026,9 +1233,9 @@ class TopicServiceTest {
                 "Usuário não encontrado");
 
 
-        BDDMockito.verify(this.topicRepository).findById(1L);
+        BDDMockito.verify(this.topicRepository).findTopicOwnerById(1L);
         BDDMockito.verify(this.userClientRequest).getUserById(1L);
-        BDDMockito.verify(this.topicRepository, Mockito.never()).delete(any(Topic.class));
+        BDDMockito.verify(this.topicRepository, Mockito.never()).deleteTopicsByIdIn(any());
         BDDMockito.verifyNoMoreInteractions(this.topicRepository);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
@@ -1037,8 +1244,8 @@ class TopicServiceTest {
 
     @Test
     void shouldFailIfBasicUserAttemptDeleteTopicOfOtherAuthor() {
-        BDDMockito.given(this.topicRepository.findById(2L))
-                .willReturn(Optional.of(TestsHelper.TopicHelper.topicList().get(1)));
+        BDDMockito.given(this.topicRepository.findTopicOwnerById(2L))
+                .willReturn(Optional.of(TestsHelper.TopicHelper.topicOwner(TestsHelper.TopicHelper.topicList().get(1))));
 
         BDDMockito.given(this.userClientRequest.getUserById(1L))
                 .willReturn(TestsHelper.AuthorHelper.authorList().get(0));
@@ -1049,9 +1256,9 @@ class TopicServiceTest {
                 "Usuário com privilégios insuficientes para realizar esta operação!");
 
 
-        BDDMockito.verify(this.topicRepository).findById(2L);
+        BDDMockito.verify(this.topicRepository).findTopicOwnerById(2L);
         BDDMockito.verify(this.userClientRequest).getUserById(1L);
-        BDDMockito.verify(this.topicRepository, Mockito.never()).delete(any(Topic.class));
+        BDDMockito.verify(this.topicRepository, Mockito.never()).deleteTopicsByIdIn(any());
         BDDMockito.verifyNoMoreInteractions(this.topicRepository);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
@@ -1060,8 +1267,8 @@ class TopicServiceTest {
 
     @Test
     void topicAuthorShouldDeleteSpecifiedTopicWithSuccess() {
-        BDDMockito.given(this.topicRepository.findById(1L))
-                .willReturn(Optional.of(TestsHelper.TopicHelper.topicList().get(0)));
+        BDDMockito.given(this.topicRepository.findTopicOwnerById(1L))
+                .willReturn(Optional.of(TestsHelper.TopicHelper.topicOwner(TestsHelper.TopicHelper.topicList().get(0))));
 
         BDDMockito.given(this.userClientRequest.getUserById(2L))
                 .willReturn(TestsHelper.AuthorHelper.authorList().get(1));
@@ -1071,9 +1278,11 @@ class TopicServiceTest {
                 () -> this.topicService.deleteTopic(1L, 2L));
 
 
-        BDDMockito.verify(this.topicRepository).findById(1L);
+        BDDMockito.verify(this.topicRepository).findTopicOwnerById(1L);
         BDDMockito.verify(this.userClientRequest).getUserById(2L);
-        BDDMockito.verify(this.topicRepository).delete(any(Topic.class));
+        BDDMockito.verify(this.topicRepository).deleteAnswersByTopicIdIn(List.of(1L));
+        BDDMockito.verify(this.topicRepository).deleteTopicsByIdIn(List.of(1L));
+        BDDMockito.verify(this.domainEventOutbox).append(DomainEventType.TOPIC_DELETED, 1L, 1L);
         BDDMockito.verifyNoMoreInteractions(this.topicRepository);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
@@ -1083,8 +1292,8 @@ class TopicServiceTest {
 
     @Test
     void userADMShouldDeleteTopicOfOtherAuthorWithSuccess() {
-        BDDMockito.given(this.topicRepository.findById(2L))
-                .willReturn(Optional.of(TestsHelper.TopicHelper.topicList().get(1)));
+        BDDMockito.given(this.topicRepository.findTopicOwnerById(2L))
+                .willReturn(Optional.of(TestsHelper.TopicHelper.topicOwner(TestsHelper.TopicHelper.topicList().get(1))));
 
         BDDMockito.given(this.userClientRequest.getUserById(3L))
                 .willReturn(TestsHelper.AuthorHelper.authorList().get(2));
@@ -1093,9 +1302,11 @@ class TopicServiceTest {
         Assertions.assertDoesNotThrow(() -> this.topicService.deleteTopic(2L, 3L));
 
 
-        BDDMockito.verify(this.topicRepository).findById(2L);
+        BDDMockito.verify(this.topicRepository).findTopicOwnerById(2L);
         BDDMockito.verify(this.userClientRequest).getUserById(3L);
-        BDDMockito.verify(this.topicRepository).delete(any(Topic.class));
+        BDDMockito.verify(this.topicRepository).deleteAnswersByTopicIdIn(List.of(2L));
+        BDDMockito.verify(this.topicRepository).deleteTopicsByIdIn(List.of(2L));
+        BDDMockito.verify(this.domainEventOutbox).append(DomainEventType.TOPIC_DELETED, 2L, 2L);
         BDDMockito.verifyNoMoreInteractions(this.topicRepository);
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
@@ -1104,8 +1315,8 @@ class TopicServiceTest {
 
     @Test
     void userMODShouldDeleteTopicOfOtherAuthorWithSuccess() {
-        BDDMockito.given(this.topicRepository.findById(1L))
-                .willReturn(Optional.of(TestsHelper.TopicHelper.topicList().get(0)));
+        BDDMockito.given(this.topicRepository.findTopicOwnerById(1L))
+                .willReturn(Optional.of(TestsHelper.TopicHelper.topicOwner(TestsHelper.TopicHelper.topicList().get(0))));
 
         BDDMockito.given(this.userClientRequest.getUserById(3L))
                 .willReturn(TestsHelper.AuthorHelper.authorList().get(2));
@@ -1114,12 +1325,383 @@ class TopicServiceTest {
         Assertions.assertDoesNotThrow(() -> this.topicService.deleteTopic(1L, 3L));
 
 
-        BDDMockito.verify(this.topicRepository).findById(1L);
+        BDDMockito.verify(this.topicRepository).findTopicOwnerById(1L);
         BDDMockito.verify(this.userClientRequest).getUserById(3L);
-        BDDMockito.verify(this.topicRepository).delete(any(Topic.class));
+        BDDMockito.verify(this.topicRepository).deleteAnswersByTopicIdIn(List.of(1L));
+        BDDMockito.verify(this.topicRepository).deleteTopicsByIdIn(List.of(1L));
+        BDDMockito.verify(this.domainEventOutbox).append(DomainEventType.TOPIC_DELETED, 1L, 1L);
+        BDDMockito.verify(this.eventPublisher).publishEvent(new TopicDeletedEvent(1L));
+        BDDMockito.verifyNoMoreInteractions(this.topicRepository);
+        BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
+
+
+    }
+
+
+    @Test
+    void shouldFailToDeleteTopicsInBulkIfNoTopicIsInformed() {
+        Assertions.assertThrows(ValidationException.class,
+                () -> this.topicService.deleteTopics(List.of()),
+                "A remoção em lote deve informar entre 1 e 500 tópicos");
+
+        BDDMockito.verifyNoInteractions(this.topicRepository);
+        BDDMockito.verifyNoInteractions(this.domainEventOutbox);
+
+    }
+
+
+    @Test
+    void shouldDeleteTopicsInBulkWithSetBasedStatements() {
+        BDDMockito.given(this.topicRepository.findTopicOwnersByIdIn(List.of(1L, 2L, 99L)))
+                .willReturn(List.of(TestsHelper.TopicHelper.topicOwner(TestsHelper.TopicHelper.topicList().get(0)),
+                        TestsHelper.TopicHelper.topicOwner(TestsHelper.TopicHelper.topicList().get(1))));
+
+        BDDMockito.given(this.topicRepository.deleteAnswersByTopicIdIn(List.of(1L, 2L)))
+                .willReturn(3);
+
+
+        TopicBulkDeleteResponseDTO deleted = this.topicService.deleteTopics(List.of(1L, 2L, 99L));
+
+
+        Assertions.assertAll(
+                () -> assertEquals(2, deleted.deletedTopics()),
+                () -> assertEquals(3, deleted.deletedAnswers())
+        );
+        BDDMockito.verify(this.topicRepository).deleteTopicsByIdIn(List.of(1L, 2L));
+        BDDMockito.verify(this.domainEventOutbox).append(DomainEventType.TOPIC_DELETED, 1L, 1L);
+        BDDMockito.verify(this.domainEventOutbox).append(DomainEventType.TOPIC_DELETED, 2L, 2L);
+        BDDMockito.verify(this.eventPublisher).publishEvent(new TopicDeletedEvent(1L));
+        BDDMockito.verify(this.eventPublisher).publishEvent(new TopicDeletedEvent(2L));
+        BDDMockito.verifyNoMoreInteractions(this.topicRepository);
+        BDDMockito.verifyNoInteractions(this.userClientRequest);
+
+    }
+
+
+    @Test
+    void shouldDeleteTopicsOfCourseInBatches() {
+        final List<TopicOwnerDTO> firstBatch = LongStream.rangeClosed(1, 500)
+                .mapToObj(topic_id -> new TopicOwnerDTO(topic_id, 2L, 1L))
+                .toList();
+
+        BDDMockito.given(this.courseService.getCourseById(1L))
+                .willReturn(TestsHelper.CourseHelper.courseList().get(0));
+
+        BDDMockito.given(this.topicRepository.findTopicOwnersByCourseId(1L, Limit.of(500)))
+                .willReturn(firstBatch, List.of(new TopicOwnerDTO(501L, 2L, 1L)));
+
+        BDDMockito.given(this.topicRepository.deleteAnswersByTopicIdIn(any()))
+                .willReturn(700, 2);
+
+
+        TopicBulkDeleteResponseDTO deleted = this.topicService.deleteTopicsByCourse(1L);
+
+
+        Assertions.assertAll(
+                () -> assertEquals(501, deleted.deletedTopics()),
+                () -> assertEquals(702, deleted.deletedAnswers())
+        );
+        BDDMockito.verify(this.topicRepository, Mockito.times(2)).findTopicOwnersByCourseId(1L, Limit.of(500));
+        BDDMockito.verify(this.topicRepository).deleteTopicsByIdIn(List.of(501L));
+        BDDMockito.verify(this.transactionOperations, Mockito.times(2)).execute(any());
+        BDDMockito.verify(this.domainEventOutbox, Mockito.times(501))
+                .append(BDDMockito.eq(DomainEventType.TOPIC_DELETED), any(), any());
+
+    }
+
+
+    @Test
+    void shouldFailToDeleteTopicsOfCourseIfCourseNotExists() {
+        BDDMockito.given(this.courseService.getCourseById(9L))
+                .willThrow(new InstanceNotFoundException("O curso [ID: 9] informado não existe"));
+
+        Assertions.assertThrows(InstanceNotFoundException.class,
+                () -> this.topicService.deleteTopicsByCourse(9L));
+
+        BDDMockito.verifyNoInteractions(this.topicRepository);
+
+    }
+
+
+    @Test
+    void shouldReturnTopicsByCourseWithoutCountingWhenCountModeIsNone() {
+        PaginationProperties paginationProperties = new PaginationProperties();
+        paginationProperties.getListings().put(TopicService.TOPICS_BY_COURSE_LISTING, CountMode.NONE);
+        final TopicService slicedTopicService = new TopicService(this.topicRepository, this.userClientRequest,
+                this.courseService, Schedulers.immediate(), this.eventPublisher,
+                new PageCounter(paginationProperties, null, new SimpleMeterRegistry()),
+                this.responseCache, this.transactionOperations, this.domainEventOutbox,
+                this.readReplicaTransactions);
+
+        Pageable pageable = PageRequest.of(0, 1);
+
+        BDDMockito.given(this.topicRepository.findTopicSummarySliceByCourseId(1L, pageable))
+                .willReturn(new SliceImpl<>(List.of(TestsHelper.TopicHelper.topicSummary(
+                        TestsHelper.TopicHelper.topicList().get(0))), pageable, true));
+
+
+        CountedPage<TopicSummaryResponseDTO> topicPage = slicedTopicService.topicsListByCourse(1L, pageable);
+
+
+        Assertions.assertAll(
+                () -> assertEquals(CountMode.NONE, topicPage.getCountMode()),
+                () -> assertEquals(1, topicPage.getContent().size()),
+                () -> Assertions.assertTrue(topicPage.hasNext())
+        );
+
+        BDDMockito.verify(this.topicRepository).findTopicSummarySliceByCourseId(1L, pageable);
         BDDMockito.verifyNoMoreInteractions(this.topicRepository);
+
+    }
+
+
+    @Test
+    void shouldCountTopicsAgainAfterTopicIsDeletedWhenCountModeIsCached() {
+        PaginationProperties paginationProperties = new PaginationProperties();
+        paginationProperties.setMode(CountMode.CACHED);
+        final TopicService cachedTopicService = new TopicService(this.topicRepository, this.userClientRequest,
+                this.courseService, Schedulers.immediate(), this.eventPublisher,
+                new PageCounter(paginationProperties, null, new SimpleMeterRegistry()),
+                this.responseCache, this.transactionOperations, this.domainEventOutbox,
+                this.readReplicaTransactions);
+
+        Pageable pageable = PageRequest.of(1, 1);
+
+        BDDMockito.given(this.topicRepository.findTopicSummarySlice(pageable))
+                .willReturn(new SliceImpl<>(List.of(TestsHelper.TopicHelper.topicSummary(
+                        TestsHelper.TopicHelper.topicList().get(1))), pageable, true));
+
+        BDDMockito.given(this.topicRepository.count())
+                .willReturn(4L, 3L);
+
+        BDDMockito.given(this.topicRepository.findTopicOwnerById(2L))
+                .willReturn(Optional.of(TestsHelper.TopicHelper.topicOwner(TestsHelper.TopicHelper.topicList().get(1))));
+
+        BDDMockito.given(this.userClientRequest.getUserById(3L))
+                .willReturn(TestsHelper.AuthorHelper.authorList().get(2));
+
+
+        assertEquals(4, cachedTopicService.topicList(pageable).getTotalElements());
+        assertEquals(4, cachedTopicService.topicList(pageable).getTotalElements());
+
+        cachedTopicService.deleteTopic(2L, 3L);
+
+        CountedPage<TopicSummaryResponseDTO> topicPage = cachedTopicService.topicList(pageable);
+
+
+        Assertions.assertAll(
+                () -> assertEquals(CountMode.CACHED, topicPage.getCountMode()),
+                () -> assertEquals(3, topicPage.getTotalElements())
+        );
+
+        BDDMockito.verify(this.topicRepository, Mockito.times(2)).findTopicSummarySlice(pageable);
+        BDDMockito.verify(this.topicRepository, Mockito.times(2)).count();
+
+    }
+
+
+    @Test
+    void shouldCreateTopicAsyncWithSuccessIfEverythingIsOK() {
+        final TopicService asyncTopicService = new TopicService(this.topicRepository, this.userClientRequest,
+                this.courseService, Schedulers.immediate(), this.eventPublisher, this.pageCounter, this.responseCache,
+                this.transactionOperations, this.domainEventOutbox, this.readReplicaTransactions);
+        final TopicCreateRequestDTO topicCreateRequestDTO = new TopicCreateRequestDTO("Dúvida na utilização do Feign Client",
+                "Como utilizar o Feign Client para integração do serviço x?",
+                1L);
+
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(1L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(0)));
+
+        BDDMockito.given(this.courseService.getCourseById(1L))
+                .willReturn(TestsHelper.CourseHelper.courseList().get(0));
+
+
+        TopicResponseDTO topicResponseDTO = asyncTopicService.createTopicAsync(topicCreateRequestDTO, 1L).block();
+
+        assertEquals("Dúvida na utilização do Feign Client", topicResponseDTO.topic().getTitle());
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(1L);
+        BDDMockito.verify(this.courseService).getCourseById(1L);
+        BDDMockito.verify(this.topicRepository).save(any(Topic.class));
+        BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
+
+    }
+
+
+    @Test
+    void shouldNotRequestAuthorAsyncIfTopicNotExistsWhenDeleteTopic() {
+        final TopicService asyncTopicService = new TopicService(this.topicRepository, this.userClientRequest,
+                this.courseService, Schedulers.immediate(), this.eventPublisher, this.pageCounter, this.responseCache,
+                this.transactionOperations, this.domainEventOutbox, this.readReplicaTransactions);
+
+        BDDMockito.given(this.topicRepository.findTopicOwnerById(1L))
+                .willReturn(Optional.empty());
+
+        Mono<Void> deleteTopic = asyncTopicService.deleteTopicAsync(1L, 1L);
+
+        Assertions.assertThrows(InstanceNotFoundException.class, deleteTopic::block,
+                "O tópico [ID: 1] informado não existe");
+
+        BDDMockito.verify(this.topicRepository).findTopicOwnerById(1L);
+        BDDMockito.verifyNoInteractions(this.userClientRequest);
+        BDDMockito.verifyNoMoreInteractions(this.topicRepository);
+
+    }
+
+
+    @Test
+    void shouldFailToDeleteTopicAsyncIfBasicUserIsNotTheAuthor() {
+        final TopicService asyncTopicService = new TopicService(this.topicRepository, this.userClientRequest,
+                this.courseService, Schedulers.immediate(), this.eventPublisher, this.pageCounter, this.responseCache,
+                this.transactionOperations, this.domainEventOutbox, this.readReplicaTransactions);
+
+        BDDMockito.given(this.topicRepository.findTopicOwnerById(2L))
+                .willReturn(Optional.of(TestsHelper.TopicHelper.topicOwner(TestsHelper.TopicHelper.topicList().get(1))));
+
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(1L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(0)));
+
+        Mono<Void> deleteTopic = asyncTopicService.deleteTopicAsync(2L, 1L);
+
+        Assertions.assertThrows(PrivilegeValidationException.class, deleteTopic::block,
+                "Usuário com privilégios insuficientes para realizar esta operação!");
+
+        BDDMockito.verify(this.topicRepository).findTopicOwnerById(2L);
+        BDDMockito.verify(this.userClientRequest).getUserByIdAsync(1L);
+        BDDMockito.verify(this.topicRepository, Mockito.never()).deleteTopicsByIdIn(any());
+
+    }
+
+
+    @Test
+    void topicAuthorShouldEditTopicAsyncWithSuccess() {
+        final TopicService asyncTopicService = new TopicService(this.topicRepository, this.userClientRequest,
+                this.courseService, Schedulers.immediate(), this.eventPublisher, this.pageCounter, this.responseCache,
+                this.transactionOperations, this.domainEventOutbox, this.readReplicaTransactions);
+        final TopicUpdateRequestDTO topicUpdateRequestDTO = new TopicUpdateRequestDTO(
+                "Dúvida na utilização da API de validação do Spring",
+                "Quais são as anotações da API de validação do Spring?",
+                Status.UNSOLVED, 1L
+        );
+
+        BDDMockito.given(this.topicRepository.findById(1L))
+                .willReturn(Optional.of(TestsHelper.TopicHelper.topicList().get(0)));
+
+        BDDMockito.given(this.courseService.getCourseById(1L))
+                .willReturn(TestsHelper.CourseHelper.courseList().get(0));
+
+        BDDMockito.given(this.userClientRequest.getUserByIdAsync(2L))
+                .willReturn(Mono.just(TestsHelper.AuthorHelper.authorList().get(1)));
+
+
+        TopicResponseDTO topicResponseDTO = asyncTopicService.updateTopicAsync(1L, 2L, topicUpdateRequestDTO).block();
+
+        assertEquals(Status.UNSOLVED, topicResponseDTO.topic().getStatus());
+        BDDMockito.verify(this.topicRepository).save(any(Topic.class));
         BDDMockito.verifyNoMoreInteractions(this.userClientRequest);
 
+    }
+
+
+    @Test
+    void shouldMarkBestAnswerOnlyIfTopicHasNoBestAnswer() {
+        BDDMockito.given(this.topicRepository.markBestAnswer(1L, 1L, 2L)).willReturn(1);
+
+        Assertions.assertTrue(this.topicService.markBestAnswer(1L, 1L, 2L));
+
+        BDDMockito.verify(this.topicRepository).markBestAnswer(1L, 1L, 2L);
+        BDDMockito.verifyNoMoreInteractions(this.topicRepository);
+
+    }
+
+
+    @Test
+    void shouldNotMarkBestAnswerIfTopicAlreadyHasBestAnswer() {
+        BDDMockito.given(this.topicRepository.markBestAnswer(2L, 3L, 3L)).willReturn(0);
+
+        Assertions.assertFalse(this.topicService.markBestAnswer(2L, 3L, 3L));
+
+        BDDMockito.verify(this.topicRepository).markBestAnswer(2L, 3L, 3L);
+
+    }
+
+
+    @Test
+    void shouldUpdateTopicStatisticsWhenAnswersChange() {
+        final LocalDateTime activityAt = LocalDateTime.of(2024, 8, 12, 10, 0);
+
+        this.topicService.registerAnswer(1L, activityAt);
+        this.topicService.unregisterAnswer(1L, 4L);
+        this.topicService.unmarkBestAnswer(2L, 2L, 3L);
+
+        BDDMockito.verify(this.topicRepository).registerAnswer(1L, activityAt);
+        BDDMockito.verify(this.topicRepository).unregisterAnswer(1L, 4L);
+        BDDMockito.verify(this.topicRepository).unmarkBestAnswer(2L, 2L, 3L);
+        BDDMockito.verifyNoMoreInteractions(this.topicRepository);
+
+    }
+
+
+    @Test
+    void shouldServeTopicListingFromResponseCacheUntilATopicOfTheListingChanges() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("title"));
+
+        BDDMockito.given(this.topicRepository.findTopicSummariesByCourseId(1L, pageable))
+                .willReturn(new PageImpl<>(List.of(TestsHelper.TopicHelper.topicSummary(
+                        TestsHelper.TopicHelper.topicList().get(0))), pageable, 1));
+
+
+        this.topicService.topicsListByCourse(1L, pageable);
+        this.topicService.topicsListByCourse(1L, PageRequest.of(0, 10, Sort.by(Sort.Order.asc("title"))));
+        this.topicService.invalidateTopicResponses(2L, 2L);
+        this.topicService.topicsListByCourse(1L, pageable);
+
+        BDDMockito.verify(this.topicRepository).findTopicSummariesByCourseId(1L, pageable);
+
+        this.topicService.invalidateTopicResponses(1L, 1L);
+        CountedPage<TopicSummaryResponseDTO> topicPage = this.topicService.topicsListByCourse(1L, pageable);
+
+
+        assertEquals(1, topicPage.getTotalElements());
+        BDDMockito.verify(this.topicRepository, Mockito.times(2)).findTopicSummariesByCourseId(1L, pageable);
+        BDDMockito.verifyNoMoreInteractions(this.topicRepository);
+
+    }
+
+    @Test
+    void shouldServeTopicSnapshotFromResponseCacheUntilTheTopicChanges() {
+        final TopicVersionDTO topicVersion = new TopicVersionDTO(1L, 0L, LocalDateTime.of(2024, 8, 12, 10, 0),
+                1L, 0L, LocalDateTime.of(2024, 8, 12, 10, 0));
+
+        BDDMockito.given(this.topicRepository.findTopicVersionById(1L)).willReturn(Optional.of(topicVersion));
+        BDDMockito.given(this.topicRepository.findById(1L))
+                .willReturn(Optional.of(TestsHelper.TopicHelper.topicList().get(0)));
+
+
+        TopicSnapshotDTO topicSnapshot = this.topicService.getTopicSnapshot(1L);
+        this.topicService.getTopicSnapshot(1L);
+        this.topicService.invalidateTopicResponse(1L);
+        this.topicService.getTopicSnapshot(1L);
+
+
+        Assertions.assertAll(
+                () -> assertEquals(topicVersion, topicSnapshot.version()),
+                () -> assertEquals(1L, topicSnapshot.topic().topic().getId())
+        );
+        BDDMockito.verify(this.topicRepository, Mockito.times(2)).findTopicVersionById(1L);
+        BDDMockito.verify(this.topicRepository, Mockito.times(2)).findById(1L);
+        BDDMockito.verifyNoMoreInteractions(this.topicRepository);
+
+    }
+
+    @Test
+    void shouldNotCacheTopicSnapshotIfTopicNotExists() {
+        BDDMockito.given(this.topicRepository.findTopicVersionById(9L)).willReturn(Optional.empty());
+
+        Assertions.assertThrows(InstanceNotFoundException.class, () -> this.topicService.getTopicSnapshot(9L));
+        Assertions.assertThrows(InstanceNotFoundException.class, () -> this.topicService.getTopicSnapshot(9L));
+
+        BDDMockito.verify(this.topicRepository, Mockito.times(2)).findTopicVersionById(9L);
+        BDDMockito.verifyNoMoreInteractions(this.topicRepository);
 
     }
 
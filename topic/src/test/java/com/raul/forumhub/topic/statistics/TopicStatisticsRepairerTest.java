@@ -0,0 +1,122 @@
+package com.raul.forumhub.topic.statistics;
+
+import com.raul.forumhub.topic.cache.ResponseCache;
+import com.raul.forumhub.topic.exception.BusinessException;
+import com.raul.forumhub.topic.repository.TopicRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+
+@ExtendWith(MockitoExtension.class)
+class TopicStatisticsRepairerTest {
+
+    @Mock
+    TopicRepository topicRepository;
+
+    @Mock
+    ResponseCache responseCache;
+
+    TopicStatisticsProperties topicStatisticsProperties;
+
+    SimpleMeterRegistry meterRegistry;
+
+    TopicStatisticsRepairer topicStatisticsRepairer;
+
+    @BeforeEach
+    void setup() {
+        this.topicStatisticsProperties = new TopicStatisticsProperties();
+        this.topicStatisticsProperties.getRepair().setBatchSize(2);
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.topicStatisticsRepairer = new TopicStatisticsRepairer(this.topicRepository,
+                TransactionOperations.withoutTransaction(), this.topicStatisticsProperties, this.responseCache,
+                this.meterRegistry);
+    }
+
+
+    @Test
+    void shouldRepairStatisticsInBatchesUpToTheHighestTopicId() {
+        BDDMockito.given(this.topicRepository.findMaxTopicId()).willReturn(5L);
+        BDDMockito.given(this.topicRepository.repairStatistics(1L, 2L)).willReturn(1);
+        BDDMockito.given(this.topicRepository.repairStatistics(3L, 4L)).willReturn(0);
+        BDDMockito.given(this.topicRepository.repairStatistics(5L, 6L)).willReturn(1);
+
+        long repaired = this.topicStatisticsRepairer.repair();
+
+        Assertions.assertAll(
+                () -> assertEquals(2, repaired),
+                () -> assertEquals(2, this.meterRegistry.get("forumhub.topic.statistics.repaired").counter().count())
+        );
+        BDDMockito.verify(this.topicRepository).findMaxTopicId();
+        BDDMockito.verify(this.topicRepository, BDDMockito.times(3)).repairStatistics(anyLong(), anyLong());
+        BDDMockito.verify(this.responseCache).invalidateAll();
+        BDDMockito.verifyNoMoreInteractions(this.topicRepository);
+
+    }
+
+    @Test
+    void shouldNotRepairStatisticsIfThereAreNoTopics() {
+        BDDMockito.given(this.topicRepository.findMaxTopicId()).willReturn(0L);
+
+        assertEquals(0, this.topicStatisticsRepairer.repair());
+
+        BDDMockito.verify(this.topicRepository, BDDMockito.never()).repairStatistics(anyLong(), anyLong());
+        BDDMockito.verifyNoInteractions(this.responseCache);
+
+    }
+
+    @Test
+    void shouldFailIfRepairIsAlreadyRunning() {
+        BDDMockito.given(this.topicRepository.findMaxTopicId()).willReturn(1L);
+        BDDMockito.given(this.topicRepository.repairStatistics(1L, 2L)).willAnswer(invocation -> {
+            BusinessException exception = Assertions.assertThrows(BusinessException.class,
+                    () -> this.topicStatisticsRepairer.repair());
+            assertEquals("Uma reparação das estatísticas dos tópicos já está em andamento", exception.getMessage());
+            return 0;
+        });
+
+        assertEquals(0, this.topicStatisticsRepairer.repair());
+        BDDMockito.willReturn(1).given(this.topicRepository).repairStatistics(1L, 2L);
+        assertEquals(1, this.topicStatisticsRepairer.repair());
+
+    }
+
+    @Test
+    void shouldKeepRepairingOnScheduleAfterFailure() throws InterruptedException {
+        CountDownLatch scheduledRepairs = new CountDownLatch(2);
+        this.topicStatisticsProperties.getRepair().setEnabled(true);
+        this.topicStatisticsProperties.getRepair().setInterval(Duration.ofMillis(10));
+
+        BDDMockito.given(this.topicRepository.findMaxTopicId()).willAnswer(invocation -> {
+            scheduledRepairs.countDown();
+            if (scheduledRepairs.getCount() == 1) {
+                throw new DataAccessResourceFailureException("Conexão recusada");
+            }
+            return 0L;
+        });
+
+        TopicStatisticsRepairer scheduledRepairer = new TopicStatisticsRepairer(this.topicRepository,
+                TransactionOperations.withoutTransaction(), this.topicStatisticsProperties, this.responseCache,
+                this.meterRegistry);
+        try {
+            Assertions.assertTrue(scheduledRepairs.await(5, TimeUnit.SECONDS));
+        } finally {
+            scheduledRepairer.close();
+        }
+
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.raul.forumhub.topic.util;
+
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+
+public final class MockMvcHelper {
+
+    private MockMvcHelper() {
+    }
+
+    public static ResultActions perform(MockMvc mockMvc, RequestBuilder requestBuilder) throws Exception {
+        ResultActions resultActions = mockMvc.perform(requestBuilder);
+        MvcResult mvcResult = resultActions.andReturn();
+
+        if (mvcResult.getRequest().isAsyncStarted()) {
+            return mockMvc.perform(asyncDispatch(mvcResult));
+        }
+        return resultActions;
+    }
+
+}
@@ -1,6 +1,10 @@
 package com.raul.forumhub.topic.util;
 
 import com.raul.forumhub.topic.domain.*;
+import com.raul.forumhub.topic.dto.response.TopicOwnerDTO;
+import com.raul.forumhub.topic.dto.response.TopicSummaryResponseDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -18,6 +22,8 @@ public final class TestsHelper {
                     .title("Dúvida na utilização do Feign Client")
                     .question("Como utilizar o Feign Client para integração do serviço x?")
                     .createdAt(LocalDateTime.of(2024, 8, 10, 20, 5))
+                    .answerCount(2)
+                    .lastActivityAt(LocalDateTime.of(2024, 8, 10, 20, 5))
                     .status(Status.UNSOLVED)
                     .author(AuthorHelper.authorList().get(1))
                     .course(CourseHelper.courseList().get(0))
@@ -28,6 +34,9 @@ public final class TestsHelper {
                     .title("Dúvida na utilização do OpenShift")
                     .question("Como utilizar o Rosa/OpenShift para implantação do serviço x?")
                     .createdAt(LocalDateTime.of(2023, 10, 10, 15, 5))
+                    .answerCount(1)
+                    .bestAnswerId(2L)
+                    .lastActivityAt(LocalDateTime.of(2023, 10, 10, 15, 5))
                     .status(Status.UNSOLVED)
                     .author(AuthorHelper.authorList().get(2))
                     .course(CourseHelper.courseList().get(1))
@@ -38,6 +47,8 @@ public final class TestsHelper {
                     .title("Dúvida em relação ao teste end-to-end")
                     .question("Quais as boas práticas na execução dos testes end-to-end?")
                     .createdAt(LocalDateTime.of(2024, 10, 1, 11, 0))
+                    .answerCount(1)
+                    .lastActivityAt(LocalDateTime.of(2024, 10, 1, 11, 0))
                     .status(Status.SOLVED)
                     .author(AuthorHelper.authorList().get(0))
                     .course(CourseHelper.courseList().get(2))
@@ -48,6 +59,7 @@ public final class TestsHelper {
                     .title("Dúvida quanto a configuração dos testes unitários")
                     .question("Não consigo entender por que x configuração não funciona")
                     .createdAt(LocalDateTime.of(2023, 1, 15, 14, 0))
+                    .lastActivityAt(LocalDateTime.of(2023, 1, 15, 14, 0))
                     .status(Status.UNSOLVED)
                     .author(AuthorHelper.authorList().get(1))
                     .course(CourseHelper.courseList().get(0))
@@ -56,6 +68,16 @@ public final class TestsHelper {
             return topicList;
         }
 
+        public static TopicOwnerDTO topicOwner(Topic topic) {
+            return new TopicOwnerDTO(topic.getId(), topic.getAuthor().getId(), topic.getCourse().getId());
+        }
+
+        public static TopicSummaryResponseDTO topicSummary(Topic topic) {
+            return new TopicSummaryResponseDTO(topic.getId(), topic.getTitle(), topic.getStatus(), topic.getCreatedAt(),
+                    topic.getAuthor().getUsername(), topic.getCourse().getName(), topic.getAnswerCount(), topic.getViewCount(),
+                    topic.getUniqueViewerCount());
+        }
+
         public static List<Topic> topicListWithAnswers() {
             final Topic topic1 = TestsHelper.TopicHelper.topicList().get(0);
             topic1.setAnswers(Set.of(
@@ -219,4 +241,9 @@ public final class TestsHelper {
 
     }
 
+    public static final class CacheHelper {
+        public static void evictSecondLevelCache(EntityManagerFactory entityManagerFactory) {
+            entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        }
+    }
 }
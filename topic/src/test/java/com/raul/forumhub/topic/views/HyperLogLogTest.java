@@ -0,0 +1,85 @@
+package com.raul.forumhub.topic.views;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HyperLogLogTest {
+
+    private static HyperLogLog sketchOf(int fromViewer, int toViewer) {
+        HyperLogLog sketch = new HyperLogLog();
+        IntStream.range(fromViewer, toViewer).forEach(viewer -> sketch.add(HyperLogLog.hash("user:" + viewer)));
+        return sketch;
+    }
+
+
+    @Test
+    void shouldEstimateZeroViewersForEmptySketch() {
+        HyperLogLog sketch = new HyperLogLog();
+
+        Assertions.assertAll(
+                () -> assertTrue(sketch.isEmpty()),
+                () -> assertEquals(0, sketch.estimate())
+        );
+    }
+
+    @Test
+    void shouldNotCountRepeatedViewersTwice() {
+        HyperLogLog sketch = new HyperLogLog();
+        IntStream.range(0, 1000).forEach(view -> sketch.add(HyperLogLog.hash("user:" + view % 3)));
+
+        assertEquals(3, sketch.estimate());
+    }
+
+    @Test
+    void shouldEstimateUniqueViewersWithinTheStandardError() {
+        assertAll(
+                () -> assertEquals(100, sketchOf(0, 100).estimate(), 5),
+                () -> assertEquals(100000, sketchOf(0, 100000).estimate(), 100000 * 0.1)
+        );
+    }
+
+    @Test
+    void shouldMergeSketchesAsTheUnionOfViewers() {
+        HyperLogLog merged = sketchOf(0, 5000).merge(sketchOf(2500, 7500));
+
+        assertEquals(7500, merged.estimate(), 7500 * 0.1);
+    }
+
+    @Test
+    void shouldRoundTripRegistersThroughBytes() {
+        HyperLogLog sketch = sketchOf(0, 2000);
+
+        HyperLogLog restored = HyperLogLog.fromBytes(sketch.toBytes());
+
+        Assertions.assertAll(
+                () -> assertEquals(HyperLogLog.SIZE, sketch.toBytes().length),
+                () -> assertArrayEquals(sketch.toBytes(), restored.toBytes()),
+                () -> assertEquals(sketch.estimate(), restored.estimate()),
+                () -> assertTrue(HyperLogLog.fromBytes(null).isEmpty())
+        );
+    }
+
+    @Test
+    void shouldFailIfPersistedRegistersHaveUnexpectedSize() {
+        assertEquals("O sketch de visualizações deve possuir 1024 registradores",
+                assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromBytes(new byte[16])).getMessage());
+    }
+
+    @Test
+    void shouldMoveRegistersWhenDrained() {
+        HyperLogLog sketch = sketchOf(0, 50);
+        long estimate = sketch.estimate();
+
+        HyperLogLog drained = sketch.drain();
+
+        Assertions.assertAll(
+                () -> assertTrue(sketch.isEmpty()),
+                () -> assertEquals(estimate, drained.estimate())
+        );
+    }
+
+}
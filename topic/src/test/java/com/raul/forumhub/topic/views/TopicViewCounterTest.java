@@ -0,0 +1,169 @@
+package com.raul.forumhub.topic.views;
+
+import com.raul.forumhub.topic.repository.TopicViewRepository;
+import com.raul.forumhub.topic.repository.TopicViewRepository.ViewRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.BDDMockito;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+
+@ExtendWith(MockitoExtension.class)
+class TopicViewCounterTest {
+
+    @Mock
+    TopicViewRepository topicViewRepository;
+
+    @Captor
+    ArgumentCaptor<Collection<ViewRow>> viewsCaptor;
+
+    SimpleMeterRegistry meterRegistry;
+
+    TopicViewCounter topicViewCounter;
+
+    @BeforeEach
+    void setup() {
+        TopicViewProperties topicViewProperties = new TopicViewProperties();
+        topicViewProperties.getFlush().setEnabled(false);
+        topicViewProperties.getFlush().setBatchSize(2);
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.topicViewCounter = new TopicViewCounter(this.topicViewRepository, TransactionOperations.withoutTransaction(),
+                topicViewProperties, this.meterRegistry);
+    }
+
+    private Map<Long, ViewRow> flushedRows() {
+        BDDMockito.verify(this.topicViewRepository, BDDMockito.atLeastOnce()).addViews(this.viewsCaptor.capture());
+        return this.viewsCaptor.getAllValues().stream().flatMap(Collection::stream)
+                .collect(Collectors.toMap(ViewRow::topicId, row -> row));
+    }
+
+
+    @Test
+    void shouldFlushRecordedViewsInBatchesWithUniqueViewersSketch() {
+        this.topicViewCounter.recordView(1L, "user:1");
+        this.topicViewCounter.recordView(1L, "user:1");
+        this.topicViewCounter.recordView(1L, "address:127.0.0.1");
+        this.topicViewCounter.recordView(2L, "user:1");
+        this.topicViewCounter.recordView(3L, "user:2");
+
+        long flushed = this.topicViewCounter.flush();
+
+        Map<Long, ViewRow> rows = this.flushedRows();
+        Assertions.assertAll(
+                () -> assertEquals(5, flushed),
+                () -> assertEquals(3, rows.get(1L).views()),
+                () -> assertEquals(2, rows.get(1L).viewers().estimate()),
+                () -> assertEquals(1, rows.get(2L).views()),
+                () -> assertEquals(1, rows.get(3L).views()),
+                () -> assertEquals(5, this.meterRegistry.get("forumhub.topic.views.flushed").counter().count())
+        );
+        BDDMockito.verify(this.topicViewRepository, BDDMockito.times(2)).addViews(anyCollection());
+
+    }
+
+    @Test
+    void shouldNotWriteAnythingIfThereAreNoPendingViews() {
+        assertEquals(0, this.topicViewCounter.flush());
+
+        BDDMockito.verifyNoInteractions(this.topicViewRepository);
+
+    }
+
+    @Test
+    void shouldReleasePendingViewsOnceFlushed() {
+        this.topicViewCounter.recordView(1L, "user:1");
+        this.topicViewCounter.recordView(2L, "user:1");
+        assertEquals(2, this.meterRegistry.get("forumhub.topic.views.pending").gauge().value());
+
+        this.topicViewCounter.flush();
+        this.topicViewCounter.flush();
+
+        assertEquals(0, this.meterRegistry.get("forumhub.topic.views.pending").gauge().value());
+        BDDMockito.verify(this.topicViewRepository).addViews(anyCollection());
+
+    }
+
+    @Test
+    void shouldKeepPendingViewsWhenTheFlushFails() {
+        this.topicViewCounter.recordView(1L, "user:1");
+        this.topicViewCounter.recordView(1L, "user:2");
+        BDDMockito.given(this.topicViewRepository.addViews(anyCollection()))
+                .willThrow(new DataAccessResourceFailureException("Banco de dados indisponível"))
+                .willReturn(1);
+
+        assertThrows(DataAccessResourceFailureException.class, () -> this.topicViewCounter.flush());
+        long flushed = this.topicViewCounter.flush();
+
+        BDDMockito.verify(this.topicViewRepository, BDDMockito.times(2)).addViews(this.viewsCaptor.capture());
+        ViewRow row = this.viewsCaptor.getValue().iterator().next();
+        Assertions.assertAll(
+                () -> assertEquals(2, flushed),
+                () -> assertEquals(2, row.views()),
+                () -> assertEquals(2, row.viewers().estimate())
+        );
+
+    }
+
+    @Test
+    void shouldFlushPendingViewsOnClose() {
+        this.topicViewCounter.recordView(1L, "user:1");
+
+        this.topicViewCounter.close();
+
+        assertEquals(1, this.flushedRows().get(1L).views());
+
+    }
+
+    @Test
+    void shouldNotLoseViewsRecordedConcurrentlyWithFlushes() {
+        AtomicLong persisted = new AtomicLong();
+        BDDMockito.given(this.topicViewRepository.addViews(anyCollection())).willAnswer(invocation -> {
+            Collection<ViewRow> rows = invocation.getArgument(0);
+            rows.forEach(row -> persisted.addAndGet(row.views()));
+            return rows.size();
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<CompletableFuture<Void>> viewers = new ArrayList<>();
+            IntStream.range(0, 4).forEach(viewer -> viewers.add(CompletableFuture.runAsync(() ->
+                    IntStream.range(0, 20000).forEach(view ->
+                            this.topicViewCounter.recordView((long) view % 3, "user:" + viewer)), executor)));
+
+            while (!viewers.stream().allMatch(CompletableFuture::isDone)) {
+                this.topicViewCounter.flush();
+            }
+            CompletableFuture.allOf(viewers.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+        this.topicViewCounter.flush();
+        this.topicViewCounter.flush();
+
+        assertEquals(80000, persisted.get());
+
+    }
+
+}
@@ -3,25 +3,30 @@ package com.raul.forumhub.user.controller;
 import com.raul.forumhub.user.domain.Profile;
 import com.raul.forumhub.user.dto.request.UserCreateDTO;
 import com.raul.forumhub.user.dto.request.UserUpdateDTO;
+import com.raul.forumhub.user.dto.response.EntityVersionDTO;
 import com.raul.forumhub.user.dto.response.HttpStatusMessage;
 import com.raul.forumhub.user.dto.response.UserDetailedInfo;
 import com.raul.forumhub.user.dto.response.UserSummaryInfo;
 import com.raul.forumhub.user.exception.MalFormatedParamUserException;
 import com.raul.forumhub.user.security.IsAuthenticated;
 import com.raul.forumhub.user.service.UserService;
+import com.raul.forumhub.user.util.ConditionalRequestUtils;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -33,6 +38,8 @@ public class UserController {
 
     private static final String USER_ID = "user_id";
 
+    private static final int MAX_SUMMARY_BATCH_SIZE = 100;
+
     public UserController(UserService userService) {
         this.userService = userService;
     }
@@ -73,8 +80,23 @@ public class UserController {
 
     @IsAuthenticated
     @GetMapping("/summary-info")
-    public ResponseEntity<UserSummaryInfo> getSummaryInfoUser(@RequestParam Long user_id) {
-        return ResponseEntity.ok(new UserSummaryInfo(this.userService.getUserById(user_id)));
+    public ResponseEntity<UserSummaryInfo> getSummaryInfoUser(@RequestParam Long user_id, WebRequest webRequest) {
+        EntityVersionDTO version = this.userService.getUserVersion(user_id);
+
+        return ConditionalRequestUtils.conditionalResponse(webRequest,
+                ConditionalRequestUtils.eTag("user", version.id(), version.version()), version.modifiedAt(),
+                CacheControl.noCache().cachePrivate(),
+                () -> this.userService.getUserSummaryInfo(user_id));
+    }
+
+    @IsAuthenticated
+    @GetMapping("/summary-info/batch")
+    public ResponseEntity<List<UserSummaryInfo>> getSummaryInfoUsers(@RequestParam List<Long> user_ids) {
+        if (user_ids.size() > MAX_SUMMARY_BATCH_SIZE) {
+            throw new MalFormatedParamUserException(String.format(
+                    "Parâmetro 'user_ids' excede o limite de %d usuários por requisição", MAX_SUMMARY_BATCH_SIZE));
+        }
+        return ResponseEntity.ok(this.userService.getUsersSummaryInfo(user_ids));
     }
 
 
@@ -83,7 +105,7 @@ public class UserController {
     public PagedModel<EntityModel<UserSummaryInfo>> usersList(@PageableDefault Pageable pageable,
                                                               PagedResourcesAssembler<UserSummaryInfo> assembler) {
 
-        return assembler.toModel(userService.usersList(pageable));
+        return userService.usersList(pageable).toPagedModel(assembler);
     }
 
 
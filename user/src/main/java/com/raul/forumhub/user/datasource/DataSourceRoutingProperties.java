@@ -0,0 +1,34 @@
+package com.raul.forumhub.user.datasource;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties("forumhub.datasource")
+@Getter
+@Setter
+@NoArgsConstructor
+public class DataSourceRoutingProperties {
+
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+    private Replica replica = new Replica();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Replica {
+
+        private boolean enabled = false;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.raul.forumhub.user.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    public static final String REPLICA = "replica";
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final Map<String, Counter> routedConnections;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                        ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.routedConnections = Map.of(PRIMARY, routedConnections(PRIMARY, meterRegistry),
+                REPLICA, routedConnections(REPLICA, meterRegistry));
+        this.setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        this.setDefaultTargetDataSource(primary);
+        this.setLenientFallback(false);
+        this.afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        String pool = readOnly && ReadReplicaTransactions.REPLICA_TRANSACTION
+                .equals(TransactionSynchronizationManager.getCurrentTransactionName()) ? REPLICA : PRIMARY;
+
+        if (!readOnly && TransactionSynchronizationManager.isActualTransactionActive()) {
+            this.readYourWritesTracker.recordWrite();
+        }
+        this.routedConnections.get(pool).increment();
+        return pool;
+    }
+
+    private static Counter routedConnections(String pool, MeterRegistry meterRegistry) {
+        return Counter.builder("forumhub.datasource.connections.routed")
+                .tag("pool", pool)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.raul.forumhub.user.datasource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class ReadReplicaTransactions {
+
+    public static final String REPLICA_TRANSACTION = "forumhub-replica-read";
+
+    private final TransactionOperations replicaReads;
+    private final TransactionOperations primaryReads;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    @Autowired
+    public ReadReplicaTransactions(PlatformTransactionManager transactionManager,
+                                   ReadYourWritesTracker readYourWritesTracker) {
+        this(readOnlyTransaction(transactionManager, REPLICA_TRANSACTION), readOnlyTransaction(transactionManager, null),
+                readYourWritesTracker);
+    }
+
+    public ReadReplicaTransactions(TransactionOperations replicaReads, TransactionOperations primaryReads,
+                                   ReadYourWritesTracker readYourWritesTracker) {
+        this.replicaReads = replicaReads;
+        this.primaryReads = primaryReads;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    public <T> T read(TransactionCallback<T> reads) {
+        return (this.readYourWritesTracker.hasRecentWrite() ? this.primaryReads : this.replicaReads).execute(reads);
+    }
+
+    public <T> T readShared(TransactionCallback<T> reads) {
+        return (this.readYourWritesTracker.hasRecentWriteOnNode() ? this.primaryReads : this.replicaReads).execute(reads);
+    }
+
+    private static TransactionTemplate readOnlyTransaction(PlatformTransactionManager transactionManager, String name) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.setName(name);
+        return transactionTemplate;
+    }
+
+}
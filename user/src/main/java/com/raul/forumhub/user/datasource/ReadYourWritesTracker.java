@@ -0,0 +1,46 @@
+package com.raul.forumhub.user.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+public class ReadYourWritesTracker {
+
+    private static final String ANY_WRITER = "";
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(DataSourceRoutingProperties dataSourceRoutingProperties) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(dataSourceRoutingProperties.getReadYourWritesWindow())
+                .build();
+    }
+
+    public void recordWrite() {
+        this.recentWriters.put(ANY_WRITER, true);
+        currentWriter().ifPresent(writer -> this.recentWriters.put(writer, true));
+    }
+
+    public boolean hasRecentWrite() {
+        return currentWriter().map(writer -> this.recentWriters.getIfPresent(writer) != null).orElse(false);
+    }
+
+    public boolean hasRecentWriteOnNode() {
+        return this.recentWriters.getIfPresent(ANY_WRITER) != null;
+    }
+
+    private static Optional<String> currentWriter() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return Optional.empty();
+        }
+        return Optional.of(authentication.getName());
+    }
+
+}
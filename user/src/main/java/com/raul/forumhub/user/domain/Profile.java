@@ -2,9 +2,12 @@ package com.raul.forumhub.user.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "profile")
 @Getter
 @Setter
 @ToString
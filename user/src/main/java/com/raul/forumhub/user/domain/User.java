@@ -6,6 +6,8 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Entity(name = "users")
 @Table(name = "users")
 @Getter
@@ -43,6 +45,12 @@ public class User {
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumns(@JoinColumn(name = "profile_id", foreignKey = @ForeignKey(name = "profile_id")))
     private Profile profile;
+    @JsonIgnore
+    @Column(nullable = false, updatable = false)
+    private long version;
+    @JsonIgnore
+    @Column(updatable = false)
+    private LocalDateTime modifiedAt;
 
 }
 
@@ -0,0 +1,6 @@
+package com.raul.forumhub.user.dto.response;
+
+import java.time.LocalDateTime;
+
+public record EntityVersionDTO(Long id, long version, LocalDateTime modifiedAt) {
+}
@@ -0,0 +1,7 @@
+package com.raul.forumhub.user.pagination;
+
+public enum CountMode {
+
+    EXACT, CACHED, ESTIMATED, NONE
+
+}
@@ -0,0 +1,47 @@
+package com.raul.forumhub.user.pagination;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties("forumhub.pagination.count")
+@Getter
+@Setter
+@NoArgsConstructor
+public class PaginationProperties {
+
+    private CountMode mode = CountMode.EXACT;
+
+    private Map<String, CountMode> listings = new HashMap<>();
+
+    private Cache cache = new Cache();
+
+    private Estimate estimate = new Estimate();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Cache {
+
+        private long maximumSize = 1000;
+        private Duration expireAfterWrite = Duration.ofSeconds(30);
+
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Estimate {
+
+        private long exactBelow = 10000;
+
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.raul.forumhub.user.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raul.forumhub.user.exception.handler.ExceptionEntity;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Set<String> READ_METHODS = Set.of(HttpMethod.GET.name(), HttpMethod.HEAD.name(),
+            HttpMethod.OPTIONS.name());
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimiter rateLimiter, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String client = client(request);
+        Duration retryAfter = this.rateLimiter.tryAcquire(path, !READ_METHODS.contains(request.getMethod()), client);
+        if (retryAfter.isZero()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        log.debug("Requisição de {} para {} rejeitada pelo limite de requisições", client, path);
+        long retryAfterSeconds = Math.max(1, retryAfter.plusSeconds(1).minusNanos(1).toSeconds());
+        ExceptionEntity entity = new ExceptionEntity(LocalDateTime.now(), HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Limite de requisições excedido",
+                String.format("O limite de requisições foi excedido, tente novamente em %d segundos", retryAfterSeconds),
+                request.getRequestURI());
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setHeader(HttpHeaders.CONTENT_LANGUAGE, "pt-BR");
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        this.objectMapper.writeValue(response.getOutputStream(), entity);
+    }
+
+    private static String client(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof JwtAuthenticationToken token && token.getToken().hasClaim("user_id")) {
+            return "user:" + token.getToken().getClaimAsString("user_id");
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.raul.forumhub.user.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+@Component
+@ConditionalOnProperty(value = "forumhub.rate-limit.enabled", matchIfMissing = true)
+public class RateLimiter {
+
+    private static final String REJECTED_METRIC_NAME = "forumhub.rate-limit.rejected";
+
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final List<Limit> limits;
+    private final Cache<BucketKey, TokenBucket> buckets;
+    private final LongSupplier ticker;
+
+    @Autowired
+    public RateLimiter(RateLimitProperties rateLimitProperties, MeterRegistry meterRegistry) {
+        this(rateLimitProperties, meterRegistry, System::nanoTime);
+    }
+
+    RateLimiter(RateLimitProperties rateLimitProperties, MeterRegistry meterRegistry, LongSupplier ticker) {
+        this.ticker = ticker;
+        this.limits = rateLimitProperties.getGroups().entrySet().stream()
+                .flatMap(group -> Stream.of(Operation.values()).map(operation ->
+                        new Limit(group.getKey(), operation, group.getValue(), meterRegistry)))
+                .toList();
+        Duration idleExpiration = this.limits.stream()
+                .map(limit -> limit.budget.getPeriod())
+                .max(Duration::compareTo)
+                .orElse(Duration.ofMinutes(1));
+
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(rateLimitProperties.getMaximumBuckets())
+                .expireAfterAccess(idleExpiration)
+                .build();
+        Gauge.builder("forumhub.rate-limit.buckets", this.buckets, Cache::estimatedSize).register(meterRegistry);
+    }
+
+    public Duration tryAcquire(String path, boolean write, String client) {
+        Operation operation = write ? Operation.WRITE : Operation.READ;
+        Limit limit = this.limits.stream()
+                .filter(candidate -> candidate.operation == operation && candidate.matches(this.pathMatcher, path))
+                .findFirst()
+                .orElse(null);
+        if (limit == null) {
+            return Duration.ZERO;
+        }
+
+        TokenBucket bucket = this.buckets.get(new BucketKey(limit.group, operation, client),
+                key -> new TokenBucket(limit.budget));
+        long waitNanos = bucket.tryConsume(this.ticker.getAsLong());
+        if (waitNanos > 0) {
+            limit.rejected.increment();
+        }
+        return Duration.ofNanos(waitNanos);
+    }
+
+    private enum Operation {
+        READ, WRITE
+    }
+
+    private record BucketKey(String group, Operation operation, String client) {
+    }
+
+    private static final class Limit {
+
+        private final String group;
+        private final Operation operation;
+        private final List<String> paths;
+        private final RateLimitProperties.Budget budget;
+        private final Counter rejected;
+
+        private Limit(String group, Operation operation, RateLimitProperties.Group properties, MeterRegistry meterRegistry) {
+            this.group = group;
+            this.operation = operation;
+            this.paths = List.copyOf(properties.getPaths());
+            this.budget = operation == Operation.WRITE ? properties.getWrite() : properties.getRead();
+            this.rejected = Counter.builder(REJECTED_METRIC_NAME)
+                    .tag("group", group)
+                    .tag("operation", operation.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+
+        private boolean matches(PathMatcher pathMatcher, String path) {
+            return this.paths.stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+        }
+
+    }
+
+}
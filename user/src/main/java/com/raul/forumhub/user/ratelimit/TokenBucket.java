@@ -0,0 +1,30 @@
+package com.raul.forumhub.user.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+final class TokenBucket {
+
+    private final long emissionInterval;
+    private final long burstPeriod;
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    TokenBucket(RateLimitProperties.Budget budget) {
+        this.emissionInterval = Math.max(1, budget.getPeriod().toNanos() / budget.getCapacity());
+        this.burstPeriod = this.emissionInterval * budget.getCapacity();
+    }
+
+    long tryConsume(long now) {
+        while (true) {
+            long arrival = this.theoreticalArrival.get();
+            long next = Math.max(arrival, now) + this.emissionInterval;
+            long allowedAt = next - this.burstPeriod;
+            if (allowedAt > now) {
+                return allowedAt - now;
+            }
+            if (this.theoreticalArrival.compareAndSet(arrival, next)) {
+                return 0;
+            }
+        }
+    }
+
+}
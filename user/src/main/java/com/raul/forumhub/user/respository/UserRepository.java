@@ -1,11 +1,35 @@
 package com.raul.forumhub.user.respository;
 
 import com.raul.forumhub.user.domain.User;
+import com.raul.forumhub.user.dto.response.EntityVersionDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
-}
+    Slice<User> findUsersBy(Pageable pageable);
+
+    @Query("""
+            select new com.raul.forumhub.user.dto.response.EntityVersionDTO(u.id, u.version, u.modifiedAt)
+            from users u where u.id = :user_id
+            """)
+    Optional<EntityVersionDTO> findUserVersionById(Long user_id);
 
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+    @Query("update users u set u.version = u.version + 1, u.modifiedAt = local datetime where u.id = :user_id")
+    int bumpVersion(Long user_id);
+
+}
@@ -1,5 +1,9 @@
 package com.raul.forumhub.user.security;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raul.forumhub.user.ratelimit.RateLimitFilter;
+import com.raul.forumhub.user.ratelimit.RateLimiter;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -14,6 +18,7 @@ import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.OAuth2Error;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
 
 import java.util.Collection;
@@ -28,7 +33,10 @@ public class UserSecurityConfig {
 
 
     @Bean
-    public SecurityFilterChain userSecurityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain userSecurityFilterChain(HttpSecurity http, ObjectProvider<RateLimiter> rateLimiter,
+                                                       ObjectMapper objectMapper) throws Exception {
+        rateLimiter.ifAvailable(limiter ->
+                http.addFilterAfter(new RateLimitFilter(limiter, objectMapper), BearerTokenAuthenticationFilter.class));
         return http.authorizeHttpRequests((authorize) -> authorize
                         .anyRequest().permitAll())
                 .csrf(AbstractHttpConfigurer::disable)
@@ -1,34 +1,52 @@
 package com.raul.forumhub.user.service;
 
+import com.raul.forumhub.user.datasource.ReadReplicaTransactions;
 import com.raul.forumhub.user.domain.Profile;
 import com.raul.forumhub.user.domain.User;
 import com.raul.forumhub.user.dto.request.UserCreateDTO;
 import com.raul.forumhub.user.dto.request.UserUpdateDTO;
+import com.raul.forumhub.user.dto.response.EntityVersionDTO;
 import com.raul.forumhub.user.dto.response.UserDetailedInfo;
 import com.raul.forumhub.user.dto.response.UserSummaryInfo;
 import com.raul.forumhub.user.exception.InstanceNotFoundException;
+import com.raul.forumhub.user.pagination.CountQuery;
+import com.raul.forumhub.user.pagination.CountedPage;
+import com.raul.forumhub.user.pagination.PageCounter;
 import com.raul.forumhub.user.respository.ProfileRepository;
 import com.raul.forumhub.user.respository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
 @Slf4j
 @Service
 public class UserService {
 
+    public static final String USERS_LISTING = "users";
+
     private final UserRepository userRepository;
 
     private final ProfileRepository profileRepository;
 
     private final PasswordEncoder passwordEncoder;
 
-    public UserService(UserRepository userRepository, ProfileRepository profileRepository, PasswordEncoder passwordEncoder) {
+    private final PageCounter pageCounter;
+
+    private final ReadReplicaTransactions readReplicaTransactions;
+
+    public UserService(UserRepository userRepository, ProfileRepository profileRepository, PasswordEncoder passwordEncoder,
+                       PageCounter pageCounter, ReadReplicaTransactions readReplicaTransactions) {
         this.userRepository = userRepository;
         this.profileRepository = profileRepository;
         this.passwordEncoder = passwordEncoder;
+        this.pageCounter = pageCounter;
+        this.readReplicaTransactions = readReplicaTransactions;
     }
 
 
@@ -45,9 +63,11 @@ public class UserService {
                 .isAccountNonLocked(true)
                 .isCredentialsNonExpired(true)
                 .isEnabled(true)
+                .modifiedAt(LocalDateTime.now())
                 .build();
 
         this.userRepository.save(user);
+        this.pageCounter.invalidate(USERS_LISTING, null);
 
         log.info("Usuário '{}' criado com sucesso!", user.getUsername());
 
@@ -55,11 +75,14 @@ public class UserService {
     }
 
     public UserDetailedInfo getDetailedInfoUser(Long user_id) {
-        return new UserDetailedInfo(this.getUserById(user_id));
+        return this.readReplicaTransactions.read(status -> new UserDetailedInfo(this.getUserById(user_id)));
     }
 
-    public Page<UserSummaryInfo> usersList(Pageable pageable) {
-        return this.userRepository.findAll(pageable).map(UserSummaryInfo::new);
+    public CountedPage<UserSummaryInfo> usersList(Pageable pageable) {
+        return this.readReplicaTransactions.read(status -> this.pageCounter.page(new CountQuery(USERS_LISTING, null,
+                        this.userRepository::count, "select user_id from users"),
+                () -> this.userRepository.findAll(pageable).map(UserSummaryInfo::new),
+                () -> this.userRepository.findUsersBy(pageable).map(UserSummaryInfo::new)));
     }
 
     public UserDetailedInfo updateUser(Long user_id, Profile.ProfileName claimUserRole, UserUpdateDTO userUpdateDTO) {
@@ -80,6 +103,7 @@ public class UserService {
         }
 
         userRepository.save(user);
+        userRepository.bumpVersion(user.getId());
 
         log.info("Usuário [ID: {}] editado com sucesso!", user.getId());
 
@@ -92,6 +116,7 @@ public class UserService {
         log.info("Usuário '{}' removido com sucesso!", user.getUsername());
 
         this.userRepository.delete(user);
+        this.pageCounter.invalidate(USERS_LISTING, null);
     }
 
     public User getUserById(Long user_id) {
@@ -100,6 +125,26 @@ public class UserService {
     }
 
 
+    public UserSummaryInfo getUserSummaryInfo(Long user_id) {
+        return this.readReplicaTransactions.read(status -> new UserSummaryInfo(this.getUserById(user_id)));
+    }
+
+
+    public EntityVersionDTO getUserVersion(Long user_id) {
+        return this.readReplicaTransactions.read(status -> this.userRepository.findUserVersionById(user_id))
+                .filter(version -> !version.id().equals(1L))
+                .orElseThrow(() -> new InstanceNotFoundException(String.format("Usuário [ID: %d] não encontrado", user_id)));
+    }
+
+
+    public List<UserSummaryInfo> getUsersSummaryInfo(Collection<Long> user_ids) {
+        return this.readReplicaTransactions.read(status -> this.userRepository.findAllById(new HashSet<>(user_ids)).stream()
+                .filter(user -> !user.getId().equals(1L))
+                .map(UserSummaryInfo::new)
+                .toList());
+    }
+
+
     public Profile findProfileByName(Profile.ProfileName profileName) {
         return profileRepository.findByProfileName(profileName)
                 .orElseThrow(() -> new InstanceNotFoundException(String.format("Perfil '%s' não encontrado", profileName.toString())));
@@ -0,0 +1,37 @@
+package com.raul.forumhub.user.util;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@UtilityClass
+public class ConditionalRequestUtils {
+
+    public String eTag(Object... parts) {
+        String key = Arrays.stream(parts).map(String::valueOf).collect(Collectors.joining(":"));
+        return "\"" + DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    public <T> ResponseEntity<T> conditionalResponse(WebRequest webRequest, String eTag, LocalDateTime lastModified,
+                                                     CacheControl cacheControl, Supplier<T> body) {
+        long lastModifiedTimestamp = lastModified == null ? -1 :
+                lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        if (webRequest.checkNotModified(eTag, lastModifiedTimestamp)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+        }
+
+        return ResponseEntity.ok().cacheControl(cacheControl).body(body.get());
+    }
+
+}
@@ -29,9 +29,18 @@ CREATE TABLE IF NOT EXISTS users
     is_credentials_non_expired BOOLEAN DEFAULT TRUE,
     is_enabled                 BOOLEAN DEFAULT TRUE,
     profile_id                 BIGINT,
+    version                    BIGINT  DEFAULT 0 NOT NULL,
+    modified_at                TIMESTAMP(6) WITH TIME ZONE,
     PRIMARY KEY (user_id),
     CONSTRAINT FK_PROFILE_USERS FOREIGN KEY (profile_id) REFERENCES profile (profile_id)
 );
+
+-->Version markers backing the ETag and Last-Modified of the conditional reads<--
+ALTER TABLE users ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS modified_at TIMESTAMP(6) WITH TIME ZONE;
+
+UPDATE users SET modified_at = now() WHERE modified_at IS NULL;
 ----------------------------------------------------------//----------------------------------------------------------
 
 -->DML for insert default datas<--
@@ -5,13 +5,17 @@ import com.raul.forumhub.user.domain.Profile;
 import com.raul.forumhub.user.domain.User;
 import com.raul.forumhub.user.dto.request.UserCreateDTO;
 import com.raul.forumhub.user.dto.request.UserUpdateDTO;
+import com.raul.forumhub.user.dto.response.EntityVersionDTO;
 import com.raul.forumhub.user.dto.response.UserDetailedInfo;
 import com.raul.forumhub.user.dto.response.UserSummaryInfo;
 import com.raul.forumhub.user.exception.PasswordRulesException;
 import com.raul.forumhub.user.exception.handler.GlobalExceptionHandler;
+import com.raul.forumhub.user.pagination.CountMode;
+import com.raul.forumhub.user.pagination.CountedPage;
 import com.raul.forumhub.user.security.UserSecurityConfig;
 import com.raul.forumhub.user.security.password.PasswordConstraintValidator;
 import com.raul.forumhub.user.service.UserService;
+import com.raul.forumhub.user.util.ConditionalRequestUtils;
 import com.raul.forumhub.user.util.TestsHelper;
 import jakarta.validation.ConstraintValidatorContext;
 import org.junit.jupiter.api.DisplayName;
@@ -25,6 +29,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.*;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.context.ActiveProfiles;
@@ -32,9 +37,14 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -57,6 +67,12 @@ class UserControllerTest {
     @MockBean
     UserService userService;
 
+    private static final LocalDateTime USER_MODIFIED_AT = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private static final EntityVersionDTO USER_VERSION = new EntityVersionDTO(2L, 1L, USER_MODIFIED_AT);
+
+    private static final String USER_ETAG = ConditionalRequestUtils.eTag("user", 2L, 1L);
+
 
     @DisplayName("Should fail with status code 404 if resource doesn't exists")
     @Test
@@ -608,8 +624,9 @@ class UserControllerTest {
     @DisplayName("Authenticated user should be able of to request user summary info with success")
     @Test
     void AuthenticatedUserShouldToRequestSummaryInfoUserWithSuccess() throws Exception {
-        BDDMockito.given(this.userService.getUserById(2L))
-                .willReturn(TestsHelper.UserHelper.userList().get(1));
+        BDDMockito.given(this.userService.getUserVersion(2L)).willReturn(USER_VERSION);
+        BDDMockito.given(this.userService.getUserSummaryInfo(2L))
+                .willReturn(new UserSummaryInfo(TestsHelper.UserHelper.userList().get(1)));
 
         this.mockMvc.perform(get("/forumhub.io/api/v1/users/summary-info")
                         .queryParam("user_id", "2")
@@ -617,6 +634,10 @@ class UserControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .characterEncoding(StandardCharsets.UTF_8))
                 .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.ETAG, USER_ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED,
+                        USER_MODIFIED_AT.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()))
                 .andExpect(jsonPath("$.id", is(2)))
                 .andExpect(jsonPath("$.firstName", is("Jose")))
                 .andExpect(jsonPath("$.lastName", is("Silva")))
@@ -624,7 +645,44 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.email", is("jose@email.com")))
                 .andExpect(jsonPath("$.profile.profileName", is("BASIC")));
 
-        BDDMockito.verify(this.userService).getUserById(2L);
+        BDDMockito.verify(this.userService).getUserVersion(2L);
+        BDDMockito.verify(this.userService).getUserSummaryInfo(2L);
+        BDDMockito.verifyNoMoreInteractions(this.userService);
+
+    }
+
+    @DisplayName("Should return status code 304 without loading the user if If-None-Match matches the ETag")
+    @Test
+    void shouldReturnNotModifiedIfSummaryInfoUserETagMatches() throws Exception {
+        BDDMockito.given(this.userService.getUserVersion(2L)).willReturn(USER_VERSION);
+
+        this.mockMvc.perform(get("/forumhub.io/api/v1/users/summary-info")
+                        .queryParam("user_id", "2")
+                        .with(jwt())
+                        .header(HttpHeaders.IF_NONE_MATCH, USER_ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().stringValues(HttpHeaders.ETAG, USER_ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andExpect(content().string(""));
+
+        BDDMockito.verify(this.userService).getUserVersion(2L);
+        BDDMockito.verifyNoMoreInteractions(this.userService);
+
+    }
+
+    @DisplayName("Should return status code 304 without loading the user if it wasn't modified since the informed date")
+    @Test
+    void shouldReturnNotModifiedIfSummaryInfoUserWasNotModifiedSince() throws Exception {
+        BDDMockito.given(this.userService.getUserVersion(2L)).willReturn(USER_VERSION);
+
+        this.mockMvc.perform(get("/forumhub.io/api/v1/users/summary-info")
+                        .queryParam("user_id", "2")
+                        .with(jwt())
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                                USER_MODIFIED_AT.plusMinutes(1).atZone(ZoneId.systemDefault()))))
+                .andExpect(status().isNotModified());
+
+        BDDMockito.verify(this.userService).getUserVersion(2L);
         BDDMockito.verifyNoMoreInteractions(this.userService);
 
     }
@@ -645,6 +703,62 @@ class UserControllerTest {
     }
 
 
+    @DisplayName("Should fail with status code 401 when request summary info of many users " +
+                 "if user is unauthenticated")
+    @Test
+    void shouldFailToRequestBatchSummaryInfoIfUnauthenticated() throws Exception {
+        this.mockMvc.perform(get("/forumhub.io/api/v1/users/summary-info/batch")
+                        .queryParam("user_ids", "2,3")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isUnauthorized());
+
+        BDDMockito.verifyNoInteractions(this.userService);
+
+    }
+
+    @DisplayName("Should fail with status code 400 when request summary info of many users " +
+                 "exceeding the batch limit")
+    @Test
+    void shouldFailToRequestBatchSummaryInfoIfExceedsBatchLimit() throws Exception {
+        String userIds = LongStream.rangeClosed(1, 101).mapToObj(String::valueOf)
+                .collect(Collectors.joining(","));
+
+        this.mockMvc.perform(get("/forumhub.io/api/v1/users/summary-info/batch")
+                        .queryParam("user_ids", userIds)
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isBadRequest());
+
+        BDDMockito.verifyNoInteractions(this.userService);
+
+    }
+
+    @DisplayName("Authenticated user should be able of to request summary info of many users with success")
+    @Test
+    void AuthenticatedUserShouldToRequestBatchSummaryInfoWithSuccess() throws Exception {
+        BDDMockito.given(this.userService.getUsersSummaryInfo(List.of(2L, 3L)))
+                .willReturn(TestsHelper.UserHelper.userList().subList(1, 3).stream()
+                        .map(UserSummaryInfo::new).toList());
+
+        this.mockMvc.perform(get("/forumhub.io/api/v1/users/summary-info/batch")
+                        .queryParam("user_ids", "2,3")
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(2)))
+                .andExpect(jsonPath("$[0].id", is(2)))
+                .andExpect(jsonPath("$[0].username", is("jose_silva")))
+                .andExpect(jsonPath("$[1].id", is(3)));
+
+        BDDMockito.verify(this.userService).getUsersSummaryInfo(List.of(2L, 3L));
+        BDDMockito.verifyNoMoreInteractions(this.userService);
+
+    }
+
+
     @DisplayName("Should fail with status code 401 when to request all " +
                  "users if user is unauthenticated")
     @Test
@@ -684,7 +798,7 @@ class UserControllerTest {
                         .map(UserSummaryInfo::new);
 
         BDDMockito.given(this.userService.usersList(any(Pageable.class)))
-                .willReturn(userDetailedInfoPage);
+                .willReturn(CountedPage.of(userDetailedInfoPage, CountMode.EXACT));
 
         this.mockMvc.perform(get("/forumhub.io/api/v1/users/listAll")
                         .with(jwt().jwt(jwt -> jwt.claims(map -> map.putAll(Map.of(
@@ -712,7 +826,7 @@ class UserControllerTest {
                         .map(UserSummaryInfo::new);
 
         BDDMockito.given(this.userService.usersList(any(Pageable.class)))
-                .willReturn(userDetailedInfoPage);
+                .willReturn(CountedPage.of(userDetailedInfoPage, CountMode.EXACT));
 
         this.mockMvc.perform(get("/forumhub.io/api/v1/users/listAll")
                         .with(jwt().jwt(jwt -> jwt.claims(map -> map.putAll(Map.of(
@@ -746,7 +860,7 @@ class UserControllerTest {
                         .map(UserSummaryInfo::new);
 
         BDDMockito.given(this.userService.usersList(any(Pageable.class)))
-                .willReturn(userDetailedInfoPage);
+                .willReturn(CountedPage.of(userDetailedInfoPage, CountMode.EXACT));
 
         this.mockMvc.perform(get("/forumhub.io/api/v1/users/listAll")
                         .with(jwt().jwt(jwt -> jwt.claims(map -> map.putAll(Map.of(
@@ -786,7 +900,7 @@ class UserControllerTest {
                 new PageImpl<>(sortedUserById, pageable, 4).map(UserSummaryInfo::new);
 
         BDDMockito.given(this.userService.usersList(pageable))
-                .willReturn(userSummaryInfoPage);
+                .willReturn(CountedPage.of(userSummaryInfoPage, CountMode.EXACT));
 
         this.mockMvc.perform(get("/forumhub.io/api/v1/users/listAll")
                         .queryParam("sort", "id,desc")
@@ -831,7 +945,7 @@ class UserControllerTest {
                 new PageImpl<>(sortedUserById, pageable, 4).map(UserSummaryInfo::new);
 
         BDDMockito.given(this.userService.usersList(pageable))
-                .willReturn(userSummaryInfoPage);
+                .willReturn(CountedPage.of(userSummaryInfoPage, CountMode.EXACT));
 
         this.mockMvc.perform(get("/forumhub.io/api/v1/users/listAll")
                         .queryParam("sort", "id,desc")
@@ -877,7 +991,7 @@ class UserControllerTest {
                 new PageImpl<>(sortedUserByFirstName, pageable, 2).map(UserSummaryInfo::new);
 
         BDDMockito.given(this.userService.usersList(pageable))
-                .willReturn(userSummaryInfoPage);
+                .willReturn(CountedPage.of(userSummaryInfoPage, CountMode.EXACT));
 
         this.mockMvc.perform(get("/forumhub.io/api/v1/users/listAll")
                         .queryParam("size", "2")
@@ -920,7 +1034,7 @@ class UserControllerTest {
                 new PageImpl<>(sortedUserByFirstName, pageable, 2).map(UserSummaryInfo::new);
 
         BDDMockito.given(this.userService.usersList(pageable))
-                .willReturn(userSummaryInfoPage);
+                .willReturn(CountedPage.of(userSummaryInfoPage, CountMode.EXACT));
 
         this.mockMvc.perform(get("/forumhub.io/api/v1/users/listAll")
                         .queryParam("size", "2")
@@ -949,6 +1063,43 @@ class UserControllerTest {
     }
 
 
+    @DisplayName("ADM user should request all users with has next flag and without totals when count mode is none")
+    @Test
+    void admUserShouldToRequestAllUsersWithoutCountWhenCountModeIsNone() throws Exception {
+        Pageable pageable = PageRequest.of(0, 2);
+
+        List<UserSummaryInfo> users = TestsHelper.UserHelper.userList().stream()
+                .limit(2)
+                .map(UserSummaryInfo::new)
+                .toList();
+
+        BDDMockito.given(this.userService.usersList(pageable))
+                .willReturn(new CountedPage<>(users, pageable, 3, CountMode.NONE));
+
+        this.mockMvc.perform(get("/forumhub.io/api/v1/users/listAll")
+                        .queryParam("size", "2")
+                        .with(jwt().jwt(jwt -> jwt.claims(map -> map.putAll(Map.of(
+                                        "user_id", "1",
+                                        "authority", "ROLE_ADM"))))
+                                .authorities(
+                                        new SimpleGrantedAuthority("ROLE_ADM"),
+                                        new SimpleGrantedAuthority("SCOPE_user:readAll")))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$..userSummaryInfoList.length()", is(2)))
+                .andExpect(jsonPath("$.page.countMode", is("NONE")))
+                .andExpect(jsonPath("$.page.hasNext", is(true)))
+                .andExpect(jsonPath("$.page.totalElements").doesNotExist())
+                .andExpect(jsonPath("$._links.next").exists())
+                .andExpect(jsonPath("$._links.last").doesNotExist());
+
+        BDDMockito.verify(this.userService).usersList(pageable);
+        BDDMockito.verifyNoMoreInteractions(this.userService);
+
+    }
+
+
     @DisplayName("Should fail with status code 401 when to edit user " +
                  "if user is unauthenticated")
     @Test
@@ -16,6 +16,7 @@ import org.mockito.BDDMockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.context.ActiveProfiles;
@@ -27,6 +28,7 @@ import java.util.Map;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -861,6 +863,37 @@ class UserControllerIT {
 
     }
 
+    @DisplayName("Should answer status code 304 while the user version doesn't change and the user once it changes")
+    @Test
+    void shouldAnswerNotModifiedWhileSummaryInfoUserVersionIsUnchanged() throws Exception {
+        String eTag = this.mockMvc.perform(get("/forumhub.io/api/v1/users/summary-info")
+                        .queryParam("user_id", "2")
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        this.mockMvc.perform(get("/forumhub.io/api/v1/users/summary-info")
+                        .queryParam("user_id", "2")
+                        .with(jwt())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        this.userRepository.bumpVersion(2L);
+
+        this.mockMvc.perform(get("/forumhub.io/api/v1/users/summary-info")
+                        .queryParam("user_id", "2")
+                        .with(jwt())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+                .andExpect(jsonPath("$.id", is(2)));
+
+    }
+
     @DisplayName("Should fail with status code 400 if request user summary info " +
                  "with param different of type number, if him exists")
     @Test
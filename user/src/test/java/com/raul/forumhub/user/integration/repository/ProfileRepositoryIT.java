@@ -3,13 +3,19 @@ package com.raul.forumhub.user.integration.repository;
 import com.raul.forumhub.user.domain.Profile;
 import com.raul.forumhub.user.respository.ProfileRepository;
 import com.raul.forumhub.user.util.TestsHelper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest
@@ -20,6 +26,9 @@ class ProfileRepositoryIT {
     @Autowired
     ProfileRepository profileRepository;
 
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
     private static boolean hasBeenInitialized = false;
 
     @BeforeEach
@@ -45,4 +54,19 @@ class ProfileRepositoryIT {
                 .isEmpty());
 
     }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldServeProfileByNameFromQueryCacheOnceCached() {
+        Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        this.profileRepository.findByProfileName(Profile.ProfileName.ADM);
+        long statements = statistics.getPrepareStatementCount();
+        this.profileRepository.findByProfileName(Profile.ProfileName.ADM);
+
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(statements, statistics.getPrepareStatementCount());
+    }
 }
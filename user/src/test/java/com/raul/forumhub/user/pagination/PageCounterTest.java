@@ -0,0 +1,213 @@
+package com.raul.forumhub.user.pagination;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+@ExtendWith(MockitoExtension.class)
+class PageCounterTest {
+
+    private static final String POSTGRES_PLAN = """
+            [{"Plan": {"Node Type": "Seq Scan", "Relation Name": "users", "Startup Cost": 0.00,
+            "Total Cost": 1834.00, "Plan Rows": 120000, "Plan Width": 8}}]""";
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    PaginationProperties paginationProperties;
+
+    SimpleMeterRegistry meterRegistry;
+
+    AtomicInteger exactCounts;
+
+    @BeforeEach
+    void setup() {
+        this.paginationProperties = new PaginationProperties();
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.exactCounts = new AtomicInteger();
+    }
+
+    private PageCounter pageCounter(CountMode countMode) {
+        this.paginationProperties.getListings().put("users", countMode);
+        return new PageCounter(this.paginationProperties, this.jdbcTemplate, this.meterRegistry);
+    }
+
+    private CountQuery countQuery(long count) {
+        return new CountQuery("users", null, () -> {
+            this.exactCounts.incrementAndGet();
+            return count;
+        }, "select user_id from users");
+    }
+
+    private CountedPage<Long> page(PageCounter pageCounter, CountQuery countQuery, Pageable pageable, boolean hasNext) {
+        return pageCounter.page(countQuery, () -> new PageImpl<>(List.of(1L, 2L), pageable, 40),
+                () -> new SliceImpl<>(List.of(1L, 2L), pageable, hasNext));
+    }
+
+
+    @Test
+    void shouldUseExactPageQueryWhenCountModeIsExact() {
+        CountedPage<Long> page = this.page(this.pageCounter(CountMode.EXACT), this.countQuery(10),
+                PageRequest.of(0, 2), true);
+
+        Assertions.assertAll(
+                () -> assertEquals(CountMode.EXACT, page.getCountMode()),
+                () -> assertEquals(40, page.getTotalElements()),
+                () -> assertEquals(0, this.exactCounts.get()),
+                () -> assertEquals(1, this.meterRegistry.get("forumhub.pagination.count")
+                        .tags("listing", "users", "mode", "EXACT").counter().count())
+        );
+    }
+
+    @Test
+    void shouldReportOnlyHasNextWithoutCountingWhenCountModeIsNone() {
+        CountedPage<Long> page = this.page(this.pageCounter(CountMode.NONE), this.countQuery(10),
+                PageRequest.of(3, 2), true);
+
+        Assertions.assertAll(
+                () -> assertEquals(CountMode.NONE, page.getCountMode()),
+                () -> Assertions.assertTrue(page.hasNext()),
+                () -> assertEquals(9, page.getTotalElements()),
+                () -> assertEquals(0, this.exactCounts.get())
+        );
+        BDDMockito.verifyNoInteractions(this.jdbcTemplate);
+    }
+
+    @Test
+    void shouldReuseCachedCountUntilListingIsInvalidated() {
+        PageCounter pageCounter = this.pageCounter(CountMode.CACHED);
+
+        assertEquals(10, this.page(pageCounter, this.countQuery(10), PageRequest.of(0, 2), true).getTotalElements());
+        assertEquals(10, this.page(pageCounter, this.countQuery(12), PageRequest.of(1, 2), true).getTotalElements());
+
+        pageCounter.invalidate("users", null);
+
+        CountedPage<Long> page = this.page(pageCounter, this.countQuery(12), PageRequest.of(1, 2), true);
+
+        Assertions.assertAll(
+                () -> assertEquals(CountMode.CACHED, page.getCountMode()),
+                () -> assertEquals(12, page.getTotalElements()),
+                () -> assertEquals(2, this.exactCounts.get())
+        );
+    }
+
+    @Test
+    void shouldNotReportFewerElementsThanAlreadySeenWhenCachedCountIsStale() {
+        PageCounter pageCounter = this.pageCounter(CountMode.CACHED);
+
+        this.page(pageCounter, this.countQuery(2), PageRequest.of(0, 2), true);
+
+        CountedPage<Long> page = this.page(pageCounter, this.countQuery(2), PageRequest.of(1, 2), true);
+
+        Assertions.assertAll(
+                () -> assertEquals(5, page.getTotalElements()),
+                () -> Assertions.assertTrue(page.hasNext())
+        );
+    }
+
+    @Test
+    void shouldResolveTotalFromLastPageWithoutCounting() {
+        CountedPage<Long> page = this.page(this.pageCounter(CountMode.CACHED), this.countQuery(10),
+                PageRequest.of(2, 2), false);
+
+        Assertions.assertAll(
+                () -> assertEquals(CountMode.EXACT, page.getCountMode()),
+                () -> assertEquals(6, page.getTotalElements()),
+                () -> assertEquals(0, this.exactCounts.get())
+        );
+    }
+
+    @Test
+    void shouldEstimateCountFromPostgresPlan() {
+        BDDMockito.given(this.jdbcTemplate.execute(any(ConnectionCallback.class)))
+                .willReturn("PostgreSQL");
+        BDDMockito.given(this.jdbcTemplate.queryForObject(eq("explain (format json) select user_id from users"),
+                        eq(String.class), any(Object[].class)))
+                .willReturn(POSTGRES_PLAN);
+
+        CountedPage<Long> page = this.page(this.pageCounter(CountMode.ESTIMATED), this.countQuery(10),
+                PageRequest.of(0, 2), true);
+
+        Assertions.assertAll(
+                () -> assertEquals(CountMode.ESTIMATED, page.getCountMode()),
+                () -> assertEquals(120000, page.getTotalElements()),
+                () -> assertEquals(0, this.exactCounts.get())
+        );
+    }
+
+    @Test
+    void shouldCountExactlyWhenEstimateIsBelowThreshold() {
+        this.paginationProperties.getEstimate().setExactBelow(200000);
+
+        BDDMockito.given(this.jdbcTemplate.execute(any(ConnectionCallback.class)))
+                .willReturn("PostgreSQL");
+        BDDMockito.given(this.jdbcTemplate.queryForObject(eq("explain (format json) select user_id from users"),
+                        eq(String.class), any(Object[].class)))
+                .willReturn(POSTGRES_PLAN);
+
+        CountedPage<Long> page = this.page(this.pageCounter(CountMode.ESTIMATED), this.countQuery(119998),
+                PageRequest.of(0, 2), true);
+
+        Assertions.assertAll(
+                () -> assertEquals(CountMode.EXACT, page.getCountMode()),
+                () -> assertEquals(119998, page.getTotalElements()),
+                () -> assertEquals(1, this.exactCounts.get())
+        );
+    }
+
+    @Test
+    void shouldCountExactlyWhenEstimateFails() {
+        BDDMockito.given(this.jdbcTemplate.execute(any(ConnectionCallback.class)))
+                .willReturn("PostgreSQL");
+        BDDMockito.given(this.jdbcTemplate.queryForObject(eq("explain (format json) select user_id from users"),
+                        eq(String.class), any(Object[].class)))
+                .willThrow(new DataAccessResourceFailureException("Conexão recusada"));
+
+        CountedPage<Long> page = this.page(this.pageCounter(CountMode.ESTIMATED), this.countQuery(10),
+                PageRequest.of(0, 2), true);
+
+        Assertions.assertAll(
+                () -> assertEquals(CountMode.EXACT, page.getCountMode()),
+                () -> assertEquals(10, page.getTotalElements()),
+                () -> assertEquals(1, this.exactCounts.get())
+        );
+    }
+
+    @Test
+    void shouldCountExactlyWhenDatabaseIsNotPostgres() {
+        BDDMockito.given(this.jdbcTemplate.execute(any(ConnectionCallback.class)))
+                .willReturn("H2");
+
+        PageCounter pageCounter = this.pageCounter(CountMode.ESTIMATED);
+        this.page(pageCounter, this.countQuery(10), PageRequest.of(0, 2), true);
+        CountedPage<Long> page = this.page(pageCounter, this.countQuery(10), PageRequest.of(1, 2), true);
+
+        Assertions.assertAll(
+                () -> assertEquals(CountMode.EXACT, page.getCountMode()),
+                () -> assertEquals(10, page.getTotalElements()),
+                () -> assertEquals(2, this.exactCounts.get())
+        );
+        BDDMockito.verify(this.jdbcTemplate).execute(any(ConnectionCallback.class));
+        BDDMockito.verifyNoMoreInteractions(this.jdbcTemplate);
+    }
+
+}
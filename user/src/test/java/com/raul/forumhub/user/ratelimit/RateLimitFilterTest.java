@@ -0,0 +1,94 @@
+package com.raul.forumhub.user.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitFilterTest {
+
+    @Mock
+    RateLimiter rateLimiter;
+
+    RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setup() {
+        this.rateLimitFilter = new RateLimitFilter(this.rateLimiter, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr("10.0.0.1");
+        return request;
+    }
+
+
+    @Test
+    void shouldKeyAuthenticatedRequestsOnTheUserIdClaim() throws Exception {
+        Jwt jwt = Jwt.withTokenValue("token").header("alg", "none").claim("user_id", "2").build();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+        BDDMockito.given(this.rateLimiter.tryAcquire("/forumhub.io/api/v1/users/edit", true, "user:2"))
+                .willReturn(Duration.ZERO);
+        MockFilterChain filterChain = new MockFilterChain();
+
+        this.rateLimitFilter.doFilter(request("PUT", "/forumhub.io/api/v1/users/edit"),
+                new MockHttpServletResponse(), filterChain);
+
+        assertNotNull(filterChain.getRequest());
+    }
+
+    @Test
+    void shouldKeyAnonymousReadsOnTheClientAddress() throws Exception {
+        BDDMockito.given(this.rateLimiter.tryAcquire("/forumhub.io/api/v1/users/listAll", false, "ip:10.0.0.1"))
+                .willReturn(Duration.ZERO);
+        MockFilterChain filterChain = new MockFilterChain();
+
+        this.rateLimitFilter.doFilter(request("GET", "/forumhub.io/api/v1/users/listAll"),
+                new MockHttpServletResponse(), filterChain);
+
+        assertNotNull(filterChain.getRequest());
+    }
+
+    @Test
+    void shouldRejectRequestWithRetryAfterWhenBudgetIsExhausted() throws Exception {
+        BDDMockito.given(this.rateLimiter.tryAcquire("/forumhub.io/api/v1/users/listAll", false, "ip:10.0.0.1"))
+                .willReturn(Duration.ofMillis(1500));
+        MockFilterChain filterChain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        this.rateLimitFilter.doFilter(request("GET", "/forumhub.io/api/v1/users/listAll"), response, filterChain);
+
+        Assertions.assertAll(
+                () -> assertNull(filterChain.getRequest()),
+                () -> assertEquals(429, response.getStatus()),
+                () -> assertEquals("2", response.getHeader(HttpHeaders.RETRY_AFTER)),
+                () -> assertTrue(response.getContentAsString().contains(
+                        "O limite de requisições foi excedido, tente novamente em 2 segundos"))
+        );
+    }
+
+}
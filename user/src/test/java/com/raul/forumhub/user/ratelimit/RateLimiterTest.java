@@ -0,0 +1,110 @@
+package com.raul.forumhub.user.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RateLimiterTest {
+
+    private static final String USERS_PATH = "/forumhub.io/api/v1/users/listAll";
+
+    RateLimitProperties rateLimitProperties;
+
+    SimpleMeterRegistry meterRegistry;
+
+    AtomicLong clock;
+
+    @BeforeEach
+    void setup() {
+        RateLimitProperties.Group registrations = new RateLimitProperties.Group();
+        registrations.setPaths(List.of("/forumhub.io/api/v1/users/create"));
+        registrations.setWrite(new RateLimitProperties.Budget(1, Duration.ofSeconds(10)));
+        RateLimitProperties.Group users = new RateLimitProperties.Group();
+        users.setPaths(List.of("/forumhub.io/api/v1/users/**"));
+        users.setRead(new RateLimitProperties.Budget(3, Duration.ofSeconds(3)));
+        users.setWrite(new RateLimitProperties.Budget(2, Duration.ofSeconds(10)));
+
+        this.rateLimitProperties = new RateLimitProperties();
+        this.rateLimitProperties.getGroups().put("registrations", registrations);
+        this.rateLimitProperties.getGroups().put("users", users);
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.clock = new AtomicLong();
+    }
+
+    private RateLimiter rateLimiter() {
+        return new RateLimiter(this.rateLimitProperties, this.meterRegistry, this.clock::get);
+    }
+
+
+    @Test
+    void shouldAllowBurstUpToCapacityAndRefillOverThePeriod() {
+        RateLimiter rateLimiter = this.rateLimiter();
+
+        List<Duration> burst = IntStream.range(0, 4)
+                .mapToObj(i -> rateLimiter.tryAcquire(USERS_PATH, false, "user:1"))
+                .toList();
+        this.clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        Duration afterRefill = rateLimiter.tryAcquire(USERS_PATH, false, "user:1");
+
+        Assertions.assertAll(
+                () -> assertEquals(List.of(Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ofSeconds(1)), burst),
+                () -> assertEquals(Duration.ZERO, afterRefill),
+                () -> assertEquals(1, this.meterRegistry.get("forumhub.rate-limit.rejected")
+                        .tags("group", "users", "operation", "read").counter().count())
+        );
+    }
+
+    @Test
+    void shouldKeepSeparateBudgetsPerClientOperationAndGroup() {
+        RateLimiter rateLimiter = this.rateLimiter();
+        rateLimiter.tryAcquire("/forumhub.io/api/v1/users/create", true, "user:1");
+
+        Assertions.assertAll(
+                () -> assertEquals(Duration.ofSeconds(10), rateLimiter.tryAcquire("/forumhub.io/api/v1/users/create", true, "user:1")),
+                () -> assertEquals(Duration.ZERO, rateLimiter.tryAcquire("/forumhub.io/api/v1/users/create", true, "user:2")),
+                () -> assertEquals(Duration.ZERO, rateLimiter.tryAcquire("/forumhub.io/api/v1/users/create", false, "user:1")),
+                () -> assertEquals(Duration.ZERO, rateLimiter.tryAcquire("/forumhub.io/api/v1/users/edit", true, "user:1")),
+                () -> assertEquals(Duration.ZERO, rateLimiter.tryAcquire("/forumhub.io/api/v1/openapi.yaml", true, "user:1")),
+                () -> assertEquals(1, this.meterRegistry.get("forumhub.rate-limit.rejected")
+                        .tags("group", "registrations", "operation", "write").counter().count())
+        );
+    }
+
+    @Test
+    void shouldNotGrantMoreThanCapacityToConcurrentRequests() throws Exception {
+        this.rateLimitProperties.getGroups().get("users").setRead(new RateLimitProperties.Budget(50, Duration.ofHours(1)));
+        RateLimiter rateLimiter = this.rateLimiter();
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CyclicBarrier start = new CyclicBarrier(8);
+        try {
+            List<Future<?>> workers = IntStream.range(0, 8).<Future<?>>mapToObj(i -> executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < 100; j++) {
+                    if (rateLimiter.tryAcquire(USERS_PATH, false, "user:1").isZero()) {
+                        allowed.incrementAndGet();
+                    }
+                }
+                return null;
+            })).toList();
+            for (Future<?> worker : workers) {
+                worker.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(50, allowed.get());
+    }
+
+}
@@ -1,14 +1,23 @@
 package com.raul.forumhub.user.service;
 
+import com.raul.forumhub.user.datasource.DataSourceRoutingProperties;
+import com.raul.forumhub.user.datasource.ReadReplicaTransactions;
+import com.raul.forumhub.user.datasource.ReadYourWritesTracker;
 import com.raul.forumhub.user.domain.Profile;
 import com.raul.forumhub.user.domain.User;
 import com.raul.forumhub.user.dto.request.UserCreateDTO;
 import com.raul.forumhub.user.dto.request.UserUpdateDTO;
+import com.raul.forumhub.user.dto.response.EntityVersionDTO;
 import com.raul.forumhub.user.dto.response.UserSummaryInfo;
 import com.raul.forumhub.user.exception.InstanceNotFoundException;
+import com.raul.forumhub.user.pagination.CountMode;
+import com.raul.forumhub.user.pagination.CountedPage;
+import com.raul.forumhub.user.pagination.PageCounter;
+import com.raul.forumhub.user.pagination.PaginationProperties;
 import com.raul.forumhub.user.respository.ProfileRepository;
 import com.raul.forumhub.user.respository.UserRepository;
 import com.raul.forumhub.user.util.TestsHelper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
@@ -17,6 +26,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.*;
@@ -24,10 +34,13 @@ import org.springframework.data.mapping.PropertyReferenceException;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.orm.jpa.JpaSystemException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -49,6 +62,13 @@ class UserServiceTest {
     @Mock
     PasswordEncoder passwordEncoder;
 
+    @Spy
+    PageCounter pageCounter = new PageCounter(new PaginationProperties(), null, new SimpleMeterRegistry());
+
+    @Spy
+    ReadReplicaTransactions readReplicaTransactions = new ReadReplicaTransactions(TransactionOperations.withoutTransaction(),
+            TransactionOperations.withoutTransaction(), new ReadYourWritesTracker(new DataSourceRoutingProperties()));
+
 
     @Test
     void shouldFailToCreateUserIfBasicProfileNotExists() {
@@ -267,6 +287,64 @@ class UserServiceTest {
 
     }
 
+    @Test
+    void shouldReturnSummaryInfoOfRequestedUser() {
+        BDDMockito.given(this.userRepository.findById(2L))
+                .willReturn(Optional.of(TestsHelper.UserHelper.userList().get(1)));
+
+        UserSummaryInfo userSummaryInfo = this.userService.getUserSummaryInfo(2L);
+
+        assertEquals(2L, userSummaryInfo.id());
+        BDDMockito.verify(this.readReplicaTransactions).read(any());
+        BDDMockito.verify(userRepository).findById(2L);
+        BDDMockito.verifyNoMoreInteractions(userRepository);
+
+    }
+
+    @Test
+    void shouldReturnVersionOfRequestedUser() {
+        EntityVersionDTO version = new EntityVersionDTO(2L, 3L, LocalDateTime.of(2024, 1, 1, 12, 0));
+
+        BDDMockito.given(this.userRepository.findUserVersionById(2L)).willReturn(Optional.of(version));
+
+        assertEquals(version, this.userService.getUserVersion(2L));
+
+        BDDMockito.verify(userRepository).findUserVersionById(2L);
+        BDDMockito.verifyNoMoreInteractions(userRepository);
+
+    }
+
+    @Test
+    void shouldFailToReturnVersionOfAnonymousUser() {
+        BDDMockito.given(this.userRepository.findUserVersionById(1L))
+                .willReturn(Optional.of(new EntityVersionDTO(1L, 0L, null)));
+
+        InstanceNotFoundException ex = assertThrows(InstanceNotFoundException.class,
+                () -> this.userService.getUserVersion(1L));
+
+        assertEquals("Usuário [ID: 1] não encontrado", ex.getMessage());
+        BDDMockito.verify(userRepository).findUserVersionById(1L);
+        BDDMockito.verifyNoMoreInteractions(userRepository);
+
+    }
+
+    @Test
+    void shouldReturnSummaryInfoOfRequestedUsersWithoutAnonymousUser() {
+        List<User> users = TestsHelper.UserHelper.userList().subList(0, 3);
+
+        BDDMockito.given(this.userRepository.findAllById(Set.of(1L, 2L, 3L))).willReturn(users);
+
+        List<UserSummaryInfo> summaryInfos = assertDoesNotThrow(() ->
+                this.userService.getUsersSummaryInfo(List.of(1L, 2L, 3L, 2L)));
+
+        assertEquals(2, summaryInfos.size());
+        assertEquals(List.of(2L, 3L), summaryInfos.stream().map(UserSummaryInfo::id).toList());
+
+        BDDMockito.verify(userRepository).findAllById(Set.of(1L, 2L, 3L));
+        BDDMockito.verifyNoMoreInteractions(userRepository);
+
+    }
+
     @Test
     void shouldFailWhenRequestAllUsersIfSortPropertyValueNotExists() {
         Pageable pageable = PageRequest.of(0, 10,
@@ -283,6 +361,68 @@ class UserServiceTest {
         BDDMockito.verifyNoMoreInteractions(this.userRepository);
     }
 
+    @Test
+    void shouldReturnUsersWithoutCountingWhenCountModeIsNone() {
+        PaginationProperties paginationProperties = new PaginationProperties();
+        paginationProperties.setMode(CountMode.NONE);
+        UserService slicedUserService = new UserService(this.userRepository, this.profileRepository, this.passwordEncoder,
+                new PageCounter(paginationProperties, null, new SimpleMeterRegistry()), this.readReplicaTransactions);
+
+        Pageable pageable = PageRequest.of(0, 2);
+
+        BDDMockito.given(this.userRepository.findUsersBy(pageable))
+                .willReturn(new SliceImpl<>(TestsHelper.UserHelper.userList().subList(0, 2), pageable, true));
+
+
+        CountedPage<UserSummaryInfo> userPage = slicedUserService.usersList(pageable);
+
+
+        Assertions.assertAll(
+                () -> assertEquals(CountMode.NONE, userPage.getCountMode()),
+                () -> assertEquals(2, userPage.getContent().size()),
+                () -> assertTrue(userPage.hasNext())
+        );
+
+        BDDMockito.verify(this.userRepository).findUsersBy(pageable);
+        BDDMockito.verifyNoMoreInteractions(this.userRepository);
+    }
+
+    @Test
+    void shouldCountUsersAgainAfterUserIsDeletedWhenCountModeIsCached() {
+        PaginationProperties paginationProperties = new PaginationProperties();
+        paginationProperties.setMode(CountMode.CACHED);
+        UserService cachedUserService = new UserService(this.userRepository, this.profileRepository, this.passwordEncoder,
+                new PageCounter(paginationProperties, null, new SimpleMeterRegistry()), this.readReplicaTransactions);
+
+        Pageable pageable = PageRequest.of(1, 1);
+
+        BDDMockito.given(this.userRepository.findUsersBy(pageable))
+                .willReturn(new SliceImpl<>(TestsHelper.UserHelper.userList().subList(1, 2), pageable, true));
+
+        BDDMockito.given(this.userRepository.count())
+                .willReturn(4L, 3L);
+
+        BDDMockito.given(this.userRepository.findById(2L))
+                .willReturn(Optional.of(TestsHelper.UserHelper.userList().get(1)));
+
+
+        assertEquals(4, cachedUserService.usersList(pageable).getTotalElements());
+        assertEquals(4, cachedUserService.usersList(pageable).getTotalElements());
+
+        cachedUserService.deleteUser(2L);
+
+        CountedPage<UserSummaryInfo> userPage = cachedUserService.usersList(pageable);
+
+
+        Assertions.assertAll(
+                () -> assertEquals(CountMode.CACHED, userPage.getCountMode()),
+                () -> assertEquals(3, userPage.getTotalElements())
+        );
+
+        BDDMockito.verify(this.userRepository, BDDMockito.times(3)).findUsersBy(pageable);
+        BDDMockito.verify(this.userRepository, BDDMockito.times(2)).count();
+    }
+
     @Test
     void shouldToReturnAllUsersUnsortedWithSuccess() {
         Pageable pageable = PageRequest.of(0, 10, Sort.unsorted());
@@ -501,6 +641,7 @@ class UserServiceTest {
         BDDMockito.verify(this.userRepository).findById(2L);
         BDDMockito.verify(this.profileRepository).findByProfileName(Profile.ProfileName.ADM);
         BDDMockito.verify(this.userRepository).save(any(User.class));
+        BDDMockito.verify(this.userRepository).bumpVersion(2L);
         BDDMockito.verifyNoMoreInteractions(this.userRepository);
         BDDMockito.verifyNoMoreInteractions(this.profileRepository);
 
@@ -538,6 +679,7 @@ class UserServiceTest {
         BDDMockito.verify(this.userRepository).findById(2L);
         BDDMockito.verify(this.profileRepository).findByProfileName(Profile.ProfileName.ADM);
         BDDMockito.verify(this.userRepository).save(any(User.class));
+        BDDMockito.verify(this.userRepository).bumpVersion(2L);
         BDDMockito.verifyNoMoreInteractions(this.userRepository);
         BDDMockito.verifyNoMoreInteractions(this.profileRepository);
 